@@ -0,0 +1,314 @@
+package app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Arquivo binário de funcionários com registros de tamanho fixo, lido por mapeamento em memória.
+ * <p>
+ * O arquivo começa com um cabeçalho de 16 bytes (identificador, versão, tamanho do registro e
+ * quantidade de registros), seguido pelos registros. Como todos os registros têm o mesmo tamanho,
+ * qualquer funcionário pode ser lido diretamente pela sua posição, sem percorrer os anteriores.
+ * Abrir o arquivo apenas mapeia suas páginas; os registros são decodificados quando lidos, um a
+ * um com {@link #ler(int)} ou pela lista de {@link #funcionarios()}.
+ * <p>
+ * Layout de cada registro, em little-endian:
+ * <ul>
+ *     <li>nome: 2 bytes de tamanho seguidos de até {@value #TAMANHO_NOME} bytes UTF-8;</li>
+ *     <li>função: 2 bytes de tamanho seguidos de até {@value #TAMANHO_FUNCAO} bytes UTF-8;</li>
+ *     <li>data de nascimento: 4 bytes com os dias desde 1970-01-01;</li>
+ *     <li>salário: 8 bytes com o valor sem escala e 1 byte com a escala;</li>
+ *     <li>1 byte que indica os campos gravados na área excedente.</li>
+ * </ul>
+ * Os campos que não cabem no registro (nomes e funções mais longos, datas fora do intervalo de
+ * um int e salários fora do intervalo de um long) são gravados em uma área excedente após os
+ * registros, e o registro guarda a posição e o tamanho de cada um.
+ * <p>
+ * A gravação escreve um arquivo temporário no mesmo diretório e o move sobre o arquivo de destino
+ * apenas no final, de modo que um erro durante a gravação mantém o arquivo anterior intacto.
+ */
+public class ArquivoFuncionarios implements AutoCloseable {
+    private static final int IDENTIFICADOR = 0x464E4350;
+    private static final int VERSAO = 2;
+    private static final int TAMANHO_CABECALHO = 16;
+
+    static final int TAMANHO_NOME = 80;
+    static final int TAMANHO_FUNCAO = 30;
+    static final int TAMANHO_REGISTRO = 128;
+
+    private static final int POSICAO_FUNCAO = 2 + TAMANHO_NOME;
+    private static final int POSICAO_DATA = POSICAO_FUNCAO + 2 + TAMANHO_FUNCAO;
+    private static final int POSICAO_SALARIO = POSICAO_DATA + 4;
+    private static final int POSICAO_ESCALA = POSICAO_SALARIO + 8;
+    private static final int POSICAO_EXCEDENTES = POSICAO_ESCALA + 1;
+
+    private static final byte NOME_EXCEDENTE = 1;
+    private static final byte FUNCAO_EXCEDENTE = 2;
+    private static final byte DATA_EXCEDENTE = 4;
+    private static final byte SALARIO_EXCEDENTE = 8;
+
+    private final FileChannel canal;
+    private final MappedByteBuffer registros;
+    private final int quantidade;
+
+    private ArquivoFuncionarios(FileChannel canal, MappedByteBuffer registros, int quantidade) {
+        this.canal = canal;
+        this.registros = registros;
+        this.quantidade = quantidade;
+    }
+
+    /**
+     * Grava os funcionários em um arquivo, substituindo o conteúdo existente apenas se a gravação
+     * terminar com sucesso.
+     *
+     * @param arquivo      O caminho do arquivo.
+     * @param funcionarios Os funcionários a serem gravados.
+     * @throws IOException              Se houver erro ao gravar o arquivo.
+     * @throws IllegalArgumentException Se algum funcionário não tiver todos os dados preenchidos ou
+     *                                  se o arquivo passar de 2 GB.
+     */
+    public static void gravar(Path arquivo, Collection<Funcionario> funcionarios) throws IOException {
+        int quantidade = funcionarios.size();
+        long tamanhoRegistros = TAMANHO_CABECALHO + (long) quantidade * TAMANHO_REGISTRO;
+        if (tamanhoRegistros > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Quantidade de funcionários excede o tamanho máximo do arquivo.");
+        }
+        Path diretorio = arquivo.toAbsolutePath().getParent();
+        Path temporario = Files.createTempFile(diretorio, arquivo.getFileName().toString(), ".tmp");
+        boolean gravado = false;
+        try {
+            try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanhoRegistros);
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                AreaExcedente excedente = new AreaExcedente(tamanhoRegistros);
+                int posicao = TAMANHO_CABECALHO;
+                int gravados = 0;
+                for (Funcionario funcionario : funcionarios) {
+                    if (gravados++ == quantidade) {
+                        throw new IllegalArgumentException("A coleção de funcionários foi alterada durante a gravação.");
+                    }
+                    escreverRegistro(buffer, posicao, funcionario, excedente);
+                    posicao += TAMANHO_REGISTRO;
+                }
+                canal.write(excedente.conteudo(), tamanhoRegistros);
+                // O cabeçalho é escrito por último: um arquivo sem ele não é aberto.
+                buffer.putInt(0, IDENTIFICADOR).putInt(4, VERSAO).putInt(8, TAMANHO_REGISTRO).putInt(12, gravados);
+                buffer.force();
+                canal.force(true);
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            gravado = true;
+        } finally {
+            if (!gravado) {
+                Files.deleteIfExists(temporario);
+            }
+        }
+    }
+
+    /**
+     * Campos gravados após os registros, com as posições que eles ocuparão no arquivo.
+     */
+    private static final class AreaExcedente {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final long inicio;
+
+        AreaExcedente(long inicio) {
+            this.inicio = inicio;
+        }
+
+        /**
+         * Acrescenta um campo à área excedente.
+         *
+         * @param campo Os bytes do campo.
+         * @return A posição do campo no arquivo.
+         */
+        int acrescentar(byte[] campo) {
+            long posicao = inicio + bytes.size();
+            if (posicao + campo.length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Os funcionários excedem o tamanho máximo do arquivo.");
+            }
+            bytes.writeBytes(campo);
+            return (int) posicao;
+        }
+
+        ByteBuffer conteudo() {
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Abre um arquivo de funcionários para leitura, mapeando-o em memória.
+     *
+     * @param arquivo O caminho do arquivo.
+     * @return O arquivo aberto.
+     * @throws IOException Se o arquivo não puder ser lido ou não estiver no formato esperado.
+     */
+    public static ArquivoFuncionarios abrir(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO || tamanho > Integer.MAX_VALUE) {
+                throw new IOException("Tamanho inválido para um arquivo de funcionários: " + tamanho);
+            }
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            int versao = buffer.getInt(4);
+            if (buffer.getInt(0) != IDENTIFICADOR || versao < 1 || versao > VERSAO || buffer.getInt(8) != TAMANHO_REGISTRO) {
+                throw new IOException("Arquivo não está no formato de funcionários esperado: " + arquivo);
+            }
+            int quantidade = buffer.getInt(12);
+            if (quantidade < 0 || TAMANHO_CABECALHO + (long) quantidade * TAMANHO_REGISTRO > tamanho) {
+                throw new IOException("Arquivo de funcionários truncado: " + arquivo);
+            }
+            return new ArquivoFuncionarios(canal, buffer, quantidade);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Obtém a quantidade de funcionários gravados no arquivo.
+     *
+     * @return A quantidade de funcionários.
+     */
+    public int tamanho() {
+        return quantidade;
+    }
+
+    /**
+     * Lê o funcionário gravado em uma posição do arquivo.
+     *
+     * @param indice A posição do funcionário, começando em zero.
+     * @return Um novo funcionário com os dados gravados.
+     * @throws IndexOutOfBoundsException Se a posição não existir no arquivo.
+     */
+    public Funcionario ler(int indice) {
+        if (indice < 0 || indice >= quantidade) {
+            throw new IndexOutOfBoundsException("Posição inexistente no arquivo de funcionários: " + indice);
+        }
+        int posicao = TAMANHO_CABECALHO + indice * TAMANHO_REGISTRO;
+        byte excedentes = registros.get(posicao + POSICAO_EXCEDENTES);
+        String nome = lerTexto(registros, posicao, (excedentes & NOME_EXCEDENTE) != 0);
+        String funcao = lerTexto(registros, posicao + POSICAO_FUNCAO, (excedentes & FUNCAO_EXCEDENTE) != 0);
+        LocalDate dataNascimento = LocalDate.ofEpochDay((excedentes & DATA_EXCEDENTE) != 0
+                ? registros.getLong(registros.getInt(posicao + POSICAO_DATA)) : registros.getInt(posicao + POSICAO_DATA));
+        BigDecimal salario = (excedentes & SALARIO_EXCEDENTE) != 0
+                ? new BigDecimal(lerTexto(registros, posicao + POSICAO_SALARIO, true))
+                : BigDecimal.valueOf(registros.getLong(posicao + POSICAO_SALARIO), registros.get(posicao + POSICAO_ESCALA));
+        return new Funcionario(nome, dataNascimento, salario, funcao);
+    }
+
+    /**
+     * Obtém os funcionários do arquivo como uma lista somente leitura que decodifica cada registro
+     * apenas quando ele é lido, sem carregar o arquivo. Cada leitura cria um novo funcionário, como
+     * {@link #ler(int)}. A lista continua válida depois de o arquivo ser fechado, enquanto o
+     * mapeamento for referenciado.
+     *
+     * @return A lista dos funcionários gravados, na ordem do arquivo.
+     */
+    public List<Funcionario> funcionarios() {
+        return new ListaFuncionarios();
+    }
+
+    /**
+     * Fecha o canal do arquivo. O mapeamento é liberado pela JVM quando deixar de ser referenciado.
+     *
+     * @throws IOException Se houver erro ao fechar o canal.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Visão dos registros do arquivo como lista, decodificados a cada acesso.
+     */
+    private final class ListaFuncionarios extends AbstractList<Funcionario> implements RandomAccess {
+        @Override
+        public Funcionario get(int indice) {
+            return ler(indice);
+        }
+
+        @Override
+        public int size() {
+            return quantidade;
+        }
+    }
+
+    private static void escreverRegistro(ByteBuffer buffer, int posicao, Funcionario funcionario, AreaExcedente excedente) {
+        if (funcionario == null || funcionario.getNome() == null || funcionario.getFuncao() == null
+                || funcionario.getDataNascimento() == null || funcionario.getSalario() == null) {
+            throw new IllegalArgumentException("Todos os dados do funcionário devem ser preenchidos para gravá-lo.");
+        }
+        byte excedentes = 0;
+        if (escreverTexto(buffer, posicao, funcionario.getNome(), TAMANHO_NOME, excedente)) {
+            excedentes |= NOME_EXCEDENTE;
+        }
+        if (escreverTexto(buffer, posicao + POSICAO_FUNCAO, funcionario.getFuncao(), TAMANHO_FUNCAO, excedente)) {
+            excedentes |= FUNCAO_EXCEDENTE;
+        }
+        long dias = funcionario.getDataNascimento().toEpochDay();
+        if (dias == (int) dias) {
+            buffer.putInt(posicao + POSICAO_DATA, (int) dias);
+        } else {
+            byte[] bytes = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(dias).array();
+            buffer.putInt(posicao + POSICAO_DATA, excedente.acrescentar(bytes));
+            excedentes |= DATA_EXCEDENTE;
+        }
+        BigDecimal salario = funcionario.getSalario();
+        BigInteger valor = salario.unscaledValue();
+        if (valor.bitLength() <= 63 && salario.scale() >= Byte.MIN_VALUE && salario.scale() <= Byte.MAX_VALUE) {
+            buffer.putLong(posicao + POSICAO_SALARIO, valor.longValue());
+            buffer.put(posicao + POSICAO_ESCALA, (byte) salario.scale());
+        } else {
+            escreverExcedente(buffer, posicao + POSICAO_SALARIO, salario.toString().getBytes(StandardCharsets.UTF_8), excedente);
+            excedentes |= SALARIO_EXCEDENTE;
+        }
+        buffer.put(posicao + POSICAO_EXCEDENTES, excedentes);
+    }
+
+    /**
+     * Escreve um texto no registro ou, se ele não couber, na área excedente.
+     *
+     * @return true se o texto foi escrito na área excedente.
+     */
+    private static boolean escreverTexto(ByteBuffer buffer, int posicao, String texto, int tamanhoMaximo, AreaExcedente excedente) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > tamanhoMaximo) {
+            escreverExcedente(buffer, posicao, bytes, excedente);
+            return true;
+        }
+        buffer.putShort(posicao, (short) bytes.length);
+        buffer.put(posicao + 2, bytes);
+        return false;
+    }
+
+    private static void escreverExcedente(ByteBuffer buffer, int posicao, byte[] bytes, AreaExcedente excedente) {
+        buffer.putInt(posicao, excedente.acrescentar(bytes));
+        buffer.putInt(posicao + 4, bytes.length);
+    }
+
+    private static String lerTexto(ByteBuffer buffer, int posicao, boolean excedente) {
+        int inicio = excedente ? buffer.getInt(posicao) : posicao + 2;
+        byte[] bytes = new byte[excedente ? buffer.getInt(posicao + 4) : buffer.getShort(posicao)];
+        buffer.get(inicio, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
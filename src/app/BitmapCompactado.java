@@ -0,0 +1,552 @@
+package app;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Conjunto compactado de inteiros não negativos, no formato dos roaring bitmaps.
+ * <p>
+ * Os valores são divididos em blocos de 65.536 pelos 16 bits mais altos. Cada bloco guarda os 16
+ * bits mais baixos em um contêiner próprio: um array ordenado enquanto o bloco tem até 4.096
+ * valores, ocupando 2 bytes por valor, ou um mapa de 65.536 bits (8 KiB) acima disso. Blocos sem
+ * valores não ocupam memória. Assim, conjuntos esparsos custam bem menos que um {@link java.util.BitSet}
+ * do mesmo tamanho, e conjuntos densos custam o mesmo. Os contêineres mudam de formato ao passar
+ * do limite nas inserções, e voltam a array quando uma remoção deixa o mapa com metade dele.
+ * <p>
+ * A interseção, a união e a contagem da interseção combinam os contêineres bloco a bloco, com um
+ * algoritmo para cada par de formatos, sem percorrer valor a valor os blocos densos.
+ */
+public final class BitmapCompactado {
+    /**
+     * Quantidade máxima de valores de um contêiner em array; acima dela, o mapa de bits ocupa menos.
+     */
+    static final int LIMITE_ARRAY = 4_096;
+
+    /**
+     * Quantidade máxima de valores da interseção de dois mapas de bits para que ela seja guardada
+     * em array. Extrair milhares de valores custa bem mais que combinar as 1.024 palavras do mapa, e
+     * as interseções costumam ser percorridas uma vez e descartadas, então o resultado só muda de
+     * formato quando é pequeno.
+     */
+    static final int LIMITE_ARRAY_INTERSECAO = 256;
+
+    private static final int PALAVRAS_BLOCO = 1_024;
+    private static final int CABECALHO_OBJETO = 16;
+    private static final int CABECALHO_ARRAY = 16;
+    private static final int REFERENCIA = 4;
+
+    private char[] chaves = new char[0];
+    private Container[] containers = new Container[0];
+    private int quantidadeBlocos;
+    private int cardinalidade;
+
+    /**
+     * Adiciona um valor ao conjunto.
+     *
+     * @param valor O valor, maior ou igual a zero.
+     * @return true se o valor não pertencia ao conjunto.
+     */
+    public boolean adicionar(int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("O valor não pode ser negativo: " + valor);
+        }
+        char chave = (char) (valor >>> 16);
+        int indice = buscarBloco(chave);
+        if (indice < 0) {
+            indice = -indice - 1;
+            inserirBloco(indice, chave, new Container());
+        }
+        if (!containers[indice].adicionar((char) valor)) {
+            return false;
+        }
+        cardinalidade++;
+        return true;
+    }
+
+    /**
+     * Remove um valor do conjunto.
+     *
+     * @param valor O valor.
+     * @return true se o valor pertencia ao conjunto.
+     */
+    public boolean remover(int valor) {
+        if (valor < 0) {
+            return false;
+        }
+        int indice = buscarBloco((char) (valor >>> 16));
+        if (indice < 0 || !containers[indice].remover((char) valor)) {
+            return false;
+        }
+        cardinalidade--;
+        if (containers[indice].cardinalidade == 0) {
+            removerBloco(indice);
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se um valor pertence ao conjunto.
+     *
+     * @param valor O valor.
+     * @return true se o valor pertence ao conjunto.
+     */
+    public boolean contem(int valor) {
+        if (valor < 0) {
+            return false;
+        }
+        int indice = buscarBloco((char) (valor >>> 16));
+        return indice >= 0 && containers[indice].contem((char) valor);
+    }
+
+    /**
+     * Obtém a quantidade de valores do conjunto, mantida a cada alteração.
+     *
+     * @return A quantidade de valores.
+     */
+    public int getCardinalidade() {
+        return cardinalidade;
+    }
+
+    /**
+     * Verifica se o conjunto está vazio.
+     *
+     * @return true se o conjunto não tem valores.
+     */
+    public boolean vazio() {
+        return cardinalidade == 0;
+    }
+
+    /**
+     * Estima a memória ocupada pelo conjunto, supondo referências comprimidas de 4 bytes.
+     *
+     * @return A quantidade aproximada de bytes.
+     */
+    public long getBytes() {
+        long bytes = CABECALHO_OBJETO + 3L * REFERENCIA
+                + CABECALHO_ARRAY + 2L * chaves.length
+                + CABECALHO_ARRAY + (long) REFERENCIA * containers.length;
+        for (int i = 0; i < quantidadeBlocos; i++) {
+            bytes += containers[i].getBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Calcula a interseção de dois conjuntos.
+     *
+     * @param a O primeiro conjunto.
+     * @param b O segundo conjunto.
+     * @return Um novo conjunto com os valores presentes nos dois.
+     */
+    public static BitmapCompactado e(BitmapCompactado a, BitmapCompactado b) {
+        BitmapCompactado resultado = new BitmapCompactado();
+        int i = 0;
+        int j = 0;
+        while (i < a.quantidadeBlocos && j < b.quantidadeBlocos) {
+            if (a.chaves[i] < b.chaves[j]) {
+                i++;
+            } else if (a.chaves[i] > b.chaves[j]) {
+                j++;
+            } else {
+                Container container = Container.e(a.containers[i], b.containers[j]);
+                if (container.cardinalidade > 0) {
+                    resultado.anexarBloco(a.chaves[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Conta os valores presentes nos dois conjuntos sem criar a interseção.
+     *
+     * @param a O primeiro conjunto.
+     * @param b O segundo conjunto.
+     * @return A quantidade de valores da interseção.
+     */
+    public static int contarE(BitmapCompactado a, BitmapCompactado b) {
+        int quantidade = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.quantidadeBlocos && j < b.quantidadeBlocos) {
+            if (a.chaves[i] < b.chaves[j]) {
+                i++;
+            } else if (a.chaves[i] > b.chaves[j]) {
+                j++;
+            } else {
+                quantidade += Container.contarE(a.containers[i], b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Calcula a união de dois conjuntos.
+     *
+     * @param a O primeiro conjunto.
+     * @param b O segundo conjunto.
+     * @return Um novo conjunto com os valores presentes em pelo menos um deles.
+     */
+    public static BitmapCompactado ou(BitmapCompactado a, BitmapCompactado b) {
+        BitmapCompactado resultado = new BitmapCompactado();
+        int i = 0;
+        int j = 0;
+        while (i < a.quantidadeBlocos || j < b.quantidadeBlocos) {
+            if (j == b.quantidadeBlocos || i < a.quantidadeBlocos && a.chaves[i] < b.chaves[j]) {
+                resultado.anexarBloco(a.chaves[i], a.containers[i].copiar());
+                i++;
+            } else if (i == a.quantidadeBlocos || a.chaves[i] > b.chaves[j]) {
+                resultado.anexarBloco(b.chaves[j], b.containers[j].copiar());
+                j++;
+            } else {
+                resultado.anexarBloco(a.chaves[i], Container.ou(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Percorre os valores do conjunto em ordem crescente. O conjunto não deve ser alterado durante
+     * o percurso.
+     *
+     * @return Os valores do conjunto.
+     */
+    public PrimitiveIterator.OfInt iterar() {
+        return new PrimitiveIterator.OfInt() {
+            private int bloco;
+            private int proximo = bloco < quantidadeBlocos ? containers[0].proximo(0) : -1;
+
+            @Override
+            public boolean hasNext() {
+                return proximo >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (proximo < 0) {
+                    throw new NoSuchElementException();
+                }
+                int valor = chaves[bloco] << 16 | proximo;
+                proximo = proximo < 0xFFFF ? containers[bloco].proximo(proximo + 1) : -1;
+                while (proximo < 0 && ++bloco < quantidadeBlocos) {
+                    proximo = containers[bloco].proximo(0);
+                }
+                return valor;
+            }
+        };
+    }
+
+    private int buscarBloco(char chave) {
+        // As inserções de identificadores densos quase sempre caem no último bloco.
+        if (quantidadeBlocos > 0 && chaves[quantidadeBlocos - 1] == chave) {
+            return quantidadeBlocos - 1;
+        }
+        return Arrays.binarySearch(chaves, 0, quantidadeBlocos, chave);
+    }
+
+    private void inserirBloco(int indice, char chave, Container container) {
+        if (quantidadeBlocos == chaves.length) {
+            int capacidade = Math.max(4, quantidadeBlocos + (quantidadeBlocos >> 1));
+            chaves = Arrays.copyOf(chaves, capacidade);
+            containers = Arrays.copyOf(containers, capacidade);
+        }
+        System.arraycopy(chaves, indice, chaves, indice + 1, quantidadeBlocos - indice);
+        System.arraycopy(containers, indice, containers, indice + 1, quantidadeBlocos - indice);
+        chaves[indice] = chave;
+        containers[indice] = container;
+        quantidadeBlocos++;
+    }
+
+    private void anexarBloco(char chave, Container container) {
+        inserirBloco(quantidadeBlocos, chave, container);
+        cardinalidade += container.cardinalidade;
+    }
+
+    private void removerBloco(int indice) {
+        quantidadeBlocos--;
+        System.arraycopy(chaves, indice + 1, chaves, indice, quantidadeBlocos - indice);
+        System.arraycopy(containers, indice + 1, containers, indice, quantidadeBlocos - indice);
+        containers[quantidadeBlocos] = null;
+    }
+
+    /**
+     * Os 16 bits mais baixos dos valores de um bloco, em um array ordenado ou em um mapa de bits.
+     * Exatamente um dos dois campos é usado.
+     */
+    private static final class Container {
+        private char[] valores;
+        private long[] bits;
+        private int cardinalidade;
+
+        private Container() {
+            this.valores = new char[4];
+        }
+
+        private Container(char[] valores, long[] bits, int cardinalidade) {
+            this.valores = valores;
+            this.bits = bits;
+            this.cardinalidade = cardinalidade;
+        }
+
+        private boolean adicionar(char valor) {
+            if (bits != null) {
+                long palavra = bits[valor >>> 6];
+                long marcada = palavra | 1L << valor;
+                if (marcada == palavra) {
+                    return false;
+                }
+                bits[valor >>> 6] = marcada;
+                cardinalidade++;
+                return true;
+            }
+            int indice = cardinalidade > 0 && valores[cardinalidade - 1] < valor
+                    ? -cardinalidade - 1 : Arrays.binarySearch(valores, 0, cardinalidade, valor);
+            if (indice >= 0) {
+                return false;
+            }
+            if (cardinalidade == LIMITE_ARRAY) {
+                converterEmBits();
+                return adicionar(valor);
+            }
+            indice = -indice - 1;
+            if (cardinalidade == valores.length) {
+                valores = Arrays.copyOf(valores, Math.min(LIMITE_ARRAY, cardinalidade << 1));
+            }
+            System.arraycopy(valores, indice, valores, indice + 1, cardinalidade - indice);
+            valores[indice] = valor;
+            cardinalidade++;
+            return true;
+        }
+
+        private boolean remover(char valor) {
+            if (bits != null) {
+                long palavra = bits[valor >>> 6];
+                long desmarcada = palavra & ~(1L << valor);
+                if (desmarcada == palavra) {
+                    return false;
+                }
+                bits[valor >>> 6] = desmarcada;
+                if (--cardinalidade <= LIMITE_ARRAY / 2) {
+                    converterEmArray();
+                }
+                return true;
+            }
+            int indice = Arrays.binarySearch(valores, 0, cardinalidade, valor);
+            if (indice < 0) {
+                return false;
+            }
+            System.arraycopy(valores, indice + 1, valores, indice, cardinalidade - indice - 1);
+            cardinalidade--;
+            return true;
+        }
+
+        private boolean contem(char valor) {
+            if (bits != null) {
+                return (bits[valor >>> 6] & 1L << valor) != 0;
+            }
+            return Arrays.binarySearch(valores, 0, cardinalidade, valor) >= 0;
+        }
+
+        /**
+         * Localiza o menor valor do contêiner maior ou igual ao informado.
+         *
+         * @return O valor, ou -1 se não houver.
+         */
+        private int proximo(int desde) {
+            if (bits != null) {
+                int indice = desde >>> 6;
+                long palavra = bits[indice] & -1L << desde;
+                while (palavra == 0) {
+                    if (++indice == PALAVRAS_BLOCO) {
+                        return -1;
+                    }
+                    palavra = bits[indice];
+                }
+                return indice << 6 | Long.numberOfTrailingZeros(palavra);
+            }
+            int indice = Arrays.binarySearch(valores, 0, cardinalidade, (char) desde);
+            if (indice < 0) {
+                indice = -indice - 1;
+            }
+            return indice < cardinalidade ? valores[indice] : -1;
+        }
+
+        private void converterEmBits() {
+            long[] mapa = new long[PALAVRAS_BLOCO];
+            for (int i = 0; i < cardinalidade; i++) {
+                mapa[valores[i] >>> 6] |= 1L << valores[i];
+            }
+            bits = mapa;
+            valores = null;
+        }
+
+        private void converterEmArray() {
+            valores = paraArray(bits, cardinalidade);
+            bits = null;
+        }
+
+        private static char[] paraArray(long[] mapa, int cardinalidade) {
+            char[] array = new char[Math.max(4, cardinalidade)];
+            int posicao = 0;
+            for (int i = 0; i < PALAVRAS_BLOCO; i++) {
+                long palavra = mapa[i];
+                while (palavra != 0) {
+                    array[posicao++] = (char) (i << 6 | Long.numberOfTrailingZeros(palavra));
+                    palavra &= palavra - 1;
+                }
+            }
+            return array;
+        }
+
+        private Container copiar() {
+            return bits != null
+                    ? new Container(null, bits.clone(), cardinalidade)
+                    : new Container(Arrays.copyOf(valores, Math.max(4, cardinalidade)), null, cardinalidade);
+        }
+
+        private long getBytes() {
+            long bytes = CABECALHO_OBJETO + 2L * REFERENCIA + 4;
+            return bytes + CABECALHO_ARRAY + (bits != null ? 8L * bits.length : 2L * valores.length);
+        }
+
+        private static Container e(Container a, Container b) {
+            if (a.bits != null && b.bits != null) {
+                // Conta antes de combinar para criar direto o contêiner do formato do resultado.
+                int cardinalidade = contarE(a, b);
+                if (cardinalidade > LIMITE_ARRAY_INTERSECAO) {
+                    long[] mapa = new long[PALAVRAS_BLOCO];
+                    for (int i = 0; i < PALAVRAS_BLOCO; i++) {
+                        mapa[i] = a.bits[i] & b.bits[i];
+                    }
+                    return new Container(null, mapa, cardinalidade);
+                }
+                char[] valores = new char[Math.max(4, cardinalidade)];
+                int posicao = 0;
+                for (int i = 0; i < PALAVRAS_BLOCO; i++) {
+                    long palavra = a.bits[i] & b.bits[i];
+                    while (palavra != 0) {
+                        valores[posicao++] = (char) (i << 6 | Long.numberOfTrailingZeros(palavra));
+                        palavra &= palavra - 1;
+                    }
+                }
+                return new Container(valores, null, cardinalidade);
+            }
+            if (a.bits != null || b.bits != null) {
+                Container array = a.bits != null ? b : a;
+                long[] mapa = a.bits != null ? a.bits : b.bits;
+                char[] valores = new char[Math.max(4, array.cardinalidade)];
+                int cardinalidade = 0;
+                for (int i = 0; i < array.cardinalidade; i++) {
+                    char valor = array.valores[i];
+                    if ((mapa[valor >>> 6] & 1L << valor) != 0) {
+                        valores[cardinalidade++] = valor;
+                    }
+                }
+                return new Container(valores, null, cardinalidade);
+            }
+            char[] valores = new char[Math.max(4, Math.min(a.cardinalidade, b.cardinalidade))];
+            int cardinalidade = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinalidade && j < b.cardinalidade) {
+                if (a.valores[i] < b.valores[j]) {
+                    i++;
+                } else if (a.valores[i] > b.valores[j]) {
+                    j++;
+                } else {
+                    valores[cardinalidade++] = a.valores[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new Container(valores, null, cardinalidade);
+        }
+
+        private static int contarE(Container a, Container b) {
+            if (a.bits != null && b.bits != null) {
+                int cardinalidade = 0;
+                for (int i = 0; i < PALAVRAS_BLOCO; i++) {
+                    cardinalidade += Long.bitCount(a.bits[i] & b.bits[i]);
+                }
+                return cardinalidade;
+            }
+            if (a.bits != null || b.bits != null) {
+                Container array = a.bits != null ? b : a;
+                long[] mapa = a.bits != null ? a.bits : b.bits;
+                int cardinalidade = 0;
+                for (int i = 0; i < array.cardinalidade; i++) {
+                    char valor = array.valores[i];
+                    cardinalidade += (int) (mapa[valor >>> 6] >>> valor) & 1;
+                }
+                return cardinalidade;
+            }
+            int cardinalidade = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinalidade && j < b.cardinalidade) {
+                if (a.valores[i] < b.valores[j]) {
+                    i++;
+                } else if (a.valores[i] > b.valores[j]) {
+                    j++;
+                } else {
+                    cardinalidade++;
+                    i++;
+                    j++;
+                }
+            }
+            return cardinalidade;
+        }
+
+        private static Container ou(Container a, Container b) {
+            if (a.bits != null && b.bits != null) {
+                long[] mapa = new long[PALAVRAS_BLOCO];
+                int cardinalidade = 0;
+                for (int i = 0; i < PALAVRAS_BLOCO; i++) {
+                    mapa[i] = a.bits[i] | b.bits[i];
+                    cardinalidade += Long.bitCount(mapa[i]);
+                }
+                return new Container(null, mapa, cardinalidade);
+            }
+            if (a.bits != null || b.bits != null) {
+                Container resultado = a.bits != null ? a.copiar() : b.copiar();
+                Container array = a.bits != null ? b : a;
+                long[] mapa = resultado.bits;
+                for (int i = 0; i < array.cardinalidade; i++) {
+                    char valor = array.valores[i];
+                    long palavra = mapa[valor >>> 6];
+                    mapa[valor >>> 6] = palavra | 1L << valor;
+                    resultado.cardinalidade += (int) (~palavra >>> valor) & 1;
+                }
+                return resultado;
+            }
+            char[] valores = new char[Math.max(4, a.cardinalidade + b.cardinalidade)];
+            int cardinalidade = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinalidade || j < b.cardinalidade) {
+                char valor;
+                if (j == b.cardinalidade || i < a.cardinalidade && a.valores[i] < b.valores[j]) {
+                    valor = a.valores[i++];
+                } else if (i == a.cardinalidade || a.valores[i] > b.valores[j]) {
+                    valor = b.valores[j++];
+                } else {
+                    valor = a.valores[i++];
+                    j++;
+                }
+                valores[cardinalidade++] = valor;
+            }
+            Container resultado = new Container(valores, null, cardinalidade);
+            if (cardinalidade > LIMITE_ARRAY) {
+                resultado.converterEmBits();
+            }
+            return resultado;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package app;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Consulta de funcionários que combina filtros por nome, função, mês de nascimento e faixa
+ * salarial, com deslocamento e limite. Filtros não informados aceitam qualquer funcionário.
+ * <p>
+ * A consulta apenas descreve os filtros; ela é executada por {@link Principal#consultar}, que
+ * devolve um cursor com os resultados lidos sob demanda. Alterar a consulta depois disso não
+ * afeta os cursores já criados.
+ */
+public class ConsultaFuncionarios {
+    private String nome;
+    private String funcao;
+    private int[] meses;
+    private BigDecimal salarioMinimo;
+    private BigDecimal salarioMaximo;
+    private long deslocamento;
+    private long limite = Long.MAX_VALUE;
+
+    /**
+     * Restringe a consulta aos funcionários com o nome informado, sem diferenciar maiúsculas e
+     * minúsculas, como em {@link Principal#buscarFuncionariosPorNome}.
+     *
+     * @param nome O nome procurado.
+     * @return Esta consulta.
+     */
+    public ConsultaFuncionarios comNome(String nome) {
+        this.nome = nome;
+        return this;
+    }
+
+    /**
+     * Restringe a consulta aos funcionários com a função informada.
+     *
+     * @param funcao A função procurada.
+     * @return Esta consulta.
+     */
+    public ConsultaFuncionarios comFuncao(String funcao) {
+        this.funcao = funcao;
+        return this;
+    }
+
+    /**
+     * Restringe a consulta aos funcionários nascidos nos meses informados.
+     *
+     * @param meses Os meses procurados, com valores entre 1 e 12.
+     * @return Esta consulta.
+     */
+    public ConsultaFuncionarios nascidosNosMeses(int... meses) {
+        this.meses = meses == null ? null : meses.clone();
+        return this;
+    }
+
+    /**
+     * Restringe a consulta aos funcionários com salário na faixa informada, inclusive.
+     *
+     * @param minimo O menor salário aceito, ou null para não limitar.
+     * @param maximo O maior salário aceito, ou null para não limitar.
+     * @return Esta consulta.
+     */
+    public ConsultaFuncionarios comSalarioEntre(BigDecimal minimo, BigDecimal maximo) {
+        this.salarioMinimo = minimo;
+        this.salarioMaximo = maximo;
+        return this;
+    }
+
+    /**
+     * Ignora os primeiros funcionários encontrados.
+     *
+     * @param quantidade A quantidade de funcionários a ignorar.
+     * @return Esta consulta.
+     */
+    public ConsultaFuncionarios pular(long quantidade) {
+        this.deslocamento = quantidade;
+        return this;
+    }
+
+    /**
+     * Limita a quantidade de funcionários devolvidos.
+     *
+     * @param quantidade A quantidade máxima de funcionários.
+     * @return Esta consulta.
+     */
+    public ConsultaFuncionarios limitar(long quantidade) {
+        this.limite = quantidade;
+        return this;
+    }
+
+    /**
+     * Valida os filtros da consulta.
+     *
+     * @return A mensagem de erro do primeiro filtro inválido, ou null se a consulta for válida.
+     */
+    String validar() {
+        if (nome != null && nome.trim().isEmpty()) {
+            return "Nome inválido. Forneça um nome válido para consultar funcionários.";
+        }
+        if (funcao != null && funcao.trim().isEmpty()) {
+            return "Função inválida. Forneça uma função válida para consultar funcionários.";
+        }
+        if (meses != null && (meses.length == 0 || Arrays.stream(meses).anyMatch(mes -> mes < 1 || mes > 12))) {
+            return "Valores inválidos no array de meses. Os meses devem estar entre 1 e 12.";
+        }
+        if (salarioMinimo != null && salarioMaximo != null && salarioMinimo.compareTo(salarioMaximo) > 0) {
+            return "Faixa salarial inválida. O salário mínimo não pode ser maior que o máximo.";
+        }
+        if (deslocamento < 0 || limite < 0) {
+            return "Paginação inválida. O deslocamento e o limite não podem ser negativos.";
+        }
+        return null;
+    }
+
+    /**
+     * Cria o filtro da consulta, uma cópia imutável dos filtros atuais. A consulta deve ser válida.
+     *
+     * @return O filtro.
+     */
+    Filtro compilar() {
+        return new Filtro(this);
+    }
+
+    /**
+     * Filtros de uma consulta já validada, avaliados juntos em uma única passagem por funcionário.
+     */
+    static final class Filtro {
+        private final String nome;
+        private final String chaveNome;
+        private final String funcao;
+        private final int[] meses;
+        private final boolean[] mesesAceitos;
+        private final BigDecimal salarioMinimo;
+        private final BigDecimal salarioMaximo;
+        private final long centavosMinimo;
+        private final long centavosMaximo;
+        private final long deslocamento;
+        private final long limite;
+
+        private Filtro(ConsultaFuncionarios consulta) {
+            this.nome = consulta.nome;
+            this.chaveNome = nome == null ? null : IndiceNome.chave(nome);
+            this.funcao = consulta.funcao;
+            this.meses = consulta.meses == null ? null : consulta.meses.clone();
+            if (meses == null) {
+                this.mesesAceitos = null;
+            } else {
+                this.mesesAceitos = new boolean[13];
+                for (int mes : meses) {
+                    mesesAceitos[mes] = true;
+                }
+            }
+            this.salarioMinimo = consulta.salarioMinimo;
+            this.salarioMaximo = consulta.salarioMaximo;
+            this.centavosMinimo = salarioMinimo == null ? Long.MIN_VALUE + 1 : Dinheiro.centavos(salarioMinimo);
+            this.centavosMaximo = salarioMaximo == null ? Long.MAX_VALUE : Dinheiro.centavos(salarioMaximo);
+            this.deslocamento = consulta.deslocamento;
+            this.limite = consulta.limite;
+        }
+
+        String getNome() {
+            return nome;
+        }
+
+        String getFuncao() {
+            return funcao;
+        }
+
+        int[] getMeses() {
+            return meses;
+        }
+
+        BigDecimal getSalarioMinimo() {
+            return salarioMinimo;
+        }
+
+        BigDecimal getSalarioMaximo() {
+            return salarioMaximo;
+        }
+
+        long getDeslocamento() {
+            return deslocamento;
+        }
+
+        long getLimite() {
+            return limite;
+        }
+
+        /**
+         * Verifica se um funcionário atende a todos os filtros.
+         *
+         * @param funcionario O funcionário.
+         * @return true se o funcionário atende aos filtros.
+         */
+        boolean aceita(Funcionario funcionario) {
+            if (funcao != null && !funcao.equals(funcionario.getFuncao())) {
+                return false;
+            }
+            if (mesesAceitos != null && (funcionario.getDataNascimento() == null
+                    || !mesesAceitos[funcionario.getDataNascimento().getMonthValue()])) {
+                return false;
+            }
+            if ((salarioMinimo != null || salarioMaximo != null) && !salarioNaFaixa(funcionario)) {
+                return false;
+            }
+            return chaveNome == null || chaveNome.equals(IndiceNome.chave(funcionario.getNome()));
+        }
+
+        /**
+         * Compara o salário com a faixa usando os centavos quando o salário e os limites são
+         * representáveis em centavos, e BigDecimal nos demais casos.
+         */
+        private boolean salarioNaFaixa(Funcionario funcionario) {
+            long centavos = funcionario.getSalarioCentavos();
+            if (centavos != Dinheiro.INEXATO && centavosMinimo != Dinheiro.INEXATO && centavosMaximo != Dinheiro.INEXATO) {
+                return centavos >= centavosMinimo && centavos <= centavosMaximo;
+            }
+            BigDecimal salario = funcionario.getSalario();
+            if (salario == null) {
+                return false;
+            }
+            return (salarioMinimo == null || salario.compareTo(salarioMinimo) >= 0)
+                    && (salarioMaximo == null || salario.compareTo(salarioMaximo) <= 0);
+        }
+    }
+}
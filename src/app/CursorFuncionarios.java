@@ -0,0 +1,156 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Resultado de uma consulta de funcionários, lido sob demanda.
+ * <p>
+ * Os funcionários não são copiados para uma lista antes de serem consumidos: cada página percorre
+ * os índices da lista de onde a página anterior parou e só aloca os funcionários da própria página.
+ * O cursor deve ser consumido por uma thread de cada vez. Se a lista for alterada entre duas
+ * páginas, a leitura seguinte lança {@link ConcurrentModificationException}.
+ */
+public class CursorFuncionarios {
+    private static final int TAMANHO_LOTE_STREAM = 256;
+    private static final int CAPACIDADE_INICIAL_MAXIMA = 1_024;
+
+    private final Principal principal;
+    private final Iterator<Funcionario> origem;
+    private final ConsultaFuncionarios.Filtro filtro;
+    private final long versao;
+    private long aPular;
+    private long restantes;
+    private Funcionario proximo;
+
+    /**
+     * Cria um cursor e já localiza o primeiro resultado. Deve ser chamado com a lista protegida
+     * contra alterações, como as páginas seguintes.
+     *
+     * @param principal A lista consultada, ou null para um cursor vazio.
+     * @param origem    Os candidatos, na ordem do resultado.
+     * @param filtro    Os filtros aplicados aos candidatos.
+     * @param versao    A versão da lista quando o cursor foi criado.
+     */
+    CursorFuncionarios(Principal principal, Iterator<Funcionario> origem, ConsultaFuncionarios.Filtro filtro, long versao) {
+        this.principal = principal;
+        this.origem = origem;
+        this.filtro = filtro;
+        this.versao = versao;
+        this.aPular = filtro == null ? 0 : filtro.getDeslocamento();
+        this.restantes = filtro == null ? 0 : filtro.getLimite();
+        avancar();
+    }
+
+    /**
+     * Cria um cursor sem resultados.
+     *
+     * @return O cursor vazio.
+     */
+    static CursorFuncionarios vazio() {
+        return new CursorFuncionarios(null, Collections.emptyIterator(), null, 0);
+    }
+
+    /**
+     * Verifica se ainda existem funcionários a serem lidos.
+     *
+     * @return true se a próxima página tem ao menos um funcionário.
+     */
+    public boolean temProxima() {
+        return proximo != null;
+    }
+
+    /**
+     * Lê a próxima página de resultados.
+     *
+     * @param tamanhoPagina A quantidade máxima de funcionários da página.
+     * @return Os funcionários da página, ou uma lista vazia se não houver mais resultados.
+     * @throws ConcurrentModificationException Se a lista foi alterada depois da criação do cursor.
+     * @throws IllegalArgumentException        Se o tamanho da página não for positivo.
+     */
+    public List<Funcionario> proximaPagina(int tamanhoPagina) {
+        if (tamanhoPagina <= 0) {
+            throw new IllegalArgumentException("O tamanho da página deve ser maior que zero.");
+        }
+        if (proximo == null) {
+            return new ArrayList<>();
+        }
+        return principal.lerPagina(this, tamanhoPagina);
+    }
+
+    /**
+     * Obtém os resultados restantes como um Stream sequencial, lido em páginas à medida que é
+     * consumido. Operações como {@code findFirst} ou {@code limit} param a leitura da lista.
+     *
+     * @return Os funcionários restantes.
+     */
+    public Stream<Funcionario> stream() {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<Funcionario>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private Iterator<Funcionario> pagina = Collections.emptyIterator();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Funcionario> acao) {
+                if (!pagina.hasNext()) {
+                    if (!temProxima()) {
+                        return false;
+                    }
+                    pagina = proximaPagina(TAMANHO_LOTE_STREAM).iterator();
+                }
+                acao.accept(pagina.next());
+                return true;
+            }
+        }, false);
+    }
+
+    /**
+     * Preenche uma página a partir da posição atual. Chamado por {@link Principal} com a lista
+     * protegida contra alterações.
+     *
+     * @param tamanhoPagina A quantidade máxima de funcionários.
+     * @param versaoAtual   A versão atual da lista.
+     * @return Os funcionários da página.
+     */
+    List<Funcionario> preencher(int tamanhoPagina, long versaoAtual) {
+        if (versaoAtual != versao) {
+            throw new ConcurrentModificationException("A lista de funcionários foi alterada durante a consulta.");
+        }
+        List<Funcionario> pagina = new ArrayList<>((int) Math.min(tamanhoPagina, Math.min(restantes + 1, CAPACIDADE_INICIAL_MAXIMA)));
+        while (proximo != null && pagina.size() < tamanhoPagina) {
+            pagina.add(proximo);
+            avancar();
+        }
+        return pagina;
+    }
+
+    /**
+     * Localiza o próximo funcionário que atende aos filtros, descontando o deslocamento e o limite.
+     */
+    private void avancar() {
+        proximo = null;
+        if (restantes == 0) {
+            return;
+        }
+        while (origem.hasNext()) {
+            Funcionario candidato = origem.next();
+            if (!filtro.aceita(candidato)) {
+                continue;
+            }
+            if (aPular > 0) {
+                aPular--;
+                continue;
+            }
+            restantes--;
+            proximo = candidato;
+            return;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package app;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Diário de mutações somente de acréscimo, com gravação em grupo.
+ * <p>
+ * Cada registro é gravado como tamanho (4 bytes), CRC32 do conteúdo (4 bytes) e conteúdo. Os
+ * registros anexados ficam em memória até que alguma thread aguarde a sua durabilidade; essa
+ * thread grava de uma só vez todos os registros pendentes e executa um único fsync, e as threads
+ * que aguardavam registros do mesmo lote são liberadas sem gravar novamente.
+ * <p>
+ * Se a gravação de um lote falhar, os bytes gravados em parte são descartados, voltando o arquivo
+ * ao fim do último lote gravado, e o diário passa a recusar novos registros: os registros do lote
+ * e os anexados depois dele nunca são confirmados, e quem os aguarda recebe o erro.
+ */
+class DiarioMutacoes implements AutoCloseable {
+    private static final int TAMANHO_CABECALHO_REGISTRO = 8;
+
+    private final FileChannel canal;
+    private final boolean sincronizar;
+
+    private ByteArrayOutputStream pendentes = new ByteArrayOutputStream();
+    private long sequenciaAnexada;
+    private long sequenciaGravada;
+    private long tamanhoGravado;
+    private boolean gravando;
+    private IOException falha;
+
+    private DiarioMutacoes(FileChannel canal, boolean sincronizar, long tamanhoGravado) {
+        this.canal = canal;
+        this.sincronizar = sincronizar;
+        this.tamanhoGravado = tamanhoGravado;
+    }
+
+    /**
+     * Abre um diário para acréscimo, criando o arquivo se necessário.
+     *
+     * @param arquivo     O caminho do arquivo do diário.
+     * @param sincronizar true para executar fsync a cada lote gravado.
+     * @return O diário aberto.
+     * @throws IOException Se o arquivo não puder ser aberto.
+     */
+    static DiarioMutacoes abrir(Path arquivo, boolean sincronizar) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        long tamanho = canal.size();
+        canal.position(tamanho);
+        return new DiarioMutacoes(canal, sincronizar, tamanho);
+    }
+
+    /**
+     * Lê os registros íntegros de um diário. A leitura termina no primeiro registro incompleto ou
+     * corrompido, que é descartado junto com o restante do arquivo.
+     *
+     * @param arquivo O caminho do arquivo do diário.
+     * @return O conteúdo dos registros íntegros, na ordem em que foram gravados.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    static List<ByteBuffer> ler(Path arquivo) throws IOException {
+        List<ByteBuffer> registros = new ArrayList<>();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer conteudo = ByteBuffer.allocate(Math.toIntExact(canal.size())).order(ByteOrder.LITTLE_ENDIAN);
+            while (conteudo.hasRemaining()) {
+                if (canal.read(conteudo) < 0) {
+                    break;
+                }
+            }
+            conteudo.flip();
+            CRC32 crc = new CRC32();
+            while (conteudo.remaining() >= TAMANHO_CABECALHO_REGISTRO) {
+                int inicio = conteudo.position();
+                int tamanho = conteudo.getInt();
+                int soma = conteudo.getInt();
+                if (tamanho < 0 || tamanho > conteudo.remaining()) {
+                    conteudo.position(inicio);
+                    break;
+                }
+                ByteBuffer registro = conteudo.slice(conteudo.position(), tamanho).order(ByteOrder.LITTLE_ENDIAN);
+                crc.reset();
+                crc.update(registro.duplicate());
+                if ((int) crc.getValue() != soma) {
+                    conteudo.position(inicio);
+                    break;
+                }
+                registros.add(registro);
+                conteudo.position(conteudo.position() + tamanho);
+            }
+            if (conteudo.hasRemaining()) {
+                canal.truncate(conteudo.position());
+            }
+        }
+        return registros;
+    }
+
+    /**
+     * Anexa um registro ao lote pendente, sem gravá-lo.
+     *
+     * @param registro O conteúdo do registro.
+     * @return A sequência do registro, usada para aguardar a sua durabilidade.
+     * @throws IOException Se o diário foi fechado ou não aceita mais registros depois de uma falha de gravação.
+     */
+    synchronized long anexar(byte[] registro) throws IOException {
+        verificarFalha();
+        CRC32 crc = new CRC32();
+        crc.update(registro);
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO_REGISTRO).order(ByteOrder.LITTLE_ENDIAN);
+        cabecalho.putInt(registro.length).putInt((int) crc.getValue());
+        pendentes.writeBytes(cabecalho.array());
+        pendentes.writeBytes(registro);
+        return ++sequenciaAnexada;
+    }
+
+    /**
+     * Obtém a sequência do último registro anexado.
+     *
+     * @return A sequência do último registro, ou zero se nenhum foi anexado.
+     */
+    synchronized long ultimaSequencia() {
+        return sequenciaAnexada;
+    }
+
+    /**
+     * Indica se o diário ainda aceita registros, ou seja, se não foi fechado nem teve uma falha de gravação.
+     *
+     * @return true se novos registros podem ser anexados.
+     */
+    synchronized boolean aceitaRegistros() {
+        return falha == null;
+    }
+
+    private void verificarFalha() throws IOException {
+        if (falha != null) {
+            String motivo = falha.getMessage() != null ? falha.getMessage() : falha.toString();
+            throw new IOException("O diário não aceita mais registros: " + motivo, falha);
+        }
+    }
+
+    /**
+     * Aguarda até que o registro com a sequência informada esteja gravado. Se nenhuma outra thread
+     * estiver gravando, a thread atual grava todos os registros pendentes em um único lote.
+     *
+     * @param sequencia A sequência do registro.
+     * @throws IOException Se houver erro ao gravar o lote, ou se um lote anterior falhou e o registro não será gravado.
+     */
+    void aguardar(long sequencia) throws IOException {
+        byte[] lote;
+        long ultimaDoLote;
+        synchronized (this) {
+            while (gravando && sequenciaGravada < sequencia) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrompido ao aguardar a gravação do diário.", e);
+                }
+            }
+            if (sequenciaGravada >= sequencia) {
+                return;
+            }
+            verificarFalha();
+            gravando = true;
+            lote = pendentes.toByteArray();
+            pendentes = new ByteArrayOutputStream();
+            ultimaDoLote = sequenciaAnexada;
+        }
+        IOException erro = null;
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lote);
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            if (sincronizar) {
+                canal.force(false);
+            }
+        } catch (IOException e) {
+            erro = e;
+            throw e;
+        } finally {
+            synchronized (this) {
+                gravando = false;
+                if (erro == null) {
+                    sequenciaGravada = ultimaDoLote;
+                    tamanhoGravado += lote.length;
+                } else {
+                    falhar(erro);
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Coloca o diário em falha depois de um lote não gravado, descartando do arquivo o que foi
+     * gravado em parte para que nenhum registro posterior seja lido depois de bytes incompletos.
+     */
+    private void falhar(IOException erro) {
+        falha = erro;
+        pendentes = new ByteArrayOutputStream();
+        try {
+            canal.truncate(tamanhoGravado);
+            canal.position(tamanhoGravado);
+        } catch (IOException e) {
+            erro.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Grava os registros pendentes e fecha o arquivo do diário.
+     *
+     * @throws IOException Se houver erro ao gravar ou fechar o diário.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            aguardar(ultimaSequencia());
+        } finally {
+            synchronized (this) {
+                if (falha == null) {
+                    falha = new IOException("O diário foi fechado.");
+                }
+            }
+            canal.close();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package app;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em centavos, guardado em um long.
+ * <p>
+ * As operações são exatas e lançam {@link ArithmeticException} em caso de estouro; as que
+ * precisam arredondar usam {@link RoundingMode#HALF_UP}, como os cálculos com BigDecimal da
+ * classe Principal. Os métodos estáticos operam diretamente sobre centavos em long e são usados
+ * nos cálculos que percorrem a lista inteira, sem criar objetos por funcionário.
+ */
+public final class Dinheiro implements Comparable<Dinheiro> {
+    /**
+     * Valor usado no lugar dos centavos de um BigDecimal que não pode ser representado exatamente.
+     */
+    static final long INEXATO = Long.MIN_VALUE;
+
+    private static final int CASAS_DECIMAIS = 2;
+    private static final int DIGITOS_LONG = 18;
+
+    private final long centavos;
+
+    private Dinheiro(long centavos) {
+        this.centavos = centavos;
+    }
+
+    /**
+     * Cria um valor a partir da quantidade de centavos.
+     *
+     * @param centavos A quantidade de centavos.
+     * @return O valor correspondente.
+     */
+    public static Dinheiro deCentavos(long centavos) {
+        if (centavos == INEXATO) {
+            throw new ArithmeticException("Valor fora do intervalo representável em centavos.");
+        }
+        return new Dinheiro(centavos);
+    }
+
+    /**
+     * Converte um BigDecimal em um valor monetário.
+     *
+     * @param valor O valor a ser convertido.
+     * @return O valor correspondente.
+     * @throws ArithmeticException Se o valor tiver frações de centavo ou não couber em um long.
+     */
+    public static Dinheiro de(BigDecimal valor) {
+        long centavos = centavos(valor);
+        if (centavos == INEXATO) {
+            throw new ArithmeticException("Valor não pode ser representado exatamente em centavos: " + valor);
+        }
+        return new Dinheiro(centavos);
+    }
+
+    /**
+     * Obtém a quantidade de centavos.
+     *
+     * @return A quantidade de centavos.
+     */
+    public long getCentavos() {
+        return centavos;
+    }
+
+    /**
+     * Converte o valor em um BigDecimal com duas casas decimais.
+     *
+     * @return O valor como BigDecimal.
+     */
+    public BigDecimal paraBigDecimal() {
+        return BigDecimal.valueOf(centavos, CASAS_DECIMAIS);
+    }
+
+    /**
+     * Soma dois valores.
+     *
+     * @param outro O valor a ser somado.
+     * @return A soma dos valores.
+     * @throws ArithmeticException Se a soma não couber em um long.
+     */
+    public Dinheiro somar(Dinheiro outro) {
+        return deCentavos(Math.addExact(centavos, outro.centavos));
+    }
+
+    /**
+     * Subtrai um valor deste.
+     *
+     * @param outro O valor a ser subtraído.
+     * @return A diferença entre os valores.
+     * @throws ArithmeticException Se a diferença não couber em um long.
+     */
+    public Dinheiro subtrair(Dinheiro outro) {
+        return deCentavos(Math.subtractExact(centavos, outro.centavos));
+    }
+
+    /**
+     * Multiplica o valor por um fator, arredondando o resultado para centavos.
+     *
+     * @param fator O fator da multiplicação.
+     * @return O produto arredondado.
+     * @throws ArithmeticException Se o produto não couber em um long.
+     */
+    public Dinheiro multiplicar(BigDecimal fator) {
+        return de(paraBigDecimal().multiply(fator).setScale(CASAS_DECIMAIS, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Calcula quantas vezes outro valor cabe neste, com duas casas decimais.
+     *
+     * @param divisor O valor pelo qual este é dividido.
+     * @return A razão arredondada, igual a {@code divide(divisor, 2, RoundingMode.HALF_UP)}.
+     * @throws ArithmeticException Se o divisor for zero.
+     */
+    public BigDecimal dividir(Dinheiro divisor) {
+        long centesimos = razaoEmCentesimos(centavos, divisor.centavos);
+        if (centesimos == INEXATO) {
+            return paraBigDecimal().divide(divisor.paraBigDecimal(), CASAS_DECIMAIS, RoundingMode.HALF_UP);
+        }
+        return BigDecimal.valueOf(centesimos, CASAS_DECIMAIS);
+    }
+
+    /**
+     * Converte um BigDecimal em centavos.
+     *
+     * @param valor O valor a ser convertido.
+     * @return Os centavos, ou {@link #INEXATO} se o valor for nulo, tiver frações de centavo ou não couber em um long.
+     */
+    static long centavos(BigDecimal valor) {
+        if (valor == null || valor.scale() > CASAS_DECIMAIS || valor.precision() - valor.scale() > DIGITOS_LONG - CASAS_DECIMAIS) {
+            return INEXATO;
+        }
+        return valor.movePointRight(CASAS_DECIMAIS).longValue();
+    }
+
+    /**
+     * Calcula a razão entre dois valores em centavos, em centésimos, arredondada com HALF_UP.
+     *
+     * @param dividendo Os centavos do dividendo.
+     * @param divisor   Os centavos do divisor.
+     * @return A razão em centésimos, ou {@link #INEXATO} se o cálculo não couber em um long.
+     * @throws ArithmeticException Se o divisor for zero.
+     */
+    static long razaoEmCentesimos(long dividendo, long divisor) {
+        if (divisor == 0) {
+            throw new ArithmeticException("Divisão por zero.");
+        }
+        long produto = dividendo * 100;
+        if (Math.multiplyHigh(dividendo, 100) != (produto >> 63) || divisor == INEXATO) {
+            return INEXATO;
+        }
+        return dividirArredondando(produto, divisor);
+    }
+
+    /**
+     * Divide dois longs arredondando o quociente com HALF_UP.
+     *
+     * @param dividendo O dividendo.
+     * @param divisor   O divisor, diferente de zero.
+     * @return O quociente arredondado.
+     */
+    static long dividirArredondando(long dividendo, long divisor) {
+        long quociente = dividendo / divisor;
+        long resto = Math.abs(dividendo % divisor);
+        if (resto >= Math.abs(divisor) - resto) {
+            quociente += (dividendo ^ divisor) < 0 ? -1 : 1;
+        }
+        return quociente;
+    }
+
+    @Override
+    public int compareTo(Dinheiro outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public boolean equals(Object objeto) {
+        return objeto instanceof Dinheiro outro && centavos == outro.centavos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    @Override
+    public String toString() {
+        return paraBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,107 @@
+package app;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Estatísticas dos salários da lista: quantidade, soma, menor, maior, média e a quantidade de
+ * funcionários em cada faixa salarial.
+ * <p>
+ * Com os limites L1 &lt; L2 &lt; ... &lt; Lk, as faixas são: abaixo de L1, de L1 até antes de L2,
+ * e assim por diante, até a faixa de Lk em diante.
+ */
+public class EstatisticasSalariais {
+    private final long quantidade;
+    private final BigDecimal soma;
+    private final BigDecimal menor;
+    private final BigDecimal maior;
+    private final BigDecimal media;
+    private final List<BigDecimal> limitesFaixas;
+    private final long[] quantidadesPorFaixa;
+
+    EstatisticasSalariais(long quantidade, BigDecimal soma, BigDecimal menor, BigDecimal maior, BigDecimal media,
+                          List<BigDecimal> limitesFaixas, long[] quantidadesPorFaixa) {
+        this.quantidade = quantidade;
+        this.soma = soma;
+        this.menor = menor;
+        this.maior = maior;
+        this.media = media;
+        this.limitesFaixas = Collections.unmodifiableList(limitesFaixas);
+        this.quantidadesPorFaixa = quantidadesPorFaixa;
+    }
+
+    /**
+     * Obtém a quantidade de salários considerados.
+     *
+     * @return A quantidade de salários.
+     */
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Obtém a soma dos salários.
+     *
+     * @return A soma dos salários.
+     */
+    public BigDecimal getSoma() {
+        return soma;
+    }
+
+    /**
+     * Obtém o menor salário.
+     *
+     * @return O menor salário, ou null se não houver funcionários.
+     */
+    public BigDecimal getMenor() {
+        return menor;
+    }
+
+    /**
+     * Obtém o maior salário.
+     *
+     * @return O maior salário, ou null se não houver funcionários.
+     */
+    public BigDecimal getMaior() {
+        return maior;
+    }
+
+    /**
+     * Obtém a média dos salários, com duas casas decimais arredondadas com HALF_UP.
+     *
+     * @return A média dos salários, ou null se não houver funcionários.
+     */
+    public BigDecimal getMedia() {
+        return media;
+    }
+
+    /**
+     * Obtém os limites que separam as faixas salariais.
+     *
+     * @return Uma lista não modificável com os limites, em ordem crescente.
+     */
+    public List<BigDecimal> getLimitesFaixas() {
+        return limitesFaixas;
+    }
+
+    /**
+     * Obtém a quantidade de funcionários em cada faixa salarial.
+     *
+     * @return Uma cópia das quantidades, com uma posição a mais que a quantidade de limites.
+     */
+    public long[] getQuantidadesPorFaixa() {
+        return quantidadesPorFaixa.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "EstatisticasSalariais{" +
+                "quantidade=" + quantidade +
+                ", soma=" + soma +
+                ", menor=" + menor +
+                ", maior=" + maior +
+                ", media=" + media +
+                '}';
+    }
+}
@@ -0,0 +1,128 @@
+package app;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formata valores monetários no padrão brasileiro ({@code 1.000,00}) e datas no formato
+ * {@code dd/MM/yyyy}, escrevendo diretamente no StringBuilder informado.
+ * <p>
+ * Diferente de {@link java.text.DecimalFormat}, os métodos não guardam estado e podem ser
+ * chamados por várias threads ao mesmo tempo. Valores em centavos e datas entre os anos 1 e 9999
+ * são escritos dígito a dígito, sem criar objetos; os demais casos usam BigDecimal e
+ * {@link DateTimeFormatter}. Valores com mais de duas casas decimais são arredondados com
+ * {@link RoundingMode#HALF_EVEN} e, como no DecimalFormat, um valor negativo arredondado para
+ * zero é escrito como {@code -0,00}.
+ */
+public final class Formatador {
+    private static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private Formatador() {
+    }
+
+    /**
+     * Escreve um valor em centavos no formato {@code 1.000,00}.
+     *
+     * @param centavos O valor em centavos.
+     * @param destino  O StringBuilder no qual o valor é escrito.
+     */
+    public static void formatarMoeda(long centavos, StringBuilder destino) {
+        if (centavos == Long.MIN_VALUE) {
+            formatarMoeda(BigDecimal.valueOf(centavos, 2), destino);
+            return;
+        }
+        if (centavos < 0) {
+            destino.append('-');
+            centavos = -centavos;
+        }
+        long reais = centavos / 100;
+        long potencia = 1;
+        while (reais / potencia >= 1000) {
+            potencia *= 1000;
+        }
+        destino.append(reais / potencia);
+        for (potencia /= 1000; potencia > 0; potencia /= 1000) {
+            destino.append('.');
+            acrescentarDigitos(reais / potencia % 1000, 3, destino);
+        }
+        destino.append(',');
+        acrescentarDigitos(centavos % 100, 2, destino);
+    }
+
+    /**
+     * Escreve um valor no formato {@code 1.000,00}.
+     *
+     * @param valor   O valor a ser formatado.
+     * @param destino O StringBuilder no qual o valor é escrito.
+     */
+    public static void formatarMoeda(BigDecimal valor, StringBuilder destino) {
+        long centavos = Dinheiro.centavos(valor);
+        if (centavos != Dinheiro.INEXATO) {
+            formatarMoeda(centavos, destino);
+            return;
+        }
+        BigDecimal arredondado = valor.setScale(2, RoundingMode.HALF_EVEN);
+        centavos = Dinheiro.centavos(arredondado);
+        if (centavos == 0 && valor.signum() < 0) {
+            destino.append('-');
+        }
+        if (centavos != Dinheiro.INEXATO) {
+            formatarMoeda(centavos, destino);
+            return;
+        }
+        if (arredondado.signum() < 0) {
+            destino.append('-');
+        }
+        String digitos = arredondado.unscaledValue().abs().toString();
+        int tamanhoInteiro = digitos.length() - 2;
+        for (int i = 0; i < tamanhoInteiro; i++) {
+            if (i > 0 && (tamanhoInteiro - i) % 3 == 0) {
+                destino.append('.');
+            }
+            destino.append(digitos.charAt(i));
+        }
+        destino.append(',').append(digitos, tamanhoInteiro, digitos.length());
+    }
+
+    /**
+     * Formata um valor no formato {@code 1.000,00}.
+     *
+     * @param valor O valor a ser formatado.
+     * @return O valor formatado.
+     */
+    public static String formatarMoeda(BigDecimal valor) {
+        StringBuilder destino = new StringBuilder(24);
+        formatarMoeda(valor, destino);
+        return destino.toString();
+    }
+
+    /**
+     * Escreve uma data no formato {@code dd/MM/yyyy}.
+     *
+     * @param data    A data a ser formatada.
+     * @param destino O StringBuilder no qual a data é escrita.
+     */
+    public static void formatarData(LocalDate data, StringBuilder destino) {
+        int ano = data.getYear();
+        if (ano < 1 || ano > 9999) {
+            DATA.formatTo(data, destino);
+            return;
+        }
+        acrescentarDigitos(data.getDayOfMonth(), 2, destino);
+        destino.append('/');
+        acrescentarDigitos(data.getMonthValue(), 2, destino);
+        destino.append('/');
+        acrescentarDigitos(ano, 4, destino);
+    }
+
+    private static void acrescentarDigitos(long valor, int quantidade, StringBuilder destino) {
+        for (long limite = 10; quantidade > 1; quantidade--, limite *= 10) {
+            if (valor < limite) {
+                destino.append('0');
+            }
+        }
+        destino.append(valor);
+    }
+}
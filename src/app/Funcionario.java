@@ -13,11 +13,36 @@ public class Funcionario extends Pessoa {
      */
     private BigDecimal salario;
 
+    /**
+     * O salário em centavos, ou {@link Dinheiro#INEXATO} se ele não puder ser representado exatamente.
+     */
+    private long salarioCentavos = Dinheiro.INEXATO;
+
     /**
      * A função do funcionário.
      */
     private String funcao;
 
+    /**
+     * Observador notificado quando o funcionário é alterado, ou null se ele não pertence a nenhuma lista.
+     */
+    private ObservadorFuncionario observador;
+
+    /**
+     * Linha ocupada pelo funcionário no armazenamento colunar, ou -1 se ele não estiver armazenado.
+     */
+    private int linhaTabela = -1;
+
+    /**
+     * Identificador denso do funcionário nos índices de bitmap, ou -1 se ele não estiver indexado.
+     */
+    private int linhaIndice = -1;
+
+    /**
+     * Ordem de indexação do funcionário na listagem por nome, usada para desempatar nomes equivalentes.
+     */
+    private long sequenciaOrdemNome;
+
     /**
      * Construtor padrão.
      */
@@ -36,6 +61,7 @@ public class Funcionario extends Pessoa {
     public Funcionario(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
         super(nome, dataNascimento);
         this.salario = salario;
+        this.salarioCentavos = Dinheiro.centavos(salario);
         this.funcao = funcao;
     }
 
@@ -54,7 +80,43 @@ public class Funcionario extends Pessoa {
      * @param salario O novo salário do funcionário.
      */
     public void setSalario(BigDecimal salario) {
+        alterar(() -> {
+            BigDecimal salarioAnterior = this.salario;
+            this.salario = salario;
+            this.salarioCentavos = Dinheiro.centavos(salario);
+            if (observador != null) {
+                observador.salarioAlterado(this, salarioAnterior);
+            }
+        });
+    }
+
+    /**
+     * Define o salário sem notificar o observador. Usado pela lista nos reajustes em lote, que
+     * atualizam os índices uma única vez depois de atribuir todos os salários.
+     *
+     * @param salario O novo salário do funcionário.
+     */
+    void atribuirSalario(BigDecimal salario) {
         this.salario = salario;
+        this.salarioCentavos = Dinheiro.centavos(salario);
+    }
+
+    /**
+     * Obtém o salário do funcionário como valor em centavos.
+     *
+     * @return O salário, ou null se ele não estiver definido ou tiver frações de centavo.
+     */
+    public Dinheiro getSalarioDinheiro() {
+        return salarioCentavos == Dinheiro.INEXATO ? null : Dinheiro.deCentavos(salarioCentavos);
+    }
+
+    /**
+     * Obtém o salário do funcionário em centavos, sem criar objetos.
+     *
+     * @return O salário em centavos, ou {@link Dinheiro#INEXATO} se ele não puder ser representado exatamente.
+     */
+    long getSalarioCentavos() {
+        return salarioCentavos;
     }
 
     /**
@@ -72,7 +134,134 @@ public class Funcionario extends Pessoa {
      * @param funcao A nova função do funcionário.
      */
     public void setFuncao(String funcao) {
-        this.funcao = funcao;
+        alterar(() -> {
+            String funcaoAnterior = this.funcao;
+            this.funcao = funcao;
+            if (observador != null) {
+                observador.funcaoAlterada(this, funcaoAnterior);
+            }
+        });
+    }
+
+    /**
+     * Obtém o observador notificado sobre alterações do funcionário.
+     *
+     * @return O observador, ou null se o funcionário não pertence a nenhuma lista.
+     */
+    ObservadorFuncionario getObservador() {
+        return observador;
+    }
+
+    /**
+     * Define o observador notificado sobre alterações do funcionário.
+     *
+     * @param observador O observador, ou null para deixar de notificar.
+     */
+    void setObservador(ObservadorFuncionario observador) {
+        this.observador = observador;
+    }
+
+    /**
+     * Executa a alteração pelo observador, que atribui o novo valor e atualiza os índices da lista
+     * sem que outras threads vejam um sem o outro.
+     *
+     * @param alteracao A atribuição do novo valor, seguida da notificação.
+     */
+    @Override
+    protected void alterar(Runnable alteracao) {
+        ObservadorFuncionario atual = observador;
+        if (atual != null) {
+            atual.alterar(alteracao);
+        } else {
+            alteracao.run();
+        }
+    }
+
+    /**
+     * Cria uma cópia do funcionário que não pertence a nenhuma lista.
+     *
+     * @return A cópia, com o mesmo nome, data de nascimento, salário e função.
+     */
+    Funcionario copiar() {
+        return new Funcionario(getNome(), getDataNascimento(), salario, funcao);
+    }
+
+    /**
+     * Notifica o observador sobre a alteração do nome.
+     *
+     * @param nomeAnterior O nome do funcionário antes da alteração.
+     */
+    @Override
+    protected void aoAlterarNome(String nomeAnterior) {
+        if (observador != null) {
+            observador.nomeAlterado(this, nomeAnterior);
+        }
+    }
+
+    /**
+     * Notifica o observador sobre a alteração da data de nascimento.
+     *
+     * @param dataAnterior A data de nascimento do funcionário antes da alteração.
+     */
+    @Override
+    protected void aoAlterarDataNascimento(LocalDate dataAnterior) {
+        if (observador != null) {
+            observador.dataNascimentoAlterada(this, dataAnterior);
+        }
+    }
+
+    /**
+     * Obtém a linha ocupada pelo funcionário no armazenamento colunar.
+     *
+     * @return A linha do funcionário, ou -1 se ele não estiver armazenado.
+     */
+    int getLinhaTabela() {
+        return linhaTabela;
+    }
+
+    /**
+     * Define a linha ocupada pelo funcionário no armazenamento colunar.
+     *
+     * @param linhaTabela A nova linha do funcionário, ou -1 ao removê-lo.
+     */
+    void setLinhaTabela(int linhaTabela) {
+        this.linhaTabela = linhaTabela;
+    }
+
+    /**
+     * Obtém o identificador do funcionário nos índices de bitmap.
+     *
+     * @return O identificador do funcionário, ou -1 se ele não estiver indexado.
+     */
+    int getLinhaIndice() {
+        return linhaIndice;
+    }
+
+    /**
+     * Define o identificador do funcionário nos índices de bitmap.
+     *
+     * @param linhaIndice O novo identificador do funcionário, ou -1 ao removê-lo.
+     */
+    void setLinhaIndice(int linhaIndice) {
+        this.linhaIndice = linhaIndice;
+    }
+
+    /**
+     * Obtém a ordem de indexação do funcionário na listagem por nome.
+     *
+     * @return A ordem de indexação, que desempata funcionários com nomes equivalentes.
+     */
+    long getSequenciaOrdemNome() {
+        return sequenciaOrdemNome;
+    }
+
+    /**
+     * Define a ordem de indexação do funcionário na listagem por nome.
+     *
+     * @param sequenciaOrdemNome A nova ordem de indexação.
+     */
+    void setSequenciaOrdemNome(long sequenciaOrdemNome) {
+        this.sequenciaOrdemNome = sequenciaOrdemNome;
     }
 
     /**
@@ -0,0 +1,252 @@
+package app;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * Resumo dos funcionários de uma função: quantidade, soma, menor e maior salário e os próprios funcionários.
+ * <p>
+ * Os grupos obtidos por {@link Principal#obterGruposPorFuncao()} são atualizados pela lista a cada
+ * inserção, remoção ou alteração de salário e função, e podem ser lidos sem percorrer a lista.
+ * <p>
+ * A soma é mantida em centavos; os salários com frações de centavo ou que não cabem em um long, e
+ * as parcelas que fariam a soma em centavos transbordar, são somados à parte com BigDecimal. Os
+ * salários ficam também em um multiconjunto ordenado, de modo que a saída do menor ou do maior
+ * salário custa O(log n) e os extremos são lidos sem percorrer o grupo. Depois de um reajuste em
+ * lote, o grupo é recontado uma vez, na própria alteração.
+ */
+public class GrupoFuncao {
+    private static final int CASAS_DECIMAIS = 2;
+
+    private final String funcao;
+    private final Set<Funcionario> funcionarios;
+
+    /**
+     * Quantidade de funcionários de cada salário, comparando os salários pelo valor.
+     */
+    private final TreeMap<BigDecimal, Integer> salarios = new TreeMap<>();
+
+    private long somaCentavos;
+    private final int[] salariosPorEscala = new int[CASAS_DECIMAIS + 1];
+    private int salariosInexatos;
+    private BigDecimal somaExcedente = BigDecimal.ZERO;
+    private BigDecimal menorSalario;
+    private BigDecimal maiorSalario;
+
+    /**
+     * Soma calculada na leitura, ou null se precisa ser recalculada. Volátil porque, em
+     * {@link PrincipalConcorrente}, é preenchida por leituras que executam em paralelo; todas
+     * calculam o mesmo valor.
+     */
+    private volatile BigDecimal somaSalarios;
+
+    /**
+     * Cria um grupo vazio.
+     *
+     * @param funcao A função do grupo.
+     */
+    GrupoFuncao(String funcao) {
+        this.funcao = funcao;
+        this.funcionarios = new LinkedHashSet<>();
+        this.somaSalarios = BigDecimal.ZERO;
+    }
+
+    private GrupoFuncao(GrupoFuncao origem) {
+        this.funcao = origem.funcao;
+        this.funcionarios = new LinkedHashSet<>(origem.funcionarios);
+        this.salarios.putAll(origem.salarios);
+        this.somaSalarios = origem.getSomaSalarios();
+        this.menorSalario = origem.menorSalario;
+        this.maiorSalario = origem.maiorSalario;
+        this.somaCentavos = origem.somaCentavos;
+        System.arraycopy(origem.salariosPorEscala, 0, salariosPorEscala, 0, salariosPorEscala.length);
+        this.salariosInexatos = origem.salariosInexatos;
+        this.somaExcedente = origem.somaExcedente;
+    }
+
+    /**
+     * Obtém a função do grupo.
+     *
+     * @return A função do grupo.
+     */
+    public String getFuncao() {
+        return funcao;
+    }
+
+    /**
+     * Obtém a quantidade de funcionários da função.
+     *
+     * @return A quantidade de funcionários.
+     */
+    public int getQuantidade() {
+        return funcionarios.size();
+    }
+
+    /**
+     * Obtém a soma dos salários da função.
+     *
+     * @return A soma dos salários.
+     */
+    public BigDecimal getSomaSalarios() {
+        BigDecimal soma = somaSalarios;
+        if (soma == null) {
+            soma = calcularSoma();
+            somaSalarios = soma;
+        }
+        return soma;
+    }
+
+    /**
+     * Obtém o menor salário da função.
+     *
+     * @return O menor salário, ou null se o grupo estiver vazio.
+     */
+    public BigDecimal getMenorSalario() {
+        return menorSalario;
+    }
+
+    /**
+     * Obtém o maior salário da função.
+     *
+     * @return O maior salário, ou null se o grupo estiver vazio.
+     */
+    public BigDecimal getMaiorSalario() {
+        return maiorSalario;
+    }
+
+    /**
+     * Obtém os funcionários da função, na ordem em que entraram no grupo.
+     *
+     * @return Uma visão não modificável dos funcionários do grupo.
+     */
+    public Collection<Funcionario> getFuncionarios() {
+        return Collections.unmodifiableCollection(funcionarios);
+    }
+
+    /**
+     * Cria uma cópia do grupo que não é mais atualizada pela lista.
+     *
+     * @return A cópia do grupo.
+     */
+    GrupoFuncao copiar() {
+        return new GrupoFuncao(this);
+    }
+
+    boolean vazio() {
+        return funcionarios.isEmpty();
+    }
+
+    void adicionar(Funcionario funcionario) {
+        funcionarios.add(funcionario);
+        adicionarSalario(funcionario.getSalario(), funcionario.getSalarioCentavos());
+    }
+
+    void remover(Funcionario funcionario) {
+        if (funcionarios.remove(funcionario)) {
+            removerSalario(funcionario.getSalario(), funcionario.getSalarioCentavos());
+        }
+    }
+
+    void alterarSalario(Funcionario funcionario, BigDecimal salarioAnterior) {
+        removerSalario(salarioAnterior, Dinheiro.centavos(salarioAnterior));
+        adicionarSalario(funcionario.getSalario(), funcionario.getSalarioCentavos());
+    }
+
+    /**
+     * Reconta a soma, os extremos e o multiconjunto de salários percorrendo o grupo uma única vez,
+     * depois de salários alterados sem notificar o grupo.
+     */
+    void recontar() {
+        salarios.clear();
+        somaCentavos = 0;
+        Arrays.fill(salariosPorEscala, 0);
+        salariosInexatos = 0;
+        somaExcedente = BigDecimal.ZERO;
+        BigDecimal[] ordenados = new BigDecimal[funcionarios.size()];
+        int quantidade = 0;
+        for (Funcionario funcionario : funcionarios) {
+            BigDecimal salario = funcionario.getSalario();
+            if (salario != null) {
+                contarSalario(salario, funcionario.getSalarioCentavos(), 1);
+                ordenados[quantidade++] = salario;
+            }
+        }
+        // Em ordem, os salários iguais ficam juntos e cada valor distinto é inserido uma vez.
+        Arrays.sort(ordenados, 0, quantidade);
+        for (int i = 0; i < quantidade; ) {
+            int inicio = i;
+            while (++i < quantidade && ordenados[i].compareTo(ordenados[inicio]) == 0) {
+                // Conta as repetições do salário.
+            }
+            salarios.put(ordenados[inicio], i - inicio);
+        }
+        atualizarExtremos();
+    }
+
+    private void adicionarSalario(BigDecimal salario, long centavos) {
+        if (salario == null) {
+            return;
+        }
+        contarSalario(salario, centavos, 1);
+        salarios.merge(salario, 1, Integer::sum);
+        atualizarExtremos();
+    }
+
+    private void removerSalario(BigDecimal salario, long centavos) {
+        if (salario == null) {
+            return;
+        }
+        contarSalario(salario, centavos, -1);
+        salarios.computeIfPresent(salario, (valor, quantidade) -> quantidade == 1 ? null : quantidade - 1);
+        atualizarExtremos();
+    }
+
+    private void atualizarExtremos() {
+        menorSalario = salarios.isEmpty() ? null : salarios.firstKey();
+        maiorSalario = salarios.isEmpty() ? null : salarios.lastKey();
+    }
+
+    private void contarSalario(BigDecimal salario, long centavos, int sinal) {
+        somaSalarios = null;
+        if (centavos == Dinheiro.INEXATO) {
+            salariosInexatos += sinal;
+            somaExcedente = sinal > 0 ? somaExcedente.add(salario) : somaExcedente.subtract(salario);
+        } else {
+            salariosPorEscala[Math.max(0, salario.scale())] += sinal;
+            try {
+                somaCentavos = Math.addExact(somaCentavos, sinal * centavos);
+            } catch (ArithmeticException e) {
+                somaExcedente = somaExcedente.add(BigDecimal.valueOf(sinal * centavos, CASAS_DECIMAIS));
+            }
+        }
+        if (salariosInexatos == 0 && somaExcedente.signum() == 0) {
+            somaExcedente = BigDecimal.ZERO;
+        }
+    }
+
+    /**
+     * Calcula a soma dos salários a partir dos centavos e da parte somada com BigDecimal. A escala
+     * da soma é a maior escala entre os salários do grupo, limitada a duas casas para os salários
+     * somados em centavos.
+     */
+    private BigDecimal calcularSoma() {
+        int escala = CASAS_DECIMAIS;
+        while (escala > 0 && salariosPorEscala[escala] == 0) {
+            escala--;
+        }
+        BigDecimal soma = BigDecimal.valueOf(somaCentavos, CASAS_DECIMAIS).setScale(escala, RoundingMode.UNNECESSARY);
+        return salariosInexatos == 0 && somaExcedente.signum() == 0 ? soma : soma.add(somaExcedente);
+    }
+
+    @Override
+    public String toString() {
+        return "GrupoFuncao{" +
+                "funcao='" + funcao + '\'' +
+                ", quantidade=" + funcionarios.size() +
+                ", somaSalarios=" + getSomaSalarios() +
+                ", menorSalario=" + getMenorSalario() +
+                ", maiorSalario=" + getMaiorSalario() +
+                '}';
+    }
+}
@@ -0,0 +1,115 @@
+package app;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em nanossegundos, no estilo do HdrHistogram: cada potência de dois é
+ * dividida em {@value #SUBDIVISOES} faixas iguais, o que limita o erro relativo dos percentis a
+ * cerca de 6%. Valores abaixo de {@value #SUBDIVISOES} ns têm faixa própria e valores acima de
+ * cerca de 2,4 horas são registrados na última faixa.
+ * <p>
+ * Cada faixa é um {@link LongAdder}, que distribui as atualizações concorrentes entre células
+ * diferentes, e a quantidade de valores é a soma das faixas. O máximo só é escrito quando aumenta,
+ * o que deixa de acontecer depois das primeiras execuções. Registrar um valor não usa travas nem
+ * cria objetos. A leitura não é atômica em
+ * relação às escritas: um resumo lido durante o registro pode não contar os valores em andamento.
+ */
+class HistogramaLatencia {
+    private static final int BITS_SUBDIVISAO = 4;
+    private static final int SUBDIVISOES = 1 << BITS_SUBDIVISAO;
+    private static final int MAIOR_EXPOENTE = 42;
+    private static final long MAIOR_VALOR = (1L << (MAIOR_EXPOENTE + 1)) - 1;
+    private static final int QUANTIDADE_FAIXAS = (MAIOR_EXPOENTE - BITS_SUBDIVISAO + 2) * SUBDIVISOES;
+
+    private final LongAdder[] faixas = new LongAdder[QUANTIDADE_FAIXAS];
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong maximo = new AtomicLong();
+
+    HistogramaLatencia() {
+        for (int i = 0; i < faixas.length; i++) {
+            faixas[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra uma latência.
+     *
+     * @param nanos A latência em nanossegundos. Valores negativos são registrados como zero.
+     * @param peso  A quantidade de execuções que a latência representa: 1 se todas as execuções são
+     *              medidas, ou o intervalo de amostragem se apenas uma a cada tantas é medida.
+     */
+    void registrar(long nanos, int peso) {
+        long valor = Math.min(Math.max(nanos, 0), MAIOR_VALOR);
+        faixas[faixa(valor)].add(peso);
+        total.add(valor * peso);
+        long maior = maximo.get();
+        while (valor > maior && !maximo.compareAndSet(maior, valor)) {
+            maior = maximo.get();
+        }
+    }
+
+    /**
+     * Lê a quantidade, o total, o máximo e os percentis registrados até o momento.
+     *
+     * @param operacao A operação à qual o histograma pertence.
+     * @return O resumo das latências.
+     */
+    ResumoLatencia resumir(Operacao operacao) {
+        long[] contagens = new long[faixas.length];
+        long registrados = 0;
+        for (int i = 0; i < faixas.length; i++) {
+            contagens[i] = faixas[i].sum();
+            registrados += contagens[i];
+        }
+        long maior = maximo.get();
+        return new ResumoLatencia(operacao, registrados, total.sum(), maior,
+                percentil(contagens, registrados, 0.50, maior), percentil(contagens, registrados, 0.90, maior),
+                percentil(contagens, registrados, 0.99, maior), percentil(contagens, registrados, 0.999, maior));
+    }
+
+    /**
+     * Calcula a faixa de um valor.
+     *
+     * @param valor O valor, entre 0 e {@link #MAIOR_VALOR}.
+     * @return O índice da faixa.
+     */
+    static int faixa(long valor) {
+        if (valor < SUBDIVISOES) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int subdivisao = (int) (valor >>> (expoente - BITS_SUBDIVISAO)) & (SUBDIVISOES - 1);
+        return (expoente - BITS_SUBDIVISAO + 1) * SUBDIVISOES + subdivisao;
+    }
+
+    /**
+     * Calcula o maior valor registrado em uma faixa.
+     *
+     * @param faixa O índice da faixa.
+     * @return O maior valor da faixa.
+     */
+    static long limiteSuperior(int faixa) {
+        if (faixa < SUBDIVISOES) {
+            return faixa;
+        }
+        int deslocamento = faixa / SUBDIVISOES - 1;
+        long inferior = (long) (SUBDIVISOES + faixa % SUBDIVISOES) << deslocamento;
+        return inferior + (1L << deslocamento) - 1;
+    }
+
+    private static long percentil(long[] contagens, long registrados, double fracao, long maior) {
+        if (registrados == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(fracao * registrados));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= posicao) {
+                return Math.min(limiteSuperior(i), maior);
+            }
+        }
+        return maior;
+    }
+}
@@ -0,0 +1,402 @@
+package app;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Importa funcionários de arquivos CSV sem carregar o arquivo inteiro em memória.
+ * <p>
+ * Cada linha deve conter nome, data de nascimento ({@code dd/MM/yyyy}), salário (com ponto ou
+ * vírgula como separador decimal e sem separador de milhar) e função, separados pelo separador
+ * configurado. Os campos não podem conter o separador nem quebras de linha. As linhas são
+ * validadas com as mesmas regras de {@link Principal#inserirFuncionario} e inseridas em lotes;
+ * linhas inválidas são registradas no resultado sem interromper a importação.
+ * <p>
+ * O arquivo é lido por um {@link FileChannel} para um buffer reutilizado. Na importação paralela,
+ * o arquivo é dividido em blocos alinhados ao fim de linha, analisados em paralelo e inseridos na
+ * ordem do arquivo.
+ */
+public class ImportadorCsv {
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final int TAMANHO_LOTE = 10_000;
+    private static final int TAMANHO_BLOCO_PARALELO = 8 << 20;
+    private static final int QUANTIDADE_CAMPOS = 4;
+
+    private final byte separador;
+    private final boolean possuiCabecalho;
+
+    /**
+     * Cria um importador para arquivos separados por ponto e vírgula, com linha de cabeçalho.
+     */
+    public ImportadorCsv() {
+        this(';', true);
+    }
+
+    /**
+     * Cria um importador.
+     *
+     * @param separador       O caractere ASCII que separa os campos.
+     * @param possuiCabecalho true se a primeira linha do arquivo for um cabeçalho a ser ignorado.
+     */
+    public ImportadorCsv(char separador, boolean possuiCabecalho) {
+        if (separador > 127 || separador == '\n' || separador == '\r') {
+            throw new IllegalArgumentException("O separador deve ser um caractere ASCII que não seja quebra de linha.");
+        }
+        this.separador = (byte) separador;
+        this.possuiCabecalho = possuiCabecalho;
+    }
+
+    /**
+     * Importa os funcionários de um arquivo CSV usando a thread atual.
+     *
+     * @param arquivo   O caminho do arquivo CSV.
+     * @param principal A lista onde os funcionários serão inseridos.
+     * @return A quantidade de funcionários inseridos e as linhas rejeitadas.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    public ResultadoInsercao importar(Path arquivo, Principal principal) throws IOException {
+        ResultadoInsercao resultado = new ResultadoInsercao();
+        Analisador analisador = new Analisador();
+        Lote lote = new Lote();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(TAMANHO_BUFFER);
+            long linha = 0;
+            boolean fim = false;
+            while (!fim) {
+                fim = canal.read(buffer) < 0;
+                buffer.flip();
+                byte[] bytes = buffer.array();
+                int inicio = buffer.position();
+                int limite = buffer.limit();
+                for (int i = inicio; i < limite; i++) {
+                    if (bytes[i] == '\n') {
+                        analisador.analisar(bytes, inicio, i, ++linha, lote);
+                        inicio = i + 1;
+                    }
+                }
+                if (fim && inicio < limite) {
+                    analisador.analisar(bytes, inicio, limite, ++linha, lote);
+                }
+                if (lote.tamanho >= TAMANHO_LOTE) {
+                    lote.inserir(principal, resultado);
+                }
+                buffer.position(inicio);
+                buffer.compact();
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+            }
+        }
+        lote.inserir(principal, resultado);
+        return resultado;
+    }
+
+    /**
+     * Importa os funcionários de um arquivo CSV, analisando blocos do arquivo em paralelo.
+     * Os funcionários são inseridos na mesma ordem da importação sequencial.
+     *
+     * @param arquivo   O caminho do arquivo CSV.
+     * @param principal A lista onde os funcionários serão inseridos.
+     * @param threads   A quantidade de threads usadas na análise.
+     * @return A quantidade de funcionários inseridos e as linhas rejeitadas.
+     * @throws IOException Se o arquivo não puder ser lido.
+     */
+    public ResultadoInsercao importarEmParalelo(Path arquivo, Principal principal, int threads) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("A quantidade de threads deve ser maior que zero.");
+        }
+        ResultadoInsercao resultado = new ResultadoInsercao();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            long linhaBase = 0;
+            for (long posicao = 0; posicao < tamanho; posicao += (long) threads * TAMANHO_BLOCO_PARALELO) {
+                List<Future<Lote>> blocos = new ArrayList<>(threads);
+                for (int i = 0; i < threads; i++) {
+                    long inicio = posicao + (long) i * TAMANHO_BLOCO_PARALELO;
+                    if (inicio >= tamanho) {
+                        break;
+                    }
+                    long fim = Math.min(inicio + TAMANHO_BLOCO_PARALELO, tamanho);
+                    blocos.add(executor.submit(() -> analisarBloco(canal, inicio, fim, tamanho)));
+                }
+                for (Future<Lote> bloco : blocos) {
+                    Lote lote = bloco.get();
+                    lote.deslocarLinhas(linhaBase);
+                    linhaBase += lote.linhas;
+                    lote.inserir(principal, resultado);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Importação interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException erro) {
+                throw erro;
+            }
+            throw new IOException("Erro ao analisar o arquivo: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return resultado;
+    }
+
+    /**
+     * Analisa as linhas que começam no intervalo [inicio, fim) do arquivo, lendo além do fim do
+     * intervalo o necessário para completar a última linha.
+     */
+    private Lote analisarBloco(FileChannel canal, long inicio, long fim, long tamanho) throws IOException {
+        long leituraInicio = inicio == 0 ? 0 : inicio - 1;
+        ByteBuffer buffer = ByteBuffer.allocate((int) (fim - leituraInicio) + 256);
+        long posicao = leituraInicio;
+        int fimLinha = -1;
+        while (fimLinha < 0 && posicao < tamanho) {
+            if (!buffer.hasRemaining()) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+            }
+            int lidos = canal.read(buffer, posicao);
+            if (lidos < 0) {
+                break;
+            }
+            posicao += lidos;
+            if (posicao >= fim) {
+                fimLinha = procurarQuebra(buffer.array(), (int) (fim - 1 - leituraInicio), buffer.position());
+            }
+        }
+        byte[] bytes = buffer.array();
+        int limite = fimLinha >= 0 ? fimLinha + 1 : buffer.position();
+
+        // Uma linha pertence ao bloco em que começa; a linha parcial no início é do bloco anterior.
+        int primeira = 0;
+        if (inicio > 0) {
+            int quebra = procurarQuebra(bytes, 0, limite);
+            primeira = quebra < 0 || quebra >= fim - leituraInicio ? limite : quebra + 1;
+        }
+
+        Lote lote = new Lote();
+        Analisador analisador = new Analisador();
+        analisador.ignorarCabecalho = inicio == 0;
+        int linhaInicio = primeira;
+        for (int i = primeira; i < limite; i++) {
+            if (bytes[i] == '\n') {
+                analisador.analisar(bytes, linhaInicio, i, ++lote.linhas, lote);
+                linhaInicio = i + 1;
+            }
+        }
+        if (linhaInicio < limite) {
+            analisador.analisar(bytes, linhaInicio, limite, ++lote.linhas, lote);
+        }
+        return lote;
+    }
+
+    private static int procurarQuebra(byte[] bytes, int inicio, int fim) {
+        for (int i = Math.max(inicio, 0); i < fim; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Converte as linhas do CSV em funcionários, reutilizando o estado entre as linhas.
+     */
+    private class Analisador {
+        private final int[] inicioCampos = new int[QUANTIDADE_CAMPOS];
+        private final int[] fimCampos = new int[QUANTIDADE_CAMPOS];
+        private final LocalDate hoje = LocalDate.now();
+        private boolean ignorarCabecalho = true;
+
+        void analisar(byte[] bytes, int inicio, int fim, long linha, Lote lote) {
+            if (fim > inicio && bytes[fim - 1] == '\r') {
+                fim--;
+            }
+            if (linha == 1 && possuiCabecalho && ignorarCabecalho) {
+                return;
+            }
+            if (fim == inicio) {
+                return;
+            }
+            int campos = 0;
+            int inicioCampo = inicio;
+            for (int i = inicio; i <= fim; i++) {
+                if (i == fim || bytes[i] == separador) {
+                    if (campos == QUANTIDADE_CAMPOS) {
+                        campos++;
+                        break;
+                    }
+                    inicioCampos[campos] = inicioCampo;
+                    fimCampos[campos++] = i;
+                    inicioCampo = i + 1;
+                }
+            }
+            if (campos != QUANTIDADE_CAMPOS) {
+                lote.rejeitar(linha, "A linha deve conter " + QUANTIDADE_CAMPOS + " campos.");
+                return;
+            }
+            LocalDate dataNascimento = lerData(bytes, inicioCampos[1], fimCampos[1]);
+            if (dataNascimento == null) {
+                lote.rejeitar(linha, "Data de nascimento inválida, use o formato dd/MM/yyyy.");
+                return;
+            }
+            BigDecimal salario = lerDecimal(bytes, inicioCampos[2], fimCampos[2]);
+            if (salario == null) {
+                lote.rejeitar(linha, "Salário inválido.");
+                return;
+            }
+            String nome = lerTexto(bytes, inicioCampos[0], fimCampos[0]);
+            String funcao = lerTexto(bytes, inicioCampos[3], fimCampos[3]);
+            String erro = Principal.validarFuncionario(nome, dataNascimento, salario, funcao, hoje);
+            if (erro != null) {
+                lote.rejeitar(linha, erro);
+                return;
+            }
+            lote.aceitar(linha, new Funcionario(nome, dataNascimento, salario, funcao));
+        }
+
+        private String lerTexto(byte[] bytes, int inicio, int fim) {
+            while (inicio < fim && bytes[inicio] == ' ') {
+                inicio++;
+            }
+            while (fim > inicio && bytes[fim - 1] == ' ') {
+                fim--;
+            }
+            return new String(bytes, inicio, fim - inicio, StandardCharsets.UTF_8);
+        }
+
+        private LocalDate lerData(byte[] bytes, int inicio, int fim) {
+            if (fim - inicio != 10 || bytes[inicio + 2] != '/' || bytes[inicio + 5] != '/') {
+                return null;
+            }
+            int dia = lerInteiro(bytes, inicio, inicio + 2);
+            int mes = lerInteiro(bytes, inicio + 3, inicio + 5);
+            int ano = lerInteiro(bytes, inicio + 6, inicio + 10);
+            if (dia < 0 || mes < 0 || ano < 0) {
+                return null;
+            }
+            try {
+                return LocalDate.of(ano, mes, dia);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private int lerInteiro(byte[] bytes, int inicio, int fim) {
+            int valor = 0;
+            for (int i = inicio; i < fim; i++) {
+                int digito = bytes[i] - '0';
+                if (digito < 0 || digito > 9) {
+                    return -1;
+                }
+                valor = valor * 10 + digito;
+            }
+            return valor;
+        }
+
+        private BigDecimal lerDecimal(byte[] bytes, int inicio, int fim) {
+            int posicao = inicio;
+            boolean negativo = posicao < fim && bytes[posicao] == '-';
+            if (negativo) {
+                posicao++;
+            }
+            if (posicao == fim) {
+                return null;
+            }
+            long valor = 0;
+            int escala = -1;
+            for (int i = posicao; i < fim; i++) {
+                byte b = bytes[i];
+                if ((b == '.' || b == ',') && escala < 0) {
+                    escala = 0;
+                } else if (b >= '0' && b <= '9') {
+                    if (valor > (Long.MAX_VALUE - 9) / 10) {
+                        return lerDecimalLongo(bytes, inicio, fim);
+                    }
+                    valor = valor * 10 + (b - '0');
+                    if (escala >= 0) {
+                        escala++;
+                    }
+                } else {
+                    return null;
+                }
+            }
+            return BigDecimal.valueOf(negativo ? -valor : valor, Math.max(escala, 0));
+        }
+
+        private BigDecimal lerDecimalLongo(byte[] bytes, int inicio, int fim) {
+            try {
+                return new BigDecimal(new String(bytes, inicio, fim - inicio, StandardCharsets.US_ASCII).replace(',', '.'));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Funcionários válidos e linhas rejeitadas ainda não inseridos, na ordem das linhas.
+     */
+    private static class Lote {
+        private final List<Funcionario> funcionarios = new ArrayList<>();
+        private long[] linhasFuncionarios = new long[64];
+        private final List<ResultadoInsercao.Rejeicao> rejeicoes = new ArrayList<>();
+        private int tamanho;
+        private long linhas;
+
+        void aceitar(long linha, Funcionario funcionario) {
+            if (tamanho == linhasFuncionarios.length) {
+                linhasFuncionarios = Arrays.copyOf(linhasFuncionarios, tamanho * 2);
+            }
+            linhasFuncionarios[tamanho++] = linha;
+            funcionarios.add(funcionario);
+        }
+
+        void rejeitar(long linha, String motivo) {
+            rejeicoes.add(new ResultadoInsercao.Rejeicao(linha, motivo));
+        }
+
+        void deslocarLinhas(long deslocamento) {
+            for (int i = 0; i < tamanho; i++) {
+                linhasFuncionarios[i] += deslocamento;
+            }
+            rejeicoes.replaceAll(r -> new ResultadoInsercao.Rejeicao(r.getLinha() + deslocamento, r.getMotivo()));
+        }
+
+        /**
+         * Insere os funcionários do lote de uma só vez e registra as rejeições na ordem das linhas.
+         */
+        void inserir(Principal principal, ResultadoInsercao resultado) {
+            List<ResultadoInsercao.Rejeicao> rejeicoesInsercao = funcionarios.isEmpty()
+                    ? List.of() : principal.inserirFuncionarios(funcionarios).getRejeitados();
+            int proximaInsercao = 0;
+            int proximaAnalise = 0;
+            while (proximaInsercao < rejeicoesInsercao.size() || proximaAnalise < rejeicoes.size()) {
+                long linhaInsercao = proximaInsercao < rejeicoesInsercao.size()
+                        ? linhasFuncionarios[(int) rejeicoesInsercao.get(proximaInsercao).getLinha() - 1] : Long.MAX_VALUE;
+                if (proximaAnalise < rejeicoes.size() && rejeicoes.get(proximaAnalise).getLinha() < linhaInsercao) {
+                    ResultadoInsercao.Rejeicao rejeicao = rejeicoes.get(proximaAnalise++);
+                    resultado.registrarRejeicao(rejeicao.getLinha(), rejeicao.getMotivo());
+                } else {
+                    resultado.registrarRejeicao(linhaInsercao, rejeicoesInsercao.get(proximaInsercao++).getMotivo());
+                }
+            }
+            resultado.registrarInsercoes(tamanho - rejeicoesInsercao.size());
+            funcionarios.clear();
+            rejeicoes.clear();
+            tamanho = 0;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package app;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.*;
+
+/**
+ * Índice de funcionários pelo mês de aniversário, com um grupo para cada mês do ano.
+ * <p>
+ * Dentro de cada mês, os funcionários ficam na ordem em que foram indexados. Funcionários sem
+ * data de nascimento não são indexados.
+ */
+class IndiceAniversarios {
+    private final List<Set<Funcionario>> funcionariosPorMes = new ArrayList<>(12);
+
+    IndiceAniversarios() {
+        for (int mes = 1; mes <= 12; mes++) {
+            funcionariosPorMes.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Adiciona um funcionário ao mês da sua data de nascimento.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        LocalDate dataNascimento = funcionario.getDataNascimento();
+        if (dataNascimento != null) {
+            mes(dataNascimento.getMonthValue()).add(funcionario);
+        }
+    }
+
+    /**
+     * Remove um funcionário do índice.
+     *
+     * @param funcionario    O funcionário a ser removido.
+     * @param dataNascimento A data de nascimento com a qual o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, LocalDate dataNascimento) {
+        if (dataNascimento != null) {
+            mes(dataNascimento.getMonthValue()).remove(funcionario);
+        }
+    }
+
+    /**
+     * Busca os aniversariantes dos meses informados, percorrendo apenas os meses solicitados.
+     *
+     * @param meses Os meses procurados, com valores entre 1 e 12. Meses repetidos são considerados uma vez.
+     * @return Os aniversariantes, do mês de janeiro ao de dezembro.
+     */
+    List<Funcionario> buscarPorMeses(int[] meses) {
+        List<Funcionario> aniversariantes = new ArrayList<>();
+        iterarMeses(meses).forEachRemaining(aniversariantes::add);
+        return aniversariantes;
+    }
+
+    /**
+     * Percorre os aniversariantes dos meses informados sem copiá-los, visitando apenas os meses
+     * solicitados.
+     *
+     * @param meses Os meses procurados, com valores entre 1 e 12. Meses repetidos são considerados uma vez.
+     * @return Os aniversariantes, do mês de janeiro ao de dezembro.
+     */
+    Iterator<Funcionario> iterarMeses(int[] meses) {
+        boolean[] procurados = new boolean[13];
+        for (int mes : meses) {
+            procurados[mes] = true;
+        }
+        return new Iterator<>() {
+            private int mes = 0;
+            private Iterator<Funcionario> atual = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!atual.hasNext()) {
+                    do {
+                        if (++mes > 12) {
+                            return false;
+                        }
+                    } while (!procurados[mes]);
+                    atual = mes(mes).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public Funcionario next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return atual.next();
+            }
+        };
+    }
+
+    /**
+     * Busca os funcionários que fazem aniversário entre a data inicial e a data final, inclusive,
+     * considerando a passagem de ano. Quem nasceu em 29 de fevereiro faz aniversário em 28 de
+     * fevereiro nos anos que não são bissextos.
+     *
+     * @param dataInicial A primeira data do período.
+     * @param dias        A quantidade de dias após a data inicial que também fazem parte do período.
+     * @return Os aniversariantes, ordenados pela data do próximo aniversário.
+     */
+    List<Funcionario> buscarProximos(LocalDate dataInicial, int dias) {
+        LocalDate dataFinal = dataInicial.plusDays(dias);
+        long mesesNoPeriodo = (dataFinal.getYear() - dataInicial.getYear()) * 12L
+                + dataFinal.getMonthValue() - dataInicial.getMonthValue() + 1;
+        List<Map.Entry<LocalDate, Funcionario>> aniversarios = new ArrayList<>();
+        for (int i = 0; i < Math.min(12, mesesNoPeriodo); i++) {
+            for (Funcionario funcionario : mes((dataInicial.getMonthValue() - 1 + i) % 12 + 1)) {
+                LocalDate aniversario = proximoAniversario(funcionario.getDataNascimento(), dataInicial);
+                if (!aniversario.isAfter(dataFinal)) {
+                    aniversarios.add(Map.entry(aniversario, funcionario));
+                }
+            }
+        }
+        aniversarios.sort(Map.Entry.comparingByKey());
+        List<Funcionario> aniversariantes = new ArrayList<>(aniversarios.size());
+        for (Map.Entry<LocalDate, Funcionario> aniversario : aniversarios) {
+            aniversariantes.add(aniversario.getValue());
+        }
+        return aniversariantes;
+    }
+
+    /**
+     * Calcula a data do próximo aniversário a partir de uma data de referência.
+     *
+     * @param dataNascimento A data de nascimento.
+     * @param referencia     A data a partir da qual o aniversário é procurado, inclusive.
+     * @return A data do próximo aniversário.
+     */
+    static LocalDate proximoAniversario(LocalDate dataNascimento, LocalDate referencia) {
+        MonthDay diaMes = MonthDay.from(dataNascimento);
+        LocalDate aniversario = diaMes.atYear(referencia.getYear());
+        if (aniversario.isBefore(referencia)) {
+            aniversario = diaMes.atYear(referencia.getYear() + 1);
+        }
+        return aniversario;
+    }
+
+    private Set<Funcionario> mes(int mes) {
+        return funcionariosPorMes.get(mes - 1);
+    }
+}
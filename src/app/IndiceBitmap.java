@@ -0,0 +1,300 @@
+package app;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Índice de bitmaps por função e por mês de nascimento, sobre identificadores densos de funcionários.
+ * <p>
+ * Cada funcionário indexado recebe um identificador entre 0 e {@link #getLimiteLinhas()}; os
+ * identificadores liberados por remoções são reaproveitados nas inserções seguintes, mantendo os
+ * bitmaps compactos. Os bitmaps são {@link BitmapCompactado}s, atualizados a cada inserção,
+ * remoção ou alteração, e podem ser combinados por interseção, união e contagem sem acessar os
+ * objetos Funcionario; os funcionários são obtidos pelo identificador apenas no fim da consulta.
+ */
+class IndiceBitmap {
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private Funcionario[] linhas = new Funcionario[CAPACIDADE_INICIAL];
+    private int limiteLinhas;
+    private int[] livres = new int[CAPACIDADE_INICIAL];
+    private int quantidadeLivres;
+
+    private final Map<String, BitmapCompactado> linhasPorFuncao = new HashMap<>();
+    private final BitmapCompactado[] linhasPorMes = new BitmapCompactado[13];
+
+    IndiceBitmap() {
+        for (int mes = 1; mes <= 12; mes++) {
+            linhasPorMes[mes] = new BitmapCompactado();
+        }
+    }
+
+    /**
+     * Atribui um identificador ao funcionário e o adiciona aos bitmaps da sua função e do seu mês
+     * de nascimento.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        int linha;
+        if (quantidadeLivres > 0) {
+            linha = livres[--quantidadeLivres];
+        } else {
+            if (limiteLinhas == linhas.length) {
+                linhas = Arrays.copyOf(linhas, limiteLinhas + (limiteLinhas >> 1));
+            }
+            linha = limiteLinhas++;
+        }
+        linhas[linha] = funcionario;
+        funcionario.setLinhaIndice(linha);
+        marcarFuncao(linha, funcionario.getFuncao());
+        marcarMes(linha, funcionario.getDataNascimento());
+    }
+
+    /**
+     * Remove um funcionário dos bitmaps e libera o seu identificador.
+     *
+     * @param funcionario    O funcionário a ser removido.
+     * @param funcao         A função com a qual o funcionário foi indexado.
+     * @param dataNascimento A data de nascimento com a qual o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, String funcao, LocalDate dataNascimento) {
+        int linha = funcionario.getLinhaIndice();
+        if (linha < 0 || linha >= limiteLinhas || linhas[linha] != funcionario) {
+            return;
+        }
+        desmarcarFuncao(linha, funcao);
+        desmarcarMes(linha, dataNascimento);
+        linhas[linha] = null;
+        funcionario.setLinhaIndice(-1);
+        if (quantidadeLivres == livres.length) {
+            livres = Arrays.copyOf(livres, livres.length << 1);
+        }
+        livres[quantidadeLivres++] = linha;
+    }
+
+    /**
+     * Move um funcionário para o bitmap da sua nova função.
+     *
+     * @param funcionario    O funcionário alterado.
+     * @param funcaoAnterior A função anterior do funcionário.
+     */
+    void alterarFuncao(Funcionario funcionario, String funcaoAnterior) {
+        int linha = funcionario.getLinhaIndice();
+        if (linha >= 0 && linhas[linha] == funcionario) {
+            desmarcarFuncao(linha, funcaoAnterior);
+            marcarFuncao(linha, funcionario.getFuncao());
+        }
+    }
+
+    /**
+     * Move um funcionário para o bitmap do mês da sua nova data de nascimento.
+     *
+     * @param funcionario  O funcionário alterado.
+     * @param dataAnterior A data de nascimento anterior do funcionário.
+     */
+    void alterarDataNascimento(Funcionario funcionario, LocalDate dataAnterior) {
+        int linha = funcionario.getLinhaIndice();
+        if (linha >= 0 && linhas[linha] == funcionario) {
+            desmarcarMes(linha, dataAnterior);
+            marcarMes(linha, funcionario.getDataNascimento());
+        }
+    }
+
+    private void marcarFuncao(int linha, String funcao) {
+        if (funcao != null) {
+            linhasPorFuncao.computeIfAbsent(funcao, k -> new BitmapCompactado()).adicionar(linha);
+        }
+    }
+
+    private void desmarcarFuncao(int linha, String funcao) {
+        BitmapCompactado bitmap = funcao == null ? null : linhasPorFuncao.get(funcao);
+        if (bitmap != null && bitmap.remover(linha) && bitmap.vazio()) {
+            linhasPorFuncao.remove(funcao);
+        }
+    }
+
+    private void marcarMes(int linha, LocalDate dataNascimento) {
+        if (dataNascimento != null) {
+            linhasPorMes[dataNascimento.getMonthValue()].adicionar(linha);
+        }
+    }
+
+    private void desmarcarMes(int linha, LocalDate dataNascimento) {
+        if (dataNascimento != null) {
+            linhasPorMes[dataNascimento.getMonthValue()].remover(linha);
+        }
+    }
+
+    /**
+     * Obtém o maior identificador já atribuído mais um, o tamanho dos bitmaps.
+     *
+     * @return O limite dos identificadores.
+     */
+    int getLimiteLinhas() {
+        return limiteLinhas;
+    }
+
+    /**
+     * Obtém o funcionário de um identificador.
+     *
+     * @param linha O identificador.
+     * @return O funcionário, ou null se o identificador estiver livre.
+     */
+    Funcionario funcionario(int linha) {
+        return linhas[linha];
+    }
+
+    /**
+     * Obtém o bitmap dos funcionários de uma função.
+     *
+     * @param funcao A função procurada.
+     * @return O bitmap do índice, que não deve ser alterado, ou um bitmap vazio.
+     */
+    BitmapCompactado funcao(String funcao) {
+        BitmapCompactado bitmap = linhasPorFuncao.get(funcao);
+        return bitmap == null ? new BitmapCompactado() : bitmap;
+    }
+
+    /**
+     * Une os bitmaps dos meses informados.
+     *
+     * @param meses Os meses procurados, com valores entre 1 e 12.
+     * @return Um novo bitmap com os funcionários nascidos nesses meses.
+     */
+    BitmapCompactado meses(int[] meses) {
+        boolean[] unidos = new boolean[13];
+        BitmapCompactado uniao = new BitmapCompactado();
+        for (int mes : meses) {
+            if (!unidos[mes]) {
+                unidos[mes] = true;
+                uniao = BitmapCompactado.ou(uniao, linhasPorMes[mes]);
+            }
+        }
+        return uniao;
+    }
+
+    /**
+     * Conta os funcionários de uma função nascidos nos meses informados, intersectando os bitmaps
+     * sem criar a interseção. Como cada funcionário pertence a um único mês, a contagem dos meses é
+     * a soma das contagens de cada mês.
+     *
+     * @param funcao A função procurada.
+     * @param meses  Os meses procurados, com valores entre 1 e 12. Meses repetidos são considerados uma vez.
+     * @return A quantidade de funcionários.
+     */
+    int contarFuncaoEMeses(String funcao, int[] meses) {
+        BitmapCompactado bitmapFuncao = linhasPorFuncao.get(funcao);
+        if (bitmapFuncao == null) {
+            return 0;
+        }
+        boolean[] contados = new boolean[13];
+        int quantidade = 0;
+        for (int mes : meses) {
+            if (!contados[mes]) {
+                contados[mes] = true;
+                quantidade += BitmapCompactado.contarE(bitmapFuncao, linhasPorMes[mes]);
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Conta os funcionários de uma função.
+     *
+     * @param funcao A função procurada.
+     * @return A quantidade de funcionários.
+     */
+    int contarFuncao(String funcao) {
+        BitmapCompactado bitmap = linhasPorFuncao.get(funcao);
+        return bitmap == null ? 0 : bitmap.getCardinalidade();
+    }
+
+    /**
+     * Estima a memória ocupada pelo índice: os bitmaps e o array de funcionários por identificador.
+     *
+     * @return A quantidade aproximada de bytes.
+     */
+    long getBytes() {
+        long bytes = 16L + 4L * linhas.length + 16L + 4L * livres.length;
+        for (BitmapCompactado bitmap : linhasPorFuncao.values()) {
+            bytes += bitmap.getBytes();
+        }
+        for (int mes = 1; mes <= 12; mes++) {
+            bytes += linhasPorMes[mes].getBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * Conta os funcionários nascidos nos meses informados, sem percorrer os bitmaps.
+     *
+     * @param meses Os meses procurados, com valores entre 1 e 12. Meses repetidos são considerados uma vez.
+     * @return A quantidade de funcionários.
+     */
+    int contarMeses(int[] meses) {
+        boolean[] contados = new boolean[13];
+        int quantidade = 0;
+        for (int mes : meses) {
+            if (!contados[mes]) {
+                contados[mes] = true;
+                quantidade += linhasPorMes[mes].getCardinalidade();
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Percorre os funcionários de um bitmap, em ordem de identificador.
+     *
+     * @param bitmap O bitmap.
+     * @return Os funcionários do bitmap.
+     */
+    Iterator<Funcionario> iterar(BitmapCompactado bitmap) {
+        PrimitiveIterator.OfInt identificadores = bitmap.iterar();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return identificadores.hasNext();
+            }
+
+            @Override
+            public Funcionario next() {
+                return linhas[identificadores.nextInt()];
+            }
+        };
+    }
+
+    /**
+     * Percorre todos os funcionários indexados, em ordem de identificador.
+     *
+     * @return Os funcionários indexados.
+     */
+    Iterator<Funcionario> iterarTodos() {
+        return new Iterator<>() {
+            private int linha = proximaLinha(0);
+
+            @Override
+            public boolean hasNext() {
+                return linha < limiteLinhas;
+            }
+
+            @Override
+            public Funcionario next() {
+                if (linha >= limiteLinhas) {
+                    throw new NoSuchElementException();
+                }
+                Funcionario funcionario = linhas[linha];
+                linha = proximaLinha(linha + 1);
+                return funcionario;
+            }
+        };
+    }
+
+    private int proximaLinha(int linha) {
+        while (linha < limiteLinhas && linhas[linha] == null) {
+            linha++;
+        }
+        return linha;
+    }
+}
@@ -0,0 +1,396 @@
+package app;
+
+import java.io.Serial;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de busca por nome que permite consultas por prefixo e por trecho do nome,
+ * sem diferenciar maiúsculas de minúsculas nem acentos.
+ * <p>
+ * Os nomes normalizados ficam ordenados, o que atende as buscas por prefixo. Para as buscas por
+ * trecho, cada nome distinto recebe um identificador e cada bigrama e trigrama guarda os
+ * identificadores dos nomes em que aparece, em um array de inteiros. Um trecho de dois caracteres
+ * é respondido pelo seu bigrama; um trecho maior verifica apenas os nomes do trigrama menos
+ * frequente. Quando os candidatos são muitos, percorrer os nomes em ordem alfabética até completar
+ * a página custa menos que verificá-los e ordená-los, e a busca faz isso. Um trecho de um
+ * caractere sempre percorre os nomes em ordem, o que é rápido para letras comuns e percorre a
+ * lista inteira para caracteres que quase não aparecem.
+ * <p>
+ * O índice de n-gramas é mantido a cada alteração, e as buscas nunca o montam nem o alteram. Nomes
+ * removidos deixam seus identificadores nos arrays até que eles passem de metade dos nomes, quando
+ * a remoção remonta o índice.
+ */
+class IndiceBuscaNome {
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final int TAMANHO_TRIGRAMA = 3;
+    private static final int TAMANHO_BIGRAMA = 2;
+    private static final long MARCA_BIGRAMA = 1L << 48;
+    private static final int REMOCOES_MINIMAS_DESCARTE = 1_024;
+
+    private final NavigableMap<String, Homonimos> funcionariosPorNome = new TreeMap<>();
+
+    private TabelaNgramas nomesPorNgrama = new TabelaNgramas();
+    private String[] nomes = new String[16];
+    private int quantidadeNomes;
+    private int nomesRemovidos;
+
+    /**
+     * Funcionários com o mesmo nome normalizado e o identificador desse nome no índice de trigramas.
+     */
+    private static final class Homonimos extends ArrayList<Funcionario> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private int identificador = -1;
+
+        Homonimos() {
+            super(1);
+        }
+    }
+
+    /**
+     * Identificadores dos nomes que contêm um n-grama, na ordem em que foram indexados.
+     */
+    private static final class Postagens {
+        private int[] identificadores = new int[4];
+        private int tamanho;
+
+        void adicionar(int identificador) {
+            if (tamanho == identificadores.length) {
+                identificadores = Arrays.copyOf(identificadores, tamanho << 1);
+            }
+            identificadores[tamanho++] = identificador;
+        }
+    }
+
+    /**
+     * Postagens por n-grama, em uma tabela de endereçamento aberto com as chaves em um array de
+     * long, sem criar um objeto por consulta.
+     */
+    private static final class TabelaNgramas {
+        private long[] chaves = new long[1_024];
+        private Postagens[] postagens = new Postagens[1_024];
+        private int quantidade;
+
+        Postagens obter(long ngrama) {
+            int mascara = chaves.length - 1;
+            for (int i = posicao(ngrama, mascara); postagens[i] != null; i = (i + 1) & mascara) {
+                if (chaves[i] == ngrama) {
+                    return postagens[i];
+                }
+            }
+            return null;
+        }
+
+        void adicionar(long ngrama, int identificador) {
+            int mascara = chaves.length - 1;
+            int i = posicao(ngrama, mascara);
+            while (postagens[i] != null && chaves[i] != ngrama) {
+                i = (i + 1) & mascara;
+            }
+            if (postagens[i] == null) {
+                if (quantidade + 1 > chaves.length >> 1) {
+                    crescer();
+                    adicionar(ngrama, identificador);
+                    return;
+                }
+                chaves[i] = ngrama;
+                postagens[i] = new Postagens();
+                quantidade++;
+            }
+            postagens[i].adicionar(identificador);
+        }
+
+        private void crescer() {
+            long[] chavesAntigas = chaves;
+            Postagens[] postagensAntigas = postagens;
+            chaves = new long[chavesAntigas.length << 1];
+            postagens = new Postagens[chaves.length];
+            int mascara = chaves.length - 1;
+            for (int j = 0; j < chavesAntigas.length; j++) {
+                if (postagensAntigas[j] != null) {
+                    int i = posicao(chavesAntigas[j], mascara);
+                    while (postagens[i] != null) {
+                        i = (i + 1) & mascara;
+                    }
+                    chaves[i] = chavesAntigas[j];
+                    postagens[i] = postagensAntigas[j];
+                }
+            }
+        }
+
+        private static int posicao(long ngrama, int mascara) {
+            long h = ngrama * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mascara;
+        }
+    }
+
+    /**
+     * Normaliza o nome removendo acentos e convertendo para minúsculas.
+     *
+     * @param nome O nome a ser normalizado.
+     * @return O nome normalizado.
+     */
+    static String normalizar(String nome) {
+        if (nome == null) {
+            return "";
+        }
+        if (ascii(nome)) {
+            return nome.toLowerCase(Locale.ROOT);
+        }
+        String decomposto = Normalizer.normalize(nome, Normalizer.Form.NFD);
+        return ACENTOS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean ascii(String nome) {
+        for (int i = 0; i < nome.length(); i++) {
+            if (nome.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adiciona um funcionário ao índice.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        String nome = normalizar(funcionario.getNome());
+        Homonimos homonimos = funcionariosPorNome.get(nome);
+        if (homonimos == null) {
+            homonimos = new Homonimos();
+            funcionariosPorNome.put(nome, homonimos);
+            indexarNgramas(nomesPorNgrama, nome, homonimos);
+        }
+        homonimos.add(funcionario);
+    }
+
+    /**
+     * Remove um funcionário do índice.
+     *
+     * @param funcionario  O funcionário a ser removido.
+     * @param nomeAnterior O nome com o qual o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, String nomeAnterior) {
+        String nome = normalizar(nomeAnterior);
+        Homonimos homonimos = funcionariosPorNome.get(nome);
+        if (homonimos == null) {
+            return;
+        }
+        homonimos.removeIf(f -> f == funcionario);
+        if (homonimos.isEmpty()) {
+            funcionariosPorNome.remove(nome);
+            nomes[homonimos.identificador] = null;
+            if (++nomesRemovidos > Math.max(REMOCOES_MINIMAS_DESCARTE, quantidadeNomes >> 1)) {
+                reindexar();
+            }
+        }
+    }
+
+    /**
+     * Busca os funcionários cujo nome começa com o prefixo informado, em ordem alfabética.
+     *
+     * @param prefixo       O prefixo a ser buscado.
+     * @param pagina        O número da página, começando em zero.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return Os funcionários da página solicitada.
+     */
+    List<Funcionario> buscarPorPrefixo(String prefixo, int pagina, int tamanhoPagina) {
+        String chave = normalizar(prefixo);
+        SortedMap<String, Homonimos> nomes = funcionariosPorNome.subMap(chave, chave + Character.MAX_VALUE);
+        return paginar(nomes.values(), pagina, tamanhoPagina);
+    }
+
+    /**
+     * Busca os funcionários cujo nome contém o trecho informado, em ordem alfabética.
+     *
+     * @param trecho        O trecho a ser buscado.
+     * @param pagina        O número da página, começando em zero.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return Os funcionários da página solicitada.
+     */
+    List<Funcionario> buscarPorTrecho(String trecho, int pagina, int tamanhoPagina) {
+        String chave = normalizar(trecho);
+        if (chave.length() < TAMANHO_BIGRAMA) {
+            return percorrer(chave, pagina, tamanhoPagina);
+        }
+        Postagens candidatos = candidatos(chave);
+        long necessarios = (long) (pagina + 1) * tamanhoPagina;
+        if (candidatos != null && necessarios * quantidadeNomes < (long) candidatos.tamanho * candidatos.tamanho) {
+            // Trecho comum: percorrer os nomes em ordem até completar a página visita cerca de
+            // necessarios * nomes / candidatos nomes, menos do que verificar e ordenar os candidatos.
+            return percorrer(chave, pagina, tamanhoPagina);
+        }
+        List<String> encontrados = new ArrayList<>();
+        String[] indexados = nomes;
+        for (int i = 0; candidatos != null && i < candidatos.tamanho; i++) {
+            String nome = indexados[candidatos.identificadores[i]];
+            if (nome != null && nome.contains(chave)) {
+                encontrados.add(nome);
+            }
+        }
+        Collections.sort(encontrados);
+        List<Homonimos> grupos = new ArrayList<>(encontrados.size());
+        for (String nome : encontrados) {
+            grupos.add(funcionariosPorNome.get(nome));
+        }
+        return paginar(grupos, pagina, tamanhoPagina);
+    }
+
+    /**
+     * Busca, em ordem alfabética, os nomes que contêm o trecho, parando assim que a página
+     * solicitada se completa.
+     */
+    private List<Funcionario> percorrer(String trecho, int pagina, int tamanhoPagina) {
+        long necessarios = (long) (pagina + 1) * tamanhoPagina;
+        List<Homonimos> grupos = new ArrayList<>();
+        long encontrados = 0;
+        for (Map.Entry<String, Homonimos> entrada : funcionariosPorNome.entrySet()) {
+            if (entrada.getKey().contains(trecho)) {
+                grupos.add(entrada.getValue());
+                encontrados += entrada.getValue().size();
+                if (encontrados >= necessarios) {
+                    break;
+                }
+            }
+        }
+        return paginar(grupos, pagina, tamanhoPagina);
+    }
+
+    /**
+     * Seleciona os nomes que podem conter o trecho: os do seu bigrama, se o trecho tiver dois
+     * caracteres, ou os do seu trigrama menos frequente.
+     *
+     * @param trecho O trecho normalizado, com pelo menos dois caracteres.
+     * @return Os identificadores dos nomes candidatos, ou null se algum n-grama não ocorrer em nenhum nome.
+     */
+    private Postagens candidatos(String trecho) {
+        if (trecho.length() == TAMANHO_BIGRAMA) {
+            return nomesPorNgrama.obter(bigrama(trecho, 0));
+        }
+        Postagens menor = null;
+        for (long trigrama : trigramas(trecho)) {
+            Postagens postagens = nomesPorNgrama.obter(trigrama);
+            if (postagens == null) {
+                return null;
+            }
+            if (menor == null || postagens.tamanho < menor.tamanho) {
+                menor = postagens;
+            }
+        }
+        return menor;
+    }
+
+    /**
+     * Remonta o índice de n-gramas sem os nomes removidos, atribuindo novos identificadores aos
+     * nomes. Executado pela remoção que faz os removidos passarem de metade dos nomes, de modo que
+     * o custo se distribui pelas remoções anteriores.
+     */
+    private void reindexar() {
+        TabelaNgramas indice = new TabelaNgramas();
+        nomes = new String[Math.max(16, funcionariosPorNome.size())];
+        quantidadeNomes = 0;
+        nomesRemovidos = 0;
+        funcionariosPorNome.forEach((nome, homonimos) -> indexarNgramas(indice, nome, homonimos));
+        nomesPorNgrama = indice;
+    }
+
+    private void indexarNgramas(TabelaNgramas indice, String nome, Homonimos homonimos) {
+        if (quantidadeNomes == nomes.length) {
+            nomes = Arrays.copyOf(nomes, quantidadeNomes + (quantidadeNomes >> 1));
+        }
+        homonimos.identificador = quantidadeNomes;
+        nomes[quantidadeNomes++] = nome;
+        for (long ngrama : ngramas(nome)) {
+            indice.adicionar(ngrama, homonimos.identificador);
+        }
+    }
+
+    /**
+     * Extrai a página solicitada dos grupos de funcionários, sem copiar os grupos anteriores a ela.
+     *
+     * @param grupos        Os funcionários agrupados por nome, em ordem alfabética.
+     * @param pagina        O número da página, começando em zero.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return Os funcionários da página solicitada.
+     */
+    private static List<Funcionario> paginar(Collection<? extends List<Funcionario>> grupos, int pagina, int tamanhoPagina) {
+        long inicio = (long) pagina * tamanhoPagina;
+        List<Funcionario> resultado = new ArrayList<>(Math.min(tamanhoPagina, 64));
+        long posicao = 0;
+        for (List<Funcionario> grupo : grupos) {
+            if (posicao + grupo.size() <= inicio) {
+                posicao += grupo.size();
+                continue;
+            }
+            for (Funcionario funcionario : grupo) {
+                if (posicao++ >= inicio) {
+                    resultado.add(funcionario);
+                    if (resultado.size() == tamanhoPagina) {
+                        return resultado;
+                    }
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Obtém os trigramas distintos de um trecho normalizado, cada um com seus três caracteres
+     * agrupados em um long.
+     *
+     * @param trecho O trecho normalizado.
+     * @return Os trigramas do trecho, em ordem crescente e sem repetições.
+     */
+    private static long[] trigramas(String trecho) {
+        int quantidade = Math.max(0, trecho.length() - TAMANHO_TRIGRAMA + 1);
+        long[] trigramas = new long[quantidade];
+        for (int i = 0; i < quantidade; i++) {
+            trigramas[i] = trigrama(trecho, i);
+        }
+        return distintos(trigramas);
+    }
+
+    /**
+     * Obtém os bigramas e trigramas distintos de um nome normalizado. Os bigramas têm um bit acima
+     * dos três caracteres de um trigrama, para que os dois tipos não se confundam.
+     *
+     * @param nome O nome normalizado.
+     * @return Os n-gramas do nome, em ordem crescente e sem repetições.
+     */
+    private static long[] ngramas(String nome) {
+        int bigramas = Math.max(0, nome.length() - TAMANHO_BIGRAMA + 1);
+        int trigramas = Math.max(0, nome.length() - TAMANHO_TRIGRAMA + 1);
+        long[] ngramas = new long[bigramas + trigramas];
+        for (int i = 0; i < bigramas; i++) {
+            ngramas[i] = bigrama(nome, i);
+        }
+        for (int i = 0; i < trigramas; i++) {
+            ngramas[bigramas + i] = trigrama(nome, i);
+        }
+        return distintos(ngramas);
+    }
+
+    private static long bigrama(String texto, int inicio) {
+        return MARCA_BIGRAMA | (long) texto.charAt(inicio) << 16 | texto.charAt(inicio + 1);
+    }
+
+    private static long trigrama(String texto, int inicio) {
+        return (long) texto.charAt(inicio) << 32 | (long) texto.charAt(inicio + 1) << 16 | texto.charAt(inicio + 2);
+    }
+
+    private static long[] distintos(long[] ngramas) {
+        Arrays.sort(ngramas);
+        int distintos = 0;
+        for (int i = 0; i < ngramas.length; i++) {
+            if (distintos == 0 || ngramas[i] != ngramas[distintos - 1]) {
+                ngramas[distintos++] = ngramas[i];
+            }
+        }
+        return Arrays.copyOf(ngramas, distintos);
+    }
+}
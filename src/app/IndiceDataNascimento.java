@@ -0,0 +1,89 @@
+package app;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Índice ordenado de funcionários por data de nascimento, do mais velho para o mais novo.
+ * <p>
+ * Funcionários com a mesma data de nascimento ficam na ordem em que foram indexados. Funcionários
+ * sem data de nascimento não são indexados.
+ */
+class IndiceDataNascimento {
+    private final TreeMap<LocalDate, Set<Funcionario>> funcionariosPorData = new TreeMap<>();
+
+    /**
+     * Adiciona um funcionário ao índice.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        LocalDate dataNascimento = funcionario.getDataNascimento();
+        if (dataNascimento != null) {
+            funcionariosPorData.computeIfAbsent(dataNascimento, k -> new LinkedHashSet<>(2)).add(funcionario);
+        }
+    }
+
+    /**
+     * Remove um funcionário do índice.
+     *
+     * @param funcionario    O funcionário a ser removido.
+     * @param dataNascimento A data de nascimento com a qual o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, LocalDate dataNascimento) {
+        if (dataNascimento == null) {
+            return;
+        }
+        Set<Funcionario> mesmaData = funcionariosPorData.get(dataNascimento);
+        if (mesmaData != null && mesmaData.remove(funcionario) && mesmaData.isEmpty()) {
+            funcionariosPorData.remove(dataNascimento);
+        }
+    }
+
+    /**
+     * Busca os funcionários mais velhos.
+     *
+     * @param quantidade A quantidade máxima de funcionários.
+     * @return Os funcionários, do mais velho para o mais novo.
+     */
+    List<Funcionario> maisVelhos(int quantidade) {
+        return primeiros(funcionariosPorData.values(), quantidade);
+    }
+
+    /**
+     * Busca os funcionários mais novos.
+     *
+     * @param quantidade A quantidade máxima de funcionários.
+     * @return Os funcionários, do mais novo para o mais velho.
+     */
+    List<Funcionario> maisNovos(int quantidade) {
+        return primeiros(funcionariosPorData.descendingMap().values(), quantidade);
+    }
+
+    /**
+     * Busca os funcionários nascidos entre duas datas, inclusive.
+     *
+     * @param inicio A data de nascimento mais antiga.
+     * @param fim    A data de nascimento mais recente.
+     * @return Os funcionários, do mais velho para o mais novo.
+     */
+    List<Funcionario> nascidosEntre(LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            return new ArrayList<>();
+        }
+        return primeiros(funcionariosPorData.subMap(inicio, true, fim, true).values(), Integer.MAX_VALUE);
+    }
+
+    private static List<Funcionario> primeiros(Collection<Set<Funcionario>> grupos, int quantidade) {
+        List<Funcionario> encontrados = new ArrayList<>();
+        for (Set<Funcionario> mesmaData : grupos) {
+            for (Funcionario funcionario : mesmaData) {
+                if (encontrados.size() == quantidade) {
+                    return encontrados;
+                }
+                encontrados.add(funcionario);
+            }
+        }
+        return encontrados;
+    }
+}
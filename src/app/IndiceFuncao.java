@@ -0,0 +1,83 @@
+package app;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Índice de funcionários por função, mantendo um {@link GrupoFuncao} atualizado para cada função.
+ */
+class IndiceFuncao {
+    private final Map<String, GrupoFuncao> grupos = new LinkedHashMap<>();
+    private final Map<String, GrupoFuncao> visao = Collections.unmodifiableMap(grupos);
+
+    /**
+     * Obtém os grupos por função.
+     *
+     * @return Uma visão não modificável dos grupos, atualizada a cada alteração da lista.
+     */
+    Map<String, GrupoFuncao> grupos() {
+        return visao;
+    }
+
+    /**
+     * Adiciona um funcionário ao grupo da sua função.
+     *
+     * @param funcionario O funcionário a ser adicionado.
+     */
+    void adicionar(Funcionario funcionario) {
+        grupos.computeIfAbsent(funcionario.getFuncao(), GrupoFuncao::new).adicionar(funcionario);
+    }
+
+    /**
+     * Remove um funcionário do grupo de uma função, descartando o grupo se ele ficar vazio.
+     *
+     * @param funcionario O funcionário a ser removido.
+     * @param funcao      A função em que o funcionário estava agrupado.
+     */
+    void remover(Funcionario funcionario, String funcao) {
+        GrupoFuncao grupo = grupos.get(funcao);
+        if (grupo == null) {
+            return;
+        }
+        grupo.remover(funcionario);
+        if (grupo.vazio()) {
+            grupos.remove(funcao);
+        }
+    }
+
+    /**
+     * Move um funcionário para o grupo da sua nova função.
+     *
+     * @param funcionario    O funcionário alterado.
+     * @param funcaoAnterior A função anterior do funcionário.
+     */
+    void alterarFuncao(Funcionario funcionario, String funcaoAnterior) {
+        remover(funcionario, funcaoAnterior);
+        adicionar(funcionario);
+    }
+
+    /**
+     * Atualiza os totais do grupo após a alteração do salário de um funcionário.
+     *
+     * @param funcionario     O funcionário alterado.
+     * @param salarioAnterior O salário anterior do funcionário.
+     */
+    void alterarSalario(Funcionario funcionario, BigDecimal salarioAnterior) {
+        GrupoFuncao grupo = grupos.get(funcionario.getFuncao());
+        if (grupo != null) {
+            grupo.alterarSalario(funcionario, salarioAnterior);
+        }
+    }
+
+    /**
+     * Reconta os totais de todos os grupos, uma passagem por grupo, depois de salários alterados sem
+     * notificar o índice, como nos aumentos aplicados a toda a lista.
+     */
+    void recalcularSalarios() {
+        for (GrupoFuncao grupo : grupos.values()) {
+            grupo.recontar();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package app;
+
+import java.util.*;
+
+/**
+ * Índice de funcionários por nome, sem diferenciar maiúsculas de minúsculas.
+ */
+class IndiceNome {
+    private final Map<String, List<Funcionario>> funcionariosPorNome = new HashMap<>();
+
+    /**
+     * Normaliza o nome para ser usado como chave do índice.
+     *
+     * @param nome O nome a ser normalizado.
+     * @return A chave correspondente ao nome.
+     */
+    static String chave(String nome) {
+        return nome == null ? "" : nome.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adiciona um funcionário ao índice.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        funcionariosPorNome.computeIfAbsent(chave(funcionario.getNome()), k -> new ArrayList<>(1)).add(funcionario);
+    }
+
+    /**
+     * Remove um funcionário do índice.
+     *
+     * @param funcionario O funcionário a ser removido.
+     * @param nome        O nome com o qual o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, String nome) {
+        String chave = chave(nome);
+        List<Funcionario> lista = funcionariosPorNome.get(chave);
+        if (lista == null) {
+            return;
+        }
+        lista.removeIf(f -> f == funcionario);
+        if (lista.isEmpty()) {
+            funcionariosPorNome.remove(chave);
+        }
+    }
+
+    /**
+     * Busca os funcionários com o nome informado.
+     *
+     * @param nome O nome a ser buscado.
+     * @return Uma nova lista com os funcionários encontrados, na ordem de inserção.
+     */
+    List<Funcionario> buscar(String nome) {
+        List<Funcionario> lista = funcionariosPorNome.get(chave(nome));
+        return lista == null ? new ArrayList<>() : new ArrayList<>(lista);
+    }
+
+    /**
+     * Conta os funcionários com o nome informado.
+     *
+     * @param nome O nome a ser buscado.
+     * @return A quantidade de funcionários com o nome.
+     */
+    int contar(String nome) {
+        List<Funcionario> lista = funcionariosPorNome.get(chave(nome));
+        return lista == null ? 0 : lista.size();
+    }
+
+    /**
+     * Percorre os funcionários com o nome informado sem copiá-los.
+     *
+     * @param nome O nome a ser buscado.
+     * @return Os funcionários encontrados, na ordem de inserção.
+     */
+    Iterator<Funcionario> iterar(String nome) {
+        List<Funcionario> lista = funcionariosPorNome.get(chave(nome));
+        return lista == null ? Collections.emptyIterator() : lista.iterator();
+    }
+
+    /**
+     * Remove do índice todos os funcionários com o nome informado.
+     *
+     * @param nome O nome dos funcionários a serem removidos.
+     * @return Os funcionários removidos, ou uma lista vazia se nenhum foi encontrado.
+     */
+    List<Funcionario> removerTodos(String nome) {
+        List<Funcionario> lista = funcionariosPorNome.remove(chave(nome));
+        return lista == null ? Collections.emptyList() : lista;
+    }
+}
@@ -0,0 +1,133 @@
+package app;
+
+import java.text.Collator;
+import java.util.*;
+
+/**
+ * Índice dos funcionários em ordem alfabética, segundo as regras de ordenação do português.
+ * <p>
+ * Os funcionários ficam em uma árvore ordenada pela chave de ordenação do nome, guardada como
+ * bytes, e pela ordem de indexação, que desempata nomes equivalentes. A chave é calculada uma vez
+ * a cada inserção, com o {@link Collator} do próprio índice; a remoção a calcula novamente a partir
+ * do nome com que o funcionário foi indexado, sem guardá-la no funcionário. As leituras percorrem a
+ * árvore comparando bytes, sem usar o Collator e sem nenhuma trava própria: em
+ * {@link PrincipalConcorrente}, elas executam em paralelo sob a trava de leitura, e as alterações
+ * acontecem sob a trava de escrita.
+ */
+class IndiceOrdemNome {
+    /**
+     * Usado apenas pelas alterações, que nunca executam em paralelo; por isso não é compartilhado
+     * entre índices.
+     */
+    private final Collator collator = Collator.getInstance(Locale.forLanguageTag("pt-BR"));
+
+    private final TreeMap<Chave, Funcionario> ordenados = new TreeMap<>();
+    private long sequencia;
+
+    /**
+     * Adiciona um funcionário ao índice, depois dos funcionários já indexados com nome equivalente.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        funcionario.setSequenciaOrdemNome(sequencia++);
+        ordenados.put(chave(funcionario.getNome(), funcionario.getSequenciaOrdemNome()), funcionario);
+    }
+
+    /**
+     * Remove um funcionário do índice.
+     *
+     * @param funcionario O funcionário a ser removido.
+     * @param nome        O nome com que o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, String nome) {
+        ordenados.remove(chave(nome, funcionario.getSequenciaOrdemNome()));
+    }
+
+    /**
+     * Obtém todos os funcionários em ordem alfabética.
+     *
+     * @return Uma lista não modificável dos funcionários, que não acompanha as alterações seguintes.
+     */
+    Collection<Funcionario> todos() {
+        return Collections.unmodifiableList(new ArrayList<>(ordenados.values()));
+    }
+
+    /**
+     * Lê uma página de funcionários em ordem alfabética.
+     *
+     * @param cursor        A posição após a qual a página começa, ou null para a primeira página.
+     * @param tamanhoPagina A quantidade máxima de funcionários na página, maior que zero.
+     * @return A página lida.
+     */
+    PaginaFuncionarios pagina(PaginaFuncionarios.Cursor cursor, int tamanhoPagina) {
+        SortedMap<Chave, Funcionario> restantes = cursor == null ? ordenados
+                : ordenados.tailMap(new Chave(cursor.getChave(), cursor.getSequencia()), false);
+        Iterator<Map.Entry<Chave, Funcionario>> entradas = restantes.entrySet().iterator();
+        List<Funcionario> funcionarios = new ArrayList<>(Math.min(tamanhoPagina, ordenados.size()));
+        Chave ultima = null;
+        while (funcionarios.size() < tamanhoPagina && entradas.hasNext()) {
+            Map.Entry<Chave, Funcionario> entrada = entradas.next();
+            funcionarios.add(entrada.getValue());
+            ultima = entrada.getKey();
+        }
+        if (!entradas.hasNext()) {
+            return new PaginaFuncionarios(funcionarios, null);
+        }
+        return new PaginaFuncionarios(funcionarios, new PaginaFuncionarios.Cursor(ultima.bytes, ultima.sequencia));
+    }
+
+    private Chave chave(String nome, long sequencia) {
+        return new Chave(compactar(collator.getCollationKey(nome == null ? "" : nome).toByteArray()), sequencia);
+    }
+
+    /**
+     * Reescreve a chave de ordenação, que tem 2 bytes por unidade, com 1 a 3 bytes por unidade no
+     * esquema do UTF-8. A comparação sem sinal dos bytes mantém a ordem das unidades, e as chaves
+     * do português, cujas unidades são quase todas menores que 0x80, ficam com cerca da metade do
+     * tamanho.
+     */
+    private static byte[] compactar(byte[] chave) {
+        int tamanho = 0;
+        for (int i = 0; i < chave.length; i += 2) {
+            int unidade = (chave[i] & 0xFF) << 8 | chave[i + 1] & 0xFF;
+            tamanho += unidade < 0x80 ? 1 : unidade < 0x800 ? 2 : 3;
+        }
+        byte[] compacta = new byte[tamanho];
+        int posicao = 0;
+        for (int i = 0; i < chave.length; i += 2) {
+            int unidade = (chave[i] & 0xFF) << 8 | chave[i + 1] & 0xFF;
+            if (unidade < 0x80) {
+                compacta[posicao++] = (byte) unidade;
+            } else if (unidade < 0x800) {
+                compacta[posicao++] = (byte) (0xC0 | unidade >> 6);
+                compacta[posicao++] = (byte) (0x80 | unidade & 0x3F);
+            } else {
+                compacta[posicao++] = (byte) (0xE0 | unidade >> 12);
+                compacta[posicao++] = (byte) (0x80 | unidade >> 6 & 0x3F);
+                compacta[posicao++] = (byte) (0x80 | unidade & 0x3F);
+            }
+        }
+        return compacta;
+    }
+
+    /**
+     * Posição de um funcionário na árvore: os bytes da chave de ordenação do nome, comparados sem
+     * sinal, e a ordem de indexação.
+     */
+    private static final class Chave implements Comparable<Chave> {
+        private final byte[] bytes;
+        private final long sequencia;
+
+        Chave(byte[] bytes, long sequencia) {
+            this.bytes = bytes;
+            this.sequencia = sequencia;
+        }
+
+        @Override
+        public int compareTo(Chave outra) {
+            int comparacao = Arrays.compareUnsigned(bytes, outra.bytes);
+            return comparacao != 0 ? comparacao : Long.compare(sequencia, outra.sequencia);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package app;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Índice ordenado de funcionários por salário, usado nas consultas por faixa salarial.
+ * <p>
+ * Funcionários com o mesmo salário ficam na ordem em que foram indexados. Funcionários sem
+ * salário não são indexados.
+ * <p>
+ * Um aumento de salários altera todos os funcionários de uma vez, e reposicionar cada um na árvore
+ * custaria mais que o próprio aumento. Por isso, quando as alterações desde a última consulta
+ * passam de uma fração da lista, o índice é descartado e reconstruído apenas na próxima consulta.
+ */
+class IndiceSalario {
+    private static final int ALTERACOES_MINIMAS_DESCARTE = 1_024;
+
+    private final TreeMap<BigDecimal, Set<Funcionario>> funcionariosPorSalario = new TreeMap<>();
+    private final Collection<Funcionario> funcionarios;
+    private boolean descartado;
+    private int alteracoesDesdeConsulta;
+
+    /**
+     * Cria um índice vazio.
+     *
+     * @param funcionarios A lista indexada, usada para reconstruir o índice após um descarte.
+     */
+    IndiceSalario(Collection<Funcionario> funcionarios) {
+        this.funcionarios = funcionarios;
+    }
+
+    /**
+     * Adiciona um funcionário ao índice.
+     *
+     * @param funcionario O funcionário a ser indexado.
+     */
+    void adicionar(Funcionario funcionario) {
+        BigDecimal salario = funcionario.getSalario();
+        if (salario != null && !descartado) {
+            funcionariosPorSalario.computeIfAbsent(salario, k -> new LinkedHashSet<>(2)).add(funcionario);
+        }
+    }
+
+    /**
+     * Remove um funcionário do índice.
+     *
+     * @param funcionario O funcionário a ser removido.
+     * @param salario     O salário com o qual o funcionário foi indexado.
+     */
+    void remover(Funcionario funcionario, BigDecimal salario) {
+        if (salario == null || descartado) {
+            return;
+        }
+        Set<Funcionario> mesmoSalario = funcionariosPorSalario.get(salario);
+        if (mesmoSalario != null && mesmoSalario.remove(funcionario) && mesmoSalario.isEmpty()) {
+            funcionariosPorSalario.remove(salario);
+        }
+    }
+
+    /**
+     * Move um funcionário para a posição do seu novo salário.
+     *
+     * @param funcionario     O funcionário alterado.
+     * @param salarioAnterior O salário anterior do funcionário.
+     */
+    void alterarSalario(Funcionario funcionario, BigDecimal salarioAnterior) {
+        if (descartado) {
+            return;
+        }
+        if (++alteracoesDesdeConsulta > Math.max(ALTERACOES_MINIMAS_DESCARTE, funcionarios.size() >> 3)) {
+            descartar();
+            return;
+        }
+        remover(funcionario, salarioAnterior);
+        adicionar(funcionario);
+    }
+
+    /**
+     * Descarta o índice para que ele seja reconstruído na próxima consulta, depois de salários
+     * alterados sem notificar o índice.
+     */
+    void descartar() {
+        descartado = true;
+        funcionariosPorSalario.clear();
+    }
+
+    /**
+     * Reconstrói o índice se ele foi descartado e reinicia a contagem de alterações. Sincronizado
+     * porque as consultas de {@link PrincipalConcorrente} chegam aqui em paralelo, sob a trava de
+     * leitura; as alterações acontecem sob a trava de escrita.
+     */
+    private synchronized void preparar() {
+        alteracoesDesdeConsulta = 0;
+        if (descartado) {
+            descartado = false;
+            for (Funcionario funcionario : funcionarios) {
+                adicionar(funcionario);
+            }
+        }
+    }
+
+    /**
+     * Conta os funcionários com salário na faixa, parando assim que a contagem passar do limite.
+     * O planejador de consultas estima as faixas maiores por amostragem.
+     *
+     * @param minimo O menor salário, ou null para não limitar.
+     * @param maximo O maior salário, ou null para não limitar.
+     * @param limite A contagem a partir da qual a faixa deixa de ser contada.
+     * @return A quantidade de funcionários na faixa, ou um valor maior que o limite.
+     */
+    long contarFaixa(BigDecimal minimo, BigDecimal maximo, long limite) {
+        preparar();
+        long quantidade = 0;
+        for (Set<Funcionario> mesmoSalario : faixa(minimo, maximo).values()) {
+            quantidade += mesmoSalario.size();
+            if (quantidade > limite) {
+                break;
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Percorre os funcionários com salário na faixa, sem copiá-los.
+     *
+     * @param minimo O menor salário, ou null para não limitar.
+     * @param maximo O maior salário, ou null para não limitar.
+     * @return Os funcionários, do menor para o maior salário.
+     */
+    Iterator<Funcionario> iterarFaixa(BigDecimal minimo, BigDecimal maximo) {
+        preparar();
+        Iterator<Set<Funcionario>> grupos = faixa(minimo, maximo).values().iterator();
+        return new Iterator<>() {
+            private Iterator<Funcionario> atual = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!atual.hasNext()) {
+                    if (!grupos.hasNext()) {
+                        return false;
+                    }
+                    atual = grupos.next().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public Funcionario next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return atual.next();
+            }
+        };
+    }
+
+    private NavigableMap<BigDecimal, Set<Funcionario>> faixa(BigDecimal minimo, BigDecimal maximo) {
+        NavigableMap<BigDecimal, Set<Funcionario>> faixa = funcionariosPorSalario;
+        if (minimo != null) {
+            faixa = faixa.tailMap(minimo, true);
+        }
+        if (maximo != null) {
+            faixa = faixa.headMap(maximo, true);
+        }
+        return faixa;
+    }
+}
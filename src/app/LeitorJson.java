@@ -0,0 +1,202 @@
+package app;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lê documentos JSON pequenos, como os corpos das requisições de {@link ServidorFuncionarios}.
+ * <p>
+ * Objetos são lidos como {@link Map} (na ordem do documento), arrays como {@link List}, strings como
+ * {@link String}, números como {@link BigDecimal}, true e false como {@link Boolean} e null como null.
+ * Objetos e arrays podem ser aninhados até {@value #PROFUNDIDADE_MAXIMA} níveis, para que um
+ * documento malicioso não esgote a pilha da thread.
+ */
+final class LeitorJson {
+    private static final int PROFUNDIDADE_MAXIMA = 64;
+
+    private final String texto;
+    private int posicao;
+    private int profundidade;
+
+    private LeitorJson(String texto) {
+        this.texto = texto;
+    }
+
+    /**
+     * Lê um documento JSON.
+     *
+     * @param texto O documento.
+     * @return O valor lido.
+     * @throws IllegalArgumentException Se o documento não for um JSON válido.
+     */
+    static Object ler(String texto) {
+        LeitorJson leitor = new LeitorJson(texto);
+        Object valor = leitor.valor();
+        leitor.pularEspacos();
+        if (leitor.posicao != texto.length()) {
+            throw leitor.erro("Conteúdo após o fim do documento");
+        }
+        return valor;
+    }
+
+    private Object valor() {
+        pularEspacos();
+        if (posicao == texto.length()) {
+            throw erro("Fim inesperado do documento");
+        }
+        char c = texto.charAt(posicao);
+        return switch (c) {
+            case '{', '[' -> aninhado(c);
+            case '"' -> texto();
+            case 't' -> palavra("true", Boolean.TRUE);
+            case 'f' -> palavra("false", Boolean.FALSE);
+            case 'n' -> palavra("null", null);
+            default -> numero();
+        };
+    }
+
+    private Object aninhado(char abertura) {
+        if (profundidade == PROFUNDIDADE_MAXIMA) {
+            throw erro("Profundidade máxima excedida");
+        }
+        profundidade++;
+        Object valor = abertura == '{' ? objeto() : array();
+        profundidade--;
+        return valor;
+    }
+
+    private Map<String, Object> objeto() {
+        Map<String, Object> objeto = new LinkedHashMap<>();
+        posicao++;
+        pularEspacos();
+        if (consumir('}')) {
+            return objeto;
+        }
+        do {
+            pularEspacos();
+            if (posicao == texto.length() || texto.charAt(posicao) != '"') {
+                throw erro("Nome de campo esperado");
+            }
+            String nome = texto();
+            pularEspacos();
+            if (!consumir(':')) {
+                throw erro("':' esperado");
+            }
+            objeto.put(nome, valor());
+            pularEspacos();
+        } while (consumir(','));
+        if (!consumir('}')) {
+            throw erro("'}' esperado");
+        }
+        return objeto;
+    }
+
+    private List<Object> array() {
+        List<Object> array = new ArrayList<>();
+        posicao++;
+        pularEspacos();
+        if (consumir(']')) {
+            return array;
+        }
+        do {
+            array.add(valor());
+            pularEspacos();
+        } while (consumir(','));
+        if (!consumir(']')) {
+            throw erro("']' esperado");
+        }
+        return array;
+    }
+
+    private String texto() {
+        posicao++;
+        StringBuilder valor = new StringBuilder();
+        while (posicao < texto.length()) {
+            char c = texto.charAt(posicao++);
+            if (c == '"') {
+                return valor.toString();
+            }
+            if (c < 0x20) {
+                throw erro("Caractere de controle em string");
+            }
+            if (c != '\\') {
+                valor.append(c);
+                continue;
+            }
+            if (posicao == texto.length()) {
+                break;
+            }
+            char escape = texto.charAt(posicao++);
+            switch (escape) {
+                case '"', '\\', '/' -> valor.append(escape);
+                case 'b' -> valor.append('\b');
+                case 'f' -> valor.append('\f');
+                case 'n' -> valor.append('\n');
+                case 'r' -> valor.append('\r');
+                case 't' -> valor.append('\t');
+                case 'u' -> {
+                    if (posicao + 4 > texto.length()) {
+                        throw erro("Escape unicode incompleto");
+                    }
+                    try {
+                        valor.append((char) Integer.parseInt(texto, posicao, posicao + 4, 16));
+                    } catch (NumberFormatException e) {
+                        throw erro("Escape unicode inválido");
+                    }
+                    posicao += 4;
+                }
+                default -> throw erro("Escape inválido");
+            }
+        }
+        throw erro("String não terminada");
+    }
+
+    private BigDecimal numero() {
+        int inicio = posicao;
+        while (posicao < texto.length() && "+-0123456789.eE".indexOf(texto.charAt(posicao)) >= 0) {
+            posicao++;
+        }
+        if (inicio == posicao) {
+            throw erro("Valor inesperado");
+        }
+        try {
+            return new BigDecimal(texto.substring(inicio, posicao));
+        } catch (NumberFormatException e) {
+            posicao = inicio;
+            throw erro("Número inválido");
+        }
+    }
+
+    private Object palavra(String palavra, Object valor) {
+        if (!texto.startsWith(palavra, posicao)) {
+            throw erro("Valor inesperado");
+        }
+        posicao += palavra.length();
+        return valor;
+    }
+
+    private boolean consumir(char c) {
+        if (posicao < texto.length() && texto.charAt(posicao) == c) {
+            posicao++;
+            return true;
+        }
+        return false;
+    }
+
+    private void pularEspacos() {
+        while (posicao < texto.length()) {
+            char c = texto.charAt(posicao);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            posicao++;
+        }
+    }
+
+    private IllegalArgumentException erro(String mensagem) {
+        return new IllegalArgumentException(mensagem + " na posição " + posicao + ".");
+    }
+}
@@ -0,0 +1,48 @@
+package app;
+
+/**
+ * Atributos JMX das latências de uma operação de {@link Principal}, em nanossegundos. Cada leitura
+ * de atributo calcula um novo resumo do histograma da operação.
+ */
+public interface MetricaOperacaoMXBean {
+
+    /**
+     * @return A quantidade de execuções registradas.
+     */
+    long getQuantidade();
+
+    /**
+     * @return A soma das latências registradas.
+     */
+    long getTempoTotalNanos();
+
+    /**
+     * @return A latência média.
+     */
+    long getMediaNanos();
+
+    /**
+     * @return A maior latência registrada.
+     */
+    long getMaximoNanos();
+
+    /**
+     * @return O percentil 50 das latências.
+     */
+    long getPercentil50Nanos();
+
+    /**
+     * @return O percentil 90 das latências.
+     */
+    long getPercentil90Nanos();
+
+    /**
+     * @return O percentil 99 das latências.
+     */
+    long getPercentil99Nanos();
+
+    /**
+     * @return O percentil 99,9 das latências.
+     */
+    long getPercentil999Nanos();
+}
@@ -0,0 +1,312 @@
+package app;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quantidade de execuções e histograma de latências de cada {@link Operacao} de uma instância de
+ * {@link Principal}.
+ * <p>
+ * O registro usa apenas {@link System#nanoTime()} e contadores {@link java.util.concurrent.atomic.LongAdder},
+ * sem travas nem criação de objetos, e pode ficar habilitado em produção. As operações
+ * {@linkplain Operacao#isAmostrada() amostradas}, curtas e frequentes, são medidas uma vez a cada
+ * {@value #INTERVALO_AMOSTRAGEM_PADRAO} execuções, sorteadas, e cada medida conta por todas as
+ * execuções do intervalo: a quantidade e os percentis são estimativas, e o máximo é o das execuções
+ * medidas. As demais operações são medidas a cada execução. As latências medem a
+ * execução da operação em Principal; o tempo de espera pelas travas de {@link PrincipalConcorrente}
+ * e pela gravação do diário de {@link PrincipalDuravel} é registrado nas operações de espera.
+ * <p>
+ * As métricas podem ser lidas por {@link #obterResumos()}, publicadas no JMX com
+ * {@link #registrarJmx(String)} ou escritas periodicamente em uma {@link SaidaRelatorio}.
+ */
+public class MetricasPrincipal {
+    private static final Operacao[] OPERACOES = Operacao.values();
+    private static final int INTERVALO_AMOSTRAGEM_PADRAO = 32;
+
+    private final HistogramaLatencia[] histogramas = new HistogramaLatencia[OPERACOES.length];
+    private final List<ObjectName> nomesJmx = new ArrayList<>();
+    private volatile boolean habilitadas = true;
+    private volatile int intervaloAmostragem = INTERVALO_AMOSTRAGEM_PADRAO;
+    private ScheduledExecutorService relatorioPeriodico;
+
+    MetricasPrincipal() {
+        for (int i = 0; i < histogramas.length; i++) {
+            histogramas[i] = new HistogramaLatencia();
+        }
+    }
+
+    /**
+     * Verifica se as latências estão sendo registradas.
+     *
+     * @return true se o registro está habilitado.
+     */
+    public boolean isHabilitadas() {
+        return habilitadas;
+    }
+
+    /**
+     * Habilita ou desabilita o registro das latências. As métricas já registradas são mantidas.
+     *
+     * @param habilitadas true para registrar as latências.
+     */
+    public void setHabilitadas(boolean habilitadas) {
+        this.habilitadas = habilitadas;
+    }
+
+    /**
+     * Obtém o intervalo de amostragem das operações amostradas.
+     *
+     * @return A quantidade de execuções representada por cada execução medida.
+     */
+    public int getIntervaloAmostragem() {
+        return intervaloAmostragem;
+    }
+
+    /**
+     * Define de quantas em quantas execuções as operações {@linkplain Operacao#isAmostrada() amostradas}
+     * são medidas. Com 1, todas as execuções são medidas, ao custo de duas leituras do relógio por
+     * operação. As métricas já registradas são mantidas.
+     *
+     * @param intervaloAmostragem O intervalo, maior que zero.
+     * @return true se a operação foi bem-sucedida, ou false se o intervalo for inválido.
+     */
+    public boolean setIntervaloAmostragem(int intervaloAmostragem) {
+        if (intervaloAmostragem < 1) {
+            System.out.println("Intervalo inválido. Forneça um intervalo de amostragem maior que zero.");
+            return false;
+        }
+        this.intervaloAmostragem = intervaloAmostragem;
+        return true;
+    }
+
+    /**
+     * Marca o início de uma operação. As operações amostradas só são medidas em uma execução
+     * sorteada a cada intervalo de amostragem; nas demais, o relógio não é lido.
+     *
+     * @param operacao A operação iniciada.
+     * @return O instante de início, ou zero se a execução não for medida.
+     */
+    long iniciar(Operacao operacao) {
+        if (!habilitadas) {
+            return 0;
+        }
+        int intervalo = intervaloAmostragem;
+        if (operacao.isAmostrada() && intervalo > 1 && ThreadLocalRandom.current().nextInt(intervalo) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Registra a latência de uma operação iniciada por {@link #iniciar(Operacao)}.
+     *
+     * @param operacao A operação executada.
+     * @param inicio   O instante devolvido por {@link #iniciar(Operacao)}.
+     */
+    void registrar(Operacao operacao, long inicio) {
+        if (inicio != 0) {
+            histogramas[operacao.ordinal()].registrar(System.nanoTime() - inicio,
+                    operacao.isAmostrada() ? intervaloAmostragem : 1);
+        }
+    }
+
+    /**
+     * Obtém o resumo das latências de uma operação.
+     *
+     * @param operacao A operação.
+     * @return O resumo das latências, ou null se a operação for nula.
+     */
+    public ResumoLatencia obterResumo(Operacao operacao) {
+        if (operacao == null) {
+            System.out.println("Operação inválida. Forneça uma operação para obter as métricas.");
+            return null;
+        }
+        return histogramas[operacao.ordinal()].resumir(operacao);
+    }
+
+    /**
+     * Obtém o resumo das latências das operações executadas ao menos uma vez.
+     *
+     * @return Os resumos, na ordem de {@link Operacao}.
+     */
+    public List<ResumoLatencia> obterResumos() {
+        List<ResumoLatencia> resumos = new ArrayList<>();
+        for (Operacao operacao : OPERACOES) {
+            ResumoLatencia resumo = histogramas[operacao.ordinal()].resumir(operacao);
+            if (resumo.getQuantidade() > 0) {
+                resumos.add(resumo);
+            }
+        }
+        return resumos;
+    }
+
+    /**
+     * Escreve o resumo das operações executadas ao menos uma vez, uma linha por operação.
+     *
+     * @param saida A saída na qual o resumo é escrito.
+     * @return true se a operação foi bem-sucedida, ou false se houve um erro.
+     */
+    public boolean relatar(SaidaRelatorio saida) {
+        if (saida == null) {
+            System.out.println("Saída inválida. Forneça uma saída para escrever as métricas.");
+            return false;
+        }
+        List<ResumoLatencia> resumos = obterResumos();
+        try {
+            synchronized (saida) {
+                try {
+                    saida.linha("Métricas de Principal:");
+                    for (ResumoLatencia resumo : resumos) {
+                        saida.linha(resumo.toString());
+                    }
+                } finally {
+                    saida.descarregar();
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            System.out.println("Erro ao escrever as métricas: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Publica um MXBean por operação no servidor JMX da plataforma, com o nome
+     * {@code app:type=Principal,name="<nome>",operacao=<OPERACAO>}.
+     *
+     * @param nome O nome que identifica a instância de Principal no JMX.
+     * @return true se os MXBeans foram registrados, ou false se houve um erro.
+     */
+    public synchronized boolean registrarJmx(String nome) {
+        if (nome == null || nome.trim().isEmpty()) {
+            System.out.println("Nome inválido. Forneça um nome para registrar as métricas no JMX.");
+            return false;
+        }
+        if (!nomesJmx.isEmpty()) {
+            System.out.println("As métricas já estão registradas no JMX.");
+            return false;
+        }
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (Operacao operacao : OPERACOES) {
+                ObjectName nomeJmx = new ObjectName("app:type=Principal,name=" + ObjectName.quote(nome) + ",operacao=" + operacao);
+                servidor.registerMBean(new MetricaOperacao(operacao), nomeJmx);
+                nomesJmx.add(nomeJmx);
+            }
+            return true;
+        } catch (JMException e) {
+            System.out.println("Erro ao registrar as métricas no JMX: " + e.getMessage());
+            removerJmx();
+            return false;
+        }
+    }
+
+    /**
+     * Remove do servidor JMX os MXBeans registrados por {@link #registrarJmx(String)}.
+     */
+    public synchronized void removerJmx() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName nomeJmx : nomesJmx) {
+            try {
+                servidor.unregisterMBean(nomeJmx);
+            } catch (JMException e) {
+                System.out.println("Erro ao remover as métricas do JMX: " + e.getMessage());
+            }
+        }
+        nomesJmx.clear();
+    }
+
+    /**
+     * Escreve o resumo das métricas periodicamente, em uma thread daemon, até
+     * {@link #pararRelatorioPeriodico()} ser chamado.
+     *
+     * @param intervalo O intervalo entre os resumos.
+     * @param saida     A saída na qual os resumos são escritos.
+     * @return true se o relatório foi iniciado, ou false se houve um erro.
+     */
+    public synchronized boolean iniciarRelatorioPeriodico(Duration intervalo, SaidaRelatorio saida) {
+        if (intervalo == null || intervalo.toMillis() <= 0 || saida == null) {
+            System.out.println("Relatório inválido. Forneça uma saída e um intervalo de pelo menos um milissegundo.");
+            return false;
+        }
+        if (relatorioPeriodico != null) {
+            System.out.println("O relatório periódico de métricas já está em execução.");
+            return false;
+        }
+        relatorioPeriodico = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "metricas-principal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long milissegundos = intervalo.toMillis();
+        relatorioPeriodico.scheduleAtFixedRate(() -> relatar(saida), milissegundos, milissegundos, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    /**
+     * Interrompe o relatório periódico iniciado por {@link #iniciarRelatorioPeriodico(Duration, SaidaRelatorio)}.
+     */
+    public synchronized void pararRelatorioPeriodico() {
+        if (relatorioPeriodico != null) {
+            relatorioPeriodico.shutdownNow();
+            relatorioPeriodico = null;
+        }
+    }
+
+    private class MetricaOperacao implements MetricaOperacaoMXBean {
+        private final Operacao operacao;
+
+        MetricaOperacao(Operacao operacao) {
+            this.operacao = operacao;
+        }
+
+        @Override
+        public long getQuantidade() {
+            return obterResumo(operacao).getQuantidade();
+        }
+
+        @Override
+        public long getTempoTotalNanos() {
+            return obterResumo(operacao).getTempoTotalNanos();
+        }
+
+        @Override
+        public long getMediaNanos() {
+            return obterResumo(operacao).getMediaNanos();
+        }
+
+        @Override
+        public long getMaximoNanos() {
+            return obterResumo(operacao).getMaximoNanos();
+        }
+
+        @Override
+        public long getPercentil50Nanos() {
+            return obterResumo(operacao).getPercentil50Nanos();
+        }
+
+        @Override
+        public long getPercentil90Nanos() {
+            return obterResumo(operacao).getPercentil90Nanos();
+        }
+
+        @Override
+        public long getPercentil99Nanos() {
+            return obterResumo(operacao).getPercentil99Nanos();
+        }
+
+        @Override
+        public long getPercentil999Nanos() {
+            return obterResumo(operacao).getPercentil999Nanos();
+        }
+    }
+}
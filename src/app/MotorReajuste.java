@@ -0,0 +1,111 @@
+package app;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calcula os salários reajustados por um percentual, dividindo a lista entre as threads de um
+ * {@link ForkJoinPool}.
+ * <p>
+ * O resultado é idêntico, inclusive na escala, a
+ * {@code salario.multiply(BigDecimal.ONE.add(percentual)).setScale(2, RoundingMode.HALF_UP)}.
+ * O multiplicador é calculado uma única vez. Salários representáveis em centavos são reajustados
+ * com aritmética de long, a partir dos centavos mantidos pelo funcionário; os demais, ou quando o
+ * produto não cabe em um long, usam BigDecimal.
+ */
+class MotorReajuste {
+    /**
+     * Quantidade de funcionários abaixo da qual o cálculo não é mais dividido entre threads.
+     */
+    static final int LIMIAR_PARALELO = 8_192;
+
+    private final BigDecimal multiplicador;
+    private final long multiplicadorSemEscala;
+    private final long potenciaEscala;
+
+    /**
+     * Cria um motor para reajustar salários pelo percentual informado.
+     *
+     * @param percentual O percentual do reajuste, como fração (0.10 para 10%).
+     */
+    MotorReajuste(BigDecimal percentual) {
+        this.multiplicador = BigDecimal.ONE.add(percentual);
+        int escala = multiplicador.scale();
+        if (escala >= 0 && escala <= 18 && multiplicador.precision() <= 18) {
+            this.multiplicadorSemEscala = multiplicador.unscaledValue().longValue();
+            this.potenciaEscala = BigDecimal.ONE.scaleByPowerOfTen(escala).longValue();
+        } else {
+            this.multiplicadorSemEscala = 0;
+            this.potenciaEscala = 0;
+        }
+    }
+
+    /**
+     * Calcula os salários reajustados de todos os funcionários, sem alterá-los.
+     *
+     * @param funcionarios Os funcionários a reajustar.
+     * @param pool         O pool usado quando a lista é grande o bastante para ser dividida.
+     * @return Os novos salários, na mesma ordem dos funcionários.
+     * @throws NullPointerException Se algum funcionário não tiver salário.
+     */
+    BigDecimal[] calcular(Funcionario[] funcionarios, ForkJoinPool pool) {
+        BigDecimal[] salarios = new BigDecimal[funcionarios.length];
+        Tarefa tarefa = new Tarefa(funcionarios, salarios, 0, funcionarios.length);
+        if (funcionarios.length <= LIMIAR_PARALELO) {
+            tarefa.compute();
+        } else {
+            pool.invoke(tarefa);
+        }
+        return salarios;
+    }
+
+    /**
+     * Calcula um salário reajustado.
+     *
+     * @param salario  O salário atual.
+     * @param centavos O salário atual em centavos, ou {@link Dinheiro#INEXATO}.
+     * @return O salário reajustado, com duas casas decimais.
+     */
+    BigDecimal reajustar(BigDecimal salario, long centavos) {
+        if (potenciaEscala != 0 && centavos != Dinheiro.INEXATO) {
+            long produto = centavos * multiplicadorSemEscala;
+            if (Math.multiplyHigh(centavos, multiplicadorSemEscala) == (produto >> 63)) {
+                return BigDecimal.valueOf(Dinheiro.dividirArredondando(produto, potenciaEscala), 2);
+            }
+        }
+        return salario.multiply(multiplicador).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private class Tarefa extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient Funcionario[] funcionarios;
+        private final transient BigDecimal[] salarios;
+        private final int inicio;
+        private final int fim;
+
+        Tarefa(Funcionario[] funcionarios, BigDecimal[] salarios, int inicio, int fim) {
+            this.funcionarios = funcionarios;
+            this.salarios = salarios;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_PARALELO) {
+                for (int i = inicio; i < fim; i++) {
+                    salarios[i] = reajustar(funcionarios[i].getSalario(), funcionarios[i].getSalarioCentavos());
+                }
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Tarefa(funcionarios, salarios, inicio, meio),
+                    new Tarefa(funcionarios, salarios, meio, fim));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package app;
+
+/**
+ * Núcleo das agregações sobre uma coluna de salários em centavos: soma, menor, maior e a
+ * contagem de valores abaixo de cada limite de faixa, calculados em uma única passagem.
+ * <p>
+ * {@link #PADRAO} usa a implementação vetorial ({@link NucleoAgregacaoVetorial}) quando o módulo
+ * {@code jdk.incubator.vector} está disponível, isto é, quando a JVM é iniciada com
+ * {@code --add-modules jdk.incubator.vector}; caso contrário, usa a implementação escalar.
+ */
+abstract class NucleoAgregacao {
+    /**
+     * O núcleo usado pelas agregações.
+     */
+    static final NucleoAgregacao PADRAO = carregar();
+
+    /**
+     * Resultado de uma agregação.
+     */
+    static class Resumo {
+        long quantidade;
+        long soma;
+        boolean somaExata = true;
+        long menor = Long.MAX_VALUE;
+        long maior = Long.MIN_VALUE;
+
+        /**
+         * Quantidade de valores menores que cada limite, na ordem dos limites.
+         */
+        long[] abaixoDoLimite;
+    }
+
+    /**
+     * Agrega os primeiros valores de uma coluna.
+     *
+     * @param valores Os valores da coluna.
+     * @param tamanho A quantidade de valores a agregar.
+     * @param limites Os limites das faixas, em ordem crescente.
+     * @return A soma, o menor e o maior valor e as contagens por limite. Se a soma não couber em
+     * um long, {@link Resumo#somaExata} é false.
+     */
+    abstract Resumo agregar(long[] valores, int tamanho, long[] limites);
+
+    /**
+     * Soma valores com verificação de estouro.
+     *
+     * @param valores Os valores da coluna.
+     * @param tamanho A quantidade de valores a somar.
+     * @param resumo  O resumo em que a soma é registrada.
+     */
+    static void somarExato(long[] valores, int tamanho, Resumo resumo) {
+        long soma = 0;
+        try {
+            for (int i = 0; i < tamanho; i++) {
+                soma = Math.addExact(soma, valores[i]);
+            }
+            resumo.soma = soma;
+        } catch (ArithmeticException e) {
+            resumo.somaExata = false;
+        }
+    }
+
+    private static NucleoAgregacao carregar() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (NucleoAgregacao) Class.forName("app.NucleoAgregacaoVetorial").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Sem suporte ao Vector API nesta JVM; a implementação escalar é usada.
+            }
+        }
+        return new Escalar();
+    }
+
+    /**
+     * Implementação escalar, usada quando o Vector API não está disponível.
+     */
+    static class Escalar extends NucleoAgregacao {
+        @Override
+        Resumo agregar(long[] valores, int tamanho, long[] limites) {
+            Resumo resumo = new Resumo();
+            resumo.quantidade = tamanho;
+            resumo.abaixoDoLimite = new long[limites.length];
+            for (int i = 0; i < tamanho; i++) {
+                long valor = valores[i];
+                resumo.menor = Math.min(resumo.menor, valor);
+                resumo.maior = Math.max(resumo.maior, valor);
+                for (int k = 0; k < limites.length; k++) {
+                    if (valor < limites[k]) {
+                        resumo.abaixoDoLimite[k]++;
+                    }
+                }
+            }
+            somarExato(valores, tamanho, resumo);
+            return resumo;
+        }
+    }
+}
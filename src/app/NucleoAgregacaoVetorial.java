@@ -0,0 +1,77 @@
+package app;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação de {@link NucleoAgregacao} com o Vector API: cada iteração processa tantos
+ * salários quantos cabem em um registrador vetorial, acumulando soma, menor, maior e as
+ * contagens por faixa em vetores que só são reduzidos ao final.
+ * <p>
+ * A soma vetorial não verifica estouro a cada adição. Ao final, se o maior valor absoluto
+ * multiplicado pela quantidade puder ultrapassar um long, a soma é refeita com verificação.
+ * <p>
+ * Esta classe depende do módulo {@code jdk.incubator.vector} e só é carregada por
+ * {@link NucleoAgregacao#PADRAO} quando ele está disponível.
+ */
+class NucleoAgregacaoVetorial extends NucleoAgregacao {
+    private static final VectorSpecies<Long> ESPECIE = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    Resumo agregar(long[] valores, int tamanho, long[] limites) {
+        LongVector soma = LongVector.zero(ESPECIE);
+        LongVector menor = LongVector.broadcast(ESPECIE, Long.MAX_VALUE);
+        LongVector maior = LongVector.broadcast(ESPECIE, Long.MIN_VALUE);
+        LongVector[] abaixo = new LongVector[limites.length];
+        for (int k = 0; k < limites.length; k++) {
+            abaixo[k] = LongVector.zero(ESPECIE);
+        }
+        int i = 0;
+        for (int limiteLaco = ESPECIE.loopBound(tamanho); i < limiteLaco; i += ESPECIE.length()) {
+            LongVector valor = LongVector.fromArray(ESPECIE, valores, i);
+            soma = soma.add(valor);
+            menor = menor.min(valor);
+            maior = maior.max(valor);
+            for (int k = 0; k < limites.length; k++) {
+                VectorMask<Long> menores = valor.compare(VectorOperators.LT, limites[k]);
+                abaixo[k] = abaixo[k].add(1L, menores);
+            }
+        }
+
+        Resumo resumo = new Resumo();
+        resumo.quantidade = tamanho;
+        resumo.soma = soma.reduceLanes(VectorOperators.ADD);
+        resumo.menor = menor.reduceLanes(VectorOperators.MIN);
+        resumo.maior = maior.reduceLanes(VectorOperators.MAX);
+        resumo.abaixoDoLimite = new long[limites.length];
+        for (int k = 0; k < limites.length; k++) {
+            resumo.abaixoDoLimite[k] = abaixo[k].reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < tamanho; i++) {
+            long valor = valores[i];
+            resumo.soma += valor;
+            resumo.menor = Math.min(resumo.menor, valor);
+            resumo.maior = Math.max(resumo.maior, valor);
+            for (int k = 0; k < limites.length; k++) {
+                if (valor < limites[k]) {
+                    resumo.abaixoDoLimite[k]++;
+                }
+            }
+        }
+
+        if (tamanho > 0 && podeEstourar(resumo.menor, resumo.maior, tamanho)) {
+            somarExato(valores, tamanho, resumo);
+        }
+        return resumo;
+    }
+
+    private static boolean podeEstourar(long menor, long maior, int tamanho) {
+        if (menor == Long.MIN_VALUE) {
+            return true;
+        }
+        long maiorAbsoluto = Math.max(Math.abs(menor), Math.abs(maior));
+        return maiorAbsoluto > Long.MAX_VALUE / tamanho;
+    }
+}
@@ -0,0 +1,50 @@
+package app;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Recebe notificações sobre alterações feitas em um funcionário, mantendo os índices da lista sincronizados.
+ */
+interface ObservadorFuncionario {
+
+    /**
+     * Executa a alteração de um atributo de um funcionário, que atribui o novo valor e chama o
+     * método de notificação correspondente, de forma atômica para os leitores da lista.
+     *
+     * @param alteracao A atribuição do novo valor, seguida da notificação.
+     */
+    void alterar(Runnable alteracao);
+
+    /**
+     * Chamado após a alteração do nome de um funcionário.
+     *
+     * @param funcionario  O funcionário alterado.
+     * @param nomeAnterior O nome do funcionário antes da alteração.
+     */
+    void nomeAlterado(Funcionario funcionario, String nomeAnterior);
+
+    /**
+     * Chamado após a alteração da data de nascimento de um funcionário.
+     *
+     * @param funcionario  O funcionário alterado.
+     * @param dataAnterior A data de nascimento do funcionário antes da alteração.
+     */
+    void dataNascimentoAlterada(Funcionario funcionario, LocalDate dataAnterior);
+
+    /**
+     * Chamado após a alteração do salário de um funcionário.
+     *
+     * @param funcionario     O funcionário alterado.
+     * @param salarioAnterior O salário do funcionário antes da alteração.
+     */
+    void salarioAlterado(Funcionario funcionario, BigDecimal salarioAnterior);
+
+    /**
+     * Chamado após a alteração da função de um funcionário.
+     *
+     * @param funcionario    O funcionário alterado.
+     * @param funcaoAnterior A função do funcionário antes da alteração.
+     */
+    void funcaoAlterada(Funcionario funcionario, String funcaoAnterior);
+}
@@ -0,0 +1,55 @@
+package app;
+
+/**
+ * Operações de {@link Principal} cujas latências são registradas em {@link MetricasPrincipal}.
+ * <p>
+ * As operações de espera não são métodos de Principal: medem o tempo que as variantes concorrente e
+ * durável passam aguardando uma trava ou a gravação do diário, antes ou depois da operação em si.
+ * <p>
+ * As operações curtas e frequentes, como as buscas e a espera pelas travas, têm a latência
+ * registrada por amostragem, porque medir cada execução custaria tanto quanto a própria operação;
+ * as demais são medidas a cada execução.
+ */
+public enum Operacao {
+    INSERIR_FUNCIONARIO(true),
+    INSERIR_FUNCIONARIOS(false),
+    REMOVER_FUNCIONARIO(true),
+    BUSCAR_POR_NOME(true),
+    BUSCAR_POR_PREFIXO(true),
+    BUSCAR_POR_TRECHO(true),
+    CONSULTAR_FUNCIONARIOS(true),
+    CONTAR_FUNCIONARIOS(true),
+    SALVAR_FUNCIONARIOS(false),
+    CARREGAR_FUNCIONARIOS(false),
+    AUMENTAR_SALARIOS(false),
+    SIMULAR_POLITICA_REAJUSTE(false),
+    APLICAR_POLITICA_REAJUSTE(false),
+    IMPRIMIR_FUNCIONARIOS(false),
+    IMPRIMIR_AGRUPADOS_POR_FUNCAO(false),
+    IMPRIMIR_ANIVERSARIANTES(false),
+    IMPRIMIR_MAIOR_IDADE(false),
+    IMPRIMIR_ORDENADO_POR_NOME(false),
+    IMPRIMIR_TOTAL_SALARIOS(false),
+    IMPRIMIR_SALARIOS_MINIMOS(false),
+    CALCULAR_TOTAL_SALARIOS(true),
+    CALCULAR_ESTATISTICAS_SALARIAIS(false),
+    ESPERA_TRAVA_LEITURA(true),
+    ESPERA_TRAVA_ESCRITA(true),
+    ESPERA_DIARIO(false);
+
+    private final boolean amostrada;
+
+    Operacao(boolean amostrada) {
+        this.amostrada = amostrada;
+    }
+
+    /**
+     * Verifica se a latência da operação é registrada por amostragem.
+     *
+     * @return true se apenas uma parte das execuções é medida, conforme
+     * {@link MetricasPrincipal#setIntervaloAmostragem(int)}.
+     */
+    public boolean isAmostrada() {
+        return amostrada;
+    }
+}
@@ -0,0 +1,70 @@
+package app;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Uma página da listagem de funcionários em ordem alfabética, com o cursor para a página seguinte.
+ */
+public class PaginaFuncionarios {
+
+    /**
+     * Posição na ordem alfabética a partir da qual a próxima página é lida.
+     * <p>
+     * O cursor guarda a posição do último funcionário da página, e não o funcionário em si: ele
+     * continua válido se esse funcionário for removido ou renomeado, e a próxima página começa
+     * no primeiro nome que vem depois dessa posição.
+     */
+    public static class Cursor {
+        private final byte[] chave;
+        private final long sequencia;
+
+        Cursor(byte[] chave, long sequencia) {
+            this.chave = chave;
+            this.sequencia = sequencia;
+        }
+
+        byte[] getChave() {
+            return chave;
+        }
+
+        long getSequencia() {
+            return sequencia;
+        }
+    }
+
+    private final List<Funcionario> funcionarios;
+    private final Cursor proximo;
+
+    PaginaFuncionarios(List<Funcionario> funcionarios, Cursor proximo) {
+        this.funcionarios = Collections.unmodifiableList(funcionarios);
+        this.proximo = proximo;
+    }
+
+    /**
+     * Obtém os funcionários da página, em ordem alfabética.
+     *
+     * @return Uma lista não modificável com os funcionários da página.
+     */
+    public List<Funcionario> getFuncionarios() {
+        return funcionarios;
+    }
+
+    /**
+     * Obtém o cursor da página seguinte.
+     *
+     * @return O cursor a ser informado para ler a página seguinte, ou null se esta for a última página.
+     */
+    public Cursor getProximo() {
+        return proximo;
+    }
+
+    /**
+     * Verifica se existe uma página seguinte.
+     *
+     * @return true se existem funcionários depois desta página.
+     */
+    public boolean temProxima() {
+        return proximo != null;
+    }
+}
@@ -46,7 +46,19 @@ public class Pessoa {
      * @param dataNascimento A nova data de nascimento da pessoa.
      */
     public void setDataNascimento(LocalDate dataNascimento) {
-        this.dataNascimento = dataNascimento;
+        alterar(() -> {
+            LocalDate dataAnterior = this.dataNascimento;
+            this.dataNascimento = dataNascimento;
+            aoAlterarDataNascimento(dataAnterior);
+        });
+    }
+
+    /**
+     * Chamado após a alteração da data de nascimento, permitindo que subclasses mantenham índices atualizados.
+     *
+     * @param dataAnterior A data de nascimento antes da alteração.
+     */
+    protected void aoAlterarDataNascimento(LocalDate dataAnterior) {
     }
 
     /**
@@ -64,7 +76,29 @@ public class Pessoa {
      * @param nome O novo nome da pessoa.
      */
     public void setNome(String nome) {
-        this.nome = nome;
+        alterar(() -> {
+            String nomeAnterior = this.nome;
+            this.nome = nome;
+            aoAlterarNome(nomeAnterior);
+        });
+    }
+
+    /**
+     * Chamado após a alteração do nome, permitindo que subclasses mantenham índices atualizados.
+     *
+     * @param nomeAnterior O nome da pessoa antes da alteração.
+     */
+    protected void aoAlterarNome(String nomeAnterior) {
+    }
+
+    /**
+     * Executa a alteração de um atributo junto com a notificação correspondente, permitindo que
+     * subclasses executem as duas de forma atômica.
+     *
+     * @param alteracao A atribuição do novo valor, seguida da notificação.
+     */
+    protected void alterar(Runnable alteracao) {
+        alteracao.run();
     }
 
     /**
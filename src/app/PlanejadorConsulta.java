@@ -0,0 +1,415 @@
+package app;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Planejador das consultas de {@link Principal}: escolhe, pelo custo estimado, como obter os
+ * candidatos de uma consulta antes de aplicar o filtro combinado.
+ * <p>
+ * Os caminhos de acesso são o índice de nomes, o bitmap da função, a união dos bitmaps dos meses,
+ * o índice de salários e a interseção dos bitmaps de função, mês de nascimento e faixa salarial. A
+ * quantidade de funcionários de cada caminho é lida dos índices; a de uma interseção é estimada
+ * supondo filtros independentes. Se nenhum caminho for mais barato, a lista é percorrida uma única
+ * vez com todos os filtros avaliados juntos.
+ * <p>
+ * Todos os caminhos entregam os candidatos em ordem crescente de identificador do índice de
+ * bitmaps, de modo que o resultado de uma consulta tem a mesma ordem qualquer que seja o plano
+ * escolhido. Os caminhos por nome e por salário, cujos índices têm outra ordem, marcam os
+ * identificadores dos candidatos em um bitmap antes de percorrê-los.
+ * <p>
+ * Os custos são medidos em candidatos visitados: visitar um candidato e avaliar o filtro custa 1,
+ * e combinar uma palavra de 64 bits de dois bitmaps custa uma fração disso.
+ */
+class PlanejadorConsulta {
+    /**
+     * Custo de obter um candidato de um índice ou da lista e avaliar o filtro combinado.
+     */
+    static final double CUSTO_CANDIDATO = 1.0;
+
+    /**
+     * Custo de marcar em um bitmap um funcionário do índice de nomes ou de salários, sem acessar
+     * os seus atributos.
+     */
+    static final double CUSTO_MARCAR = 0.6;
+
+    /**
+     * Custo de combinar ou percorrer uma palavra de 64 bits de um bitmap.
+     */
+    static final double CUSTO_PALAVRA = 0.05;
+
+    /**
+     * Quantidade de funcionários até a qual uma faixa salarial é contada exatamente no índice de
+     * salários. Faixas maiores são estimadas por amostragem, para que planejar a consulta não custe
+     * tanto quanto executá-la.
+     */
+    static final int CONTAGEM_EXATA_MAXIMA = 1_024;
+
+    /**
+     * Quantidade aproximada de funcionários avaliados na amostragem de uma faixa salarial.
+     */
+    static final int TAMANHO_AMOSTRA = 1_024;
+
+    private final Collection<Funcionario> funcionarios;
+    private final IndiceNome indiceNome;
+    private final IndiceFuncao indiceFuncao;
+    private final IndiceSalario indiceSalario;
+    private final IndiceBitmap indiceBitmap;
+
+    PlanejadorConsulta(Collection<Funcionario> funcionarios, IndiceNome indiceNome, IndiceFuncao indiceFuncao,
+                       IndiceSalario indiceSalario, IndiceBitmap indiceBitmap) {
+        this.funcionarios = funcionarios;
+        this.indiceNome = indiceNome;
+        this.indiceFuncao = indiceFuncao;
+        this.indiceSalario = indiceSalario;
+        this.indiceBitmap = indiceBitmap;
+    }
+
+    /**
+     * Estima o custo de cada plano possível para os filtros e escolhe o mais barato.
+     *
+     * @param filtro Os filtros de uma consulta válida.
+     * @return O plano escolhido, com os demais planos como alternativas.
+     */
+    Plano planejar(ConsultaFuncionarios.Filtro filtro) {
+        long total = funcionarios.size();
+        List<Plano> planos = new ArrayList<>();
+        planos.add(new Plano("VARREDURA", "lista completa", total * CUSTO_CANDIDATO, total,
+                indiceBitmap::iterarTodos));
+
+        long menor = total;
+        if (filtro.getNome() != null) {
+            long quantidade = indiceNome.contar(filtro.getNome());
+            menor = Math.min(menor, quantidade);
+            planos.add(new Plano("ÍNDICE", "nome = \"" + filtro.getNome() + "\"",
+                    quantidade * (CUSTO_MARCAR + CUSTO_CANDIDATO), quantidade,
+                    () -> indiceBitmap.iterar(marcar(indiceNome.iterar(filtro.getNome())))));
+        }
+        List<Acesso> bitmaps = new ArrayList<>();
+        if (filtro.getFuncao() != null) {
+            GrupoFuncao grupo = indiceFuncao.grupos().get(filtro.getFuncao());
+            long quantidade = grupo == null ? 0 : grupo.getQuantidade();
+            menor = Math.min(menor, quantidade);
+            String descricao = "função = \"" + filtro.getFuncao() + "\"";
+            planos.add(new Plano("ÍNDICE", descricao, quantidade * CUSTO_CANDIDATO, quantidade,
+                    () -> indiceBitmap.iterar(indiceBitmap.funcao(filtro.getFuncao()))));
+            bitmaps.add(new Acesso(descricao, quantidade, 0, () -> indiceBitmap.funcao(filtro.getFuncao())));
+        }
+        if (filtro.getMeses() != null) {
+            long quantidade = indiceBitmap.contarMeses(filtro.getMeses());
+            menor = Math.min(menor, quantidade);
+            String descricao = "meses " + Arrays.toString(filtro.getMeses());
+            double custoUniao = palavras() * filtro.getMeses().length * CUSTO_PALAVRA;
+            planos.add(new Plano("ÍNDICE", descricao, custoUniao + quantidade * CUSTO_CANDIDATO, quantidade,
+                    () -> indiceBitmap.iterar(indiceBitmap.meses(filtro.getMeses()))));
+            bitmaps.add(new Acesso(descricao, quantidade, custoUniao, () -> indiceBitmap.meses(filtro.getMeses())));
+        }
+        long estimativaFaixa = total;
+        if (filtro.getSalarioMinimo() != null || filtro.getSalarioMaximo() != null) {
+            BigDecimal minimo = filtro.getSalarioMinimo();
+            BigDecimal maximo = filtro.getSalarioMaximo();
+            long quantidade = indiceSalario.contarFaixa(minimo, maximo, CONTAGEM_EXATA_MAXIMA);
+            String descricao = descreverFaixa(minimo, maximo);
+            if (quantidade > CONTAGEM_EXATA_MAXIMA) {
+                quantidade = Math.max(CONTAGEM_EXATA_MAXIMA + 1, amostrarFaixa(minimo, maximo, total));
+                descricao += " (estimada por amostragem)";
+            }
+            estimativaFaixa = quantidade;
+            planos.add(new Plano("ÍNDICE", descricao, quantidade * (CUSTO_MARCAR + CUSTO_CANDIDATO), quantidade,
+                    () -> indiceBitmap.iterar(marcar(indiceSalario.iterarFaixa(minimo, maximo)))));
+            // Uma faixa cuja marcação em um bitmap custa mais que percorrer o melhor caminho não
+            // compensa em nenhuma interseção.
+            if (quantidade * CUSTO_MARCAR < menor) {
+                bitmaps.add(new Acesso(descricao, quantidade, quantidade * CUSTO_MARCAR,
+                        () -> marcar(indiceSalario.iterarFaixa(minimo, maximo))));
+            }
+        }
+        adicionarIntersecoes(bitmaps, total, planos);
+
+        Plano escolhido = planos.getFirst();
+        for (Plano plano : planos) {
+            if (plano.custo < escolhido.custo) {
+                escolhido = plano;
+            }
+        }
+        escolhido.estimativaResultado = estimarResultado(filtro, total, estimativaFaixa);
+        escolhido.filtro = descreverFiltro(filtro);
+        for (Plano plano : planos) {
+            if (plano != escolhido) {
+                escolhido.alternativas.add(plano);
+            }
+        }
+        return escolhido;
+    }
+
+    /**
+     * Conta os funcionários que atendem aos filtros, sem considerar o deslocamento e o limite.
+     * Filtros apenas por função e mês de nascimento são contados nos bitmaps, sem acessar os
+     * funcionários; os demais percorrem os candidatos do plano escolhido.
+     *
+     * @param filtro Os filtros de uma consulta válida.
+     * @return A quantidade de funcionários.
+     */
+    long contar(ConsultaFuncionarios.Filtro filtro) {
+        if (filtro.getNome() == null && filtro.getSalarioMinimo() == null && filtro.getSalarioMaximo() == null) {
+            if (filtro.getFuncao() != null && filtro.getMeses() != null) {
+                return indiceBitmap.contarFuncaoEMeses(filtro.getFuncao(), filtro.getMeses());
+            }
+            if (filtro.getFuncao() != null) {
+                return indiceBitmap.contarFuncao(filtro.getFuncao());
+            }
+            if (filtro.getMeses() != null) {
+                return indiceBitmap.contarMeses(filtro.getMeses());
+            }
+            return funcionarios.size();
+        }
+        long quantidade = 0;
+        Iterator<Funcionario> candidatos = planejar(filtro).candidatos();
+        while (candidatos.hasNext()) {
+            if (filtro.aceita(candidatos.next())) {
+                quantidade++;
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Adiciona um plano para cada combinação de dois ou mais bitmaps.
+     */
+    private void adicionarIntersecoes(List<Acesso> bitmaps, long total, List<Plano> planos) {
+        for (int combinacao = 1; combinacao < 1 << bitmaps.size(); combinacao++) {
+            if (Integer.bitCount(combinacao) < 2) {
+                continue;
+            }
+            List<Acesso> selecionados = new ArrayList<>();
+            double custo = 0;
+            double estimativa = total;
+            for (int i = 0; i < bitmaps.size(); i++) {
+                if ((combinacao & 1 << i) != 0) {
+                    Acesso acesso = bitmaps.get(i);
+                    selecionados.add(acesso);
+                    custo += acesso.custoObter + palavras() * CUSTO_PALAVRA;
+                    estimativa = total == 0 ? 0 : estimativa * acesso.quantidade / total;
+                }
+            }
+            selecionados.sort(Comparator.comparingLong(acesso -> acesso.quantidade));
+            long candidatos = (long) Math.ceil(estimativa);
+            custo += palavras() * CUSTO_PALAVRA + candidatos * CUSTO_CANDIDATO;
+            StringJoiner descricao = new StringJoiner(" E ");
+            selecionados.forEach(acesso -> descricao.add(acesso.descricao));
+            Plano plano = new Plano("INTERSEÇÃO DE BITMAPS", descricao.toString(), custo, candidatos,
+                    () -> indiceBitmap.iterar(intersectar(selecionados)));
+            plano.acessos.addAll(selecionados);
+            planos.add(plano);
+        }
+    }
+
+    /**
+     * Intersecta os bitmaps dos acessos, começando pelo mais seletivo.
+     */
+    private static BitmapCompactado intersectar(List<Acesso> acessos) {
+        BitmapCompactado resultado = acessos.getFirst().bitmap.get();
+        for (int i = 1; i < acessos.size() && !resultado.vazio(); i++) {
+            resultado = BitmapCompactado.e(resultado, acessos.get(i).bitmap.get());
+        }
+        return resultado;
+    }
+
+    /**
+     * Estima a quantidade de funcionários de uma faixa salarial avaliando funcionários em
+     * intervalos regulares de identificador.
+     */
+    private long amostrarFaixa(BigDecimal minimo, BigDecimal maximo, long total) {
+        int limiteLinhas = indiceBitmap.getLimiteLinhas();
+        int passo = Math.max(1, limiteLinhas / TAMANHO_AMOSTRA);
+        int amostras = 0;
+        int naFaixa = 0;
+        for (int linha = 0; linha < limiteLinhas; linha += passo) {
+            Funcionario funcionario = indiceBitmap.funcionario(linha);
+            if (funcionario == null || funcionario.getSalario() == null) {
+                continue;
+            }
+            amostras++;
+            BigDecimal salario = funcionario.getSalario();
+            if ((minimo == null || salario.compareTo(minimo) >= 0) && (maximo == null || salario.compareTo(maximo) <= 0)) {
+                naFaixa++;
+            }
+        }
+        return amostras == 0 ? 0 : (long) Math.ceil((double) naFaixa * total / amostras);
+    }
+
+    /**
+     * Marca em um novo bitmap os funcionários obtidos de um índice em outra ordem.
+     */
+    private static BitmapCompactado marcar(Iterator<Funcionario> candidatos) {
+        int[] identificadores = new int[16];
+        int quantidade = 0;
+        while (candidatos.hasNext()) {
+            if (quantidade == identificadores.length) {
+                identificadores = Arrays.copyOf(identificadores, quantidade << 1);
+            }
+            identificadores[quantidade++] = candidatos.next().getLinhaIndice();
+        }
+        // Em ordem crescente, cada identificador é anexado ao fim do seu contêiner.
+        Arrays.sort(identificadores, 0, quantidade);
+        BitmapCompactado faixa = new BitmapCompactado();
+        for (int i = 0; i < quantidade; i++) {
+            faixa.adicionar(identificadores[i]);
+        }
+        return faixa;
+    }
+
+    private long palavras() {
+        return (indiceBitmap.getLimiteLinhas() + 63L) >>> 6;
+    }
+
+    /**
+     * Estima a quantidade de resultados supondo que os filtros são independentes.
+     */
+    private long estimarResultado(ConsultaFuncionarios.Filtro filtro, long total, long estimativaFaixa) {
+        if (total == 0) {
+            return 0;
+        }
+        double estimativa = total;
+        if (filtro.getNome() != null) {
+            estimativa *= (double) indiceNome.contar(filtro.getNome()) / total;
+        }
+        if (filtro.getFuncao() != null) {
+            GrupoFuncao grupo = indiceFuncao.grupos().get(filtro.getFuncao());
+            estimativa *= grupo == null ? 0 : (double) grupo.getQuantidade() / total;
+        }
+        if (filtro.getMeses() != null) {
+            estimativa *= (double) indiceBitmap.contarMeses(filtro.getMeses()) / total;
+        }
+        estimativa *= (double) Math.min(estimativaFaixa, total) / total;
+        return Math.min((long) Math.ceil(estimativa), filtro.getLimite());
+    }
+
+    private static String descreverFaixa(BigDecimal minimo, BigDecimal maximo) {
+        if (minimo == null) {
+            return "salário <= " + maximo.toPlainString();
+        }
+        if (maximo == null) {
+            return "salário >= " + minimo.toPlainString();
+        }
+        return "salário entre " + minimo.toPlainString() + " e " + maximo.toPlainString();
+    }
+
+    private static String descreverFiltro(ConsultaFuncionarios.Filtro filtro) {
+        StringJoiner descricao = new StringJoiner(" E ");
+        if (filtro.getNome() != null) {
+            descricao.add("nome = \"" + filtro.getNome() + "\"");
+        }
+        if (filtro.getFuncao() != null) {
+            descricao.add("função = \"" + filtro.getFuncao() + "\"");
+        }
+        if (filtro.getMeses() != null) {
+            descricao.add("meses " + Arrays.toString(filtro.getMeses()));
+        }
+        if (filtro.getSalarioMinimo() != null || filtro.getSalarioMaximo() != null) {
+            descricao.add(descreverFaixa(filtro.getSalarioMinimo(), filtro.getSalarioMaximo()));
+        }
+        if (filtro.getDeslocamento() > 0) {
+            descricao.add("pular " + filtro.getDeslocamento());
+        }
+        if (filtro.getLimite() != Long.MAX_VALUE) {
+            descricao.add("limitar " + filtro.getLimite());
+        }
+        return descricao.length() == 0 ? "nenhum" : descricao.toString();
+    }
+
+    /**
+     * Um bitmap que pode participar de uma interseção.
+     */
+    private static final class Acesso {
+        private final String descricao;
+        private final long quantidade;
+        private final double custoObter;
+        private final Supplier<BitmapCompactado> bitmap;
+
+        private Acesso(String descricao, long quantidade, double custoObter, Supplier<BitmapCompactado> bitmap) {
+            this.descricao = descricao;
+            this.quantidade = quantidade;
+            this.custoObter = custoObter;
+            this.bitmap = bitmap;
+        }
+    }
+
+    /**
+     * Plano de execução de uma consulta: de onde vêm os candidatos e quanto se estima que custem.
+     */
+    static final class Plano {
+        private final String tipo;
+        private final String descricao;
+        private final double custo;
+        private final long candidatos;
+        private final Supplier<Iterator<Funcionario>> origem;
+        private final List<Acesso> acessos = new ArrayList<>();
+        private final List<Plano> alternativas = new ArrayList<>();
+        private long estimativaResultado;
+        private String filtro;
+
+        private Plano(String tipo, String descricao, double custo, long candidatos, Supplier<Iterator<Funcionario>> origem) {
+            this.tipo = tipo;
+            this.descricao = descricao;
+            this.custo = custo;
+            this.candidatos = candidatos;
+            this.origem = origem;
+        }
+
+        /**
+         * Obtém o tipo do plano: VARREDURA, ÍNDICE ou INTERSEÇÃO DE BITMAPS.
+         *
+         * @return O tipo do plano.
+         */
+        String getTipo() {
+            return tipo;
+        }
+
+        /**
+         * Obtém o custo estimado do plano.
+         *
+         * @return O custo, em candidatos visitados.
+         */
+        double getCusto() {
+            return custo;
+        }
+
+        /**
+         * Obtém os candidatos do plano, que ainda devem passar pelo filtro combinado.
+         *
+         * @return Os candidatos, sem cópia.
+         */
+        Iterator<Funcionario> candidatos() {
+            return origem.get();
+        }
+
+        /**
+         * Descreve o plano escolhido, os caminhos de acesso e as alternativas descartadas.
+         *
+         * @return A descrição do plano, uma informação por linha.
+         */
+        String explicar() {
+            StringBuilder texto = new StringBuilder();
+            texto.append("Plano: ").append(tipo).append(" (").append(descricao).append(')')
+                    .append(", custo ").append(formatar(custo))
+                    .append(", ").append(candidatos).append(" candidatos")
+                    .append(", ").append(estimativaResultado).append(" resultados estimados\n");
+            for (Acesso acesso : acessos) {
+                texto.append("  bitmap ").append(acesso.descricao).append(": ").append(acesso.quantidade).append(" funcionários\n");
+            }
+            texto.append("  filtro combinado: ").append(filtro).append('\n');
+            texto.append("Alternativas:\n");
+            for (Plano alternativa : alternativas) {
+                texto.append("  ").append(alternativa.tipo).append(" (").append(alternativa.descricao).append(')')
+                        .append(", custo ").append(formatar(alternativa.custo)).append('\n');
+            }
+            return texto.toString();
+        }
+
+        private static String formatar(double custo) {
+            return String.format(Locale.ROOT, "%.1f", custo);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package app;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Política de reajuste preparada para ser avaliada em uma única passagem pela lista.
+ * <p>
+ * As regras são agrupadas por função: para cada função citada em alguma regra, guarda-se a lista
+ * das regras que podem se aplicar a ela (as da função e as sem função), já em ordem de
+ * prioridade. Assim, cada funcionário consulta um mapa e testa apenas as suas regras candidatas.
+ * As faixas etárias são convertidas, na data de referência, em faixas de datas de nascimento, e o
+ * multiplicador de cada regra é calculado uma única vez.
+ */
+class PoliticaCompilada {
+    private final Map<String, Regra[]> regrasPorFuncao = new HashMap<>();
+    private final Regra[] regrasSemFuncao;
+
+    /**
+     * Prepara uma política já validada.
+     *
+     * @param politica   A política a ser preparada.
+     * @param referencia A data em que as idades são calculadas.
+     */
+    PoliticaCompilada(PoliticaReajuste politica, LocalDate referencia) {
+        List<RegraReajuste> regras = politica.getRegras();
+        List<Regra> semFuncao = new ArrayList<>();
+        Map<String, List<Regra>> porFuncao = new HashMap<>();
+        for (RegraReajuste regra : regras) {
+            if (regra.getFuncao() != null) {
+                porFuncao.putIfAbsent(regra.getFuncao(), new ArrayList<>());
+            }
+        }
+        for (RegraReajuste regra : regras) {
+            Regra compilada = new Regra(regra, referencia);
+            if (regra.getFuncao() == null) {
+                semFuncao.add(compilada);
+                porFuncao.values().forEach(candidatas -> candidatas.add(compilada));
+            } else {
+                porFuncao.get(regra.getFuncao()).add(compilada);
+            }
+        }
+        porFuncao.forEach((funcao, candidatas) -> regrasPorFuncao.put(funcao, candidatas.toArray(new Regra[0])));
+        this.regrasSemFuncao = semFuncao.toArray(new Regra[0]);
+    }
+
+    /**
+     * Calcula o salário reajustado de um funcionário pela primeira regra que ele atende.
+     *
+     * @param funcionario O funcionário avaliado.
+     * @return O novo salário, ou null se nenhuma regra se aplica ao funcionário.
+     */
+    BigDecimal reajustar(Funcionario funcionario) {
+        BigDecimal salario = funcionario.getSalario();
+        if (salario == null) {
+            return null;
+        }
+        Regra[] candidatas = regrasPorFuncao.getOrDefault(funcionario.getFuncao(), regrasSemFuncao);
+        for (Regra regra : candidatas) {
+            if (regra.aceita(salario, funcionario.getDataNascimento())) {
+                return regra.motor.reajustar(salario, funcionario.getSalarioCentavos());
+            }
+        }
+        return null;
+    }
+
+    private static class Regra {
+        private final MotorReajuste motor;
+        private final BigDecimal salarioMinimo;
+        private final BigDecimal salarioMaximo;
+        private final boolean exigeIdade;
+        private final long nascidoDesde;
+        private final long nascidoAte;
+
+        Regra(RegraReajuste regra, LocalDate referencia) {
+            this.motor = new MotorReajuste(regra.getPercentual());
+            this.salarioMinimo = regra.getSalarioMinimo();
+            this.salarioMaximo = regra.getSalarioMaximo();
+            this.exigeIdade = regra.getIdadeMinima() != null || regra.getIdadeMaxima() != null;
+            this.nascidoAte = regra.getIdadeMinima() == null ? Long.MAX_VALUE
+                    : diaLimite(referencia, regra.getIdadeMinima());
+            this.nascidoDesde = regra.getIdadeMaxima() == null ? Long.MIN_VALUE
+                    : diaLimite(referencia, regra.getIdadeMaxima() + 1L) + 1;
+        }
+
+        /**
+         * Obtém a última data de nascimento, em dias desde 1970-01-01, de quem tem ao menos a
+         * idade informada na data de referência.
+         */
+        private static long diaLimite(LocalDate referencia, long anos) {
+            if (anos > referencia.getYear() - (long) LocalDate.MIN.getYear()) {
+                return Long.MIN_VALUE;
+            }
+            return referencia.minusYears(anos).toEpochDay();
+        }
+
+        boolean aceita(BigDecimal salario, LocalDate dataNascimento) {
+            if (salarioMinimo != null && salario.compareTo(salarioMinimo) < 0) {
+                return false;
+            }
+            if (salarioMaximo != null && salario.compareTo(salarioMaximo) > 0) {
+                return false;
+            }
+            if (exigeIdade) {
+                if (dataNascimento == null) {
+                    return false;
+                }
+                long dia = dataNascimento.toEpochDay();
+                return dia >= nascidoDesde && dia <= nascidoAte;
+            }
+            return true;
+        }
+    }
+}
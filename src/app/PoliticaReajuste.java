@@ -0,0 +1,52 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Política de reajuste formada por regras em ordem de prioridade. Cada funcionário recebe o
+ * reajuste da primeira regra que atende; quem não atende nenhuma regra não é reajustado.
+ */
+public class PoliticaReajuste {
+    private final List<RegraReajuste> regras = new ArrayList<>();
+
+    /**
+     * Adiciona uma regra com prioridade menor que as já adicionadas.
+     *
+     * @param regra A regra a ser adicionada.
+     * @return Esta política.
+     */
+    public PoliticaReajuste adicionarRegra(RegraReajuste regra) {
+        regras.add(regra);
+        return this;
+    }
+
+    /**
+     * Obtém as regras da política, em ordem de prioridade.
+     *
+     * @return Uma lista não modificável com as regras.
+     */
+    public List<RegraReajuste> getRegras() {
+        return Collections.unmodifiableList(regras);
+    }
+
+    /**
+     * Valida todas as regras da política.
+     *
+     * @return A mensagem de erro da primeira regra inválida, ou null se a política for válida.
+     */
+    String validar() {
+        if (regras.isEmpty()) {
+            return "A política de reajuste deve ter ao menos uma regra.";
+        }
+        for (int i = 0; i < regras.size(); i++) {
+            RegraReajuste regra = regras.get(i);
+            String erro = regra == null ? "A regra não deve ser nula." : regra.validar();
+            if (erro != null) {
+                return "Regra " + (i + 1) + ": " + erro;
+            }
+        }
+        return null;
+    }
+}
@@ -1,18 +1,66 @@
 package app;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.nio.file.Path;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Classe que representa a principal funcionalidade do sistema relacionada aos funcionários.
  */
 public class Principal {
-    private final List<Funcionario> funcionarios = new ArrayList<>();
-    private final DecimalFormat decimal = new DecimalFormat("#,##0.00");
+    private static final int REAJUSTES_MINIMOS_EM_LOTE = 1_024;
+
+    private final Set<Funcionario> funcionarios = new LinkedHashSet<>();
+    private final IndiceNome indiceNome = new IndiceNome();
+    private final IndiceBuscaNome indiceBuscaNome = new IndiceBuscaNome();
+    private final IndiceFuncao indiceFuncao = new IndiceFuncao();
+    private final IndiceAniversarios indiceAniversarios = new IndiceAniversarios();
+    private final IndiceDataNascimento indiceDataNascimento = new IndiceDataNascimento();
+    private final IndiceOrdemNome indiceOrdemNome = new IndiceOrdemNome();
+    private final IndiceSalario indiceSalario = new IndiceSalario(funcionarios);
+    private final IndiceBitmap indiceBitmap = new IndiceBitmap();
+    private final PlanejadorConsulta planejador = new PlanejadorConsulta(funcionarios, indiceNome, indiceFuncao,
+            indiceSalario, indiceBitmap);
+    private final ObservadorFuncionario observador = new ObservadorIndices();
+    private final MetricasPrincipal metricas = new MetricasPrincipal();
+    private volatile SaidaRelatorio saida = new SaidaTexto();
+
+    /**
+     * Contador de alterações da lista e dos índices, usado pelos cursores de consulta para
+     * detectar alterações entre a leitura de duas páginas.
+     */
+    private long versao;
+
+    /**
+     * Armazenamento colunar usado pelas agregações, ou null se ele não estiver habilitado.
+     */
+    private final TabelaFuncionarios tabela;
+
+    /**
+     * Cria uma instância sem armazenamento colunar.
+     */
+    public Principal() {
+        this(false);
+    }
+
+    /**
+     * Cria uma instância, opcionalmente mantendo os funcionários também em um armazenamento colunar.
+     * Com ele, o total dos salários percorre um array primitivo em vez dos objetos Funcionario e
+     * passa a ser retornado sempre com duas casas decimais.
+     *
+     * @param armazenamentoColunar true para manter o armazenamento colunar.
+     */
+    public Principal(boolean armazenamentoColunar) {
+        this.tabela = armazenamentoColunar ? new TabelaFuncionarios() : null;
+    }
 
     /**
      * Insere funcionários na lista, validando os dados antes de adicioná-lo à lista.     *
@@ -23,23 +71,128 @@ public class Principal {
      * @return true se o funcionário foi inserido com sucesso, ou false se a operação falhar.
      */
     public boolean inserirFuncionario(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
+        long inicio = metricas.iniciar(Operacao.INSERIR_FUNCIONARIO);
+        try {
+            String erro = validarFuncionario(nome, dataNascimento, salario, funcao, LocalDate.now());
+            if (erro != null) {
+                System.out.println(erro);
+                return false;
+            }
+            adicionar(new Funcionario(nome, dataNascimento, salario, funcao));
+            return true;
+        } finally {
+            metricas.registrar(Operacao.INSERIR_FUNCIONARIO, inicio);
+        }
+    }
+
+    /**
+     * Insere vários funcionários em uma única passagem, validando cada um com as mesmas regras de
+     * {@link #inserirFuncionario}. Os funcionários válidos são inseridos na lista como estão, sem
+     * cópia; os inválidos são devolvidos no resultado com o motivo, sem mensagens na saída padrão.
+     * Um funcionário que já pertence a uma lista é rejeitado.
+     *
+     * @param novos Os funcionários a serem inseridos.
+     * @return A quantidade inserida e os funcionários rejeitados, identificados pela posição na
+     * coleção, começando em 1.
+     */
+    public ResultadoInsercao inserirFuncionarios(Collection<Funcionario> novos) {
+        long inicio = metricas.iniciar(Operacao.INSERIR_FUNCIONARIOS);
+        try {
+            ResultadoInsercao resultado = new ResultadoInsercao();
+            if (novos == null) {
+                System.out.println("A coleção de funcionários não deve ser nula.");
+                return resultado;
+            }
+            if (tabela != null) {
+                tabela.garantirCapacidade(novos.size());
+            }
+            LocalDate hoje = LocalDate.now();
+            long posicao = 0;
+            for (Funcionario funcionario : novos) {
+                posicao++;
+                String erro;
+                if (funcionario == null) {
+                    erro = "Funcionário não deve ser nulo.";
+                } else if (funcionario.getObservador() != null) {
+                    erro = "Funcionário já pertence a uma lista.";
+                } else if (funcionario.getNome() == null || funcionario.getDataNascimento() == null
+                        || funcionario.getSalario() == null || funcionario.getFuncao() == null) {
+                    erro = "Todos os dados do funcionário devem ser preenchidos.";
+                } else {
+                    erro = validarFuncionario(funcionario.getNome(), funcionario.getDataNascimento(),
+                            funcionario.getSalario(), funcionario.getFuncao(), hoje);
+                }
+                if (erro != null) {
+                    resultado.registrarRejeicao(posicao, erro);
+                    continue;
+                }
+                adicionar(funcionario);
+                resultado.registrarInsercao();
+            }
+            return resultado;
+        } finally {
+            metricas.registrar(Operacao.INSERIR_FUNCIONARIOS, inicio);
+        }
+    }
+
+    /**
+     * Adiciona um funcionário já validado à lista e aos índices.
+     *
+     * @param funcionario O funcionário a ser adicionado.
+     */
+    private void adicionar(Funcionario funcionario) {
+        versao++;
+        funcionarios.add(funcionario);
+        indiceNome.adicionar(funcionario);
+        indiceBuscaNome.adicionar(funcionario);
+        indiceOrdemNome.adicionar(funcionario);
+        indiceFuncao.adicionar(funcionario);
+        indiceAniversarios.adicionar(funcionario);
+        indiceDataNascimento.adicionar(funcionario);
+        indiceSalario.adicionar(funcionario);
+        indiceBitmap.adicionar(funcionario);
+        if (tabela != null) {
+            tabela.adicionar(funcionario);
+        }
+        funcionario.setObservador(observador);
+    }
+
+    /**
+     * Adiciona um funcionário gravado pela própria lista, como os de um snapshot ou do diário de
+     * {@link PrincipalDuravel}, sem repetir a validação da inserção. Os dados já foram validados
+     * quando inseridos, e regras que dependem da data atual ou alterações feitas diretamente no
+     * funcionário depois da inserção não devem impedir a recuperação.
+     *
+     * @param funcionario O funcionário gravado, com todos os dados preenchidos.
+     */
+    void restaurarFuncionario(Funcionario funcionario) {
+        adicionar(funcionario);
+    }
+
+    /**
+     * Valida os dados de um funcionário com as regras usadas na inserção.
+     *
+     * @param nome           Nome do funcionário.
+     * @param dataNascimento Data de nascimento do funcionário.
+     * @param salario        Salário do funcionário.
+     * @param funcao         Função do funcionário.
+     * @param hoje           A data atual, que a data de nascimento não pode ultrapassar.
+     * @return A mensagem de erro da primeira regra violada, ou null se os dados forem válidos.
+     */
+    static String validarFuncionario(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao, LocalDate hoje) {
         if (nome.trim().isEmpty()) {
-            System.out.println("Nome deve ser preenchido.");
-            return false;
+            return "Nome deve ser preenchido.";
         }
-        if (dataNascimento.isAfter(LocalDate.now())) {
-            System.out.println("Data de nascimento deve estar no passado.");
-            return false;
+        if (dataNascimento.isAfter(hoje)) {
+            return "Data de nascimento deve estar no passado.";
         }
         if (salario.compareTo(BigDecimal.ZERO) <= 0) {
-            System.out.println("Salário deve ser um valor positivo.");
-            return false;
+            return "Salário deve ser um valor positivo.";
         }
         if (funcao.trim().isEmpty()) {
-            System.out.println("Função deve ser preenchida.");
-            return false;
+            return "Função deve ser preenchida.";
         }
-        return funcionarios.add(new Funcionario(nome, dataNascimento, salario, funcao));
+        return null;
     }
 
     /**
@@ -49,11 +202,32 @@ public class Principal {
      * @return true se o funcionário foi removido com sucesso, ou false se o funcionário não foi encontrado.
      */
     public boolean removerFuncionarioPorNome(String nome) {
-        if (nome == null || nome.trim().isEmpty()) {
-            System.out.println("Nome inválido. Forneça um nome válido para remover um funcionário.");
-            return false;
+        long inicio = metricas.iniciar(Operacao.REMOVER_FUNCIONARIO);
+        try {
+            if (nome == null || nome.trim().isEmpty()) {
+                System.out.println("Nome inválido. Forneça um nome válido para remover um funcionário.");
+                return false;
+            }
+            List<Funcionario> removidos = indiceNome.removerTodos(nome);
+            for (Funcionario funcionario : removidos) {
+                versao++;
+                funcionarios.remove(funcionario);
+                indiceBuscaNome.remover(funcionario, funcionario.getNome());
+                indiceOrdemNome.remover(funcionario, funcionario.getNome());
+                indiceFuncao.remover(funcionario, funcionario.getFuncao());
+                indiceAniversarios.remover(funcionario, funcionario.getDataNascimento());
+                indiceDataNascimento.remover(funcionario, funcionario.getDataNascimento());
+                indiceSalario.remover(funcionario, funcionario.getSalario());
+                indiceBitmap.remover(funcionario, funcionario.getFuncao(), funcionario.getDataNascimento());
+                if (tabela != null) {
+                    tabela.remover(funcionario);
+                }
+                funcionario.setObservador(null);
+            }
+            return !removidos.isEmpty();
+        } finally {
+            metricas.registrar(Operacao.REMOVER_FUNCIONARIO, inicio);
         }
-        return funcionarios.removeIf(funcionario -> funcionario.getNome().equalsIgnoreCase(nome));
     }
 
     /**
@@ -63,27 +237,326 @@ public class Principal {
      * @return Uma lista de funcionários com o nome correspondente.
      */
     public List<Funcionario> buscarFuncionariosPorNome(String nome) {
-        if (nome == null || nome.trim().isEmpty()) {
-            System.out.println("Nome inválido. Forneça um nome válido para buscar funcionários.");
-            return new ArrayList<>();
+        long inicio = metricas.iniciar(Operacao.BUSCAR_POR_NOME);
+        try {
+            if (nome == null || nome.trim().isEmpty()) {
+                System.out.println("Nome inválido. Forneça um nome válido para buscar funcionários.");
+                return new ArrayList<>();
+            }
+
+            List<Funcionario> funcionariosEncontrados = indiceNome.buscar(nome);
+
+            if (funcionariosEncontrados.isEmpty()) {
+                System.out.println("Nenhum funcionário encontrado com o nome: " + nome);
+            }
+
+            return funcionariosEncontrados;
+        } finally {
+            metricas.registrar(Operacao.BUSCAR_POR_NOME, inicio);
+        }
+    }
+
+    /**
+     * Busca funcionários cujo nome começa com o prefixo informado, sem diferenciar maiúsculas, minúsculas e acentos.
+     *
+     * @param prefixo       O início do nome a ser buscado.
+     * @param pagina        O número da página, começando em zero.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return Os funcionários da página solicitada, em ordem alfabética.
+     */
+    public List<Funcionario> buscarFuncionariosPorPrefixo(String prefixo, int pagina, int tamanhoPagina) {
+        long inicio = metricas.iniciar(Operacao.BUSCAR_POR_PREFIXO);
+        try {
+            if (prefixo == null || prefixo.trim().isEmpty()) {
+                System.out.println("Prefixo inválido. Forneça um prefixo válido para buscar funcionários.");
+                return new ArrayList<>();
+            }
+            if (!paginaValida(pagina, tamanhoPagina)) {
+                return new ArrayList<>();
+            }
+            return indiceBuscaNome.buscarPorPrefixo(prefixo, pagina, tamanhoPagina);
+        } finally {
+            metricas.registrar(Operacao.BUSCAR_POR_PREFIXO, inicio);
+        }
+    }
+
+    /**
+     * Busca funcionários cujo nome contém o trecho informado, sem diferenciar maiúsculas, minúsculas e acentos.
+     *
+     * @param trecho        Parte do nome a ser buscado.
+     * @param pagina        O número da página, começando em zero.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return Os funcionários da página solicitada, em ordem alfabética.
+     */
+    public List<Funcionario> buscarFuncionariosPorTrecho(String trecho, int pagina, int tamanhoPagina) {
+        long inicio = metricas.iniciar(Operacao.BUSCAR_POR_TRECHO);
+        try {
+            if (trecho == null || trecho.trim().isEmpty()) {
+                System.out.println("Trecho inválido. Forneça um trecho válido para buscar funcionários.");
+                return new ArrayList<>();
+            }
+            if (!paginaValida(pagina, tamanhoPagina)) {
+                return new ArrayList<>();
+            }
+            return indiceBuscaNome.buscarPorTrecho(trecho, pagina, tamanhoPagina);
+        } finally {
+            metricas.registrar(Operacao.BUSCAR_POR_TRECHO, inicio);
+        }
+    }
+
+    /**
+     * Consulta os funcionários que atendem a todos os filtros da consulta, sem copiá-los para uma
+     * lista: o cursor devolvido percorre os índices à medida que as páginas são lidas.
+     * <p>
+     * Os candidatos vêm do caminho de menor custo estimado: o índice de nome, função, mês de
+     * nascimento ou salário, a interseção dos bitmaps de função, mês e faixa salarial, ou a lista
+     * inteira. Os filtros são avaliados juntos em cada candidato.
+     * <p>
+     * Os resultados vêm sempre na ordem dos identificadores internos dos funcionários, qualquer
+     * que seja o caminho escolhido: enquanto a lista não for alterada, consultas repetidas com
+     * deslocamentos diferentes percorrem a mesma sequência, mesmo que o plano mude entre elas. A
+     * ordem coincide com a de inserção até a primeira remoção, cujo identificador é reaproveitado
+     * pela inserção seguinte.
+     *
+     * @param consulta Os filtros, o deslocamento e o limite da consulta.
+     * @return O cursor com os resultados, ou um cursor vazio se a consulta for inválida.
+     */
+    public CursorFuncionarios consultar(ConsultaFuncionarios consulta) {
+        if (consulta == null) {
+            System.out.println("A consulta não deve ser nula.");
+            return CursorFuncionarios.vazio();
+        }
+        String erro = consulta.validar();
+        if (erro != null) {
+            System.out.println(erro);
+            return CursorFuncionarios.vazio();
+        }
+        ConsultaFuncionarios.Filtro filtro = consulta.compilar();
+        return new CursorFuncionarios(this, planejador.planejar(filtro).candidatos(), filtro, versao);
+    }
+
+    /**
+     * Descreve como uma consulta seria executada: o caminho de acesso escolhido, os custos e
+     * quantidades estimados e os caminhos descartados, sem executá-la.
+     *
+     * @param consulta Os filtros, o deslocamento e o limite da consulta.
+     * @return A descrição do plano, uma informação por linha, ou null se a consulta for inválida.
+     */
+    public String explicarConsulta(ConsultaFuncionarios consulta) {
+        if (consulta == null) {
+            System.out.println("A consulta não deve ser nula.");
+            return null;
+        }
+        String erro = consulta.validar();
+        if (erro != null) {
+            System.out.println(erro);
+            return null;
+        }
+        return planejador.planejar(consulta.compilar()).explicar();
+    }
+
+    /**
+     * Conta os funcionários que atendem a todos os filtros da consulta, descontando o deslocamento
+     * e o limite. Consultas apenas por função e mês de nascimento são respondidas pelos índices de
+     * bitmap, sem acessar os funcionários.
+     *
+     * @param consulta Os filtros, o deslocamento e o limite da consulta.
+     * @return A quantidade de funcionários, ou zero se a consulta for inválida.
+     */
+    public long contarFuncionarios(ConsultaFuncionarios consulta) {
+        long inicio = metricas.iniciar(Operacao.CONTAR_FUNCIONARIOS);
+        try {
+            if (consulta == null) {
+                System.out.println("A consulta não deve ser nula.");
+                return 0;
+            }
+            String erro = consulta.validar();
+            if (erro != null) {
+                System.out.println(erro);
+                return 0;
+            }
+            ConsultaFuncionarios.Filtro filtro = consulta.compilar();
+            long quantidade = planejador.contar(filtro);
+            return Math.min(Math.max(0, quantidade - filtro.getDeslocamento()), filtro.getLimite());
+        } finally {
+            metricas.registrar(Operacao.CONTAR_FUNCIONARIOS, inicio);
         }
+    }
+
+    /**
+     * Estima a memória ocupada pelos índices de bitmap por função e por mês de nascimento.
+     *
+     * @return A quantidade aproximada de bytes.
+     */
+    public long calcularMemoriaIndicesBitmap() {
+        return indiceBitmap.getBytes();
+    }
 
-        List<Funcionario> funcionariosEncontrados = funcionarios.stream()
-                .filter(funcionario -> funcionario.getNome().equalsIgnoreCase(nome))
-                .collect(Collectors.toList());
+    /**
+     * Lê a próxima página de um cursor de consulta.
+     *
+     * @param cursor        O cursor.
+     * @param tamanhoPagina A quantidade máxima de funcionários da página.
+     * @return Os funcionários da página.
+     */
+    List<Funcionario> lerPagina(CursorFuncionarios cursor, int tamanhoPagina) {
+        return lerCursor(() -> {
+            long inicio = metricas.iniciar(Operacao.CONSULTAR_FUNCIONARIOS);
+            try {
+                return cursor.preencher(tamanhoPagina, versao);
+            } finally {
+                metricas.registrar(Operacao.CONSULTAR_FUNCIONARIOS, inicio);
+            }
+        });
+    }
 
-        if (funcionariosEncontrados.isEmpty()) {
-            System.out.println("Nenhum funcionário encontrado com o nome: " + nome);
+    /**
+     * Executa a leitura de uma página de um cursor de consulta. Subclasses podem sobrescrever este
+     * método para sincronizar a leitura.
+     *
+     * @param leitura A leitura a ser executada.
+     * @return O resultado da leitura.
+     */
+    protected <T> T lerCursor(Supplier<T> leitura) {
+        return leitura.get();
+    }
+
+    /**
+     * Executa a leitura dos dados de um relatório, que são copiados antes de serem escritos na
+     * saída. Subclasses podem sobrescrever este método para sincronizar apenas a cópia, sem manter
+     * a sincronização durante a escrita.
+     *
+     * @param leitura A leitura a ser executada.
+     * @return O resultado da leitura.
+     */
+    protected <T> T lerRelatorio(Supplier<T> leitura) {
+        return leitura.get();
+    }
+
+    /**
+     * Copia os funcionários para um relatório, para que alterações feitas durante a escrita não
+     * apareçam nele.
+     *
+     * @param funcionarios Os funcionários a serem copiados.
+     * @return As cópias, na mesma ordem.
+     */
+    private static List<Funcionario> copiar(Iterable<Funcionario> funcionarios) {
+        List<Funcionario> copias = new ArrayList<>();
+        for (Funcionario funcionario : funcionarios) {
+            copias.add(funcionario.copiar());
         }
+        return copias;
+    }
+
+    /**
+     * Valida os parâmetros de paginação das buscas.
+     *
+     * @param pagina        O número da página, começando em zero.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return true se os parâmetros são válidos, ou false caso contrário.
+     */
+    private boolean paginaValida(int pagina, int tamanhoPagina) {
+        if (pagina < 0 || tamanhoPagina <= 0) {
+            System.out.println("Paginação inválida. A página não pode ser negativa e o tamanho deve ser maior que zero.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Grava os funcionários da lista em um arquivo binário de registros de tamanho fixo.
+     *
+     * @param arquivo O caminho do arquivo a ser gravado.
+     * @return true se o arquivo foi gravado com sucesso, ou false se houve um erro.
+     */
+    public boolean salvarFuncionarios(Path arquivo) {
+        long inicio = metricas.iniciar(Operacao.SALVAR_FUNCIONARIOS);
+        try {
+            if (arquivo == null) {
+                System.out.println("Arquivo inválido. Forneça um caminho para salvar os funcionários.");
+                return false;
+            }
+            try {
+                ArquivoFuncionarios.gravar(arquivo, funcionarios);
+                return true;
+            } catch (IOException | IllegalArgumentException e) {
+                System.out.println("Erro ao salvar funcionários: " + e.getMessage());
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.SALVAR_FUNCIONARIOS, inicio);
+        }
+    }
 
-        return funcionariosEncontrados;
+    /**
+     * Insere na lista os funcionários gravados em um arquivo criado por {@link #salvarFuncionarios(Path)}.
+     * <p>
+     * Os registros são decodificados do arquivo mapeado em memória à medida que são inseridos, em
+     * um único lote validado por {@link #inserirFuncionarios(Collection)}; como os índices da lista
+     * precisam de todos os funcionários, todos os registros são lidos. Para consultar o arquivo sem
+     * carregá-lo, use {@link ArquivoFuncionarios#abrir(Path)}.
+     *
+     * @param arquivo O caminho do arquivo a ser carregado.
+     * @return true se todos os funcionários foram carregados, ou false se houve um erro.
+     */
+    public boolean carregarFuncionarios(Path arquivo) {
+        long inicio = metricas.iniciar(Operacao.CARREGAR_FUNCIONARIOS);
+        try {
+            if (arquivo == null) {
+                System.out.println("Arquivo inválido. Forneça um caminho para carregar os funcionários.");
+                return false;
+            }
+            try (ArquivoFuncionarios origem = ArquivoFuncionarios.abrir(arquivo)) {
+                ResultadoInsercao resultado = inserirFuncionarios(origem.funcionarios());
+                resultado.getRejeitados().forEach(System.out::println);
+                return resultado.getRejeitados().isEmpty();
+            } catch (IOException e) {
+                System.out.println("Erro ao carregar funcionários: " + e.getMessage());
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.CARREGAR_FUNCIONARIOS, inicio);
+        }
+    }
+
+    /**
+     * Obtém as métricas de latência das operações desta instância.
+     *
+     * @return As métricas, habilitadas por padrão.
+     */
+    public MetricasPrincipal getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Obtém a saída para a qual os relatórios são impressos.
+     *
+     * @return A saída dos relatórios.
+     */
+    public SaidaRelatorio getSaidaRelatorio() {
+        return saida;
+    }
+
+    /**
+     * Define a saída para a qual os relatórios são impressos. A saída anterior não é fechada.
+     * Mensagens de erro e de validação continuam sendo impressas na saída padrão.
+     *
+     * @param saida A nova saída, ou null para voltar a imprimir na saída padrão.
+     */
+    public void setSaidaRelatorio(SaidaRelatorio saida) {
+        this.saida = saida != null ? saida : new SaidaTexto();
     }
 
     /**
      * Imprime os detalhes dos funcionários na lista.
      */
     public void imprimirFuncionarios() {
-        Imprimir(funcionarios);
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_FUNCIONARIOS);
+        try {
+            Imprimir(lerRelatorio(() -> copiar(funcionarios)));
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_FUNCIONARIOS, inicio);
+        }
     }
 
     /**
@@ -91,50 +564,200 @@ public class Principal {
      *
      * @param funcionarios A lista de funcionários a ser impressa.
      */
-    private void imprimirFuncionarios(List<Funcionario> funcionarios) {
+    private void imprimirFuncionarios(Iterable<Funcionario> funcionarios) {
         Imprimir(funcionarios);
     }
 
     /**
-     * Imprime os funcionários formatados na saída padrão.
+     * Imprime os funcionários formatados na saída dos relatórios.
      * @param funcionarios Lista de funcionários a serem impressos.
      */
-    private void Imprimir(List<Funcionario> funcionarios){
-        for (Funcionario funcionario : funcionarios) {
-            System.out.println("Nome: " + funcionario.getNome());
-            System.out.println("Data de Nascimento: " + funcionario.getDataNascimento().format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy")));
-            System.out.println("Salário: " + decimal.format(funcionario.getSalario()));
-            System.out.println("Função: " + funcionario.getFuncao());
+    private void Imprimir(Iterable<Funcionario> funcionarios){
+        relatar(saida -> {
+            for (Funcionario funcionario : funcionarios) {
+                saida.funcionario(funcionario);
+            }
+        });
+    }
+
+    /**
+     * Escreve um relatório inteiro na saída dos relatórios e a descarrega em seguida. O acesso à
+     * saída é sincronizado para que relatórios impressos ao mesmo tempo não se misturem.
+     *
+     * @param relatorio A escrita do relatório.
+     */
+    private void relatar(Consumer<SaidaRelatorio> relatorio) {
+        SaidaRelatorio atual = saida;
+        synchronized (atual) {
+            try {
+                relatorio.accept(atual);
+            } finally {
+                atual.descarregar();
+            }
         }
     }
 
     /**
      * Aumenta os salários de todos os funcionários por um percentual fornecido.
+     * <p>
+     * Os novos salários são calculados primeiro, em paralelo quando a lista é grande, e só então
+     * atribuídos aos funcionários. Se algum salário não puder ser calculado, nenhum é alterado.
      *
      * @param percentual O percentual pelo qual os salários devem ser aumentados.
      * @return true se a operação foi bem-sucedida, ou false se houve um erro.
      */
     public boolean aumentarSalarios(BigDecimal percentual) {
-        if (percentual.compareTo(BigDecimal.ZERO) <= 0) {
-            System.out.println("Percentual inválido. Forneça um percentual maior que zero.");
+        long inicio = metricas.iniciar(Operacao.AUMENTAR_SALARIOS);
+        try {
+            if (percentual.compareTo(BigDecimal.ZERO) <= 0) {
+                System.out.println("Percentual inválido. Forneça um percentual maior que zero.");
+                return false;
+            }
+            try {
+                Funcionario[] reajustados = funcionarios.toArray(new Funcionario[0]);
+                BigDecimal[] salarios = new MotorReajuste(percentual).calcular(reajustados, ForkJoinPool.commonPool());
+                aplicarSalarios(reajustados, salarios, reajustados.length);
+                return true;
+            } catch (NullPointerException e) {
+                System.out.println("Erro ao aumentar salários: Lista de funcionários está vazia.");
+            } catch (ArithmeticException e) {
+                System.out.println("Erro ao aumentar salários: Percentual inválido.");
+            }
             return false;
+        } finally {
+            metricas.registrar(Operacao.AUMENTAR_SALARIOS, inicio);
+        }
+    }
+
+    /**
+     * Calcula o efeito de uma política de reajuste sobre a folha de pagamento, sem alterar nenhum salário.
+     *
+     * @param politica A política de reajuste.
+     * @return Quantos funcionários seriam reajustados e os totais antes e depois do reajuste.
+     */
+    public ResultadoReajuste simularPoliticaReajuste(PoliticaReajuste politica) {
+        return simularPoliticaReajuste(politica, LocalDate.now());
+    }
+
+    /**
+     * Calcula o efeito de uma política de reajuste sobre a folha de pagamento, sem alterar nenhum salário.
+     *
+     * @param politica   A política de reajuste.
+     * @param referencia A data em que as idades exigidas pelas regras são calculadas.
+     * @return Quantos funcionários seriam reajustados e os totais antes e depois do reajuste.
+     */
+    public ResultadoReajuste simularPoliticaReajuste(PoliticaReajuste politica, LocalDate referencia) {
+        long inicio = metricas.iniciar(Operacao.SIMULAR_POLITICA_REAJUSTE);
+        try {
+            return reajustar(politica, referencia, false);
+        } finally {
+            metricas.registrar(Operacao.SIMULAR_POLITICA_REAJUSTE, inicio);
         }
+    }
+
+    /**
+     * Reajusta os salários segundo uma política de regras, percorrendo a lista uma única vez.
+     * Cada funcionário recebe o reajuste da primeira regra que atende, calculado sobre o salário
+     * atual e arredondado como em {@link #aumentarSalarios(BigDecimal)}.
+     *
+     * @param politica A política de reajuste.
+     * @return Quantos funcionários foram reajustados e os totais antes e depois do reajuste.
+     */
+    public ResultadoReajuste aplicarPoliticaReajuste(PoliticaReajuste politica) {
+        return aplicarPoliticaReajuste(politica, LocalDate.now());
+    }
+
+    /**
+     * Reajusta os salários segundo uma política de regras, percorrendo a lista uma única vez.
+     *
+     * @param politica   A política de reajuste.
+     * @param referencia A data em que as idades exigidas pelas regras são calculadas.
+     * @return Quantos funcionários foram reajustados e os totais antes e depois do reajuste.
+     */
+    public ResultadoReajuste aplicarPoliticaReajuste(PoliticaReajuste politica, LocalDate referencia) {
+        long inicio = metricas.iniciar(Operacao.APLICAR_POLITICA_REAJUSTE);
         try {
-            for (Funcionario funcionario : funcionarios) {
-                funcionario.setSalario(funcionario.getSalario().multiply(BigDecimal.ONE.add(percentual))
-                        .setScale(2, RoundingMode.HALF_UP));
+            return reajustar(politica, referencia, true);
+        } finally {
+            metricas.registrar(Operacao.APLICAR_POLITICA_REAJUSTE, inicio);
+        }
+    }
+
+    /**
+     * Avalia uma política de reajuste e, se solicitado, aplica os novos salários depois de calcular todos.
+     *
+     * @param politica   A política de reajuste.
+     * @param referencia A data em que as idades exigidas pelas regras são calculadas.
+     * @param aplicar    true para alterar os salários, ou false para apenas simular.
+     * @return O resultado do reajuste, vazio se a política for inválida.
+     */
+    private ResultadoReajuste reajustar(PoliticaReajuste politica, LocalDate referencia, boolean aplicar) {
+        String erro = politica == null ? "A política de reajuste não deve ser nula."
+                : referencia == null ? "A data de referência não deve ser nula." : politica.validar();
+        if (erro != null) {
+            System.out.println(erro);
+            return new ResultadoReajuste(0, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
+        PoliticaCompilada compilada = new PoliticaCompilada(politica, referencia);
+        Funcionario[] reajustados = aplicar ? new Funcionario[funcionarios.size()] : null;
+        BigDecimal[] salarios = aplicar ? new BigDecimal[funcionarios.size()] : null;
+        int quantidade = 0;
+        BigDecimal totalAnterior = BigDecimal.ZERO;
+        BigDecimal diferenca = BigDecimal.ZERO;
+        for (Funcionario funcionario : funcionarios) {
+            BigDecimal salario = funcionario.getSalario();
+            if (salario == null) {
+                continue;
             }
-            return true;
-        } catch (NullPointerException e) {
-            System.out.println("Erro ao aumentar salários: Lista de funcionários está vazia.");
-        } catch (ArithmeticException e) {
-            System.out.println("Erro ao aumentar salários: Percentual inválido.");
+            totalAnterior = totalAnterior.add(salario);
+            BigDecimal reajustado = compilada.reajustar(funcionario);
+            if (reajustado == null) {
+                continue;
+            }
+            diferenca = diferenca.add(reajustado.subtract(salario));
+            if (aplicar) {
+                reajustados[quantidade] = funcionario;
+                salarios[quantidade] = reajustado;
+            }
+            quantidade++;
+        }
+        if (aplicar) {
+            aplicarSalarios(reajustados, salarios, quantidade);
         }
-        return false;
+        return new ResultadoReajuste(quantidade, totalAnterior, diferenca);
+    }
+
+    /**
+     * Atribui os novos salários calculados por um reajuste. Poucos salários são atribuídos um a um,
+     * notificando os índices; a partir de uma fração da lista, eles são atribuídos sem notificação
+     * e os índices que dependem do salário são atualizados uma única vez.
+     *
+     * @param reajustados Os funcionários reajustados.
+     * @param salarios    Os novos salários, na mesma ordem.
+     * @param quantidade  A quantidade de funcionários reajustados.
+     */
+    private void aplicarSalarios(Funcionario[] reajustados, BigDecimal[] salarios, int quantidade) {
+        if (quantidade <= Math.max(REAJUSTES_MINIMOS_EM_LOTE, funcionarios.size() >> 3)) {
+            for (int i = 0; i < quantidade; i++) {
+                reajustados[i].setSalario(salarios[i]);
+            }
+            return;
+        }
+        versao++;
+        for (int i = 0; i < quantidade; i++) {
+            reajustados[i].atribuirSalario(salarios[i]);
+            if (tabela != null) {
+                tabela.atualizar(reajustados[i]);
+            }
+        }
+        indiceFuncao.recalcularSalarios();
+        indiceSalario.descartar();
     }
 
     /**
      * Agrupa os funcionários por função e retorna um mapa.
+     * <p>
+     * Com o armazenamento colunar, o agrupamento percorre a coluna de códigos de função.
      *
      * @return Um mapa onde as chaves são as funções e os valores são listas de funcionários correspondentes.
      * @throws NullPointerException Se a lista de funcionários for nula.
@@ -145,6 +768,10 @@ public class Principal {
             throw new NullPointerException("A lista de funcionários não deve ser nula.");
         }
 
+        if (tabela != null) {
+            return tabela.agruparPorFuncao();
+        }
+
         Map<String, List<Funcionario>> funcionariosPorFuncao = funcionarios.stream()
                 .collect(Collectors.groupingBy(Funcionario::getFuncao));
 
@@ -158,50 +785,148 @@ public class Principal {
      * @return true se a operação foi bem-sucedida, ou false se houve um erro.
      */
     public boolean imprimirFuncionariosAgrupadosPorFuncao(Map<String, List<Funcionario>> funcionariosPorFuncao) {
-        if (funcionariosPorFuncao == null) {
-            System.out.println("O mapa de funcionários por função não deve ser nulo.");
-            return false;
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_AGRUPADOS_POR_FUNCAO);
+        try {
+            if (funcionariosPorFuncao == null) {
+                System.out.println("O mapa de funcionários por função não deve ser nulo.");
+                return false;
+            }
+            try{
+                relatar(saida -> funcionariosPorFuncao.forEach((funcao, lista) -> {
+                    if (funcao == null || lista == null) {
+                        throw new IllegalArgumentException("Chave ou lista no mapa de funcionários por função não deve ser nula.");
+                    }
+                    saida.linha("Funcionários da função '" + funcao + "':");
+                    lista.forEach(saida::funcionario);
+                }));
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_AGRUPADOS_POR_FUNCAO, inicio);
         }
-        try{
-            funcionariosPorFuncao.forEach((funcao, lista) -> {
-                if (funcao == null || lista == null) {
-                    throw new IllegalArgumentException("Chave ou lista no mapa de funcionários por função não deve ser nula.");
-                }
-                System.out.println("Funcionários da função '" + funcao + "':");
-                imprimirFuncionarios(lista);
-            });
-            return true;
-        } catch (Exception e) {
-            return false;
+    }
+
+    /**
+     * Obtém os funcionários agrupados por função, com quantidade, soma, menor e maior salário de cada função.
+     * <p>
+     * Diferente de {@link #agruparPorFuncao()}, o mapa não é recalculado: ele é mantido pela lista a
+     * cada inserção, remoção ou alteração de salário e função, e a chamada não copia os funcionários.
+     *
+     * @return Uma visão não modificável dos grupos por função, na ordem em que as funções surgiram.
+     */
+    public Map<String, GrupoFuncao> obterGruposPorFuncao() {
+        return indiceFuncao.grupos();
+    }
+
+    /**
+     * Imprime os funcionários agrupados por função, lendo diretamente os grupos mantidos pela lista.
+     *
+     * @return true se a operação foi bem-sucedida, ou false se houve um erro.
+     */
+    public boolean imprimirFuncionariosAgrupadosPorFuncao() {
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_AGRUPADOS_POR_FUNCAO);
+        try {
+            try {
+                Map<String, List<Funcionario>> grupos = lerRelatorio(() -> {
+                    Map<String, List<Funcionario>> copia = new LinkedHashMap<>();
+                    indiceFuncao.grupos().forEach((funcao, grupo) -> copia.put(funcao, copiar(grupo.getFuncionarios())));
+                    return copia;
+                });
+                relatar(saida -> grupos.forEach((funcao, lista) -> {
+                    saida.linha("Funcionários da função '" + funcao + "':");
+                    lista.forEach(saida::funcionario);
+                }));
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_AGRUPADOS_POR_FUNCAO, inicio);
         }
     }
 
     /**
-     * Imprime os funcionários cujos aniversários correspondem aos meses fornecidos.
+     * Imprime os funcionários cujos aniversários correspondem aos meses fornecidos, do mês de
+     * janeiro ao de dezembro e, dentro de cada mês, na ordem de inserção.
+     * <p>
+     * Com o armazenamento colunar, a busca percorre a coluna de datas e, dentro de cada mês, segue a
+     * ordem da tabela, que difere da ordem de inserção depois de uma remoção.
      *
      * @param meses Um array de meses (valores entre 1 e 12) para os quais procurar aniversariantes.
      * @return true se a operação foi bem-sucedida, ou false se houve um erro.
      */
     public boolean imprimirAniversariantes(int[] meses) {
-        if (meses == null || funcionarios == null) {
-            System.out.println("O array de meses e a lista de funcionários não devem ser nulos.");
-            return false;
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_ANIVERSARIANTES);
+        try {
+            if (meses == null || funcionarios == null) {
+                System.out.println("O array de meses e a lista de funcionários não devem ser nulos.");
+                return false;
+            }
+
+            if (Arrays.stream(meses).anyMatch(mes -> mes < 1 || mes > 12)) {
+                System.out.println("Valores inválidos no array de meses. Os meses devem estar entre 1 e 12.");
+                return false;
+            }
+
+            try {
+                imprimirFuncionarios(lerRelatorio(() -> copiar(tabela != null
+                        ? tabela.buscarAniversariantes(meses)
+                        : () -> indiceAniversarios.iterarMeses(meses))));
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_ANIVERSARIANTES, inicio);
         }
+    }
 
-        if (Arrays.stream(meses).anyMatch(mes -> mes < 1 || mes > 12)) {
+    /**
+     * Busca os funcionários cujos aniversários correspondem aos meses fornecidos.
+     *
+     * @param meses Um array de meses (valores entre 1 e 12) para os quais procurar aniversariantes.
+     * @return Os aniversariantes, do mês de janeiro ao de dezembro e, dentro de cada mês, na ordem
+     * de inserção (ou da tabela, com o armazenamento colunar), ou uma lista vazia se os meses forem
+     * inválidos.
+     */
+    public List<Funcionario> buscarAniversariantes(int[] meses) {
+        if (meses == null || Arrays.stream(meses).anyMatch(mes -> mes < 1 || mes > 12)) {
             System.out.println("Valores inválidos no array de meses. Os meses devem estar entre 1 e 12.");
-            return false;
+            return new ArrayList<>();
+        }
+        if (tabela != null) {
+            return tabela.buscarAniversariantes(meses);
         }
+        return indiceAniversarios.buscarPorMeses(meses);
+    }
 
-        List<Funcionario> aniversariantes = funcionarios.stream()
-                .filter(funcionario -> Arrays.stream(meses).anyMatch(mes -> mes == funcionario.getDataNascimento().getMonthValue()))
-                .toList();
-        try {
-            imprimirFuncionarios(aniversariantes);
-            return true;
-        } catch (Exception e) {
-            return false;
+    /**
+     * Busca os funcionários que fazem aniversário hoje ou nos próximos dias.
+     *
+     * @param dias A quantidade de dias após hoje a considerar.
+     * @return Os aniversariantes do período, ordenados pela data do próximo aniversário.
+     */
+    public List<Funcionario> buscarAniversariantesProximosDias(int dias) {
+        return buscarAniversariantesProximosDias(LocalDate.now(), dias);
+    }
+
+    /**
+     * Busca os funcionários que fazem aniversário entre a data inicial e os dias seguintes,
+     * considerando a passagem de ano. Quem nasceu em 29 de fevereiro faz aniversário em 28 de
+     * fevereiro nos anos que não são bissextos.
+     *
+     * @param dataInicial A primeira data do período.
+     * @param dias        A quantidade de dias após a data inicial a considerar.
+     * @return Os aniversariantes do período, ordenados pela data do próximo aniversário.
+     */
+    public List<Funcionario> buscarAniversariantesProximosDias(LocalDate dataInicial, int dias) {
+        if (dataInicial == null || dias < 0) {
+            System.out.println("Período inválido. Forneça uma data inicial e uma quantidade de dias não negativa.");
+            return new ArrayList<>();
         }
+        return indiceAniversarios.buscarProximos(dataInicial, dias);
     }
 
     /**
@@ -210,20 +935,97 @@ public class Principal {
      * @return O funcionário mais velho.
      */
     public Funcionario imprimirFuncionarioMaiorIdade() {
-        Funcionario maisVelho = new Funcionario();
-        if (funcionarios.isEmpty()) {
-            System.out.println("Não há funcionários para calcular a idade do mais velho.");
-            return maisVelho;
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_MAIOR_IDADE);
+        try {
+            try{
+                // O funcionário e a linha são lidos juntos; a linha é escrita depois, fora da leitura.
+                Map.Entry<Funcionario, String> maisVelho = lerRelatorio(() -> {
+                    if (funcionarios.isEmpty()) {
+                        return null;
+                    }
+                    Funcionario funcionario = indiceDataNascimento.maisVelhos(1).getFirst();
+                    return Map.entry(funcionario, "Funcionário mais velho Nome: " + funcionario.getNome()
+                            + " - Idade: " + calcularIdade(funcionario.getDataNascimento()));
+                });
+                if (maisVelho == null) {
+                    System.out.println("Não há funcionários para calcular a idade do mais velho.");
+                    return new Funcionario();
+                }
+                relatar(saida -> saida.linha(maisVelho.getValue()));
+                return maisVelho.getKey();
+            } catch (Exception e) {
+                return new Funcionario();
+            }
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_MAIOR_IDADE, inicio);
+        }
+    }
+
+    /**
+     * Busca os funcionários mais velhos da lista.
+     *
+     * @param quantidade A quantidade máxima de funcionários a retornar.
+     * @return Os funcionários, do mais velho para o mais novo.
+     */
+    public List<Funcionario> buscarFuncionariosMaisVelhos(int quantidade) {
+        if (quantidade <= 0) {
+            System.out.println("Quantidade inválida. Forneça uma quantidade maior que zero.");
+            return new ArrayList<>();
+        }
+        return indiceDataNascimento.maisVelhos(quantidade);
+    }
+
+    /**
+     * Busca os funcionários mais novos da lista.
+     *
+     * @param quantidade A quantidade máxima de funcionários a retornar.
+     * @return Os funcionários, do mais novo para o mais velho.
+     */
+    public List<Funcionario> buscarFuncionariosMaisNovos(int quantidade) {
+        if (quantidade <= 0) {
+            System.out.println("Quantidade inválida. Forneça uma quantidade maior que zero.");
+            return new ArrayList<>();
+        }
+        return indiceDataNascimento.maisNovos(quantidade);
+    }
+
+    /**
+     * Busca os funcionários cuja idade, em anos completos hoje, está na faixa informada.
+     *
+     * @param idadeMinima A menor idade, inclusive.
+     * @param idadeMaxima A maior idade, inclusive.
+     * @return Os funcionários da faixa, do mais velho para o mais novo.
+     */
+    public List<Funcionario> buscarFuncionariosPorFaixaEtaria(int idadeMinima, int idadeMaxima) {
+        return buscarFuncionariosPorFaixaEtaria(idadeMinima, idadeMaxima, LocalDate.now());
+    }
+
+    /**
+     * Busca os funcionários cuja idade, em anos completos na data de referência, está na faixa informada.
+     *
+     * @param idadeMinima A menor idade, inclusive.
+     * @param idadeMaxima A maior idade, inclusive.
+     * @param referencia  A data em que as idades são calculadas.
+     * @return Os funcionários da faixa, do mais velho para o mais novo.
+     */
+    public List<Funcionario> buscarFuncionariosPorFaixaEtaria(int idadeMinima, int idadeMaxima, LocalDate referencia) {
+        if (referencia == null || idadeMinima < 0 || idadeMaxima < idadeMinima) {
+            System.out.println("Faixa etária inválida. As idades não podem ser negativas e a mínima não pode superar a máxima.");
+            return new ArrayList<>();
+        }
+        LocalDate nascidoAte;
+        LocalDate nascidoDesde;
+        try {
+            nascidoAte = referencia.minusYears(idadeMinima);
+        } catch (DateTimeException e) {
+            return new ArrayList<>();
         }
-        try{
-            maisVelho = funcionarios.stream()
-                    .sorted(Comparator.comparing(Funcionario::getDataNascimento))
-                    .toList().getFirst();
-            System.out.println("Funcionário mais velho Nome: " + maisVelho.getNome() + " - Idade: " + calcularIdade(maisVelho.getDataNascimento()));
-            return maisVelho;
-        } catch (Exception e) {
-            return maisVelho;
+        try {
+            nascidoDesde = referencia.minusYears(idadeMaxima + 1L).plusDays(1);
+        } catch (DateTimeException e) {
+            nascidoDesde = LocalDate.MIN;
         }
+        return indiceDataNascimento.nascidosEntre(nascidoDesde, nascidoAte);
     }
 
     /**
@@ -242,41 +1044,225 @@ public class Principal {
     }
 
     /**
-     * Imprime os funcionários ordenados por nome.
+     * Imprime os funcionários ordenados por nome, segundo as regras de ordenação do português.
+     * A lista não é reordenada: os funcionários são lidos do índice em ordem alfabética.
      *
      * @return true se a operação foi bem-sucedida, ou false se houve um erro.
      */
     public boolean imprimirFuncionariosOrdenadoPorNome() {
-        if (funcionarios.isEmpty()) {
-            System.out.println("Não há funcionários para ordenar.");
-            return false;
-        }
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_ORDENADO_POR_NOME);
+        try {
+            List<Funcionario> ordenados = lerRelatorio(() -> copiar(indiceOrdemNome.todos()));
+            if (ordenados.isEmpty()) {
+                System.out.println("Não há funcionários para ordenar.");
+                return false;
+            }
 
-        funcionarios.sort(Comparator.comparing(Funcionario::getNome));
-        imprimirFuncionarios(funcionarios);
-        return true;
+            imprimirFuncionarios(ordenados);
+            return true;
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_ORDENADO_POR_NOME, inicio);
+        }
     }
 
     /**
-     * Imprime o total dos salários dos funcionários.
+     * Lista os funcionários em ordem alfabética, uma página por vez. Para ler a página seguinte,
+     * informe o cursor devolvido pela página anterior.
      *
-     * @return true se a operação foi bem-sucedida, ou false se houve um erro.
+     * @param cursor        O cursor devolvido pela página anterior, ou null para a primeira página.
+     * @param tamanhoPagina A quantidade máxima de funcionários por página.
+     * @return A página com os funcionários e o cursor da página seguinte.
      */
-    public boolean imprimirTotalSalarios() {
-        if (funcionarios.isEmpty()) {
-            System.out.println("Não há funcionários para somar os salários.");
-            return false;
+    public PaginaFuncionarios listarFuncionariosPorNome(PaginaFuncionarios.Cursor cursor, int tamanhoPagina) {
+        if (tamanhoPagina <= 0) {
+            System.out.println("Paginação inválida. O tamanho da página deve ser maior que zero.");
+            return new PaginaFuncionarios(new ArrayList<>(), null);
         }
+        return indiceOrdemNome.pagina(cursor, tamanhoPagina);
+    }
+
+    /**
+     * Obtém a quantidade de funcionários na lista.
+     *
+     * @return A quantidade de funcionários.
+     */
+    public int contarFuncionarios() {
+        return funcionarios.size();
+    }
 
-        try{
-            BigDecimal totalSalarios = funcionarios.stream().map(Funcionario::getSalario)
+    /**
+     * Calcula o total dos salários dos funcionários.
+     *
+     * @return A soma dos salários, ou zero se não houver funcionários.
+     */
+    public BigDecimal calcularTotalSalarios() {
+        long inicio = metricas.iniciar(Operacao.CALCULAR_TOTAL_SALARIOS);
+        try {
+            BigDecimal total = tabela != null ? tabela.somarSalarios() : somarSalariosEmCentavos();
+            if (total != null) {
+                return total;
+            }
+            return funcionarios.stream().map(Funcionario::getSalario)
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
-            System.out.println("Total dos salários: " + decimal.format(totalSalarios));
-            return true;
-        } catch (Exception e) {
-            return false;
+        } finally {
+            metricas.registrar(Operacao.CALCULAR_TOTAL_SALARIOS, inicio);
+        }
+    }
+
+    /**
+     * Soma os salários em centavos, sem criar objetos por funcionário. O resultado tem a maior
+     * escala entre os salários, como na soma com BigDecimal.
+     *
+     * @return O total dos salários, ou null se algum salário não puder ser somado exatamente em centavos.
+     */
+    private BigDecimal somarSalariosEmCentavos() {
+        long total = 0;
+        int escala = 0;
+        try {
+            for (Funcionario funcionario : funcionarios) {
+                long centavos = funcionario.getSalarioCentavos();
+                if (centavos == Dinheiro.INEXATO) {
+                    return null;
+                }
+                total = Math.addExact(total, centavos);
+                escala = Math.max(escala, funcionario.getSalario().scale());
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return BigDecimal.valueOf(total, 2).setScale(escala, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Calcula, em uma única passagem, a quantidade, a soma, o menor e o maior salário, a média e a
+     * quantidade de funcionários em cada faixa salarial.
+     * <p>
+     * Quando todos os salários são representáveis em centavos, o cálculo percorre uma coluna de
+     * longs (a do armazenamento colunar, se habilitado) com {@link NucleoAgregacao}, que usa o
+     * Vector API se o módulo {@code jdk.incubator.vector} estiver disponível. Caso contrário, os
+     * salários são agregados com BigDecimal. Funcionários sem salário são ignorados.
+     *
+     * @param limitesFaixas Os limites que separam as faixas salariais, em ordem estritamente crescente.
+     * @return As estatísticas dos salários, ou null se os limites forem inválidos.
+     */
+    public EstatisticasSalariais calcularEstatisticasSalariais(BigDecimal... limitesFaixas) {
+        long inicio = metricas.iniciar(Operacao.CALCULAR_ESTATISTICAS_SALARIAIS);
+        try {
+            List<BigDecimal> limites = limitesFaixas == null ? new ArrayList<>() : Arrays.asList(limitesFaixas.clone());
+            for (int i = 0; i < limites.size(); i++) {
+                if (limites.get(i) == null || (i > 0 && limites.get(i).compareTo(limites.get(i - 1)) <= 0)) {
+                    System.out.println("Limites de faixas inválidos. Forneça valores não nulos em ordem crescente.");
+                    return null;
+                }
+            }
+            NucleoAgregacao.Resumo resumo = agregarSalariosEmCentavos(limites);
+            if (resumo == null || !resumo.somaExata) {
+                return agregarSalarios(limites);
+            }
+            long[] faixas = new long[limites.size() + 1];
+            long anterior = 0;
+            for (int k = 0; k < limites.size(); k++) {
+                faixas[k] = resumo.abaixoDoLimite[k] - anterior;
+                anterior = resumo.abaixoDoLimite[k];
+            }
+            faixas[limites.size()] = resumo.quantidade - anterior;
+            BigDecimal soma = BigDecimal.valueOf(resumo.soma, 2);
+            if (resumo.quantidade == 0) {
+                return new EstatisticasSalariais(0, soma, null, null, null, limites, faixas);
+            }
+            return new EstatisticasSalariais(resumo.quantidade, soma, BigDecimal.valueOf(resumo.menor, 2),
+                    BigDecimal.valueOf(resumo.maior, 2),
+                    soma.divide(BigDecimal.valueOf(resumo.quantidade), 2, RoundingMode.HALF_UP), limites, faixas);
+        } finally {
+            metricas.registrar(Operacao.CALCULAR_ESTATISTICAS_SALARIAIS, inicio);
+        }
+    }
+
+    /**
+     * Agrega os salários em centavos, lendo a coluna do armazenamento colunar ou copiando os
+     * salários para uma coluna temporária.
+     *
+     * @param limites Os limites das faixas salariais.
+     * @return O resumo dos salários, ou null se algum salário ou limite não puder ser representado em centavos.
+     */
+    private NucleoAgregacao.Resumo agregarSalariosEmCentavos(List<BigDecimal> limites) {
+        long[] limitesCentavos = new long[limites.size()];
+        for (int k = 0; k < limitesCentavos.length; k++) {
+            // Salários em centavos inteiros ficam abaixo de um limite fracionário se ficam abaixo do centavo seguinte.
+            limitesCentavos[k] = Dinheiro.centavos(limites.get(k).setScale(2, RoundingMode.CEILING));
+            if (limitesCentavos[k] == Dinheiro.INEXATO) {
+                return null;
+            }
+        }
+        if (tabela != null) {
+            return tabela.agregarSalarios(limitesCentavos);
+        }
+        long[] salarios = new long[funcionarios.size()];
+        int tamanho = 0;
+        for (Funcionario funcionario : funcionarios) {
+            long centavos = funcionario.getSalarioCentavos();
+            if (centavos == Dinheiro.INEXATO) {
+                return null;
+            }
+            salarios[tamanho++] = centavos;
+        }
+        return NucleoAgregacao.PADRAO.agregar(salarios, tamanho, limitesCentavos);
+    }
+
+    /**
+     * Agrega os salários com BigDecimal, usado quando algum salário não é representável em centavos.
+     *
+     * @param limites Os limites das faixas salariais.
+     * @return As estatísticas dos salários.
+     */
+    private EstatisticasSalariais agregarSalarios(List<BigDecimal> limites) {
+        long quantidade = 0;
+        BigDecimal soma = BigDecimal.ZERO;
+        BigDecimal menor = null;
+        BigDecimal maior = null;
+        long[] faixas = new long[limites.size() + 1];
+        for (Funcionario funcionario : funcionarios) {
+            BigDecimal salario = funcionario.getSalario();
+            if (salario == null) {
+                continue;
+            }
+            quantidade++;
+            soma = soma.add(salario);
+            menor = menor == null || salario.compareTo(menor) < 0 ? salario : menor;
+            maior = maior == null || salario.compareTo(maior) > 0 ? salario : maior;
+            int faixa = 0;
+            while (faixa < limites.size() && salario.compareTo(limites.get(faixa)) >= 0) {
+                faixa++;
+            }
+            faixas[faixa]++;
         }
+        BigDecimal media = quantidade == 0 ? null : soma.divide(BigDecimal.valueOf(quantidade), 2, RoundingMode.HALF_UP);
+        return new EstatisticasSalariais(quantidade, soma, menor, maior, media, limites, faixas);
+    }
 
+    /**
+     * Imprime o total dos salários dos funcionários.
+     *
+     * @return true se a operação foi bem-sucedida, ou false se houve um erro.
+     */
+    public boolean imprimirTotalSalarios() {
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_TOTAL_SALARIOS);
+        try {
+            try{
+                BigDecimal totalSalarios = lerRelatorio(() -> funcionarios.isEmpty() ? null : calcularTotalSalarios());
+                if (totalSalarios == null) {
+                    System.out.println("Não há funcionários para somar os salários.");
+                    return false;
+                }
+                String linha = "Total dos salários: " + Formatador.formatarMoeda(totalSalarios);
+                relatar(saida -> saida.linha(linha));
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_TOTAL_SALARIOS, inicio);
+        }
     }
 
     /**
@@ -286,26 +1272,101 @@ public class Principal {
      * @return true se a operação foi bem-sucedida, ou false se houve um erro.
      */
     public boolean imprimirSalariosMinimos(BigDecimal salarioMinimo) {
-        BigDecimal salarioMinimoEquivalent;
+        long inicio = metricas.iniciar(Operacao.IMPRIMIR_SALARIOS_MINIMOS);
+        try {
+            List<Funcionario> copias = lerRelatorio(() -> copiar(funcionarios));
+            if (copias.isEmpty()) {
+                System.out.println("Não há funcionários para imprimir salários mínimos.");
+                return false;
+            }
 
-        if (funcionarios.isEmpty()) {
-            System.out.println("Não há funcionários para imprimir salários mínimos.");
-            return false;
+            if (salarioMinimo == null || salarioMinimo.compareTo(BigDecimal.ZERO) <= 0) {
+                System.out.println("O salário mínimo deve ser um valor positivo não nulo.");
+                return false;
+            }
+
+            try{
+                long salarioMinimoCentavos = Dinheiro.centavos(salarioMinimo);
+                relatar(saida -> {
+                    for (Funcionario funcionario : copias) {
+                        long centesimos = salarioMinimoCentavos == Dinheiro.INEXATO ? Dinheiro.INEXATO
+                                : Dinheiro.razaoEmCentesimos(funcionario.getSalarioCentavos(), salarioMinimoCentavos);
+                        BigDecimal salarioMinimoEquivalent = centesimos != Dinheiro.INEXATO ? BigDecimal.valueOf(centesimos, 2)
+                                : funcionario.getSalario().divide(salarioMinimo, 2, RoundingMode.HALF_UP);
+                        saida.linha(funcionario.getNome() + " ganha " + salarioMinimoEquivalent + " salários mínimos.");
+                    }
+                });
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        } finally {
+            metricas.registrar(Operacao.IMPRIMIR_SALARIOS_MINIMOS, inicio);
         }
+    }
 
-        if (salarioMinimo == null || salarioMinimo.compareTo(BigDecimal.ZERO) <= 0) {
-            System.out.println("O salário mínimo deve ser um valor positivo não nulo.");
-            return false;
+    /**
+     * Executa a alteração de um funcionário feita fora da classe, que atribui o novo valor e
+     * atualiza os índices. Subclasses podem sobrescrever este método para sincronizar a alteração.
+     *
+     * @param atualizacao A atualização a ser executada.
+     */
+    protected void atualizarIndices(Runnable atualizacao) {
+        atualizacao.run();
+    }
+
+    /**
+     * Mantém os índices sincronizados quando um funcionário da lista é alterado. A atribuição do
+     * novo valor e a atualização dos índices são executadas juntas por {@link #atualizarIndices}.
+     */
+    private class ObservadorIndices implements ObservadorFuncionario {
+        @Override
+        public void alterar(Runnable alteracao) {
+            atualizarIndices(alteracao);
         }
 
-        try{
-            for (Funcionario funcionario : funcionarios) {
-                salarioMinimoEquivalent  = funcionario.getSalario().divide(salarioMinimo, 2, RoundingMode.HALF_UP);
-                System.out.println(funcionario.getNome() + " ganha " + salarioMinimoEquivalent + " salários mínimos.");
+        @Override
+        public void nomeAlterado(Funcionario funcionario, String nomeAnterior) {
+            versao++;
+            indiceNome.remover(funcionario, nomeAnterior);
+            indiceNome.adicionar(funcionario);
+            indiceBuscaNome.remover(funcionario, nomeAnterior);
+            indiceBuscaNome.adicionar(funcionario);
+            indiceOrdemNome.remover(funcionario, nomeAnterior);
+            indiceOrdemNome.adicionar(funcionario);
         }
-            return true;
-        } catch (Exception e) {
-            return false;
+
+        @Override
+        public void dataNascimentoAlterada(Funcionario funcionario, LocalDate dataAnterior) {
+            versao++;
+            indiceAniversarios.remover(funcionario, dataAnterior);
+            indiceAniversarios.adicionar(funcionario);
+            indiceDataNascimento.remover(funcionario, dataAnterior);
+            indiceDataNascimento.adicionar(funcionario);
+            indiceBitmap.alterarDataNascimento(funcionario, dataAnterior);
+            atualizarTabela(funcionario);
+        }
+
+        @Override
+        public void salarioAlterado(Funcionario funcionario, BigDecimal salarioAnterior) {
+            versao++;
+            indiceFuncao.alterarSalario(funcionario, salarioAnterior);
+            indiceSalario.alterarSalario(funcionario, salarioAnterior);
+            atualizarTabela(funcionario);
+        }
+
+        @Override
+        public void funcaoAlterada(Funcionario funcionario, String funcaoAnterior) {
+            versao++;
+            indiceFuncao.alterarFuncao(funcionario, funcaoAnterior);
+            indiceBitmap.alterarFuncao(funcionario, funcaoAnterior);
+            atualizarTabela(funcionario);
+        }
+
+        private void atualizarTabela(Funcionario funcionario) {
+            if (tabela != null) {
+                tabela.atualizar(funcionario);
+            }
         }
     }
 }
@@ -0,0 +1,289 @@
+package app;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Variante de Principal que pode ser compartilhada entre várias threads.
+ * <p>
+ * As consultas usam a trava de leitura e executam em paralelo entre si; inserções, remoções
+ * e aumentos de salário usam a trava de escrita. Assim, um aumento de
+ * salários é visto pelas consultas como uma operação única: ou nenhum salário foi reajustado,
+ * ou todos foram. Alterações feitas diretamente em um funcionário da lista, como
+ * {@link Pessoa#setNome(String)}, atribuem o novo valor e atualizam os índices sob a mesma trava de
+ * escrita, de modo que as consultas nunca veem um funcionário diferente dos índices.
+ * <p>
+ * Os relatórios impressos copiam os funcionários sob a trava de leitura e liberam a trava antes de
+ * escrevê-los na saída, para que uma saída lenta não bloqueie as alterações.
+ * <p>
+ * O tempo de espera pelas travas é registrado nas métricas como {@link Operacao#ESPERA_TRAVA_LEITURA}
+ * e {@link Operacao#ESPERA_TRAVA_ESCRITA}, por amostragem: nas execuções não sorteadas, adquirir a
+ * trava não lê o relógio.
+ */
+public class PrincipalConcorrente extends Principal {
+    private final ReentrantReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Cria uma instância sem armazenamento colunar.
+     */
+    public PrincipalConcorrente() {
+        super();
+    }
+
+    /**
+     * Cria uma instância, opcionalmente mantendo os funcionários também em um armazenamento colunar.
+     *
+     * @param armazenamentoColunar true para manter o armazenamento colunar.
+     */
+    public PrincipalConcorrente(boolean armazenamentoColunar) {
+        super(armazenamentoColunar);
+    }
+
+    /**
+     * Executa uma consulta sob a trava de leitura.
+     *
+     * @param consulta A consulta a ser executada.
+     * @return O resultado da consulta.
+     */
+    protected <T> T ler(Supplier<T> consulta) {
+        return executar(trava.readLock(), Operacao.ESPERA_TRAVA_LEITURA, consulta);
+    }
+
+    /**
+     * Executa uma alteração sob a trava de escrita.
+     *
+     * @param alteracao A alteração a ser executada.
+     * @return O resultado da alteração.
+     */
+    protected <T> T escrever(Supplier<T> alteracao) {
+        return executar(trava.writeLock(), Operacao.ESPERA_TRAVA_ESCRITA, alteracao);
+    }
+
+    /**
+     * Verifica se a thread atual está executando uma alteração.
+     *
+     * @return true se a thread atual possui a trava de escrita.
+     */
+    protected boolean escrevendo() {
+        return trava.isWriteLockedByCurrentThread();
+    }
+
+    private <T> T executar(Lock lock, Operacao espera, Supplier<T> operacao) {
+        long inicio = getMetricas().iniciar(espera);
+        lock.lock();
+        getMetricas().registrar(espera, inicio);
+        try {
+            return operacao.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean inserirFuncionario(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
+        return escrever(() -> super.inserirFuncionario(nome, dataNascimento, salario, funcao));
+    }
+
+    @Override
+    public ResultadoInsercao inserirFuncionarios(Collection<Funcionario> novos) {
+        return escrever(() -> super.inserirFuncionarios(novos));
+    }
+
+    @Override
+    public boolean removerFuncionarioPorNome(String nome) {
+        return escrever(() -> super.removerFuncionarioPorNome(nome));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosPorNome(String nome) {
+        return ler(() -> super.buscarFuncionariosPorNome(nome));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosPorPrefixo(String prefixo, int pagina, int tamanhoPagina) {
+        return ler(() -> super.buscarFuncionariosPorPrefixo(prefixo, pagina, tamanhoPagina));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosPorTrecho(String trecho, int pagina, int tamanhoPagina) {
+        return ler(() -> super.buscarFuncionariosPorTrecho(trecho, pagina, tamanhoPagina));
+    }
+
+    @Override
+    public CursorFuncionarios consultar(ConsultaFuncionarios consulta) {
+        return ler(() -> super.consultar(consulta));
+    }
+
+    @Override
+    public String explicarConsulta(ConsultaFuncionarios consulta) {
+        return ler(() -> super.explicarConsulta(consulta));
+    }
+
+    @Override
+    public long contarFuncionarios(ConsultaFuncionarios consulta) {
+        return ler(() -> super.contarFuncionarios(consulta));
+    }
+
+    @Override
+    public long calcularMemoriaIndicesBitmap() {
+        return ler(super::calcularMemoriaIndicesBitmap);
+    }
+
+    /**
+     * Lê cada página de um cursor de consulta sob a trava de leitura. A trava não é mantida entre
+     * páginas: se outra thread alterar a lista nesse intervalo, a página seguinte lança
+     * {@link java.util.ConcurrentModificationException}.
+     */
+    @Override
+    protected <T> T lerCursor(Supplier<T> leitura) {
+        return ler(leitura);
+    }
+
+    /**
+     * Copia os dados de cada relatório sob a trava de leitura; a escrita na saída acontece depois
+     * que a trava é liberada.
+     */
+    @Override
+    protected <T> T lerRelatorio(Supplier<T> leitura) {
+        return ler(leitura);
+    }
+
+    @Override
+    public boolean salvarFuncionarios(Path arquivo) {
+        return ler(() -> super.salvarFuncionarios(arquivo));
+    }
+
+    @Override
+    public boolean carregarFuncionarios(Path arquivo) {
+        return escrever(() -> super.carregarFuncionarios(arquivo));
+    }
+
+    @Override
+    public SaidaRelatorio getSaidaRelatorio() {
+        return ler(super::getSaidaRelatorio);
+    }
+
+    @Override
+    public void setSaidaRelatorio(SaidaRelatorio saida) {
+        escrever(() -> {
+            super.setSaidaRelatorio(saida);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean aumentarSalarios(BigDecimal percentual) {
+        return escrever(() -> super.aumentarSalarios(percentual));
+    }
+
+    @Override
+    public ResultadoReajuste simularPoliticaReajuste(PoliticaReajuste politica) {
+        return ler(() -> super.simularPoliticaReajuste(politica));
+    }
+
+    @Override
+    public ResultadoReajuste simularPoliticaReajuste(PoliticaReajuste politica, LocalDate referencia) {
+        return ler(() -> super.simularPoliticaReajuste(politica, referencia));
+    }
+
+    @Override
+    public ResultadoReajuste aplicarPoliticaReajuste(PoliticaReajuste politica) {
+        return escrever(() -> super.aplicarPoliticaReajuste(politica));
+    }
+
+    @Override
+    public ResultadoReajuste aplicarPoliticaReajuste(PoliticaReajuste politica, LocalDate referencia) {
+        return escrever(() -> super.aplicarPoliticaReajuste(politica, referencia));
+    }
+
+    @Override
+    public Map<String, List<Funcionario>> agruparPorFuncao() {
+        return ler(super::agruparPorFuncao);
+    }
+
+    /**
+     * Obtém uma cópia dos grupos por função feita sob a trava de leitura. Como a lista é alterada por
+     * outras threads, os grupos devolvidos não são atualizados depois da chamada.
+     *
+     * @return Os grupos por função no momento da chamada.
+     */
+    @Override
+    public Map<String, GrupoFuncao> obterGruposPorFuncao() {
+        return ler(() -> {
+            Map<String, GrupoFuncao> copia = new LinkedHashMap<>();
+            super.obterGruposPorFuncao().forEach((funcao, grupo) -> copia.put(funcao, grupo.copiar()));
+            return Collections.unmodifiableMap(copia);
+        });
+    }
+
+    @Override
+    public List<Funcionario> buscarAniversariantes(int[] meses) {
+        return ler(() -> super.buscarAniversariantes(meses));
+    }
+
+    @Override
+    public List<Funcionario> buscarAniversariantesProximosDias(int dias) {
+        return ler(() -> super.buscarAniversariantesProximosDias(dias));
+    }
+
+    @Override
+    public List<Funcionario> buscarAniversariantesProximosDias(LocalDate dataInicial, int dias) {
+        return ler(() -> super.buscarAniversariantesProximosDias(dataInicial, dias));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosMaisVelhos(int quantidade) {
+        return ler(() -> super.buscarFuncionariosMaisVelhos(quantidade));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosMaisNovos(int quantidade) {
+        return ler(() -> super.buscarFuncionariosMaisNovos(quantidade));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosPorFaixaEtaria(int idadeMinima, int idadeMaxima) {
+        return ler(() -> super.buscarFuncionariosPorFaixaEtaria(idadeMinima, idadeMaxima));
+    }
+
+    @Override
+    public List<Funcionario> buscarFuncionariosPorFaixaEtaria(int idadeMinima, int idadeMaxima, LocalDate referencia) {
+        return ler(() -> super.buscarFuncionariosPorFaixaEtaria(idadeMinima, idadeMaxima, referencia));
+    }
+
+    @Override
+    public PaginaFuncionarios listarFuncionariosPorNome(PaginaFuncionarios.Cursor cursor, int tamanhoPagina) {
+        return ler(() -> super.listarFuncionariosPorNome(cursor, tamanhoPagina));
+    }
+
+    @Override
+    public int contarFuncionarios() {
+        return ler(super::contarFuncionarios);
+    }
+
+    @Override
+    public BigDecimal calcularTotalSalarios() {
+        return ler(super::calcularTotalSalarios);
+    }
+
+    @Override
+    public EstatisticasSalariais calcularEstatisticasSalariais(BigDecimal... limitesFaixas) {
+        return ler(() -> super.calcularEstatisticasSalariais(limitesFaixas));
+    }
+
+    /**
+     * Atribui o novo valor ao funcionário e atualiza os índices sob a trava de escrita.
+     */
+    @Override
+    protected void atualizarIndices(Runnable atualizacao) {
+        escrever(() -> {
+            atualizacao.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,536 @@
+package app;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Variante de PrincipalConcorrente que mantém as alterações em disco.
+ * <p>
+ * Cada inserção, remoção, aumento de salários e política de reajuste aplicada é anexada a um diário
+ * ({@link DiarioMutacoes}) antes de o método retornar; threads que alteram a lista ao mesmo tempo
+ * compartilham o mesmo fsync. A cada {@code registrosPorSnapshot} registros, o estado completo é
+ * gravado em um snapshot e o diário recomeça, limitando o tempo de recuperação.
+ * <p>
+ * O diretório contém arquivos {@code snapshot-N.bin} e {@code diario-N.log}: o snapshot N contém
+ * todas as alterações anteriores ao diário N. Na abertura, o snapshot mais recente é carregado e
+ * os diários a partir dele são reaplicados em ordem. Alterações feitas diretamente em um
+ * funcionário, como {@link Pessoa#setNome(String)}, não são registradas no diário.
+ * <p>
+ * Se a gravação do diário falhar, as alterações do lote retornam false, ou, em
+ * {@link #inserirFuncionarios(Collection)}, todas as linhas são recusadas com o erro do diário, e a
+ * lista passa a recusar novas alterações, já que o estado em memória está à frente do que foi
+ * gravado; ao reabrir o diretório, a lista volta ao último estado gravado.
+ * <p>
+ * O tempo de espera pela gravação do diário é registrado nas métricas como {@link Operacao#ESPERA_DIARIO}.
+ */
+public class PrincipalDuravel extends PrincipalConcorrente implements AutoCloseable {
+    private static final Pattern ARQUIVO_GERACAO = Pattern.compile("(snapshot|diario)-(\\d+)\\.(bin|log)");
+    private static final int REGISTROS_POR_SNAPSHOT_PADRAO = 100_000;
+
+    private static final byte INSERIR = 1;
+    private static final byte REMOVER = 2;
+    private static final byte AUMENTAR_SALARIOS = 3;
+    private static final byte ORDENAR_POR_NOME = 4;
+    private static final byte APLICAR_POLITICA_REAJUSTE = 5;
+
+    /**
+     * Tamanho que, no lugar do tamanho de {@link DataOutputStream#writeUTF(String)}, indica um texto
+     * gravado com o tamanho em 4 bytes, para textos que não cabem no limite de 64 KB.
+     */
+    private static final int TEXTO_LONGO = 0xFFFF;
+
+    private static final String DIARIO_FECHADO = "O diário não aceita mais registros; reabra a lista para continuar a alterá-la.";
+
+    private final Path diretorio;
+    private final boolean sincronizar;
+    private final int registrosPorSnapshot;
+
+    private DiarioMutacoes diario;
+    private long geracao;
+    private int registrosNoDiario;
+
+    private PrincipalDuravel(Path diretorio, boolean sincronizar, int registrosPorSnapshot) {
+        this.diretorio = diretorio;
+        this.sincronizar = sincronizar;
+        this.registrosPorSnapshot = registrosPorSnapshot;
+    }
+
+    /**
+     * Abre a lista de funcionários gravada em um diretório, criando-o se necessário.
+     *
+     * @param diretorio   O diretório onde ficam o snapshot e o diário.
+     * @param sincronizar true para executar fsync antes de confirmar cada alteração.
+     * @return A lista recuperada a partir do disco.
+     * @throws IOException Se os arquivos não puderem ser lidos ou criados.
+     */
+    public static PrincipalDuravel abrir(Path diretorio, boolean sincronizar) throws IOException {
+        return abrir(diretorio, sincronizar, REGISTROS_POR_SNAPSHOT_PADRAO);
+    }
+
+    /**
+     * Abre a lista de funcionários gravada em um diretório, criando-o se necessário.
+     *
+     * @param diretorio            O diretório onde ficam o snapshot e o diário.
+     * @param sincronizar          true para executar fsync antes de confirmar cada alteração.
+     * @param registrosPorSnapshot A quantidade de registros no diário que dispara um novo snapshot.
+     * @return A lista recuperada a partir do disco.
+     * @throws IOException Se os arquivos não puderem ser lidos ou criados.
+     */
+    public static PrincipalDuravel abrir(Path diretorio, boolean sincronizar, int registrosPorSnapshot) throws IOException {
+        if (registrosPorSnapshot <= 0) {
+            throw new IllegalArgumentException("A quantidade de registros por snapshot deve ser maior que zero.");
+        }
+        Files.createDirectories(diretorio);
+        PrincipalDuravel principal = new PrincipalDuravel(diretorio, sincronizar, registrosPorSnapshot);
+        principal.recuperar();
+        return principal;
+    }
+
+    /**
+     * Carrega o snapshot mais recente, reaplica os diários posteriores e abre o diário atual.
+     */
+    private void recuperar() throws IOException {
+        TreeMap<Long, Path> snapshots = new TreeMap<>();
+        TreeMap<Long, Path> diarios = new TreeMap<>();
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                Matcher matcher = ARQUIVO_GERACAO.matcher(arquivo.getFileName().toString());
+                if (matcher.matches()) {
+                    long numero = Long.parseLong(matcher.group(2));
+                    (matcher.group(1).equals("snapshot") ? snapshots : diarios).put(numero, arquivo);
+                }
+            }
+        }
+        if (!snapshots.isEmpty()) {
+            geracao = snapshots.lastKey();
+            try (ArquivoFuncionarios snapshot = ArquivoFuncionarios.abrir(snapshots.lastEntry().getValue())) {
+                for (int i = 0; i < snapshot.tamanho(); i++) {
+                    restaurarFuncionario(snapshot.ler(i));
+                }
+            }
+        }
+        for (var entrada : diarios.tailMap(geracao, true).entrySet()) {
+            for (ByteBuffer registro : DiarioMutacoes.ler(entrada.getValue())) {
+                reaplicar(new DataInputStream(new ByteArrayInputStream(registro.array(),
+                        registro.arrayOffset() + registro.position(), registro.remaining())));
+                registrosNoDiario++;
+            }
+            geracao = entrada.getKey();
+        }
+        diario = DiarioMutacoes.abrir(arquivoDiario(geracao), sincronizar);
+        sincronizarDiretorio();
+    }
+
+    private void reaplicar(DataInputStream entrada) throws IOException {
+        byte tipo = entrada.readByte();
+        switch (tipo) {
+            case INSERIR -> restaurarFuncionario(new Funcionario(lerTexto(entrada), LocalDate.ofEpochDay(entrada.readLong()),
+                    new BigDecimal(lerTexto(entrada)), lerTexto(entrada)));
+            case REMOVER -> super.removerFuncionarioPorNome(lerTexto(entrada));
+            case AUMENTAR_SALARIOS -> super.aumentarSalarios(new BigDecimal(lerTexto(entrada)));
+            case ORDENAR_POR_NOME -> {
+                // Gravado por versões em que o relatório ordenado reordenava a lista; hoje não altera nada.
+            }
+            case APLICAR_POLITICA_REAJUSTE -> {
+                LocalDate referencia = LocalDate.ofEpochDay(entrada.readLong());
+                super.aplicarPoliticaReajuste(lerPolitica(entrada), referencia);
+            }
+            default -> throw new IOException("Tipo de registro desconhecido no diário: " + tipo);
+        }
+    }
+
+    @Override
+    public boolean inserirFuncionario(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
+        return registrar(() -> super.inserirFuncionario(nome, dataNascimento, salario, funcao),
+                registroInsercao(nome, dataNascimento, salario, funcao));
+    }
+
+    @Override
+    public ResultadoInsercao inserirFuncionarios(Collection<Funcionario> novos) {
+        if (diario == null || novos == null) {
+            return super.inserirFuncionarios(novos);
+        }
+        long[] sequencia = {0};
+        DiarioMutacoes[] diarioDoLote = {null};
+        ResultadoInsercao resultado = escrever(() -> {
+            if (!diarioAceitaRegistros()) {
+                return rejeitarTodos(novos, new ResultadoInsercao(), DIARIO_FECHADO);
+            }
+            ResultadoInsercao inseridos = super.inserirFuncionarios(novos);
+            Iterator<ResultadoInsercao.Rejeicao> rejeicoes = inseridos.getRejeitados().iterator();
+            long proximaRejeicao = rejeicoes.hasNext() ? rejeicoes.next().getLinha() : -1;
+            long posicao = 0;
+            try {
+                for (Funcionario funcionario : novos) {
+                    if (++posicao == proximaRejeicao) {
+                        proximaRejeicao = rejeicoes.hasNext() ? rejeicoes.next().getLinha() : -1;
+                        continue;
+                    }
+                    sequencia[0] = anexar(registroInsercao(funcionario.getNome(), funcionario.getDataNascimento(),
+                            funcionario.getSalario(), funcionario.getFuncao()));
+                }
+                diarioDoLote[0] = diario;
+            } catch (IOException e) {
+                String erro = "Erro ao registrar inserções no diário: " + e.getMessage();
+                System.out.println(erro);
+                return rejeitarTodos(novos, inseridos, erro);
+            }
+            compactarSeNecessario();
+            return inseridos;
+        });
+        if (diarioDoLote[0] != null && !escrevendo()) {
+            String erro = aguardarGravacao(diarioDoLote[0], sequencia[0]);
+            if (erro != null) {
+                System.out.println(erro);
+                return rejeitarTodos(novos, resultado, erro);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Monta o resultado de um lote cujas inserções não foram gravadas no diário: as linhas recusadas
+     * na validação mantêm o seu motivo e as demais são recusadas pelo erro do diário. As linhas
+     * válidas podem já estar na lista em memória, mas não sobrevivem à reabertura do diretório.
+     */
+    private static ResultadoInsercao rejeitarTodos(Collection<Funcionario> novos, ResultadoInsercao validacao, String motivo) {
+        ResultadoInsercao rejeitados = new ResultadoInsercao();
+        Iterator<ResultadoInsercao.Rejeicao> rejeicoes = validacao.getRejeitados().iterator();
+        ResultadoInsercao.Rejeicao proximaRejeicao = rejeicoes.hasNext() ? rejeicoes.next() : null;
+        for (long posicao = 1; posicao <= novos.size(); posicao++) {
+            if (proximaRejeicao != null && proximaRejeicao.getLinha() == posicao) {
+                rejeitados.registrarRejeicao(posicao, proximaRejeicao.getMotivo());
+                proximaRejeicao = rejeicoes.hasNext() ? rejeicoes.next() : null;
+            } else {
+                rejeitados.registrarRejeicao(posicao, motivo);
+            }
+        }
+        return rejeitados;
+    }
+
+    private static EscritorRegistro registroInsercao(String nome, LocalDate dataNascimento, BigDecimal salario, String funcao) {
+        return saida -> {
+            saida.writeByte(INSERIR);
+            escreverTexto(saida, nome);
+            saida.writeLong(dataNascimento.toEpochDay());
+            escreverTexto(saida, salario.toString());
+            escreverTexto(saida, funcao);
+        };
+    }
+
+    @Override
+    public boolean removerFuncionarioPorNome(String nome) {
+        return registrar(() -> super.removerFuncionarioPorNome(nome), saida -> {
+            saida.writeByte(REMOVER);
+            escreverTexto(saida, nome);
+        });
+    }
+
+    @Override
+    public boolean aumentarSalarios(BigDecimal percentual) {
+        return registrar(() -> super.aumentarSalarios(percentual), saida -> {
+            saida.writeByte(AUMENTAR_SALARIOS);
+            escreverTexto(saida, percentual.toString());
+        });
+    }
+
+    @Override
+    public ResultadoReajuste aplicarPoliticaReajuste(PoliticaReajuste politica) {
+        return aplicarPoliticaReajuste(politica, LocalDate.now());
+    }
+
+    @Override
+    public ResultadoReajuste aplicarPoliticaReajuste(PoliticaReajuste politica, LocalDate referencia) {
+        ResultadoReajuste[] resultado = {null};
+        registrar(() -> {
+            resultado[0] = super.aplicarPoliticaReajuste(politica, referencia);
+            return resultado[0].getReajustados() > 0;
+        }, saida -> {
+            saida.writeByte(APLICAR_POLITICA_REAJUSTE);
+            saida.writeLong(referencia.toEpochDay());
+            escreverPolitica(saida, politica);
+        });
+        return resultado[0];
+    }
+
+    private static void escreverPolitica(DataOutputStream saida, PoliticaReajuste politica) throws IOException {
+        saida.writeInt(politica.getRegras().size());
+        for (RegraReajuste regra : politica.getRegras()) {
+            escreverTexto(saida, regra.getPercentual().toString());
+            escreverOpcional(saida, regra.getFuncao());
+            escreverOpcional(saida, regra.getSalarioMinimo() == null ? null : regra.getSalarioMinimo().toString());
+            escreverOpcional(saida, regra.getSalarioMaximo() == null ? null : regra.getSalarioMaximo().toString());
+            saida.writeInt(regra.getIdadeMinima() == null ? -1 : regra.getIdadeMinima());
+            saida.writeInt(regra.getIdadeMaxima() == null ? -1 : regra.getIdadeMaxima());
+        }
+    }
+
+    private static PoliticaReajuste lerPolitica(DataInputStream entrada) throws IOException {
+        PoliticaReajuste politica = new PoliticaReajuste();
+        int quantidade = entrada.readInt();
+        for (int i = 0; i < quantidade; i++) {
+            RegraReajuste regra = new RegraReajuste(new BigDecimal(lerTexto(entrada)));
+            regra.paraFuncao(lerOpcional(entrada));
+            String salarioMinimo = lerOpcional(entrada);
+            String salarioMaximo = lerOpcional(entrada);
+            regra.comSalarioEntre(salarioMinimo == null ? null : new BigDecimal(salarioMinimo),
+                    salarioMaximo == null ? null : new BigDecimal(salarioMaximo));
+            int idadeMinima = entrada.readInt();
+            int idadeMaxima = entrada.readInt();
+            regra.comIdadeEntre(idadeMinima < 0 ? null : idadeMinima, idadeMaxima < 0 ? null : idadeMaxima);
+            politica.adicionarRegra(regra);
+        }
+        return politica;
+    }
+
+    private static void escreverOpcional(DataOutputStream saida, String valor) throws IOException {
+        saida.writeBoolean(valor != null);
+        if (valor != null) {
+            escreverTexto(saida, valor);
+        }
+    }
+
+    private static String lerOpcional(DataInputStream entrada) throws IOException {
+        return entrada.readBoolean() ? lerTexto(entrada) : null;
+    }
+
+    /**
+     * Escreve um texto como {@link DataOutputStream#writeUTF(String)}, ou, se ele não couber no
+     * tamanho de 2 bytes, como {@link #TEXTO_LONGO} seguido do tamanho em 4 bytes e do texto em UTF-8.
+     */
+    private static void escreverTexto(DataOutputStream saida, String texto) throws IOException {
+        long tamanho = 0;
+        for (int i = 0; i < texto.length() && tamanho < TEXTO_LONGO; i++) {
+            char c = texto.charAt(i);
+            tamanho += c >= 0x01 && c <= 0x7F ? 1 : c <= 0x7FF ? 2 : 3;
+        }
+        if (tamanho < TEXTO_LONGO) {
+            saida.writeUTF(texto);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        saida.writeShort(TEXTO_LONGO);
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    private static String lerTexto(DataInputStream entrada) throws IOException {
+        entrada.mark(2);
+        if (entrada.readUnsignedShort() != TEXTO_LONGO) {
+            entrada.reset();
+            return entrada.readUTF();
+        }
+        return new String(entrada.readNBytes(entrada.readInt()), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean carregarFuncionarios(Path arquivo) {
+        return escrever(() -> {
+            boolean carregado = super.carregarFuncionarios(arquivo);
+            return aguardarDiario(diario, diario.ultimaSequencia()) && carregado;
+        });
+    }
+
+    /**
+     * Grava um snapshot do estado atual e inicia um novo diário, descartando os arquivos anteriores.
+     *
+     * @return true se o snapshot foi gravado com sucesso, ou false se houve um erro.
+     */
+    public boolean criarSnapshot() {
+        return escrever(() -> {
+            try {
+                compactar();
+                return true;
+            } catch (IOException e) {
+                System.out.println("Erro ao criar snapshot: " + e.getMessage());
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Grava todos os registros pendentes e fecha o diário.
+     *
+     * @throws IOException Se houver erro ao gravar ou fechar o diário.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            escrever(() -> {
+                try {
+                    diario.close();
+                    return null;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Aplica uma alteração e, se ela for bem-sucedida, anexa o seu registro ao diário sob a mesma
+     * trava de escrita, aguardando a gravação depois de liberar a trava. A alteração não é aplicada
+     * se o diário já não aceita registros.
+     */
+    private boolean registrar(BooleanSupplier alteracao, EscritorRegistro escritor) {
+        if (diario == null) {
+            return alteracao.getAsBoolean();
+        }
+        long[] sequencia = {0};
+        DiarioMutacoes[] diarioDoRegistro = {null};
+        boolean sucesso = escrever(() -> {
+            if (!diarioAceitaRegistros() || !alteracao.getAsBoolean()) {
+                return false;
+            }
+            try {
+                sequencia[0] = anexar(escritor);
+                diarioDoRegistro[0] = diario;
+            } catch (IOException e) {
+                System.out.println("Erro ao registrar alteração no diário: " + e.getMessage());
+                return false;
+            }
+            compactarSeNecessario();
+            return true;
+        });
+        if (!sucesso || escrevendo()) {
+            return sucesso;
+        }
+        return aguardarDiario(diarioDoRegistro[0], sequencia[0]);
+    }
+
+    /**
+     * Anexa um registro ao diário atual. Deve ser chamado com a trava de escrita.
+     *
+     * @return A sequência do registro no diário atual.
+     */
+    private long anexar(EscritorRegistro escritor) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        escritor.escrever(new DataOutputStream(bytes));
+        registrosNoDiario++;
+        return diario.anexar(bytes.toByteArray());
+    }
+
+    /**
+     * Verifica se o diário atual aceita registros. Deve ser chamado com a trava de escrita, antes de
+     * aplicar a alteração, para que a lista em memória não avance além do que pode ser gravado.
+     */
+    private boolean diarioAceitaRegistros() {
+        if (diario.aceitaRegistros()) {
+            return true;
+        }
+        System.out.println(DIARIO_FECHADO);
+        return false;
+    }
+
+    /**
+     * Grava um snapshot se o diário atual atingiu o limite de registros. Deve ser chamado com a
+     * trava de escrita, depois de anexados todos os registros da alteração. Um erro no snapshot não
+     * desfaz a alteração, que já está no diário anterior; se esse diário não puder ser gravado, quem
+     * aguarda o registro recebe o erro.
+     */
+    private void compactarSeNecessario() {
+        if (registrosNoDiario >= registrosPorSnapshot) {
+            try {
+                compactar();
+            } catch (IOException e) {
+                System.out.println("Erro ao criar snapshot: " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean aguardarDiario(DiarioMutacoes diario, long sequencia) {
+        String erro = aguardarGravacao(diario, sequencia);
+        if (erro != null) {
+            System.out.println(erro);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Aguarda a gravação de um registro do diário.
+     *
+     * @return A mensagem de erro da gravação, ou null se o registro foi gravado.
+     */
+    private String aguardarGravacao(DiarioMutacoes diario, long sequencia) {
+        long inicio = getMetricas().iniciar(Operacao.ESPERA_DIARIO);
+        try {
+            diario.aguardar(sequencia);
+            return null;
+        } catch (IOException e) {
+            return "Erro ao gravar o diário: " + e.getMessage();
+        } finally {
+            getMetricas().registrar(Operacao.ESPERA_DIARIO, inicio);
+        }
+    }
+
+    /**
+     * Inicia um novo diário, grava o snapshot correspondente e remove os arquivos anteriores.
+     * Deve ser chamado com a trava de escrita.
+     */
+    private void compactar() throws IOException {
+        long anterior = geracao;
+        diario.close();
+        diario = DiarioMutacoes.abrir(arquivoDiario(anterior + 1), sincronizar);
+        geracao = anterior + 1;
+        registrosNoDiario = 0;
+
+        Path temporario = diretorio.resolve("snapshot-" + geracao + ".tmp");
+        if (!salvarFuncionarios(temporario)) {
+            throw new IOException("Não foi possível gravar o snapshot " + temporario);
+        }
+        Files.move(temporario, arquivoSnapshot(geracao), StandardCopyOption.ATOMIC_MOVE);
+        // A renomeação e o novo diário só são duráveis depois do fsync do diretório; sem ele, uma
+        // queda após apagar os arquivos anteriores poderia deixar o diretório sem o snapshot novo.
+        sincronizarDiretorio();
+        Files.deleteIfExists(arquivoDiario(anterior));
+        Files.deleteIfExists(arquivoSnapshot(anterior));
+    }
+
+    /**
+     * Executa fsync no diretório, gravando as entradas de arquivos criados ou renomeados nele.
+     * Sistemas que não permitem abrir um diretório para leitura, como o Windows, não oferecem essa
+     * sincronização, e a falha ao abri-lo é ignorada.
+     */
+    private void sincronizarDiretorio() throws IOException {
+        FileChannel canal;
+        try {
+            canal = FileChannel.open(diretorio, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (canal) {
+            canal.force(true);
+        }
+    }
+
+    private Path arquivoDiario(long numero) {
+        return diretorio.resolve("diario-" + numero + ".log");
+    }
+
+    private Path arquivoSnapshot(long numero) {
+        return diretorio.resolve("snapshot-" + numero + ".bin");
+    }
+
+    /**
+     * Escreve o conteúdo de um registro do diário.
+     */
+    @FunctionalInterface
+    private interface EscritorRegistro {
+        void escrever(DataOutputStream saida) throws IOException;
+    }
+}
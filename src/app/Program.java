@@ -72,7 +72,10 @@ public class Program {
         principal.imprimirSalariosMinimos(new BigDecimal("1212.00"));
         System.out.println("3.12 Imprimir quantos salários mínimos ganha cada funcionário considerando um salário mínimo de R$1.212,00");
 
-        // Buscar funcionário informando um nome específico, por hora a busca é exata
+        // Buscar funcionário informando um nome específico, a busca é exata
         principal.buscarFuncionariosPorNome("Maria");
+
+        // Buscar funcionários pelo início do nome, sem diferenciar acentos, retornando a primeira página de resultados.
+        principal.buscarFuncionariosPorPrefixo("Hel", 0, 10);
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package app;
+
+import java.math.BigDecimal;
+
+/**
+ * Regra de uma política de reajuste: o percentual aplicado e os critérios que o funcionário deve
+ * atender. Critérios não informados aceitam qualquer funcionário.
+ */
+public class RegraReajuste {
+    private final BigDecimal percentual;
+    private String funcao;
+    private BigDecimal salarioMinimo;
+    private BigDecimal salarioMaximo;
+    private Integer idadeMinima;
+    private Integer idadeMaxima;
+
+    /**
+     * Cria uma regra que reajusta pelo percentual informado qualquer funcionário.
+     *
+     * @param percentual O percentual do reajuste, como fração (0.10 para 10%).
+     */
+    public RegraReajuste(BigDecimal percentual) {
+        this.percentual = percentual;
+    }
+
+    /**
+     * Restringe a regra aos funcionários de uma função.
+     *
+     * @param funcao A função exigida.
+     * @return Esta regra.
+     */
+    public RegraReajuste paraFuncao(String funcao) {
+        this.funcao = funcao;
+        return this;
+    }
+
+    /**
+     * Restringe a regra a uma faixa salarial, considerando o salário antes do reajuste.
+     *
+     * @param salarioMinimo O menor salário, inclusive, ou null para não limitar.
+     * @param salarioMaximo O maior salário, inclusive, ou null para não limitar.
+     * @return Esta regra.
+     */
+    public RegraReajuste comSalarioEntre(BigDecimal salarioMinimo, BigDecimal salarioMaximo) {
+        this.salarioMinimo = salarioMinimo;
+        this.salarioMaximo = salarioMaximo;
+        return this;
+    }
+
+    /**
+     * Restringe a regra a uma faixa etária, em anos completos na data de referência do reajuste.
+     *
+     * @param idadeMinima A menor idade, inclusive, ou null para não limitar.
+     * @param idadeMaxima A maior idade, inclusive, ou null para não limitar.
+     * @return Esta regra.
+     */
+    public RegraReajuste comIdadeEntre(Integer idadeMinima, Integer idadeMaxima) {
+        this.idadeMinima = idadeMinima;
+        this.idadeMaxima = idadeMaxima;
+        return this;
+    }
+
+    /**
+     * Obtém o percentual do reajuste.
+     *
+     * @return O percentual, como fração.
+     */
+    public BigDecimal getPercentual() {
+        return percentual;
+    }
+
+    /**
+     * Obtém a função exigida pela regra.
+     *
+     * @return A função, ou null se a regra aceita qualquer função.
+     */
+    public String getFuncao() {
+        return funcao;
+    }
+
+    /**
+     * Obtém o menor salário aceito pela regra.
+     *
+     * @return O menor salário, ou null se não houver limite.
+     */
+    public BigDecimal getSalarioMinimo() {
+        return salarioMinimo;
+    }
+
+    /**
+     * Obtém o maior salário aceito pela regra.
+     *
+     * @return O maior salário, ou null se não houver limite.
+     */
+    public BigDecimal getSalarioMaximo() {
+        return salarioMaximo;
+    }
+
+    /**
+     * Obtém a menor idade aceita pela regra.
+     *
+     * @return A menor idade, ou null se não houver limite.
+     */
+    public Integer getIdadeMinima() {
+        return idadeMinima;
+    }
+
+    /**
+     * Obtém a maior idade aceita pela regra.
+     *
+     * @return A maior idade, ou null se não houver limite.
+     */
+    public Integer getIdadeMaxima() {
+        return idadeMaxima;
+    }
+
+    /**
+     * Valida o percentual e as faixas da regra.
+     *
+     * @return A mensagem de erro da primeira inconsistência, ou null se a regra for válida.
+     */
+    String validar() {
+        if (percentual == null || percentual.compareTo(BigDecimal.ZERO) <= 0) {
+            return "O percentual da regra deve ser maior que zero.";
+        }
+        if (salarioMinimo != null && salarioMaximo != null && salarioMinimo.compareTo(salarioMaximo) > 0) {
+            return "O salário mínimo da regra não pode superar o salário máximo.";
+        }
+        if ((idadeMinima != null && idadeMinima < 0) || (idadeMaxima != null && idadeMaxima < 0)
+                || (idadeMinima != null && idadeMaxima != null && idadeMinima > idadeMaxima)) {
+            return "As idades da regra não podem ser negativas e a mínima não pode superar a máxima.";
+        }
+        return null;
+    }
+}
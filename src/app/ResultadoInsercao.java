@@ -0,0 +1,94 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de uma inserção de vários funcionários: a quantidade inserida e as linhas rejeitadas com o motivo.
+ */
+public class ResultadoInsercao {
+
+    /**
+     * Uma linha rejeitada na inserção.
+     */
+    public static class Rejeicao {
+        private final long linha;
+        private final String motivo;
+
+        /**
+         * Cria uma rejeição.
+         *
+         * @param linha  A linha rejeitada.
+         * @param motivo O motivo da rejeição.
+         */
+        public Rejeicao(long linha, String motivo) {
+            this.linha = linha;
+            this.motivo = motivo;
+        }
+
+        /**
+         * Obtém a linha rejeitada.
+         *
+         * @return A linha rejeitada.
+         */
+        public long getLinha() {
+            return linha;
+        }
+
+        /**
+         * Obtém o motivo da rejeição.
+         *
+         * @return O motivo da rejeição.
+         */
+        public String getMotivo() {
+            return motivo;
+        }
+
+        @Override
+        public String toString() {
+            return "Linha " + linha + ": " + motivo;
+        }
+    }
+
+    private long inseridos;
+    private final List<Rejeicao> rejeitados = new ArrayList<>();
+
+    /**
+     * Obtém a quantidade de funcionários inseridos.
+     *
+     * @return A quantidade de funcionários inseridos.
+     */
+    public long getInseridos() {
+        return inseridos;
+    }
+
+    /**
+     * Obtém as linhas rejeitadas, na ordem em que aparecem na entrada.
+     *
+     * @return Uma lista não modificável com as linhas rejeitadas.
+     */
+    public List<Rejeicao> getRejeitados() {
+        return Collections.unmodifiableList(rejeitados);
+    }
+
+    void registrarInsercao() {
+        inseridos++;
+    }
+
+    void registrarInsercoes(long quantidade) {
+        inseridos += quantidade;
+    }
+
+    void registrarRejeicao(long linha, String motivo) {
+        rejeitados.add(new Rejeicao(linha, motivo));
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoInsercao{" +
+                "inseridos=" + inseridos +
+                ", rejeitados=" + rejeitados.size() +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package app;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de uma política de reajuste, aplicada ou apenas simulada: quantos funcionários são
+ * reajustados e a folha de pagamento antes e depois do reajuste.
+ */
+public class ResultadoReajuste {
+    private final long reajustados;
+    private final BigDecimal totalAnterior;
+    private final BigDecimal diferenca;
+
+    ResultadoReajuste(long reajustados, BigDecimal totalAnterior, BigDecimal diferenca) {
+        this.reajustados = reajustados;
+        this.totalAnterior = totalAnterior;
+        this.diferenca = diferenca;
+    }
+
+    /**
+     * Obtém a quantidade de funcionários reajustados.
+     *
+     * @return A quantidade de funcionários que atendem alguma regra da política.
+     */
+    public long getReajustados() {
+        return reajustados;
+    }
+
+    /**
+     * Obtém o total dos salários antes do reajuste.
+     *
+     * @return O total dos salários antes do reajuste.
+     */
+    public BigDecimal getTotalAnterior() {
+        return totalAnterior;
+    }
+
+    /**
+     * Obtém o total dos salários depois do reajuste.
+     *
+     * @return O total dos salários depois do reajuste.
+     */
+    public BigDecimal getTotalReajustado() {
+        return totalAnterior.add(diferenca);
+    }
+
+    /**
+     * Obtém o aumento da folha de pagamento causado pelo reajuste.
+     *
+     * @return A diferença entre o total depois e antes do reajuste.
+     */
+    public BigDecimal getDiferenca() {
+        return diferenca;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoReajuste{" +
+                "reajustados=" + reajustados +
+                ", totalAnterior=" + totalAnterior +
+                ", diferenca=" + diferenca +
+                '}';
+    }
+}
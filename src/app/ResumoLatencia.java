@@ -0,0 +1,116 @@
+package app;
+
+/**
+ * Resumo das latências registradas para uma operação, em nanossegundos. Os percentis são o limite
+ * superior da faixa do histograma em que caem, limitados à maior latência registrada.
+ */
+public class ResumoLatencia {
+    private final Operacao operacao;
+    private final long quantidade;
+    private final long tempoTotalNanos;
+    private final long maximoNanos;
+    private final long percentil50Nanos;
+    private final long percentil90Nanos;
+    private final long percentil99Nanos;
+    private final long percentil999Nanos;
+
+    ResumoLatencia(Operacao operacao, long quantidade, long tempoTotalNanos, long maximoNanos, long percentil50Nanos,
+                   long percentil90Nanos, long percentil99Nanos, long percentil999Nanos) {
+        this.operacao = operacao;
+        this.quantidade = quantidade;
+        this.tempoTotalNanos = tempoTotalNanos;
+        this.maximoNanos = maximoNanos;
+        this.percentil50Nanos = percentil50Nanos;
+        this.percentil90Nanos = percentil90Nanos;
+        this.percentil99Nanos = percentil99Nanos;
+        this.percentil999Nanos = percentil999Nanos;
+    }
+
+    /**
+     * Obtém a operação.
+     *
+     * @return A operação.
+     */
+    public Operacao getOperacao() {
+        return operacao;
+    }
+
+    /**
+     * Obtém a quantidade de execuções registradas.
+     *
+     * @return A quantidade de execuções.
+     */
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Obtém a soma das latências registradas.
+     *
+     * @return O tempo total, em nanossegundos.
+     */
+    public long getTempoTotalNanos() {
+        return tempoTotalNanos;
+    }
+
+    /**
+     * Obtém a latência média.
+     *
+     * @return A média, em nanossegundos, ou zero se não houver execuções.
+     */
+    public long getMediaNanos() {
+        return quantidade == 0 ? 0 : tempoTotalNanos / quantidade;
+    }
+
+    /**
+     * Obtém a maior latência registrada.
+     *
+     * @return O máximo, em nanossegundos.
+     */
+    public long getMaximoNanos() {
+        return maximoNanos;
+    }
+
+    /**
+     * Obtém a mediana das latências.
+     *
+     * @return O percentil 50, em nanossegundos.
+     */
+    public long getPercentil50Nanos() {
+        return percentil50Nanos;
+    }
+
+    /**
+     * Obtém o percentil 90 das latências.
+     *
+     * @return O percentil 90, em nanossegundos.
+     */
+    public long getPercentil90Nanos() {
+        return percentil90Nanos;
+    }
+
+    /**
+     * Obtém o percentil 99 das latências.
+     *
+     * @return O percentil 99, em nanossegundos.
+     */
+    public long getPercentil99Nanos() {
+        return percentil99Nanos;
+    }
+
+    /**
+     * Obtém o percentil 99,9 das latências.
+     *
+     * @return O percentil 99,9, em nanossegundos.
+     */
+    public long getPercentil999Nanos() {
+        return percentil999Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return operacao + " quantidade=" + quantidade + " media=" + getMediaNanos() + "ns p50=" + percentil50Nanos
+                + "ns p90=" + percentil90Nanos + "ns p99=" + percentil99Nanos + "ns p99.9=" + percentil999Nanos
+                + "ns max=" + maximoNanos + "ns";
+    }
+}
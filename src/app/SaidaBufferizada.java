@@ -0,0 +1,79 @@
+package app;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Base das saídas de relatório que montam o conteúdo em um {@link StringBuilder} reutilizado e só
+ * o enviam ao destino quando ele passa de {@value #TAMANHO_BUFFER} caracteres ou quando o
+ * relatório termina, em vez de fazer uma escrita por linha.
+ */
+abstract class SaidaBufferizada implements SaidaRelatorio {
+    private static final int TAMANHO_BUFFER = 8_192;
+
+    /**
+     * O conteúdo ainda não enviado ao destino.
+     */
+    protected final StringBuilder buffer = new StringBuilder(TAMANHO_BUFFER + 256);
+
+    private final Writer destino;
+
+    /**
+     * Cria uma saída para um Writer.
+     *
+     * @param destino O Writer de destino, ou null para a saída padrão do processo.
+     */
+    SaidaBufferizada(Writer destino) {
+        this.destino = destino;
+    }
+
+    /**
+     * Envia o buffer ao destino se ele tiver atingido o tamanho máximo. Deve ser chamado pelas
+     * subclasses após cada escrita.
+     */
+    protected void enviarSeCheio() {
+        if (buffer.length() >= TAMANHO_BUFFER) {
+            enviar();
+        }
+    }
+
+    @Override
+    public void descarregar() {
+        enviar();
+        if (destino == null) {
+            System.out.flush();
+            return;
+        }
+        try {
+            destino.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        descarregar();
+        if (destino != null) {
+            try {
+                destino.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void enviar() {
+        if (destino == null) {
+            System.out.append(buffer);
+        } else {
+            try {
+                destino.append(buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        buffer.setLength(0);
+    }
+}
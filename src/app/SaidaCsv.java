@@ -0,0 +1,89 @@
+package app;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Saída de relatório em CSV, com uma linha de cabeçalho e uma linha por funcionário. As linhas de
+ * texto do relatório não são escritas.
+ * <p>
+ * As colunas seguem o formato lido por {@link ImportadorCsv}: nome, data de nascimento
+ * ({@code dd/MM/yyyy}), salário com ponto decimal e função. Campos que contêm o separador, aspas
+ * ou quebras de linha são escritos entre aspas; o importador não aceita esses campos.
+ */
+public class SaidaCsv extends SaidaBufferizada {
+    private final char separador;
+    private boolean cabecalhoEscrito;
+
+    /**
+     * Cria uma saída CSV separada por ponto e vírgula.
+     *
+     * @param destino O Writer de destino.
+     */
+    public SaidaCsv(Writer destino) {
+        this(destino, ';');
+    }
+
+    /**
+     * Cria uma saída CSV.
+     *
+     * @param destino   O Writer de destino.
+     * @param separador O separador de campos.
+     */
+    public SaidaCsv(Writer destino, char separador) {
+        super(destino);
+        this.separador = separador;
+    }
+
+    /**
+     * Cria uma saída CSV separada por ponto e vírgula em um arquivo UTF-8, substituindo o conteúdo existente.
+     *
+     * @param arquivo O caminho do arquivo.
+     * @return A saída criada.
+     * @throws IOException Se o arquivo não puder ser criado.
+     */
+    public static SaidaCsv paraArquivo(Path arquivo) throws IOException {
+        return new SaidaCsv(Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void linha(String texto) {
+    }
+
+    @Override
+    public void funcionario(Funcionario funcionario) {
+        if (!cabecalhoEscrito) {
+            buffer.append("nome").append(separador).append("dataNascimento").append(separador)
+                    .append("salario").append(separador).append("funcao").append('\n');
+            cabecalhoEscrito = true;
+        }
+        campo(funcionario.getNome());
+        buffer.append(separador);
+        Formatador.formatarData(funcionario.getDataNascimento(), buffer);
+        buffer.append(separador);
+        buffer.append(funcionario.getSalario().toPlainString());
+        buffer.append(separador);
+        campo(funcionario.getFuncao());
+        buffer.append('\n');
+        enviarSeCheio();
+    }
+
+    private void campo(String valor) {
+        if (valor.indexOf(separador) < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            buffer.append(valor);
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                buffer.append('"');
+            }
+            buffer.append(c);
+        }
+        buffer.append('"');
+    }
+}
@@ -0,0 +1,104 @@
+package app;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Saída de relatório em JSON: um array com um objeto por funcionário, fechado em {@link #close()}.
+ * As linhas de texto do relatório não são escritas.
+ * <p>
+ * A data de nascimento é escrita no formato ISO ({@code yyyy-MM-dd}) e o salário como número.
+ */
+public class SaidaJson extends SaidaBufferizada {
+    private boolean primeiro = true;
+
+    /**
+     * Cria uma saída JSON.
+     *
+     * @param destino O Writer de destino.
+     */
+    public SaidaJson(Writer destino) {
+        super(destino);
+        buffer.append('[');
+    }
+
+    /**
+     * Cria uma saída JSON em um arquivo UTF-8, substituindo o conteúdo existente.
+     *
+     * @param arquivo O caminho do arquivo.
+     * @return A saída criada.
+     * @throws IOException Se o arquivo não puder ser criado.
+     */
+    public static SaidaJson paraArquivo(Path arquivo) throws IOException {
+        return new SaidaJson(Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void linha(String texto) {
+    }
+
+    @Override
+    public void funcionario(Funcionario funcionario) {
+        buffer.append(primeiro ? "\n" : ",\n");
+        primeiro = false;
+        objeto(funcionario, buffer);
+        enviarSeCheio();
+    }
+
+    @Override
+    public void close() {
+        buffer.append(primeiro ? "]\n" : "\n]\n");
+        super.close();
+    }
+
+    /**
+     * Escreve um funcionário como objeto JSON.
+     *
+     * @param funcionario O funcionário.
+     * @param destino     O StringBuilder de destino.
+     */
+    static void objeto(Funcionario funcionario, StringBuilder destino) {
+        destino.append("{\"nome\":");
+        texto(funcionario.getNome(), destino);
+        destino.append(",\"dataNascimento\":\"").append(funcionario.getDataNascimento()).append('"');
+        destino.append(",\"salario\":").append(funcionario.getSalario().toPlainString());
+        destino.append(",\"funcao\":");
+        texto(funcionario.getFuncao(), destino);
+        destino.append('}');
+    }
+
+    /**
+     * Escreve um texto como string JSON, escapando aspas, barras e caracteres de controle.
+     *
+     * @param valor   O texto, ou null.
+     * @param destino O StringBuilder de destino.
+     */
+    static void texto(String valor, StringBuilder destino) {
+        if (valor == null) {
+            destino.append("null");
+            return;
+        }
+        destino.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> destino.append("\\\"");
+                case '\\' -> destino.append("\\\\");
+                case '\n' -> destino.append("\\n");
+                case '\r' -> destino.append("\\r");
+                case '\t' -> destino.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        destino.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        destino.append(c);
+                    }
+                }
+            }
+        }
+        destino.append('"');
+    }
+}
@@ -0,0 +1,40 @@
+package app;
+
+import java.io.Closeable;
+
+/**
+ * Destino dos relatórios impressos por {@link Principal}.
+ * <p>
+ * Um relatório é uma sequência de linhas de texto (títulos, totais, mensagens) e de funcionários.
+ * As saídas de texto escrevem as duas coisas; as saídas estruturadas, como CSV e JSON, registram
+ * apenas os funcionários. Erros de escrita são lançados como {@link java.io.UncheckedIOException}.
+ * As implementações não são thread-safe: Principal escreve cada relatório inteiro sincronizado
+ * na própria saída.
+ */
+public interface SaidaRelatorio extends Closeable {
+
+    /**
+     * Escreve uma linha de texto do relatório.
+     *
+     * @param texto O texto da linha.
+     */
+    void linha(String texto);
+
+    /**
+     * Escreve os dados de um funcionário.
+     *
+     * @param funcionario O funcionário a ser escrito.
+     */
+    void funcionario(Funcionario funcionario);
+
+    /**
+     * Envia ao destino o que estiver acumulado em buffer. Chamado ao final de cada relatório.
+     */
+    void descarregar();
+
+    /**
+     * Descarrega o buffer e libera o destino.
+     */
+    @Override
+    void close();
+}
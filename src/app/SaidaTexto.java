@@ -0,0 +1,70 @@
+package app;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Saída de relatório em texto, no formato impresso originalmente por Principal: uma linha para
+ * cada atributo do funcionário. Salários e datas são escritos por {@link Formatador}, direto no buffer.
+ */
+public class SaidaTexto extends SaidaBufferizada {
+    private static final String FIM_LINHA = System.lineSeparator();
+
+    /**
+     * Cria uma saída que escreve na saída padrão do processo.
+     */
+    public SaidaTexto() {
+        super(null);
+    }
+
+    /**
+     * Cria uma saída que escreve em um Writer.
+     *
+     * @param destino O Writer de destino.
+     */
+    public SaidaTexto(Writer destino) {
+        super(destino);
+    }
+
+    /**
+     * Cria uma saída que escreve em um arquivo UTF-8, substituindo o conteúdo existente.
+     *
+     * @param arquivo O caminho do arquivo.
+     * @return A saída criada.
+     * @throws IOException Se o arquivo não puder ser criado.
+     */
+    public static SaidaTexto paraArquivo(Path arquivo) throws IOException {
+        return new SaidaTexto(Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void linha(String texto) {
+        buffer.append(texto).append(FIM_LINHA);
+        enviarSeCheio();
+    }
+
+    @Override
+    public void funcionario(Funcionario funcionario) {
+        buffer.append("Nome: ").append(funcionario.getNome()).append(FIM_LINHA);
+        buffer.append("Data de Nascimento: ");
+        Formatador.formatarData(funcionario.getDataNascimento(), buffer);
+        buffer.append(FIM_LINHA);
+        buffer.append("Salário: ");
+        formatarSalario(funcionario, buffer);
+        buffer.append(FIM_LINHA);
+        buffer.append("Função: ").append(funcionario.getFuncao()).append(FIM_LINHA);
+        enviarSeCheio();
+    }
+
+    private static void formatarSalario(Funcionario funcionario, StringBuilder destino) {
+        long centavos = funcionario.getSalarioCentavos();
+        if (centavos != Dinheiro.INEXATO) {
+            Formatador.formatarMoeda(centavos, destino);
+        } else {
+            Formatador.formatarMoeda(funcionario.getSalario(), destino);
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package app;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor HTTP embutido que expõe uma lista de funcionários como uma API JSON, usando o
+ * {@link HttpServer} do JDK.
+ * <p>
+ * Cada requisição é tratada em uma thread virtual própria, de modo que requisições que esperam
+ * pelas travas da lista ou pela rede não ocupam threads da plataforma. Listas de funcionários são
+ * enviadas com codificação em partes à medida que são escritas, sem montar a resposta inteira em
+ * memória; a listagem completa é lida da lista uma página por vez.
+ * <p>
+ * Rotas:
+ * <ul>
+ *     <li>{@code GET /funcionarios}: todos os funcionários, em ordem alfabética. Com {@code nome}, busca
+ *     pelo nome exato; com {@code prefixo} ou {@code trecho}, busca paginada por {@code pagina} e
+ *     {@code tamanho}.</li>
+ *     <li>{@code POST /funcionarios}: insere um funcionário (objeto JSON) ou vários (array de objetos),
+ *     com os campos {@code nome}, {@code dataNascimento} ({@code yyyy-MM-dd}), {@code salario} e
+ *     {@code funcao}.</li>
+ *     <li>{@code DELETE /funcionarios?nome=}: remove os funcionários com o nome informado.</li>
+ *     <li>{@code GET /funcoes}: os funcionários agrupados por função, com os totais de cada função.</li>
+ *     <li>{@code GET /aniversariantes}: aniversariantes dos {@code meses} informados (separados por
+ *     vírgula) ou dos próximos {@code dias}.</li>
+ *     <li>{@code GET /mais-velhos}: os funcionários mais velhos, limitados por {@code quantidade} (padrão 1).</li>
+ *     <li>{@code GET /salarios/total}: o total dos salários e a quantidade de funcionários.</li>
+ *     <li>{@code POST /salarios/aumento?percentual=}: aumenta os salários pelo percentual, como fração.</li>
+ * </ul>
+ * Parâmetros inválidos são respondidos com o status 400 e um objeto {@code {"erro": ...}}; corpos
+ * maiores que {@value #LIMITE_CORPO_REQUISICAO} bytes, com 413. Falhas inesperadas são registradas
+ * no log do servidor e respondidas com 500 e uma mensagem genérica, sem detalhes internos.
+ * <p>
+ * O servidor não autentica as requisições, e as rotas de remoção e de aumento alteram a lista; por
+ * isso, {@link #main(String[])} escuta apenas no endereço local, a menos que outro seja informado.
+ */
+public class ServidorFuncionarios implements Closeable {
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+    private static final int FILA_CONEXOES = 1_024;
+    private static final int TAMANHO_PAGINA_LISTAGEM = 1_000;
+    private static final int TAMANHO_PAGINA_PADRAO = 50;
+    private static final int TAMANHO_BUFFER = 8_192;
+    private static final int LIMITE_RESPOSTA_UNICA = 64;
+    private static final int LIMITE_CORPO_REQUISICAO = 8 * 1_024 * 1_024;
+    private static final System.Logger LOG = System.getLogger(ServidorFuncionarios.class.getName());
+
+    static {
+        // O HttpServer escreve os cabeçalhos e o corpo da resposta em envios separados. Com o
+        // algoritmo de Nagle ativo, o segundo envio espera a confirmação do primeiro, que o cliente
+        // atrasa em cerca de 40 ms. A propriedade só tem efeito se for definida antes do primeiro
+        // HttpServer criado na JVM, e um valor informado na linha de comando é mantido.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final PrincipalConcorrente principal;
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+
+    /**
+     * Cria um servidor para uma lista de funcionários. O servidor só aceita conexões após
+     * {@link #iniciar()}.
+     *
+     * @param principal A lista de funcionários, compartilhada entre as requisições.
+     * @param endereco  O endereço e a porta de escuta; a porta 0 escolhe uma porta livre.
+     * @throws IOException Se não for possível abrir a porta.
+     */
+    public ServidorFuncionarios(PrincipalConcorrente principal, InetSocketAddress endereco) throws IOException {
+        this.principal = Objects.requireNonNull(principal, "A lista de funcionários não deve ser nula.");
+        this.servidor = HttpServer.create(endereco, FILA_CONEXOES);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        servidor.setExecutor(executor);
+        servidor.createContext("/funcionarios", rota("/funcionarios", this::funcionarios));
+        servidor.createContext("/funcoes", rota("/funcoes", this::funcoes));
+        servidor.createContext("/aniversariantes", rota("/aniversariantes", this::aniversariantes));
+        servidor.createContext("/mais-velhos", rota("/mais-velhos", this::maisVelhos));
+        servidor.createContext("/salarios/total", rota("/salarios/total", this::totalSalarios));
+        servidor.createContext("/salarios/aumento", rota("/salarios/aumento", this::aumentoSalarios));
+    }
+
+    /**
+     * Inicia o servidor em segundo plano.
+     */
+    public void iniciar() {
+        servidor.start();
+    }
+
+    /**
+     * Obtém a porta em que o servidor está escutando.
+     *
+     * @return O número da porta.
+     */
+    public int getPorta() {
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * Para de aceitar conexões e aguarda as requisições em andamento terminarem.
+     */
+    @Override
+    public void close() {
+        servidor.stop(0);
+        executor.close();
+    }
+
+    /**
+     * Inicia um servidor até que o processo seja encerrado.
+     *
+     * @param args A porta (padrão 8080) e, opcionalmente, um diretório para abrir uma lista durável
+     *             com {@link PrincipalDuravel}; sem diretório, a lista começa vazia e fica só em memória.
+     *             O servidor escuta apenas no endereço local; outro endereço, como {@code 0.0.0.0} para
+     *             todas as interfaces, pode ser informado na propriedade {@code servidor.endereco}.
+     * @throws IOException Se não for possível abrir a porta ou o diretório.
+     */
+    public static void main(String[] args) throws IOException {
+        int porta = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        String host = System.getProperty("servidor.endereco");
+        InetAddress endereco = host == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(host);
+        PrincipalConcorrente principal = args.length > 1
+                ? PrincipalDuravel.abrir(Path.of(args[1]), true) : new PrincipalConcorrente();
+        ServidorFuncionarios servidor = new ServidorFuncionarios(principal, new InetSocketAddress(endereco, porta));
+        servidor.iniciar();
+        System.out.println("Servidor de funcionários escutando em " + endereco.getHostAddress() + ":" + servidor.getPorta() + ".");
+    }
+
+    private void funcionarios(HttpExchange troca) throws IOException {
+        Map<String, String> parametros = parametros(troca);
+        switch (troca.getRequestMethod()) {
+            case "GET" -> {
+                if (parametros.containsKey("nome")) {
+                    enviarFuncionarios(troca, principal.buscarFuncionariosPorNome(parametros.get("nome")));
+                } else if (parametros.containsKey("prefixo")) {
+                    enviarFuncionarios(troca, principal.buscarFuncionariosPorPrefixo(parametros.get("prefixo"),
+                            inteiro(parametros, "pagina", 0), inteiro(parametros, "tamanho", TAMANHO_PAGINA_PADRAO)));
+                } else if (parametros.containsKey("trecho")) {
+                    enviarFuncionarios(troca, principal.buscarFuncionariosPorTrecho(parametros.get("trecho"),
+                            inteiro(parametros, "pagina", 0), inteiro(parametros, "tamanho", TAMANHO_PAGINA_PADRAO)));
+                } else {
+                    listarTodos(troca);
+                }
+            }
+            case "POST" -> inserir(troca);
+            case "DELETE" -> {
+                String nome = parametros.get("nome");
+                if (nome == null) {
+                    throw new IllegalArgumentException("Informe o nome do funcionário a ser removido.");
+                }
+                if (principal.removerFuncionarioPorNome(nome)) {
+                    troca.sendResponseHeaders(204, -1);
+                } else {
+                    enviarErro(troca, 404, "Nenhum funcionário encontrado com o nome: " + nome);
+                }
+            }
+            default -> metodoNaoPermitido(troca, "GET, POST, DELETE");
+        }
+    }
+
+    private void listarTodos(HttpExchange troca) throws IOException {
+        try (SaidaJson saida = new SaidaJson(abrirCorpo(troca))) {
+            PaginaFuncionarios.Cursor cursor = null;
+            do {
+                PaginaFuncionarios pagina = principal.listarFuncionariosPorNome(cursor, TAMANHO_PAGINA_LISTAGEM);
+                pagina.getFuncionarios().forEach(saida::funcionario);
+                cursor = pagina.getProximo();
+            } while (cursor != null);
+        }
+    }
+
+    private void inserir(HttpExchange troca) throws IOException {
+        byte[] corpo = lerCorpo(troca);
+        if (corpo == null) {
+            enviarErro(troca, 413, "O corpo da requisição deve ter no máximo " + LIMITE_CORPO_REQUISICAO + " bytes.");
+            return;
+        }
+        Object documento = LeitorJson.ler(new String(corpo, StandardCharsets.UTF_8));
+        List<?> objetos = documento instanceof List<?> lista ? lista : List.of(documento);
+        List<Funcionario> novos = new ArrayList<>(objetos.size());
+        for (int i = 0; i < objetos.size(); i++) {
+            novos.add(funcionario(objetos.get(i), i + 1));
+        }
+        ResultadoInsercao resultado = principal.inserirFuncionarios(novos);
+        StringBuilder json = new StringBuilder("{\"inseridos\":").append(resultado.getInseridos()).append(",\"rejeitados\":[");
+        boolean primeira = true;
+        for (ResultadoInsercao.Rejeicao rejeicao : resultado.getRejeitados()) {
+            json.append(primeira ? "" : ",");
+            primeira = false;
+            json.append("{\"posicao\":").append(rejeicao.getLinha()).append(",\"motivo\":");
+            SaidaJson.texto(rejeicao.getMotivo(), json);
+            json.append('}');
+        }
+        json.append("]}");
+        enviar(troca, resultado.getInseridos() > 0 || novos.isEmpty() ? 201 : 400, json);
+    }
+
+    /**
+     * Lê o corpo da requisição, recusando os que passam do limite sem lê-los inteiros: pelo
+     * cabeçalho Content-Length, quando informado, ou ao ler um byte além do limite.
+     *
+     * @return O corpo da requisição, ou null se ele passar do limite.
+     */
+    private static byte[] lerCorpo(HttpExchange troca) throws IOException {
+        String tamanho = troca.getRequestHeaders().getFirst("Content-Length");
+        if (tamanho != null) {
+            try {
+                if (Long.parseLong(tamanho.trim()) > LIMITE_CORPO_REQUISICAO) {
+                    return null;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Cabeçalho Content-Length inválido.");
+            }
+        }
+        byte[] corpo = troca.getRequestBody().readNBytes(LIMITE_CORPO_REQUISICAO + 1);
+        return corpo.length > LIMITE_CORPO_REQUISICAO ? null : corpo;
+    }
+
+    private static Funcionario funcionario(Object objeto, int posicao) {
+        if (!(objeto instanceof Map<?, ?> campos)) {
+            throw new IllegalArgumentException("O funcionário " + posicao + " deve ser um objeto JSON.");
+        }
+        try {
+            Object dataNascimento = campos.get("dataNascimento");
+            Object salario = campos.get("salario");
+            return new Funcionario(
+                    campos.get("nome") instanceof String nome ? nome : null,
+                    dataNascimento == null ? null : LocalDate.parse(dataNascimento.toString()),
+                    salario == null ? null : new BigDecimal(salario.toString()),
+                    campos.get("funcao") instanceof String funcao ? funcao : null);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IllegalArgumentException("Data de nascimento ou salário inválido no funcionário " + posicao + ".");
+        }
+    }
+
+    private void funcoes(HttpExchange troca) throws IOException {
+        if (!troca.getRequestMethod().equals("GET")) {
+            metodoNaoPermitido(troca, "GET");
+            return;
+        }
+        try (Writer corpo = abrirCorpo(troca)) {
+            StringBuilder json = new StringBuilder(TAMANHO_BUFFER + 256).append('[');
+            boolean primeiroGrupo = true;
+            for (GrupoFuncao grupo : principal.obterGruposPorFuncao().values()) {
+                json.append(primeiroGrupo ? "\n{\"funcao\":" : ",\n{\"funcao\":");
+                primeiroGrupo = false;
+                SaidaJson.texto(grupo.getFuncao(), json);
+                json.append(",\"quantidade\":").append(grupo.getQuantidade());
+                json.append(",\"somaSalarios\":");
+                numero(grupo.getSomaSalarios(), json);
+                json.append(",\"menorSalario\":");
+                numero(grupo.getMenorSalario(), json);
+                json.append(",\"maiorSalario\":");
+                numero(grupo.getMaiorSalario(), json);
+                json.append(",\"funcionarios\":[");
+                boolean primeiro = true;
+                for (Funcionario funcionario : grupo.getFuncionarios()) {
+                    json.append(primeiro ? "" : ",");
+                    primeiro = false;
+                    SaidaJson.objeto(funcionario, json);
+                    if (json.length() >= TAMANHO_BUFFER) {
+                        corpo.append(json);
+                        json.setLength(0);
+                    }
+                }
+                json.append("]}");
+            }
+            json.append(primeiroGrupo ? "]\n" : "\n]\n");
+            corpo.append(json);
+        }
+    }
+
+    private void aniversariantes(HttpExchange troca) throws IOException {
+        if (!troca.getRequestMethod().equals("GET")) {
+            metodoNaoPermitido(troca, "GET");
+            return;
+        }
+        Map<String, String> parametros = parametros(troca);
+        if (parametros.containsKey("dias")) {
+            int dias = inteiro(parametros, "dias", 0);
+            if (dias < 0) {
+                throw new IllegalArgumentException("A quantidade de dias não pode ser negativa.");
+            }
+            enviarFuncionarios(troca, principal.buscarAniversariantesProximosDias(dias));
+            return;
+        }
+        String meses = parametros.get("meses");
+        if (meses == null || meses.isEmpty()) {
+            throw new IllegalArgumentException("Informe os meses, separados por vírgula, ou a quantidade de dias.");
+        }
+        String[] partes = meses.split(",");
+        int[] valores = new int[partes.length];
+        for (int i = 0; i < partes.length; i++) {
+            valores[i] = inteiro(partes[i].trim(), "meses");
+            if (valores[i] < 1 || valores[i] > 12) {
+                throw new IllegalArgumentException("Os meses devem estar entre 1 e 12.");
+            }
+        }
+        enviarFuncionarios(troca, principal.buscarAniversariantes(valores));
+    }
+
+    private void maisVelhos(HttpExchange troca) throws IOException {
+        if (!troca.getRequestMethod().equals("GET")) {
+            metodoNaoPermitido(troca, "GET");
+            return;
+        }
+        int quantidade = inteiro(parametros(troca), "quantidade", 1);
+        if (quantidade <= 0) {
+            throw new IllegalArgumentException("A quantidade deve ser maior que zero.");
+        }
+        enviarFuncionarios(troca, principal.buscarFuncionariosMaisVelhos(quantidade));
+    }
+
+    private void totalSalarios(HttpExchange troca) throws IOException {
+        if (!troca.getRequestMethod().equals("GET")) {
+            metodoNaoPermitido(troca, "GET");
+            return;
+        }
+        StringBuilder json = new StringBuilder("{\"total\":");
+        numero(principal.calcularTotalSalarios(), json);
+        json.append(",\"quantidade\":").append(principal.contarFuncionarios()).append('}');
+        enviar(troca, 200, json);
+    }
+
+    private void aumentoSalarios(HttpExchange troca) throws IOException {
+        if (!troca.getRequestMethod().equals("POST")) {
+            metodoNaoPermitido(troca, "POST");
+            return;
+        }
+        String percentual = parametros(troca).get("percentual");
+        BigDecimal valor;
+        try {
+            valor = new BigDecimal(Objects.requireNonNullElse(percentual, ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Informe o percentual do aumento como fração, por exemplo 0.10.");
+        }
+        if (!principal.aumentarSalarios(valor)) {
+            throw new IllegalArgumentException("Percentual de aumento inválido: " + percentual);
+        }
+        enviar(troca, 200, new StringBuilder("{\"percentual\":").append(valor.toPlainString()).append('}'));
+    }
+
+    private interface Rota {
+        void tratar(HttpExchange troca) throws IOException;
+    }
+
+    /**
+     * Cria o tratador de um contexto. Como o HttpServer associa ao contexto todos os caminhos que
+     * começam por ele, caminhos diferentes do informado são respondidos com 404. Erros de validação
+     * são respondidos com 400 se a resposta ainda não tiver começado; outras falhas são registradas
+     * no log e respondidas com 500, sem a exceção, que pode expor detalhes internos ao cliente.
+     * Falhas ao escrever a resposta, em geral uma conexão fechada pelo cliente, apenas encerram a troca.
+     */
+    private static HttpHandler rota(String caminho, Rota rota) {
+        return troca -> {
+            try (troca) {
+                if (!troca.getRequestURI().getPath().equals(caminho)) {
+                    enviarErro(troca, 404, "Rota não encontrada: " + troca.getRequestURI().getPath());
+                    return;
+                }
+                try {
+                    rota.tratar(troca);
+                } catch (IllegalArgumentException e) {
+                    if (troca.getResponseCode() == -1) {
+                        enviarErro(troca, 400, e.getMessage());
+                    }
+                } catch (RuntimeException e) {
+                    if (troca.getResponseCode() == -1) {
+                        LOG.log(System.Logger.Level.ERROR, "Erro ao tratar " + troca.getRequestMethod() + " " + caminho, e);
+                        enviarErro(troca, 500, "Erro interno do servidor.");
+                    } else if (!(e instanceof UncheckedIOException)) {
+                        throw e;
+                    }
+                }
+            }
+        };
+    }
+
+    private static Map<String, String> parametros(HttpExchange troca) {
+        Map<String, String> parametros = new HashMap<>();
+        String consulta = troca.getRequestURI().getRawQuery();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            String nome = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.putIfAbsent(URLDecoder.decode(nome, StandardCharsets.UTF_8), URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+
+    private static int inteiro(Map<String, String> parametros, String nome, int padrao) {
+        String valor = parametros.get(nome);
+        return valor == null ? padrao : inteiro(valor, nome);
+    }
+
+    private static int inteiro(String valor, String nome) {
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("O parâmetro '" + nome + "' deve ser um número inteiro.");
+        }
+    }
+
+    private static void numero(BigDecimal valor, StringBuilder json) {
+        json.append(valor == null ? "null" : valor.toPlainString());
+    }
+
+    private static Writer abrirCorpo(HttpExchange troca) throws IOException {
+        troca.getResponseHeaders().set("Content-Type", TIPO_JSON);
+        troca.sendResponseHeaders(200, 0);
+        return new OutputStreamWriter(troca.getResponseBody(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Envia uma lista de funcionários. Listas pequenas são enviadas de uma vez, com o tamanho no
+     * cabeçalho, o que evita os envios extras da codificação em partes.
+     */
+    private static void enviarFuncionarios(HttpExchange troca, List<Funcionario> funcionarios) throws IOException {
+        if (funcionarios.size() <= LIMITE_RESPOSTA_UNICA) {
+            StringWriter json = new StringWriter();
+            try (SaidaJson saida = new SaidaJson(json)) {
+                funcionarios.forEach(saida::funcionario);
+            }
+            enviar(troca, 200, json.getBuffer());
+            return;
+        }
+        try (SaidaJson saida = new SaidaJson(abrirCorpo(troca))) {
+            funcionarios.forEach(saida::funcionario);
+        }
+    }
+
+    private static void enviar(HttpExchange troca, int status, CharSequence json) throws IOException {
+        byte[] corpo = json.toString().getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", TIPO_JSON);
+        troca.sendResponseHeaders(status, corpo.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+
+    private static void enviarErro(HttpExchange troca, int status, String mensagem) throws IOException {
+        StringBuilder json = new StringBuilder("{\"erro\":");
+        SaidaJson.texto(mensagem, json);
+        enviar(troca, status, json.append('}'));
+    }
+
+    private static void metodoNaoPermitido(HttpExchange troca, String permitidos) throws IOException {
+        troca.getResponseHeaders().set("Allow", permitidos);
+        enviarErro(troca, 405, "Método não permitido: " + troca.getRequestMethod());
+    }
+}
@@ -0,0 +1,271 @@
+package app;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Armazenamento colunar dos funcionários, usado pelas agregações de Principal.
+ * <p>
+ * Cada atributo agregado fica em um array primitivo paralelo ao array de funcionários: salário em
+ * centavos, data de nascimento em dias desde 1970-01-01 e função codificada por dicionário. As
+ * agregações percorrem esses arrays sem criar objetos por linha. A remoção move a última linha
+ * para a posição removida, mantendo as colunas compactas; por isso a ordem da tabela é a de
+ * inserção apenas até a primeira remoção.
+ */
+class TabelaFuncionarios {
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    /**
+     * Valor da coluna de datas para funcionários sem data de nascimento.
+     */
+    private static final int SEM_DATA = Integer.MIN_VALUE;
+
+    /**
+     * Mês de cada dia entre 1900 e 2099, para a busca de aniversariantes não refazer a conversão do
+     * calendário a cada linha.
+     */
+    private static final int PRIMEIRO_DIA_TABELADO = (int) LocalDate.of(1900, 1, 1).toEpochDay();
+    private static final byte[] MESES_POR_DIA = new byte[(int) LocalDate.of(2100, 1, 1).toEpochDay() - PRIMEIRO_DIA_TABELADO];
+
+    static {
+        for (int i = 0; i < MESES_POR_DIA.length; i++) {
+            MESES_POR_DIA[i] = (byte) calcularMes(PRIMEIRO_DIA_TABELADO + i);
+        }
+    }
+
+    private Funcionario[] funcionarios = new Funcionario[CAPACIDADE_INICIAL];
+    private long[] salariosCentavos = new long[CAPACIDADE_INICIAL];
+    private int[] diasNascimento = new int[CAPACIDADE_INICIAL];
+    private int[] codigosFuncao = new int[CAPACIDADE_INICIAL];
+    private int tamanho;
+
+    /**
+     * Dicionário das funções: o código de uma função é a sua posição na lista. As funções não são
+     * descartadas quando deixam de ter funcionários, pois são poucas.
+     */
+    private final Map<String, Integer> codigosPorFuncao = new HashMap<>();
+    private final List<String> funcoes = new ArrayList<>();
+
+    /**
+     * Quantidade de linhas cujo salário não pode ser representado exatamente em centavos.
+     */
+    private int salariosInexatos;
+
+    /**
+     * Aumenta a capacidade das colunas para receber mais linhas sem novas realocações.
+     *
+     * @param linhasAdicionais A quantidade de linhas que serão adicionadas.
+     */
+    void garantirCapacidade(int linhasAdicionais) {
+        int capacidade = tamanho + linhasAdicionais;
+        if (capacidade > funcionarios.length) {
+            redimensionar(capacidade);
+        }
+    }
+
+    private void redimensionar(int capacidade) {
+        funcionarios = Arrays.copyOf(funcionarios, capacidade);
+        salariosCentavos = Arrays.copyOf(salariosCentavos, capacidade);
+        diasNascimento = Arrays.copyOf(diasNascimento, capacidade);
+        codigosFuncao = Arrays.copyOf(codigosFuncao, capacidade);
+    }
+
+    /**
+     * Adiciona um funcionário ao final da tabela.
+     *
+     * @param funcionario O funcionário a ser adicionado.
+     */
+    void adicionar(Funcionario funcionario) {
+        if (tamanho == funcionarios.length) {
+            redimensionar(tamanho + (tamanho >> 1));
+        }
+        int linha = tamanho++;
+        funcionarios[linha] = funcionario;
+        funcionario.setLinhaTabela(linha);
+        salariosCentavos[linha] = 0;
+        atualizar(funcionario);
+    }
+
+    /**
+     * Remove um funcionário da tabela, movendo a última linha para a posição liberada.
+     *
+     * @param funcionario O funcionário a ser removido.
+     */
+    void remover(Funcionario funcionario) {
+        int linha = funcionario.getLinhaTabela();
+        if (linha < 0 || linha >= tamanho || funcionarios[linha] != funcionario) {
+            return;
+        }
+        if (salariosCentavos[linha] == Dinheiro.INEXATO) {
+            salariosInexatos--;
+        }
+        int ultima = --tamanho;
+        if (linha != ultima) {
+            funcionarios[linha] = funcionarios[ultima];
+            salariosCentavos[linha] = salariosCentavos[ultima];
+            diasNascimento[linha] = diasNascimento[ultima];
+            codigosFuncao[linha] = codigosFuncao[ultima];
+            funcionarios[linha].setLinhaTabela(linha);
+        }
+        funcionarios[ultima] = null;
+        funcionario.setLinhaTabela(-1);
+    }
+
+    /**
+     * Atualiza as colunas de um funcionário a partir dos seus atributos atuais.
+     *
+     * @param funcionario O funcionário alterado.
+     */
+    void atualizar(Funcionario funcionario) {
+        int linha = funcionario.getLinhaTabela();
+        if (linha < 0 || linha >= tamanho || funcionarios[linha] != funcionario) {
+            return;
+        }
+        if (salariosCentavos[linha] == Dinheiro.INEXATO) {
+            salariosInexatos--;
+        }
+        salariosCentavos[linha] = funcionario.getSalarioCentavos();
+        if (salariosCentavos[linha] == Dinheiro.INEXATO) {
+            salariosInexatos++;
+        }
+        LocalDate dataNascimento = funcionario.getDataNascimento();
+        diasNascimento[linha] = dataNascimento == null ? SEM_DATA : (int) dataNascimento.toEpochDay();
+        codigosFuncao[linha] = codigoFuncao(funcionario.getFuncao());
+    }
+
+    /**
+     * Soma os salários de todas as linhas em centavos.
+     *
+     * @return O total dos salários, ou null se algum salário não puder ser somado exatamente em centavos.
+     */
+    BigDecimal somarSalarios() {
+        NucleoAgregacao.Resumo resumo = agregarSalarios(new long[0]);
+        if (resumo == null || !resumo.somaExata) {
+            return null;
+        }
+        return BigDecimal.valueOf(resumo.soma, 2);
+    }
+
+    /**
+     * Agrega a coluna de salários em uma única passagem com {@link NucleoAgregacao#PADRAO}.
+     *
+     * @param limites Os limites das faixas salariais em centavos, em ordem crescente.
+     * @return O resumo da coluna, ou null se algum salário não puder ser representado exatamente em centavos.
+     */
+    NucleoAgregacao.Resumo agregarSalarios(long[] limites) {
+        if (salariosInexatos > 0) {
+            return null;
+        }
+        return NucleoAgregacao.PADRAO.agregar(salariosCentavos, tamanho, limites);
+    }
+
+    /**
+     * Agrupa os funcionários por função percorrendo a coluna de códigos, sem calcular o hash da
+     * função de cada linha.
+     *
+     * @return Os funcionários de cada função, na ordem em que as funções foram codificadas e, dentro
+     * de cada função, na ordem da tabela.
+     */
+    Map<String, List<Funcionario>> agruparPorFuncao() {
+        int[] quantidades = new int[funcoes.size()];
+        for (int i = 0; i < tamanho; i++) {
+            quantidades[codigosFuncao[i]]++;
+        }
+        List<List<Funcionario>> grupos = new ArrayList<>(funcoes.size());
+        for (int quantidade : quantidades) {
+            grupos.add(quantidade == 0 ? null : new ArrayList<>(quantidade));
+        }
+        for (int i = 0; i < tamanho; i++) {
+            grupos.get(codigosFuncao[i]).add(funcionarios[i]);
+        }
+        Map<String, List<Funcionario>> porFuncao = new LinkedHashMap<>();
+        for (int codigo = 0; codigo < grupos.size(); codigo++) {
+            if (grupos.get(codigo) != null) {
+                porFuncao.put(funcoes.get(codigo), grupos.get(codigo));
+            }
+        }
+        return porFuncao;
+    }
+
+    /**
+     * Busca os funcionários que fazem aniversário em algum dos meses informados, percorrendo a
+     * coluna de datas uma única vez e calculando o mês de cada linha sem criar objetos.
+     *
+     * @param meses Os meses procurados, com valores entre 1 e 12.
+     * @return Os aniversariantes, do mês de janeiro ao de dezembro e, dentro de cada mês, na ordem
+     * da tabela.
+     */
+    List<Funcionario> buscarAniversariantes(int[] meses) {
+        int mascara = 0;
+        for (int mes : meses) {
+            mascara |= 1 << mes;
+        }
+        int[] quantidades = new int[13];
+        for (int i = 0; i < tamanho; i++) {
+            int dia = diasNascimento[i];
+            if (dia != SEM_DATA) {
+                int mes = mesDoDia(dia);
+                if ((mascara & (1 << mes)) != 0) {
+                    quantidades[mes]++;
+                }
+            }
+        }
+        int[] inicios = new int[13];
+        for (int mes = 1; mes < 12; mes++) {
+            inicios[mes + 1] = inicios[mes] + quantidades[mes];
+        }
+        Funcionario[] aniversariantes = new Funcionario[inicios[12] + quantidades[12]];
+        for (int i = 0; i < tamanho; i++) {
+            int dia = diasNascimento[i];
+            if (dia != SEM_DATA) {
+                int mes = mesDoDia(dia);
+                if ((mascara & (1 << mes)) != 0) {
+                    aniversariantes[inicios[mes]++] = funcionarios[i];
+                }
+            }
+        }
+        return new ArrayList<>(Arrays.asList(aniversariantes));
+    }
+
+    /**
+     * Calcula o mês de uma data representada em dias desde 1970-01-01, sem criar objetos. As datas
+     * entre 1900 e 2099 são consultadas em uma tabela; as demais são calculadas.
+     *
+     * @param diaEpoca A data em dias desde 1970-01-01.
+     * @return O mês da data, entre 1 e 12.
+     */
+    static int mesDoDia(int diaEpoca) {
+        int posicao = diaEpoca - PRIMEIRO_DIA_TABELADO;
+        if (posicao >= 0 && posicao < MESES_POR_DIA.length) {
+            return MESES_POR_DIA[posicao];
+        }
+        return calcularMes(diaEpoca);
+    }
+
+    private static int calcularMes(int diaEpoca) {
+        long z = diaEpoca + 719468L;
+        long era = Math.floorDiv(z, 146097L);
+        long diaDaEra = z - era * 146097L;
+        long anoDaEra = (diaDaEra - diaDaEra / 1460 + diaDaEra / 36524 - diaDaEra / 146096) / 365;
+        long diaDoAno = diaDaEra - (365 * anoDaEra + anoDaEra / 4 - anoDaEra / 100);
+        int mesDesdeMarco = (int) ((5 * diaDoAno + 2) / 153);
+        return mesDesdeMarco < 10 ? mesDesdeMarco + 3 : mesDesdeMarco - 9;
+    }
+
+    /**
+     * Obtém o código da função no dicionário, cadastrando-a se necessário.
+     *
+     * @param funcao A função a ser codificada.
+     * @return O código da função.
+     */
+    private int codigoFuncao(String funcao) {
+        Integer codigo = codigosPorFuncao.get(funcao);
+        if (codigo == null) {
+            codigo = funcoes.size();
+            funcoes.add(funcao);
+            codigosPorFuncao.put(funcao, codigo);
+        }
+        return codigo;
+    }
+}
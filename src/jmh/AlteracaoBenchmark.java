@@ -0,0 +1,60 @@
+package jmh;
+
+import app.PoliticaReajuste;
+import app.Principal;
+import app.RegraReajuste;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as operações públicas de {@link Principal} que alteram a lista.
+ * <p>
+ * A lista é recriada a cada iteração, para que os reajustes acumulados não afastem os salários
+ * dos valores gerados. A inserção é medida junto com a remoção do mesmo funcionário, mantendo o
+ * tamanho da lista constante.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlteracaoBenchmark {
+    private static final String NOME_NOVO = "Funcionário Novo";
+    private static final LocalDate DATA_NASCIMENTO = LocalDate.of(1990, 6, 15);
+    private static final BigDecimal SALARIO = new BigDecimal("3500.00");
+    private static final BigDecimal PERCENTUAL = new BigDecimal("0.0001");
+
+    @Param({"10000", "100000", "1000000"})
+    private int quantidade;
+
+    private Principal principal;
+    private PoliticaReajuste politica;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        principal = GeradorFuncionarios.principal(quantidade, false);
+        politica = new PoliticaReajuste()
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.0002")).paraFuncao("Operador"))
+                .adicionarRegra(new RegraReajuste(PERCENTUAL).comSalarioEntre(null, new BigDecimal("5000.00")));
+    }
+
+    @Benchmark
+    public boolean inserirERemoverFuncionario() {
+        return principal.inserirFuncionario(NOME_NOVO, DATA_NASCIMENTO, SALARIO, "Operador")
+                & principal.removerFuncionarioPorNome(NOME_NOVO);
+    }
+
+    @Benchmark
+    public boolean aumentarSalarios() {
+        return principal.aumentarSalarios(PERCENTUAL);
+    }
+
+    @Benchmark
+    public Object aplicarPoliticaReajuste() {
+        return principal.aplicarPoliticaReajuste(politica);
+    }
+}
@@ -0,0 +1,102 @@
+package jmh;
+
+import app.BitmapCompactado;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a interseção, a união e a contagem dos bitmaps por função e por mês de nascimento com
+ * {@link BitmapCompactado}, comparadas com {@link BitSet} e com a varredura de colunas primitivas
+ * de função e mês, sem criar os funcionários. A memória dos bitmaps é informada por
+ * {@link MemoriaIndicesBitmap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitmapBenchmark {
+    @Param({"1000000", "10000000"})
+    private int quantidade;
+
+    private BitmapCompactado funcaoCompactado;
+    private BitmapCompactado[] mesesCompactados;
+    private BitSet funcaoBitSet;
+    private BitSet[] mesesBitSet;
+    private byte[] funcoes;
+    private byte[] meses;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        funcaoCompactado = new BitmapCompactado();
+        funcaoBitSet = new BitSet(quantidade);
+        mesesCompactados = new BitmapCompactado[13];
+        mesesBitSet = new BitSet[13];
+        for (int mes = 1; mes <= 12; mes++) {
+            mesesCompactados[mes] = new BitmapCompactado();
+            mesesBitSet[mes] = new BitSet(quantidade);
+        }
+        funcoes = new byte[quantidade];
+        meses = new byte[quantidade];
+        Random aleatorio = new Random(GeradorFuncionarios.SEMENTE);
+        for (int linha = 0; linha < quantidade; linha++) {
+            funcoes[linha] = (byte) aleatorio.nextInt(GeradorFuncionarios.FUNCOES.length);
+            meses[linha] = (byte) (1 + aleatorio.nextInt(12));
+            if (funcoes[linha] == 0) {
+                funcaoCompactado.adicionar(linha);
+                funcaoBitSet.set(linha);
+            }
+            mesesCompactados[meses[linha]].adicionar(linha);
+            mesesBitSet[meses[linha]].set(linha);
+        }
+    }
+
+    /**
+     * Quantidade de funcionários de uma função nascidos em outubro.
+     */
+    @Benchmark
+    public int contarFuncaoEMesCompactado() {
+        return BitmapCompactado.contarE(funcaoCompactado, mesesCompactados[10]);
+    }
+
+    @Benchmark
+    public int contarFuncaoEMesBitSet() {
+        BitSet intersecao = (BitSet) funcaoBitSet.clone();
+        intersecao.and(mesesBitSet[10]);
+        return intersecao.cardinality();
+    }
+
+    @Benchmark
+    public int contarFuncaoEMesVarrendo() {
+        int quantidade = 0;
+        for (int linha = 0; linha < funcoes.length; linha++) {
+            if (funcoes[linha] == 0 && meses[linha] == 10) {
+                quantidade++;
+            }
+        }
+        return quantidade;
+    }
+
+    /**
+     * Funcionários de uma função nascidos no último trimestre: união de três meses e interseção.
+     */
+    @Benchmark
+    public BitmapCompactado trimestreCompactado() {
+        BitmapCompactado trimestre = BitmapCompactado.ou(BitmapCompactado.ou(mesesCompactados[10], mesesCompactados[11]),
+                mesesCompactados[12]);
+        return BitmapCompactado.e(funcaoCompactado, trimestre);
+    }
+
+    @Benchmark
+    public BitSet trimestreBitSet() {
+        BitSet trimestre = (BitSet) mesesBitSet[10].clone();
+        trimestre.or(mesesBitSet[11]);
+        trimestre.or(mesesBitSet[12]);
+        trimestre.and(funcaoBitSet);
+        return trimestre;
+    }
+}
@@ -0,0 +1,81 @@
+package jmh;
+
+import app.ArquivoFuncionarios;
+import app.Funcionario;
+import app.Principal;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a partida a partir do arquivo de funcionários mapeado em memória com a montagem da lista
+ * em memória por {@link Principal#inserirFuncionario}, como faz {@code Program.main}.
+ * <p>
+ * Abrir o arquivo e ler um registro não depende da quantidade de funcionários; percorrer o
+ * arquivo decodifica todos os registros sem montar índices; carregar o arquivo em Principal
+ * decodifica e indexa todos. Cada operação é medida uma vez por iteração, como uma partida a
+ * frio; com {@code -prof gc}, a alocação por operação mostra o que cada caminho cria no heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CargaArquivoBenchmark {
+    @Param({"100000", "1000000"})
+    private int quantidade;
+
+    private List<Funcionario> gerados;
+    private Path arquivo;
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        gerados = GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE);
+        arquivo = Files.createTempFile("funcionarios", ".bin");
+        ArquivoFuncionarios.gravar(arquivo, gerados);
+    }
+
+    @TearDown(Level.Trial)
+    public void apagar() throws IOException {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Benchmark
+    public Funcionario abrirELerUm() throws IOException {
+        try (ArquivoFuncionarios origem = ArquivoFuncionarios.abrir(arquivo)) {
+            return origem.ler(origem.tamanho() / 2);
+        }
+    }
+
+    @Benchmark
+    public void abrirEPercorrer(Blackhole blackhole) throws IOException {
+        try (ArquivoFuncionarios origem = ArquivoFuncionarios.abrir(arquivo)) {
+            for (Funcionario funcionario : origem.funcionarios()) {
+                blackhole.consume(funcionario);
+            }
+        }
+    }
+
+    @Benchmark
+    public Principal carregarEmPrincipal() {
+        Principal principal = new Principal();
+        principal.carregarFuncionarios(arquivo);
+        return principal;
+    }
+
+    @Benchmark
+    public Principal montarEmMemoria() {
+        Principal principal = new Principal();
+        for (Funcionario funcionario : gerados) {
+            principal.inserirFuncionario(funcionario.getNome(), funcionario.getDataNascimento(),
+                    funcionario.getSalario(), funcionario.getFuncao());
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,232 @@
+package jmh;
+
+import app.Funcionario;
+import app.PrincipalConcorrente;
+import app.ServidorFuncionarios;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Teste de carga local de {@link ServidorFuncionarios}: inicia o servidor com funcionários gerados
+ * por {@link GeradorFuncionarios} e envia requisições a uma taxa fixa, informando os percentis da
+ * latência.
+ * <p>
+ * A carga é de malha aberta: cada requisição entra em uma fila no instante de envio previsto, e a
+ * latência é medida a partir desse instante, e não do envio real. Assim, um servidor que atrasa as
+ * respostas não reduz a taxa de envio nem esconde o tempo que as requisições esperaram. As
+ * requisições são enviadas por um conjunto fixo de conexões HTTP/1.1 persistentes, cada uma
+ * atendida por uma thread virtual com sockets bloqueantes, para que o custo de um cliente HTTP
+ * completo rodando na mesma máquina não seja medido como latência do servidor.
+ * <p>
+ * A mistura de requisições é de 80% de buscas por nome exato, 10% de buscas por prefixo, 5% dos
+ * funcionários mais velhos e 5% do total de salários. Os primeiros segundos servem de aquecimento
+ * e não são medidos.
+ * <p>
+ * Uso: {@code java -cp target/projedata-benchmarks.jar jmh.CargaServidor [taxa] [segundos] [conexoes] [funcionarios]},
+ * com padrão de 10.000 requisições por segundo, 30 segundos, 64 conexões e 100.000 funcionários.
+ */
+public class CargaServidor {
+    private static final int SEGUNDOS_AQUECIMENTO = 10;
+    private static final int QUANTIDADE_REQUISICOES = 4_096;
+    private static final Envio FIM = new Envio(-1, 0);
+
+    private record Envio(int indice, long previsto) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int taxa = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int segundos = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int conexoes = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        int quantidade = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+
+        PrincipalConcorrente principal = GeradorFuncionarios.preencher(new PrincipalConcorrente(), quantidade);
+        try (ServidorFuncionarios servidor = new ServidorFuncionarios(principal,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))) {
+            servidor.iniciar();
+            byte[][] requisicoes = requisicoes(GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE));
+
+            int aquecimento = taxa * SEGUNDOS_AQUECIMENTO;
+            int total = aquecimento + taxa * segundos;
+            long[] latencias = new long[total - aquecimento];
+            AtomicInteger erros = new AtomicInteger();
+            BlockingQueue<Envio> fila = new LinkedBlockingQueue<>();
+
+            System.out.printf("Enviando %,d requisições por segundo por %d s em %d conexões, após %d s de aquecimento, a %,d funcionários.%n",
+                    taxa, segundos, conexoes, SEGUNDOS_AQUECIMENTO, quantidade);
+            long inicio;
+            long fimEnvio;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < conexoes; c++) {
+                    executor.submit(() -> conexao(servidor.getPorta(), requisicoes, fila, aquecimento, latencias, erros));
+                }
+                double intervalo = 1e9 / taxa;
+                inicio = System.nanoTime();
+                for (int i = 0; i < total; i++) {
+                    long previsto = inicio + (long) (i * intervalo);
+                    long espera;
+                    while ((espera = previsto - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(espera);
+                    }
+                    fila.add(new Envio(i, previsto));
+                }
+                fimEnvio = System.nanoTime();
+                for (int c = 0; c < conexoes; c++) {
+                    fila.add(FIM);
+                }
+            }
+            relatar(latencias, erros.get(), total * 1e9 / (fimEnvio - inicio));
+        }
+    }
+
+    /**
+     * Envia as requisições da fila por uma conexão persistente até encontrar o marcador de fim. Se a
+     * conexão falhar, a requisição conta como erro e a próxima abre uma nova conexão.
+     */
+    private static Void conexao(int porta, byte[][] requisicoes, BlockingQueue<Envio> fila, int aquecimento,
+                                long[] latencias, AtomicInteger erros) throws InterruptedException {
+        Socket socket = null;
+        InputStream entrada = null;
+        try {
+            Envio envio;
+            while ((envio = fila.take()) != FIM) {
+                boolean sucesso;
+                try {
+                    if (socket == null) {
+                        socket = new Socket(InetAddress.getLoopbackAddress(), porta);
+                        socket.setTcpNoDelay(true);
+                        entrada = new BufferedInputStream(socket.getInputStream());
+                    }
+                    OutputStream saida = socket.getOutputStream();
+                    saida.write(requisicoes[envio.indice() % requisicoes.length]);
+                    saida.flush();
+                    sucesso = lerResposta(entrada) == 200;
+                } catch (IOException | RuntimeException e) {
+                    fechar(socket);
+                    socket = null;
+                    sucesso = false;
+                }
+                int indice = envio.indice() - aquecimento;
+                if (indice >= 0) {
+                    latencias[indice] = System.nanoTime() - envio.previsto();
+                    if (!sucesso) {
+                        erros.incrementAndGet();
+                    }
+                }
+            }
+            return null;
+        } finally {
+            fechar(socket);
+        }
+    }
+
+    /**
+     * Lê uma resposta HTTP/1.1 inteira, com corpo de tamanho fixo ou em partes, descartando o corpo.
+     *
+     * @return O código de status.
+     */
+    private static int lerResposta(InputStream entrada) throws IOException {
+        int status = Integer.parseInt(lerLinha(entrada).substring(9, 12));
+        long tamanho = 0;
+        boolean emPartes = false;
+        String cabecalho;
+        while (!(cabecalho = lerLinha(entrada)).isEmpty()) {
+            String minusculo = cabecalho.toLowerCase();
+            if (minusculo.startsWith("content-length:")) {
+                tamanho = Long.parseLong(cabecalho.substring(15).trim());
+            } else if (minusculo.startsWith("transfer-encoding:") && minusculo.contains("chunked")) {
+                emPartes = true;
+            }
+        }
+        if (!emPartes) {
+            entrada.skipNBytes(tamanho);
+            return status;
+        }
+        long parte;
+        while ((parte = Long.parseLong(lerLinha(entrada).trim(), 16)) > 0) {
+            entrada.skipNBytes(parte);
+            lerLinha(entrada);
+        }
+        lerLinha(entrada);
+        return status;
+    }
+
+    /**
+     * Lê uma linha terminada por CRLF.
+     */
+    private static String lerLinha(InputStream entrada) throws IOException {
+        StringBuilder linha = new StringBuilder();
+        int c;
+        while ((c = entrada.read()) != '\n') {
+            if (c < 0) {
+                throw new EOFException("Conexão fechada pelo servidor.");
+            }
+            if (c != '\r') {
+                linha.append((char) c);
+            }
+        }
+        return linha.toString();
+    }
+
+    private static void fechar(Socket socket) {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException ignorada) {
+                // A conexão já está sendo descartada.
+            }
+        }
+    }
+
+    private static byte[][] requisicoes(List<Funcionario> funcionarios) {
+        Random aleatorio = new Random(GeradorFuncionarios.SEMENTE);
+        byte[][] requisicoes = new byte[QUANTIDADE_REQUISICOES][];
+        for (int i = 0; i < requisicoes.length; i++) {
+            String nome = funcionarios.get(aleatorio.nextInt(funcionarios.size())).getNome();
+            int sorteio = aleatorio.nextInt(100);
+            String caminho;
+            if (sorteio < 80) {
+                caminho = "/funcionarios?nome=" + URLEncoder.encode(nome, StandardCharsets.UTF_8);
+            } else if (sorteio < 90) {
+                caminho = "/funcionarios?tamanho=20&prefixo=" + URLEncoder.encode(nome.substring(0, 3), StandardCharsets.UTF_8);
+            } else if (sorteio < 95) {
+                caminho = "/mais-velhos?quantidade=10";
+            } else {
+                caminho = "/salarios/total";
+            }
+            requisicoes[i] = ("GET " + caminho + " HTTP/1.1\r\nHost: localhost\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        }
+        return requisicoes;
+    }
+
+    private static void relatar(long[] latencias, int erros, double taxaEnvio) {
+        Arrays.sort(latencias);
+        System.out.printf("Taxa de envio: %,.0f requisições/s; requisições medidas: %,d; erros: %,d%n",
+                taxaEnvio, latencias.length, erros);
+        System.out.printf("Latência (µs): p50=%,.0f p90=%,.0f p99=%,.0f p99.9=%,.0f max=%,.0f%n",
+                percentil(latencias, 0.50), percentil(latencias, 0.90), percentil(latencias, 0.99),
+                percentil(latencias, 0.999), latencias[latencias.length - 1] / 1e3);
+    }
+
+    private static double percentil(long[] ordenadas, double fracao) {
+        int indice = (int) Math.ceil(fracao * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, indice)] / 1e3;
+    }
+}
@@ -0,0 +1,155 @@
+package jmh;
+
+import app.ConsultaFuncionarios;
+import app.Funcionario;
+import app.Principal;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.text.Collator;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara as consultas de {@link Principal} que usam índices e armazenamento colunar com a
+ * varredura ou ordenação da lista inteira que elas substituíram. Os métodos terminados em
+ * {@code Varrendo}, {@code Ordenando} e {@code Stream} reproduzem a implementação anterior sobre os
+ * mesmos funcionários.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparacaoBenchmark {
+    private static final BigDecimal CINCO_SALARIOS_MINIMOS = new BigDecimal("6060.00");
+
+    @Param({"10000", "100000", "1000000"})
+    private int quantidade;
+
+    private List<Funcionario> funcionarios;
+    private Principal principal;
+    private Principal principalColunar;
+    private Collator collator;
+    private String nome;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        funcionarios = GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE);
+        principal = new Principal();
+        principal.inserirFuncionarios(funcionarios);
+        principalColunar = GeradorFuncionarios.principal(quantidade, true);
+        collator = Collator.getInstance(Locale.forLanguageTag("pt-BR"));
+        nome = funcionarios.get(quantidade / 2).getNome();
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarPorNomeIndice() {
+        return principal.buscarFuncionariosPorNome(nome);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarPorNomeVarrendo() {
+        List<Funcionario> encontrados = new ArrayList<>();
+        for (Funcionario funcionario : funcionarios) {
+            if (funcionario.getNome().equalsIgnoreCase(nome)) {
+                encontrados.add(funcionario);
+            }
+        }
+        return encontrados;
+    }
+
+    @Benchmark
+    public List<Funcionario> maisVelhoIndice() {
+        return principal.buscarFuncionariosMaisVelhos(1);
+    }
+
+    @Benchmark
+    public Funcionario maisVelhoOrdenando() {
+        List<Funcionario> copia = new ArrayList<>(funcionarios);
+        copia.sort(Comparator.comparing(Funcionario::getDataNascimento));
+        return copia.get(0);
+    }
+
+    @Benchmark
+    public List<Funcionario> aniversariantesIndice() {
+        return principal.buscarAniversariantesProximosDias(LocalDate.of(2024, 12, 20), 30);
+    }
+
+    @Benchmark
+    public List<Funcionario> aniversariantesVarrendo() {
+        LocalDate inicio = LocalDate.of(2024, 12, 20);
+        LocalDate fim = inicio.plusDays(30);
+        List<Map.Entry<LocalDate, Funcionario>> aniversarios = new ArrayList<>();
+        for (Funcionario funcionario : funcionarios) {
+            MonthDay diaMes = MonthDay.from(funcionario.getDataNascimento());
+            LocalDate aniversario = diaMes.atYear(inicio.getYear());
+            if (aniversario.isBefore(inicio)) {
+                aniversario = diaMes.atYear(inicio.getYear() + 1);
+            }
+            if (!aniversario.isAfter(fim)) {
+                aniversarios.add(Map.entry(aniversario, funcionario));
+            }
+        }
+        aniversarios.sort(Map.Entry.comparingByKey());
+        List<Funcionario> aniversariantes = new ArrayList<>(aniversarios.size());
+        aniversarios.forEach(aniversario -> aniversariantes.add(aniversario.getValue()));
+        return aniversariantes;
+    }
+
+    @Benchmark
+    public Object ordenadosPorNomeIndice() {
+        return principal.listarFuncionariosPorNome(null, quantidade);
+    }
+
+    @Benchmark
+    public List<Funcionario> ordenadosPorNomeOrdenando() {
+        List<Funcionario> copia = new ArrayList<>(funcionarios);
+        copia.sort(Comparator.comparing(Funcionario::getNome, collator));
+        return copia;
+    }
+
+    /**
+     * Operadores nascidos em outubro que ganham mais de cinco salários mínimos, com o plano
+     * escolhido pelo planejador de consultas.
+     */
+    @Benchmark
+    public List<Funcionario> consultaCombinadaPlanejada() {
+        return principal.consultar(new ConsultaFuncionarios().comFuncao("Operador").nascidosNosMeses(10)
+                .comSalarioEntre(CINCO_SALARIOS_MINIMOS, null)).stream().toList();
+    }
+
+    @Benchmark
+    public List<Funcionario> consultaCombinadaVarrendo() {
+        List<Funcionario> encontrados = new ArrayList<>();
+        for (Funcionario funcionario : funcionarios) {
+            if (funcionario.getFuncao().equals("Operador") && funcionario.getDataNascimento().getMonthValue() == 10
+                    && funcionario.getSalario().compareTo(CINCO_SALARIOS_MINIMOS) >= 0) {
+                encontrados.add(funcionario);
+            }
+        }
+        return encontrados;
+    }
+
+    @Benchmark
+    public BigDecimal totalSalariosCentavos() {
+        return principal.calcularTotalSalarios();
+    }
+
+    @Benchmark
+    public BigDecimal totalSalariosColunar() {
+        return principalColunar.calcularTotalSalarios();
+    }
+
+    @Benchmark
+    public BigDecimal totalSalariosStream() {
+        return funcionarios.stream().map(Funcionario::getSalario).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
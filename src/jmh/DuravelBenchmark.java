@@ -0,0 +1,63 @@
+package jmh;
+
+import app.PrincipalDuravel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Mede a vazão de inserções em {@link PrincipalDuravel}, com e sem fsync, a partir de quatro
+ * threads, para que o commit em grupo do diário seja exercitado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DuravelBenchmark {
+    private static final LocalDate DATA_NASCIMENTO = LocalDate.of(1990, 6, 15);
+    private static final BigDecimal SALARIO = new BigDecimal("3500.00");
+
+    @Param({"false", "true"})
+    private boolean sincronizar;
+
+    private final AtomicLong sequencia = new AtomicLong();
+    private Path diretorio;
+    private PrincipalDuravel principal;
+
+    @Setup(Level.Iteration)
+    public void abrir() throws IOException {
+        diretorio = Files.createTempDirectory("duravel");
+        principal = PrincipalDuravel.abrir(diretorio, sincronizar);
+    }
+
+    @TearDown(Level.Iteration)
+    public void fechar() throws IOException {
+        principal.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            arquivos.sorted(Comparator.reverseOrder()).forEach(arquivo -> {
+                try {
+                    Files.delete(arquivo);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public boolean inserirFuncionario() {
+        return principal.inserirFuncionario("Funcionário " + sequencia.incrementAndGet(), DATA_NASCIMENTO, SALARIO, "Operador");
+    }
+}
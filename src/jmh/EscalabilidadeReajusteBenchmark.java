@@ -0,0 +1,55 @@
+package jmh;
+
+import app.Principal;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o aumento de salários com 1, 2, 4 e 8 threads no {@link java.util.concurrent.ForkJoinPool}
+ * comum, que é o pool usado por {@link Principal#aumentarSalarios(BigDecimal)}. Cada variante
+ * executa em uma JVM própria, com o paralelismo do pool fixado por propriedade de sistema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EscalabilidadeReajusteBenchmark {
+    private static final BigDecimal PERCENTUAL = new BigDecimal("0.0001");
+
+    @Param({"100000", "1000000"})
+    private int quantidade;
+
+    private Principal principal;
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        principal = GeradorFuncionarios.principal(quantidade, false);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=1")
+    public boolean aumentarSalarios1Thread() {
+        return principal.aumentarSalarios(PERCENTUAL);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=2")
+    public boolean aumentarSalarios2Threads() {
+        return principal.aumentarSalarios(PERCENTUAL);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=4")
+    public boolean aumentarSalarios4Threads() {
+        return principal.aumentarSalarios(PERCENTUAL);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=8")
+    public boolean aumentarSalarios8Threads() {
+        return principal.aumentarSalarios(PERCENTUAL);
+    }
+}
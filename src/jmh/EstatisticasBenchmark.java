@@ -0,0 +1,68 @@
+package jmh;
+
+import app.Funcionario;
+import app.Principal;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara as estatísticas salariais calculadas pelo núcleo vetorial, pelo núcleo escalar e por um
+ * stream sobre os objetos Funcionario, com armazenamento colunar. O núcleo vetorial só é usado
+ * quando a JVM é iniciada com o módulo {@code jdk.incubator.vector}; por isso cada variante
+ * executa em uma JVM própria.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EstatisticasBenchmark {
+    private static final BigDecimal[] LIMITES_FAIXAS = {new BigDecimal("3000.00"), new BigDecimal("10000.00"),
+            new BigDecimal("20000.00")};
+
+    @Param({"1000000", "10000000"})
+    private int quantidade;
+
+    private Principal principal;
+    private List<Funcionario> funcionarios;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        funcionarios = GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE);
+        principal = new Principal(true);
+        principal.inserirFuncionarios(funcionarios);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {"-Xmx16g", "--add-modules=jdk.incubator.vector"})
+    public Object estatisticasVetorial() {
+        return principal.calcularEstatisticasSalariais(LIMITES_FAIXAS);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+    public Object estatisticasEscalar() {
+        return principal.calcularEstatisticasSalariais(LIMITES_FAIXAS);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx16g")
+    public Object estatisticasStream() {
+        BigDecimal soma = funcionarios.stream().map(Funcionario::getSalario).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal menor = funcionarios.stream().map(Funcionario::getSalario).min(BigDecimal::compareTo).orElse(null);
+        BigDecimal maior = funcionarios.stream().map(Funcionario::getSalario).max(BigDecimal::compareTo).orElse(null);
+        long[] faixas = new long[LIMITES_FAIXAS.length + 1];
+        funcionarios.stream().map(Funcionario::getSalario).forEach(salario -> {
+            int faixa = 0;
+            while (faixa < LIMITES_FAIXAS.length && salario.compareTo(LIMITES_FAIXAS[faixa]) >= 0) {
+                faixa++;
+            }
+            faixas[faixa]++;
+        });
+        return new Object[]{soma, menor, maior, soma.divide(BigDecimal.valueOf(funcionarios.size()), 2, RoundingMode.HALF_UP), faixas};
+    }
+}
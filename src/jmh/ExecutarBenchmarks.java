@@ -0,0 +1,38 @@
+package jmh;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Executa os benchmarks aceitando as mesmas opções de linha de comando do JMH. Quando o formato e
+ * o arquivo de resultado não são informados, os resultados são gravados em JSON em
+ * {@value #RESULTADO_PADRAO}, para serem comparados entre versões. As opções de ajuda e de
+ * listagem são repassadas para {@link Main}.
+ */
+public class ExecutarBenchmarks {
+    private static final String RESULTADO_PADRAO = "jmh-result.json";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions linhaComando = new CommandLineOptions(args);
+        if (linhaComando.shouldHelp() || linhaComando.shouldList()) {
+            Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder opcoes = new OptionsBuilder().parent(linhaComando);
+        if (!linhaComando.getResultFormat().hasValue()) {
+            opcoes.resultFormat(ResultFormatType.JSON);
+        }
+        if (!linhaComando.getResult().hasValue()) {
+            opcoes.result(RESULTADO_PADRAO);
+        }
+        new Runner(opcoes.build()).run();
+    }
+}
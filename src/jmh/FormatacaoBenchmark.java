@@ -0,0 +1,99 @@
+package jmh;
+
+import app.Formatador;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara {@link Formatador} com {@link DecimalFormat} e {@link DateTimeFormatter}. Cada thread
+ * formata no próprio StringBuilder; o DecimalFormat é medido por thread e compartilhado com
+ * sincronização, como era usado por Principal. Execute com {@code -prof gc} para ver a alocação
+ * por operação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatacaoBenchmark {
+    private static final DecimalFormat DECIMAL_COMPARTILHADO = new DecimalFormat("#,##0.00",
+            DecimalFormatSymbols.getInstance(Locale.forLanguageTag("pt-BR")));
+    private static final DateTimeFormatter DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int VALORES = 1024;
+
+    private final DecimalFormat decimal = (DecimalFormat) DECIMAL_COMPARTILHADO.clone();
+    private final StringBuilder destino = new StringBuilder(64);
+    private final long[] centavos = new long[VALORES];
+    private final BigDecimal[] valores = new BigDecimal[VALORES];
+    private final LocalDate[] datas = new LocalDate[VALORES];
+    private int indice;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        Random aleatorio = new Random(GeradorFuncionarios.SEMENTE);
+        for (int i = 0; i < VALORES; i++) {
+            centavos[i] = 121_200 + aleatorio.nextInt(3_000_001);
+            valores[i] = BigDecimal.valueOf(centavos[i], 2);
+            datas[i] = LocalDate.ofEpochDay(-7_305 + aleatorio.nextInt(20_454));
+        }
+    }
+
+    @Benchmark
+    public int formatadorCentavos() {
+        destino.setLength(0);
+        Formatador.formatarMoeda(centavos[proximo()], destino);
+        return destino.length();
+    }
+
+    @Benchmark
+    public int formatadorBigDecimal() {
+        destino.setLength(0);
+        Formatador.formatarMoeda(valores[proximo()], destino);
+        return destino.length();
+    }
+
+    @Benchmark
+    public int decimalFormat() {
+        destino.setLength(0);
+        destino.append(decimal.format(valores[proximo()]));
+        return destino.length();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int decimalFormatSincronizado() {
+        destino.setLength(0);
+        synchronized (DECIMAL_COMPARTILHADO) {
+            destino.append(DECIMAL_COMPARTILHADO.format(valores[proximo()]));
+        }
+        return destino.length();
+    }
+
+    @Benchmark
+    public int formatadorData() {
+        destino.setLength(0);
+        Formatador.formatarData(datas[proximo()], destino);
+        return destino.length();
+    }
+
+    @Benchmark
+    public int dateTimeFormatter() {
+        destino.setLength(0);
+        DATA.formatTo(datas[proximo()], destino);
+        return destino.length();
+    }
+
+    private int proximo() {
+        indice = (indice + 1) & (VALORES - 1);
+        return indice;
+    }
+}
@@ -0,0 +1,85 @@
+package jmh;
+
+import app.Funcionario;
+import app.Principal;
+import app.SaidaTexto;
+
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Gera listas de funcionários sintéticos para os benchmarks.
+ * <p>
+ * A geração é determinística para uma mesma semente, para que execuções em versões diferentes
+ * meçam os mesmos dados. Os nomes são únicos e combinam nomes, sobrenomes e um número; as datas
+ * de nascimento vão de 1950 a 2005 e os salários, de 1.212,00 a 31.212,00.
+ */
+public final class GeradorFuncionarios {
+    static final long SEMENTE = 20_240_101L;
+
+    private static final String[] NOMES = {"Maria", "João", "Caio", "Miguel", "Alice", "Heitor", "Arthur", "Laura",
+            "Heloísa", "Helena", "Ângela", "Élio", "Óscar", "Íris", "Úrsula", "Benício", "Valentina", "Sofia"};
+    private static final String[] SOBRENOMES = {"Silva", "Souza", "Oliveira", "Santos", "Pereira", "Lima", "Araújo",
+            "Gonçalves", "Conceição", "Assunção"};
+    static final String[] FUNCOES = {"Operador", "Coordenador", "Diretor", "Recepcionista", "Contador", "Gerente",
+            "Eletricista"};
+    private static final long PRIMEIRO_NASCIMENTO = LocalDate.of(1950, 1, 1).toEpochDay();
+    private static final long ULTIMO_NASCIMENTO = LocalDate.of(2005, 12, 31).toEpochDay();
+
+    private GeradorFuncionarios() {
+    }
+
+    /**
+     * Gera uma lista de funcionários.
+     *
+     * @param quantidade A quantidade de funcionários.
+     * @param semente    A semente do gerador de números aleatórios.
+     * @return Os funcionários gerados, ainda sem pertencer a nenhuma lista.
+     */
+    public static List<Funcionario> gerar(int quantidade, long semente) {
+        Random aleatorio = new Random(semente);
+        List<Funcionario> funcionarios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            String nome = NOMES[aleatorio.nextInt(NOMES.length)] + " "
+                    + SOBRENOMES[aleatorio.nextInt(SOBRENOMES.length)] + " " + i;
+            LocalDate dataNascimento = LocalDate.ofEpochDay(PRIMEIRO_NASCIMENTO
+                    + aleatorio.nextInt((int) (ULTIMO_NASCIMENTO - PRIMEIRO_NASCIMENTO + 1)));
+            BigDecimal salario = BigDecimal.valueOf(121_200 + aleatorio.nextInt(3_000_001), 2);
+            funcionarios.add(new Funcionario(nome, dataNascimento, salario, FUNCOES[aleatorio.nextInt(FUNCOES.length)]));
+        }
+        return funcionarios;
+    }
+
+    /**
+     * Cria uma instância de Principal com funcionários gerados pela semente padrão. Os relatórios
+     * são descartados, para que os benchmarks meçam a montagem do relatório e não o terminal.
+     *
+     * @param quantidade           A quantidade de funcionários.
+     * @param armazenamentoColunar true para manter o armazenamento colunar.
+     * @return A instância preenchida.
+     */
+    public static Principal principal(int quantidade, boolean armazenamentoColunar) {
+        return preencher(new Principal(armazenamentoColunar), quantidade);
+    }
+
+    /**
+     * Preenche uma instância de Principal com funcionários gerados pela semente padrão e descarta
+     * os relatórios impressos por ela.
+     *
+     * @param principal  A instância a ser preenchida.
+     * @param quantidade A quantidade de funcionários.
+     * @param <T>        O tipo da instância.
+     * @return A própria instância.
+     */
+    public static <T extends Principal> T preencher(T principal, int quantidade) {
+        principal.setSaidaRelatorio(new SaidaTexto(Writer.nullWriter()));
+        if (principal.inserirFuncionarios(gerar(quantidade, SEMENTE)).getInseridos() != quantidade) {
+            throw new IllegalStateException("Nem todos os funcionários gerados foram inseridos.");
+        }
+        return principal;
+    }
+}
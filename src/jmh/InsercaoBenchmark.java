@@ -0,0 +1,78 @@
+package jmh;
+
+import app.Funcionario;
+import app.ImportadorCsv;
+import app.Principal;
+import app.SaidaCsv;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o preenchimento de uma lista vazia: inserção um a um, inserção em lote e importação de CSV
+ * sequencial e paralela. Cada medição preenche uma instância nova, criada fora do tempo medido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class InsercaoBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int quantidade;
+
+    @Param({"false", "true"})
+    private boolean armazenamentoColunar;
+
+    private Path arquivoCsv;
+    private List<Funcionario> funcionarios;
+    private Principal principal;
+
+    @Setup(Level.Trial)
+    public void criarArquivo() throws IOException {
+        arquivoCsv = Files.createTempFile("funcionarios", ".csv");
+        try (SaidaCsv saida = SaidaCsv.paraArquivo(arquivoCsv)) {
+            GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE).forEach(saida::funcionario);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void preparar() {
+        funcionarios = GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE);
+        principal = new Principal(armazenamentoColunar);
+    }
+
+    @TearDown(Level.Trial)
+    public void removerArquivo() throws IOException {
+        Files.deleteIfExists(arquivoCsv);
+    }
+
+    @Benchmark
+    public Principal inserirFuncionarioUmAUm() {
+        for (Funcionario funcionario : funcionarios) {
+            principal.inserirFuncionario(funcionario.getNome(), funcionario.getDataNascimento(),
+                    funcionario.getSalario(), funcionario.getFuncao());
+        }
+        return principal;
+    }
+
+    @Benchmark
+    public Object inserirFuncionariosEmLote() {
+        return principal.inserirFuncionarios(funcionarios);
+    }
+
+    @Benchmark
+    public Object importarCsv() throws IOException {
+        return new ImportadorCsv().importar(arquivoCsv, principal);
+    }
+
+    @Benchmark
+    public Object importarCsvEmParalelo() throws IOException {
+        return new ImportadorCsv().importarEmParalelo(arquivoCsv, principal, Runtime.getRuntime().availableProcessors());
+    }
+}
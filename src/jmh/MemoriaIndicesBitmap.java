@@ -0,0 +1,71 @@
+package jmh;
+
+import app.BitmapCompactado;
+
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Relatório da memória por funcionário dos índices de bitmap por função e por mês de nascimento,
+ * com {@link BitmapCompactado} e com {@link BitSet}, para 1 e 10 milhões de funcionários.
+ * <p>
+ * Os bitmaps são montados diretamente a partir de identificadores, sem criar os funcionários, com
+ * as mesmas 7 funções e meses de nascimento de {@link GeradorFuncionarios}. Além dos bitmaps, o
+ * índice guarda um array com o funcionário de cada identificador, de 4 bytes por funcionário com
+ * referências comprimidas, que não depende do formato dos bitmaps.
+ * <p>
+ * São medidas três distribuições: funções e meses sorteados, funcionários inseridos agrupados por
+ * função, como na importação de um arquivo ordenado, e uma função rara, com 0,5% dos funcionários.
+ * <p>
+ * Uso: {@code java -cp target/projedata-benchmarks.jar jmh.MemoriaIndicesBitmap [quantidades...]}.
+ */
+public class MemoriaIndicesBitmap {
+    private static final int FUNCOES = GeradorFuncionarios.FUNCOES.length;
+    private static final int BYTES_ARRAY_FUNCIONARIOS = 4;
+
+    public static void main(String[] args) {
+        int[] quantidades = args.length == 0 ? new int[]{1_000_000, 10_000_000} : new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            quantidades[i] = Integer.parseInt(args[i]);
+        }
+        System.out.printf("%-12s %-20s %16s %16s %16s%n", "funcionarios", "distribuicao", "compactado B/lin",
+                "BitSet B/lin", "indice B/lin");
+        for (int quantidade : quantidades) {
+            for (String distribuicao : new String[]{"sorteada", "agrupada", "funcao rara"}) {
+                medir(quantidade, distribuicao);
+            }
+        }
+    }
+
+    private static void medir(int quantidade, String distribuicao) {
+        BitmapCompactado[] compactados = new BitmapCompactado[FUNCOES + 12];
+        BitSet[] bitSets = new BitSet[FUNCOES + 12];
+        for (int i = 0; i < compactados.length; i++) {
+            compactados[i] = new BitmapCompactado();
+            bitSets[i] = new BitSet();
+        }
+        Random aleatorio = new Random(GeradorFuncionarios.SEMENTE);
+        for (int linha = 0; linha < quantidade; linha++) {
+            int funcao = switch (distribuicao) {
+                case "agrupada" -> (int) ((long) linha * FUNCOES / quantidade);
+                case "funcao rara" -> aleatorio.nextInt(200) == 0 ? 0 : 1 + aleatorio.nextInt(FUNCOES - 1);
+                default -> aleatorio.nextInt(FUNCOES);
+            };
+            int mes = FUNCOES + aleatorio.nextInt(12);
+            compactados[funcao].adicionar(linha);
+            compactados[mes].adicionar(linha);
+            bitSets[funcao].set(linha);
+            bitSets[mes].set(linha);
+        }
+        long bytesCompactado = 0;
+        long bytesBitSet = 0;
+        for (int i = 0; i < compactados.length; i++) {
+            bytesCompactado += compactados[i].getBytes();
+            // Cabeçalho do BitSet e do seu array de palavras, mais as palavras.
+            bytesBitSet += 16 + 16 + bitSets[i].size() / 8;
+        }
+        System.out.printf("%,12d %-20s %16.3f %16.3f %16.3f%n", quantidade, distribuicao,
+                (double) bytesCompactado / quantidade, (double) bytesBitSet / quantidade,
+                (double) bytesCompactado / quantidade + BYTES_ARRAY_FUNCIONARIOS);
+    }
+}
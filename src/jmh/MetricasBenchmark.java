@@ -0,0 +1,64 @@
+package jmh;
+
+import app.Funcionario;
+import app.Principal;
+import app.PrincipalConcorrente;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo das métricas de latência comparando operações curtas com o registro habilitado e
+ * desabilitado. A busca por nome é a operação mais rápida instrumentada e, portanto, a que mais
+ * sente o custo relativo; a variante concorrente, com quatro threads, mede também a disputa pelos
+ * contadores e o registro da espera pela trava.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricasBenchmark {
+    private static final String NOME_NOVO = "Funcionário Novo";
+    private static final LocalDate DATA_NASCIMENTO = LocalDate.of(1990, 6, 15);
+    private static final BigDecimal SALARIO = new BigDecimal("3500.00");
+    private static final int QUANTIDADE = 100_000;
+
+    @Param({"true", "false"})
+    private boolean habilitadas;
+
+    private Principal principal;
+    private PrincipalConcorrente principalConcorrente;
+    private String nome;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        principal = GeradorFuncionarios.principal(QUANTIDADE, false);
+        principalConcorrente = GeradorFuncionarios.preencher(new PrincipalConcorrente(), QUANTIDADE);
+        principal.getMetricas().setHabilitadas(habilitadas);
+        principalConcorrente.getMetricas().setHabilitadas(habilitadas);
+        List<Funcionario> gerados = GeradorFuncionarios.gerar(QUANTIDADE, GeradorFuncionarios.SEMENTE);
+        nome = gerados.get(QUANTIDADE / 2).getNome();
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarFuncionariosPorNome() {
+        return principal.buscarFuncionariosPorNome(nome);
+    }
+
+    @Benchmark
+    public boolean inserirERemoverFuncionario() {
+        return principal.inserirFuncionario(NOME_NOVO, DATA_NASCIMENTO, SALARIO, "Operador")
+                & principal.removerFuncionarioPorNome(NOME_NOVO);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Funcionario> buscarFuncionariosPorNomeConcorrente() {
+        return principalConcorrente.buscarFuncionariosPorNome(nome);
+    }
+}
@@ -0,0 +1,149 @@
+package jmh;
+
+import app.Funcionario;
+import app.PoliticaReajuste;
+import app.Principal;
+import app.RegraReajuste;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as consultas e os relatórios públicos de {@link Principal}, que não alteram a lista.
+ * <p>
+ * Os relatórios são escritos em uma saída descartada (veja {@link GeradorFuncionarios}). As
+ * operações que alteram a lista estão em {@link AlteracaoBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrincipalBenchmark {
+    private static final int[] MESES = {10, 12};
+    private static final BigDecimal SALARIO_MINIMO = new BigDecimal("1412.00");
+    private static final BigDecimal[] LIMITES_FAIXAS = {new BigDecimal("3000.00"), new BigDecimal("10000.00"),
+            new BigDecimal("20000.00")};
+
+    @Param({"10000", "100000", "1000000"})
+    private int quantidade;
+
+    private Principal principal;
+    private String[] nomes;
+    private PoliticaReajuste politica;
+    private int proximoNome;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        principal = GeradorFuncionarios.principal(quantidade, false);
+        List<Funcionario> gerados = GeradorFuncionarios.gerar(quantidade, GeradorFuncionarios.SEMENTE);
+        nomes = new String[1024];
+        for (int i = 0; i < nomes.length; i++) {
+            nomes[i] = gerados.get((int) ((long) i * quantidade / nomes.length)).getNome();
+        }
+        politica = new PoliticaReajuste()
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.15")).paraFuncao("Operador").comIdadeEntre(null, 30))
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.10")).comSalarioEntre(null, new BigDecimal("5000.00")))
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.05")));
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarFuncionariosPorNome() {
+        proximoNome = (proximoNome + 1) & (nomes.length - 1);
+        return principal.buscarFuncionariosPorNome(nomes[proximoNome]);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarFuncionariosPorPrefixo() {
+        return principal.buscarFuncionariosPorPrefixo("Helo", 0, 20);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarFuncionariosPorTrecho() {
+        return principal.buscarFuncionariosPorTrecho("ceição 9", 0, 20);
+    }
+
+    @Benchmark
+    public Object agruparPorFuncao() {
+        return principal.agruparPorFuncao();
+    }
+
+    @Benchmark
+    public void obterGruposPorFuncao(Blackhole blackhole) {
+        principal.obterGruposPorFuncao().values().forEach(grupo -> blackhole.consume(grupo.getSomaSalarios()));
+    }
+
+    @Benchmark
+    public boolean imprimirFuncionariosAgrupadosPorFuncao() {
+        return principal.imprimirFuncionariosAgrupadosPorFuncao();
+    }
+
+    @Benchmark
+    public boolean imprimirAniversariantes() {
+        return principal.imprimirAniversariantes(MESES);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarAniversariantesProximosDias() {
+        return principal.buscarAniversariantesProximosDias(30);
+    }
+
+    @Benchmark
+    public Funcionario imprimirFuncionarioMaiorIdade() {
+        return principal.imprimirFuncionarioMaiorIdade();
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarFuncionariosMaisVelhos() {
+        return principal.buscarFuncionariosMaisVelhos(10);
+    }
+
+    @Benchmark
+    public List<Funcionario> buscarFuncionariosPorFaixaEtaria() {
+        return principal.buscarFuncionariosPorFaixaEtaria(30, 31);
+    }
+
+    @Benchmark
+    public boolean imprimirFuncionariosOrdenadoPorNome() {
+        return principal.imprimirFuncionariosOrdenadoPorNome();
+    }
+
+    @Benchmark
+    public Object listarFuncionariosPorNome() {
+        return principal.listarFuncionariosPorNome(null, 50);
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotalSalarios() {
+        return principal.calcularTotalSalarios();
+    }
+
+    @Benchmark
+    public boolean imprimirTotalSalarios() {
+        return principal.imprimirTotalSalarios();
+    }
+
+    @Benchmark
+    public Object calcularEstatisticasSalariais() {
+        return principal.calcularEstatisticasSalariais(LIMITES_FAIXAS);
+    }
+
+    @Benchmark
+    public boolean imprimirSalariosMinimos() {
+        return principal.imprimirSalariosMinimos(SALARIO_MINIMO);
+    }
+
+    @Benchmark
+    public Object simularPoliticaReajuste() {
+        return principal.simularPoliticaReajuste(politica);
+    }
+
+    @Benchmark
+    public void imprimirFuncionarios() {
+        principal.imprimirFuncionarios();
+    }
+}
@@ -0,0 +1,58 @@
+package jmh;
+
+import app.Funcionario;
+import app.SaidaCsv;
+import app.SaidaJson;
+import app.SaidaRelatorio;
+import app.SaidaTexto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão, em linhas por segundo, das saídas de relatório escrevendo em um Writer que
+ * descarta o conteúdo. Cada operação escreve {@value #LINHAS} funcionários e é contada como
+ * {@value #LINHAS} operações.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(RelatorioBenchmark.LINHAS)
+public class RelatorioBenchmark {
+    static final int LINHAS = 100_000;
+
+    private List<Funcionario> funcionarios;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        funcionarios = GeradorFuncionarios.gerar(LINHAS, GeradorFuncionarios.SEMENTE);
+    }
+
+    @Benchmark
+    public void saidaTexto() {
+        escrever(new SaidaTexto(Writer.nullWriter()));
+    }
+
+    @Benchmark
+    public void saidaCsv() {
+        escrever(new SaidaCsv(Writer.nullWriter()));
+    }
+
+    @Benchmark
+    public void saidaJson() {
+        escrever(new SaidaJson(Writer.nullWriter()));
+    }
+
+    private void escrever(SaidaRelatorio saida) {
+        try (saida) {
+            for (Funcionario funcionario : funcionarios) {
+                saida.funcionario(funcionario);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package jmh;
+
+import app.Funcionario;
+import app.PrincipalConcorrente;
+import app.SaidaRelatorio;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mede se relatórios escritos em uma saída lenta bloqueiam as alterações de
+ * {@link PrincipalConcorrente}. Uma thread imprime o total dos salários e o funcionário mais velho
+ * em uma saída que demora {@code atrasoMicros} para descarregar cada relatório, enquanto outra
+ * insere e remove um funcionário. Se a escrita acontecesse sob a trava de leitura, a vazão das
+ * alterações cairia com o atraso da saída; como só a leitura dos dados é feita sob a trava, ela
+ * deve ficar próxima da vazão sem atraso.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelatorioConcorrenteBenchmark {
+    private static final int QUANTIDADE = 100_000;
+    private static final String NOME_NOVO = "Funcionário Novo";
+    private static final LocalDate DATA_NASCIMENTO = LocalDate.of(1990, 6, 15);
+    private static final BigDecimal SALARIO = new BigDecimal("3500.00");
+
+    @Param({"0", "10000"})
+    private long atrasoMicros;
+
+    private PrincipalConcorrente principal;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        principal = GeradorFuncionarios.preencher(new PrincipalConcorrente(), QUANTIDADE);
+        principal.setSaidaRelatorio(new SaidaLenta(TimeUnit.MICROSECONDS.toNanos(atrasoMicros)));
+    }
+
+    @Benchmark
+    @Group("relatoriosEAlteracoes")
+    @GroupThreads(1)
+    public boolean imprimirRelatorios() {
+        return principal.imprimirTotalSalarios() & principal.imprimirFuncionarioMaiorIdade() != null;
+    }
+
+    @Benchmark
+    @Group("relatoriosEAlteracoes")
+    @GroupThreads(1)
+    public boolean inserirERemoverFuncionario() {
+        return principal.inserirFuncionario(NOME_NOVO, DATA_NASCIMENTO, SALARIO, "Operador")
+                & principal.removerFuncionarioPorNome(NOME_NOVO);
+    }
+
+    /**
+     * Saída que descarta o conteúdo e espera um tempo fixo a cada relatório, como um destino de
+     * rede ou disco lento.
+     */
+    private static final class SaidaLenta implements SaidaRelatorio {
+        private final long atrasoNanos;
+
+        SaidaLenta(long atrasoNanos) {
+            this.atrasoNanos = atrasoNanos;
+        }
+
+        @Override
+        public void linha(String texto) {
+        }
+
+        @Override
+        public void funcionario(Funcionario funcionario) {
+        }
+
+        @Override
+        public void descarregar() {
+            if (atrasoNanos > 0) {
+                LockSupport.parkNanos(atrasoNanos);
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
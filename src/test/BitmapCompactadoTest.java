@@ -0,0 +1,100 @@
+package test;
+
+import app.BitmapCompactado;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class BitmapCompactadoTest {
+
+    private static BitmapCompactado compactado(BitSet bits) {
+        BitmapCompactado bitmap = new BitmapCompactado();
+        bits.stream().forEach(bitmap::adicionar);
+        return bitmap;
+    }
+
+    private static void assertIguais(BitSet esperado, BitmapCompactado bitmap) {
+        Assertions.assertEquals(esperado.cardinality(), bitmap.getCardinalidade());
+        PrimitiveIterator.OfInt valores = bitmap.iterar();
+        for (int valor = esperado.nextSetBit(0); valor >= 0; valor = esperado.nextSetBit(valor + 1)) {
+            Assertions.assertTrue(valores.hasNext());
+            Assertions.assertEquals(valor, valores.nextInt());
+        }
+        Assertions.assertFalse(valores.hasNext());
+    }
+
+    @Test
+    void testOperacoesIguaisAoBitSet() {
+        Random aleatorio = new Random(25);
+        // Densidades abaixo e acima do limite de 4.096 valores por bloco, para exercitar os dois
+        // formatos de contêiner e as conversões entre eles.
+        double[] densidades = {0.001, 0.03, 0.2, 0.9};
+        for (double densidadeA : densidades) {
+            for (double densidadeB : densidades) {
+                BitSet a = new BitSet();
+                BitSet b = new BitSet();
+                for (int valor = 0; valor < 300_000; valor++) {
+                    if (aleatorio.nextDouble() < densidadeA) {
+                        a.set(valor);
+                    }
+                    if (aleatorio.nextDouble() < densidadeB) {
+                        b.set(valor + 65_536);
+                    }
+                }
+                BitmapCompactado bitmapA = compactado(a);
+                BitmapCompactado bitmapB = compactado(b);
+                assertIguais(a, bitmapA);
+
+                BitSet e = (BitSet) a.clone();
+                e.and(b);
+                BitSet ou = (BitSet) a.clone();
+                ou.or(b);
+                assertIguais(e, BitmapCompactado.e(bitmapA, bitmapB));
+                assertIguais(ou, BitmapCompactado.ou(bitmapA, bitmapB));
+                Assertions.assertEquals(e.cardinality(), BitmapCompactado.contarE(bitmapA, bitmapB));
+                assertIguais(a, bitmapA);
+                assertIguais(b, bitmapB);
+            }
+        }
+    }
+
+    @Test
+    void testAlteracoesIncrementais() {
+        Random aleatorio = new Random(2025);
+        BitSet esperado = new BitSet();
+        BitmapCompactado bitmap = new BitmapCompactado();
+        for (int rodada = 0; rodada < 4; rodada++) {
+            for (int i = 0; i < 50_000; i++) {
+                int valor = aleatorio.nextInt(140_000);
+                Assertions.assertEquals(!esperado.get(valor), bitmap.adicionar(valor));
+                esperado.set(valor);
+            }
+            assertIguais(esperado, bitmap);
+            for (int i = 0; i < 60_000; i++) {
+                int valor = aleatorio.nextInt(140_000);
+                Assertions.assertEquals(esperado.get(valor), bitmap.remover(valor));
+                esperado.clear(valor);
+                Assertions.assertFalse(bitmap.contem(valor));
+            }
+            assertIguais(esperado, bitmap);
+        }
+        Assertions.assertFalse(bitmap.remover(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> bitmap.adicionar(-1));
+        for (int valor = esperado.nextSetBit(0); valor >= 0; valor = esperado.nextSetBit(valor + 1)) {
+            Assertions.assertTrue(bitmap.remover(valor));
+        }
+        Assertions.assertTrue(bitmap.vazio());
+        Assertions.assertFalse(bitmap.iterar().hasNext());
+
+        BitmapCompactado esparso = new BitmapCompactado();
+        BitSet denso = new BitSet();
+        for (int valor = 0; valor < 1_000_000; valor += 100) {
+            esparso.adicionar(valor);
+            denso.set(valor);
+        }
+        Assertions.assertTrue(esparso.getBytes() < denso.size() / 8 / 2, "bytes=" + esparso.getBytes());
+    }
+}
@@ -0,0 +1,97 @@
+package test;
+
+import app.Funcionario;
+import app.ImportadorCsv;
+import app.Principal;
+import app.ResultadoInsercao;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+public class ImportadorCsvTest {
+    private static final String CSV = """
+            nome;dataNascimento;salario;funcao
+            Maria;18/10/2000;2009.44;Operador
+            João;12/05/1990;2284,38;Operador\r
+            ;02/05/1961;9836.14;Coordenador
+            Miguel;14/10/1988;19119.88
+            Alice;31/02/1995;2234.68;Recepcionista
+            Heitor;19/11/1999;-1582.72;Operador
+
+            Heloísa;24/05/2003;1606.85;Eletricista""";
+
+    private static Path criarArquivo(String conteudo) throws Exception {
+        Path arquivo = Files.createTempFile("funcionarios", ".csv");
+        Files.writeString(arquivo, conteudo);
+        return arquivo;
+    }
+
+    private static void verificarResultado(Principal principal, ResultadoInsercao resultado) {
+        Assertions.assertEquals(3, resultado.getInseridos());
+        Assertions.assertEquals(3, principal.contarFuncionarios());
+
+        List<ResultadoInsercao.Rejeicao> rejeitados = resultado.getRejeitados();
+        Assertions.assertEquals(4, rejeitados.size());
+        Assertions.assertEquals(4, rejeitados.get(0).getLinha());
+        Assertions.assertEquals("Nome deve ser preenchido.", rejeitados.get(0).getMotivo());
+        Assertions.assertEquals(5, rejeitados.get(1).getLinha());
+        Assertions.assertEquals(6, rejeitados.get(2).getLinha());
+        Assertions.assertEquals(7, rejeitados.get(3).getLinha());
+        Assertions.assertEquals("Salário deve ser um valor positivo.", rejeitados.get(3).getMotivo());
+
+        Funcionario joao = principal.buscarFuncionariosPorNome("João").getFirst();
+        Assertions.assertEquals(LocalDate.of(1990, 5, 12), joao.getDataNascimento());
+        Assertions.assertEquals(new BigDecimal("2284.38"), joao.getSalario());
+        Assertions.assertEquals("Operador", joao.getFuncao());
+        Assertions.assertEquals("Eletricista", principal.buscarFuncionariosPorNome("Heloísa").getFirst().getFuncao());
+    }
+
+    @Test
+    void importarArquivoComLinhasInvalidas() throws Exception {
+        Path arquivo = criarArquivo(CSV);
+        try {
+            Principal principal = new Principal();
+            verificarResultado(principal, new ImportadorCsv().importar(arquivo, principal));
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void importarEmParaleloMantemOrdemDasLinhas() throws Exception {
+        Path arquivo = criarArquivo(CSV);
+        try {
+            Principal principal = new Principal();
+            verificarResultado(principal, new ImportadorCsv().importarEmParalelo(arquivo, principal, 4));
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void importarArquivoMaiorQueOsBlocos() throws Exception {
+        StringBuilder conteudo = new StringBuilder();
+        int quantidade = 300_000;
+        for (int i = 0; i < quantidade; i++) {
+            conteudo.append("Funcionario ").append(i).append(",10/01/1990,1000.00,Operador\n");
+        }
+        Path arquivo = criarArquivo(conteudo.toString());
+        try {
+            Principal sequencial = new Principal();
+            Principal paralelo = new Principal();
+            ImportadorCsv importador = new ImportadorCsv(',', false);
+
+            Assertions.assertEquals(quantidade, importador.importar(arquivo, sequencial).getInseridos());
+            Assertions.assertEquals(quantidade, importador.importarEmParalelo(arquivo, paralelo, 3).getInseridos());
+            Assertions.assertEquals(sequencial.calcularTotalSalarios(), paralelo.calcularTotalSalarios());
+            Assertions.assertEquals(1, paralelo.buscarFuncionariosPorNome("Funcionario " + (quantidade - 1)).size());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package test;
+
+import app.Funcionario;
+import app.PrincipalConcorrente;
+import app.SaidaTexto;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PrincipalConcorrenteTest {
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int OPERACOES_POR_THREAD = 2_000;
+
+    /**
+     * Executa a tarefa em várias threads ao mesmo tempo e propaga a primeira falha encontrada.
+     */
+    private static void executarEmParalelo(int threads, Callable<Void> tarefa) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Void>> futuros = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return tarefa.call();
+                }));
+            }
+            largada.countDown();
+            for (Future<Void> futuro : futuros) {
+                futuro.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void inserirERemoverEmParaleloMantemContagemConsistente() throws Exception {
+        PrincipalConcorrente principal = new PrincipalConcorrente();
+
+        executarEmParalelo(THREADS, () -> {
+            String prefixo = Thread.currentThread().getName();
+            for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+                principal.inserirFuncionario(prefixo + "-" + i, LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador");
+                principal.buscarFuncionariosPorPrefixo(prefixo, 0, 10);
+                if (i % 2 == 0) {
+                    principal.removerFuncionarioPorNome(prefixo + "-" + i);
+                }
+            }
+            return null;
+        });
+
+        Assertions.assertEquals(THREADS * OPERACOES_POR_THREAD / 2, principal.contarFuncionarios());
+        Assertions.assertEquals(THREADS * OPERACOES_POR_THREAD / 2, principal.agruparPorFuncao().get("Operador").size());
+    }
+
+    @Test
+    void aumentoDeSalariosEhAtomicoParaLeitores() throws Exception {
+        PrincipalConcorrente principal = new PrincipalConcorrente();
+        int quantidade = 1_000;
+        int aumentos = 20;
+        for (int i = 0; i < quantidade; i++) {
+            principal.inserirFuncionario("Funcionario " + i, LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador");
+        }
+
+        Set<BigDecimal> totaisValidos = new HashSet<>();
+        BigDecimal salario = new BigDecimal("1000.00");
+        for (int i = 0; i <= aumentos; i++) {
+            totaisValidos.add(salario.multiply(BigDecimal.valueOf(quantidade)));
+            salario = salario.multiply(new BigDecimal("1.01")).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        AtomicBoolean aumentando = new AtomicBoolean(true);
+        Thread escritor = new Thread(() -> {
+            for (int i = 0; i < aumentos; i++) {
+                principal.aumentarSalarios(new BigDecimal("0.01"));
+            }
+            aumentando.set(false);
+        });
+        escritor.start();
+
+        executarEmParalelo(THREADS - 1, () -> {
+            do {
+                BigDecimal total = principal.calcularTotalSalarios();
+                Assertions.assertTrue(totaisValidos.contains(total), "Total parcial observado: " + total);
+            } while (aumentando.get());
+            return null;
+        });
+        escritor.join();
+
+        Assertions.assertTrue(totaisValidos.contains(principal.calcularTotalSalarios()));
+    }
+
+    @Test
+    void alterarNomeEmParaleloMantemIndicesConsistentes() throws Exception {
+        PrincipalConcorrente principal = new PrincipalConcorrente();
+        for (int i = 0; i < THREADS; i++) {
+            principal.inserirFuncionario("Funcionario " + i, LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador");
+        }
+
+        // As threads disputam os mesmos funcionários: cada renomeação atribui o nome e atualiza os
+        // índices sob a mesma trava, então os índices terminam de acordo com os nomes.
+        executarEmParalelo(THREADS, () -> {
+            String nome = "Funcionario " + Thread.currentThread().getName();
+            for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+                principal.buscarFuncionariosPorTrecho("func", 0, THREADS);
+                List<Funcionario> encontrados = principal.buscarFuncionariosPorPrefixo("Funcionario", 0, 1);
+                if (!encontrados.isEmpty()) {
+                    encontrados.getFirst().setNome(nome + "-" + i);
+                }
+            }
+            return null;
+        });
+
+        List<Funcionario> todos = principal.buscarFuncionariosPorTrecho("func", 0, THREADS * 2);
+        Assertions.assertEquals(THREADS, todos.size());
+        for (Funcionario funcionario : todos) {
+            Assertions.assertTrue(principal.buscarFuncionariosPorNome(funcionario.getNome()).contains(funcionario));
+        }
+    }
+
+    @Test
+    void relatorioNaoBloqueiaAlteracoesEnquantoEscreve() throws Exception {
+        PrincipalConcorrente principal = new PrincipalConcorrente();
+        for (int i = 0; i < 100; i++) {
+            principal.inserirFuncionario("Funcionario " + i, LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador");
+        }
+        CountDownLatch escrevendo = new CountDownLatch(1);
+        CountDownLatch alterado = new CountDownLatch(1);
+        List<String> nomesImpressos = new ArrayList<>();
+        principal.setSaidaRelatorio(new SaidaTexto(Writer.nullWriter()) {
+            @Override
+            public void funcionario(Funcionario funcionario) {
+                escrevendo.countDown();
+                try {
+                    alterado.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                nomesImpressos.add(funcionario.getNome());
+            }
+        });
+
+        Thread relatorio = new Thread(principal::imprimirFuncionarios);
+        relatorio.start();
+        Assertions.assertTrue(escrevendo.await(10, TimeUnit.SECONDS));
+        // Com o relatório parado na escrita, inserções e renomeações não esperam por ele.
+        Assertions.assertTrue(principal.inserirFuncionario("Novo", LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador"));
+        principal.buscarFuncionariosPorNome("Funcionario 0").getFirst().setNome("Renomeado");
+        alterado.countDown();
+        relatorio.join();
+
+        // O relatório mostra os funcionários como estavam quando foram copiados.
+        Assertions.assertEquals(100, nomesImpressos.size());
+        Assertions.assertEquals("Funcionario 0", nomesImpressos.getFirst());
+        Assertions.assertEquals(101, principal.contarFuncionarios());
+    }
+}
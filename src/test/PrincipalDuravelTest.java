@@ -0,0 +1,262 @@
+package test;
+
+import app.Funcionario;
+import app.PoliticaReajuste;
+import app.PrincipalDuravel;
+import app.RegraReajuste;
+import app.ResultadoInsercao;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+public class PrincipalDuravelTest {
+
+    private static void apagar(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+
+    private static List<String> arquivos(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.map(arquivo -> arquivo.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    void recuperaAlteracoesSemFecharALista() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            // A primeira instância não é fechada, simulando uma queda do processo.
+            PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true);
+            principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+            principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador");
+            principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+            principal.removerFuncionarioPorNome("João");
+            principal.aumentarSalarios(new BigDecimal("0.10"));
+
+            try (PrincipalDuravel recuperado = PrincipalDuravel.abrir(diretorio, true)) {
+                Assertions.assertEquals(2, recuperado.contarFuncionarios());
+                Assertions.assertTrue(recuperado.buscarFuncionariosPorNome("João").isEmpty());
+                Assertions.assertEquals(new BigDecimal("2210.38"), recuperado.buscarFuncionariosPorNome("Maria").getFirst().getSalario());
+                Assertions.assertEquals(principal.calcularTotalSalarios(), recuperado.calcularTotalSalarios());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void descartaRegistroIncompletoNoFimDoDiario() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+            }
+            Files.write(diretorio.resolve("diario-0.log"), new byte[]{42, 0, 0, 0, 1, 2}, StandardOpenOption.APPEND);
+
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                Assertions.assertEquals(1, principal.contarFuncionarios());
+                principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+            }
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                Assertions.assertEquals(2, principal.contarFuncionarios());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void snapshotPeriodicoCompactaODiario() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false, 5)) {
+                for (int i = 0; i < 12; i++) {
+                    principal.inserirFuncionario("Funcionario " + i, LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador");
+                }
+                principal.removerFuncionarioPorNome("Funcionario 0");
+            }
+            Assertions.assertEquals(List.of("diario-2.log", "snapshot-2.bin"), arquivos(diretorio));
+
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false, 5)) {
+                Assertions.assertEquals(11, principal.contarFuncionarios());
+                Assertions.assertTrue(principal.criarSnapshot());
+            }
+            Assertions.assertEquals(List.of("diario-3.log", "snapshot-3.bin"), arquivos(diretorio));
+
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false, 5)) {
+                Assertions.assertEquals(11, principal.contarFuncionarios());
+                Assertions.assertEquals(new BigDecimal("11000.00"), principal.calcularTotalSalarios());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void insercoesConcorrentesSaoRecuperadas() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        int threads = 8;
+        int insercoesPorThread = 200;
+        try {
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<?>> futuros = new ArrayList<>();
+                    for (int t = 0; t < threads; t++) {
+                        int id = t;
+                        futuros.add(executor.submit(() -> {
+                            for (int i = 0; i < insercoesPorThread; i++) {
+                                Assertions.assertTrue(principal.inserirFuncionario("Funcionario " + id + "-" + i,
+                                        LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador"));
+                            }
+                        }));
+                    }
+                    for (Future<?> futuro : futuros) {
+                        futuro.get(60, TimeUnit.SECONDS);
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                Assertions.assertEquals(threads * insercoesPorThread, principal.contarFuncionarios());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void recuperaInsercaoEmLoteSemAsRejeicoes() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                ResultadoInsercao resultado = principal.inserirFuncionarios(List.of(
+                        new Funcionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador"),
+                        new Funcionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("-1"), "Operador"),
+                        new Funcionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador")));
+                Assertions.assertEquals(2, resultado.getInseridos());
+            }
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, true)) {
+                Assertions.assertEquals(2, principal.contarFuncionarios());
+                Assertions.assertTrue(principal.buscarFuncionariosPorNome("João").isEmpty());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void recuperaPoliticaDeReajusteComADataDeReferenciaOriginal() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false);
+            principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+            principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+            PoliticaReajuste politica = new PoliticaReajuste()
+                    .adicionarRegra(new RegraReajuste(new BigDecimal("0.125")).comIdadeEntre(null, 30)
+                            .comSalarioEntre(new BigDecimal("1000.00"), null))
+                    .adicionarRegra(new RegraReajuste(new BigDecimal("0.03")).paraFuncao("Coordenador"));
+            Assertions.assertEquals(2, principal.aplicarPoliticaReajuste(politica, LocalDate.of(2020, 1, 1)).getReajustados());
+            principal.close();
+
+            try (PrincipalDuravel recuperado = PrincipalDuravel.abrir(diretorio, false)) {
+                Assertions.assertEquals(new BigDecimal("2260.62"), recuperado.buscarFuncionariosPorNome("Maria").getFirst().getSalario());
+                Assertions.assertEquals(new BigDecimal("10131.22"), recuperado.buscarFuncionariosPorNome("Caio").getFirst().getSalario());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void recuperaNomesMaioresQueOLimiteDoWriteUtf() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        String nome = "Ângela " + "Gonçalves ".repeat(7_000);
+        try {
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false)) {
+                Assertions.assertTrue(principal.inserirFuncionario(nome, LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador"));
+                Assertions.assertTrue(principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador"));
+            }
+            try (PrincipalDuravel recuperado = PrincipalDuravel.abrir(diretorio, false)) {
+                Assertions.assertEquals(2, recuperado.contarFuncionarios());
+                Assertions.assertEquals(1, recuperado.buscarFuncionariosPorNome(nome).size());
+                Assertions.assertTrue(recuperado.removerFuncionarioPorNome(nome));
+            }
+            try (PrincipalDuravel recuperado = PrincipalDuravel.abrir(diretorio, false)) {
+                Assertions.assertEquals(1, recuperado.contarFuncionarios());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void recusaAlteracoesQueODiarioNaoPodeGravar() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false);
+            principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+            principal.close();
+
+            Assertions.assertFalse(principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador"));
+            Assertions.assertFalse(principal.aumentarSalarios(new BigDecimal("0.10")));
+            ResultadoInsercao lote = principal.inserirFuncionarios(List.of(
+                    new Funcionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador"),
+                    new Funcionario("", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador")));
+            Assertions.assertEquals(0, lote.getInseridos());
+            Assertions.assertEquals(List.of(1L, 2L), lote.getRejeitados().stream().map(ResultadoInsercao.Rejeicao::getLinha).toList());
+            Assertions.assertTrue(lote.getRejeitados().get(0).getMotivo().contains("diário"), lote.getRejeitados().get(0).getMotivo());
+            Assertions.assertTrue(lote.getRejeitados().get(1).getMotivo().contains("diário"), lote.getRejeitados().get(1).getMotivo());
+            Assertions.assertEquals(1, principal.contarFuncionarios());
+            Assertions.assertEquals(new BigDecimal("2009.44"), principal.calcularTotalSalarios());
+
+            try (PrincipalDuravel recuperado = PrincipalDuravel.abrir(diretorio, false)) {
+                Assertions.assertEquals(1, recuperado.contarFuncionarios());
+                Assertions.assertEquals(principal.calcularTotalSalarios(), recuperado.calcularTotalSalarios());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+
+    @Test
+    void recuperaSnapshotComDadosAlteradosDiretamente() throws Exception {
+        Path diretorio = Files.createTempDirectory("principal-duravel");
+        try {
+            try (PrincipalDuravel principal = PrincipalDuravel.abrir(diretorio, false)) {
+                principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+                principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+                // Alterações diretas não passam pela validação da inserção, mas vão para o snapshot.
+                principal.buscarFuncionariosPorNome("Maria").getFirst().setSalario(BigDecimal.ZERO);
+                principal.buscarFuncionariosPorNome("Caio").getFirst().setDataNascimento(LocalDate.now().plusDays(1));
+                Assertions.assertTrue(principal.criarSnapshot());
+            }
+
+            try (PrincipalDuravel recuperado = PrincipalDuravel.abrir(diretorio, false)) {
+                Assertions.assertEquals(2, recuperado.contarFuncionarios());
+                Assertions.assertEquals(new BigDecimal("9836.14"), recuperado.calcularTotalSalarios());
+                Assertions.assertEquals(LocalDate.now().plusDays(1),
+                        recuperado.buscarFuncionariosPorNome("Caio").getFirst().getDataNascimento());
+            }
+        } finally {
+            apagar(diretorio);
+        }
+    }
+}
@@ -1,13 +1,45 @@
 package test;
 
+import app.ArquivoFuncionarios;
+import app.ConsultaFuncionarios;
+import app.CursorFuncionarios;
+import app.Dinheiro;
+import app.EstatisticasSalariais;
+import app.Formatador;
 import app.Funcionario;
+import app.GrupoFuncao;
+import app.ImportadorCsv;
+import app.MetricasPrincipal;
+import app.Operacao;
+import app.PaginaFuncionarios;
+import app.PoliticaReajuste;
 import app.Principal;
+import app.PrincipalConcorrente;
+import app.RegraReajuste;
+import app.ResultadoInsercao;
+import app.ResultadoReajuste;
+import app.ResumoLatencia;
+import app.SaidaCsv;
+import app.SaidaJson;
+import app.SaidaTexto;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import javax.management.ObjectName;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 public class PrincipalTest {
     @Test
@@ -241,4 +273,809 @@ public class PrincipalTest {
         Assertions.assertFalse(principal.imprimirSalariosMinimos(BigDecimal.valueOf(0)));
         Assertions.assertFalse(principal.imprimirSalariosMinimos(null));
     }
+
+    @Test
+    void testBuscarFuncionariosPorNomeIgnorandoMaiusculas() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("MARIA", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Gerente");
+        principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador");
+
+        List<Funcionario> encontrados = principal.buscarFuncionariosPorNome("maria");
+
+        Assertions.assertEquals(2, encontrados.size());
+        Assertions.assertEquals("Operador", encontrados.get(0).getFuncao());
+        Assertions.assertEquals("Gerente", encontrados.get(1).getFuncao());
+    }
+
+    @Test
+    void testRemoverFuncionarioAposAlterarNome() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+
+        Funcionario maria = principal.buscarFuncionariosPorNome("Maria").getFirst();
+        maria.setNome("Mariana");
+
+        Assertions.assertTrue(principal.buscarFuncionariosPorNome("Maria").isEmpty());
+        Assertions.assertFalse(principal.removerFuncionarioPorNome("Maria"));
+        Assertions.assertTrue(principal.removerFuncionarioPorNome("mariana"));
+        Assertions.assertTrue(principal.buscarFuncionariosPorNome("Mariana").isEmpty());
+    }
+
+    @Test
+    void testBuscarFuncionariosPorPrefixoSemAcentos() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Heloísa", LocalDate.of(2003, 5, 24), new BigDecimal("1606.85"), "Eletricista");
+        principal.inserirFuncionario("Helena", LocalDate.of(1996, 9, 2), new BigDecimal("2799.93"), "Gerente");
+        principal.inserirFuncionario("Heitor", LocalDate.of(1999, 11, 19), new BigDecimal("1582.72"), "Operador");
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+
+        List<Funcionario> encontrados = principal.buscarFuncionariosPorPrefixo("hel", 0, 10);
+        Assertions.assertEquals(2, encontrados.size());
+        Assertions.assertEquals("Helena", encontrados.get(0).getNome());
+        Assertions.assertEquals("Heloísa", encontrados.get(1).getNome());
+
+        Assertions.assertEquals("Heloísa", principal.buscarFuncionariosPorPrefixo("Heloisa", 0, 10).getFirst().getNome());
+        Assertions.assertEquals(3, principal.buscarFuncionariosPorPrefixo("He", 0, 10).size());
+    }
+
+    @Test
+    void testBuscarFuncionariosPorTrechoPaginado() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Ana Maria", LocalDate.of(1980, 1, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("Maria", LocalDate.of(1990, 2, 19), new BigDecimal("7000.00"), "Programador");
+        principal.inserirFuncionario("Mariana", LocalDate.of(2000, 3, 20), new BigDecimal("8500.50"), "Programador");
+        principal.inserirFuncionario("Carlos", LocalDate.of(1970, 4, 21), new BigDecimal("12000.00"), "Gerente");
+
+        List<Funcionario> primeiraPagina = principal.buscarFuncionariosPorTrecho("MARI", 0, 2);
+        List<Funcionario> segundaPagina = principal.buscarFuncionariosPorTrecho("MARI", 1, 2);
+
+        Assertions.assertEquals(2, primeiraPagina.size());
+        Assertions.assertEquals("Ana Maria", primeiraPagina.get(0).getNome());
+        Assertions.assertEquals("Maria", primeiraPagina.get(1).getNome());
+        Assertions.assertEquals(1, segundaPagina.size());
+        Assertions.assertEquals("Mariana", segundaPagina.getFirst().getNome());
+        Assertions.assertEquals(4, principal.buscarFuncionariosPorTrecho("ar", 0, 10).size());
+        Assertions.assertEquals(List.of("Carlos"), principal.buscarFuncionariosPorTrecho("LO", 0, 10).stream().map(Funcionario::getNome).toList());
+        Assertions.assertTrue(principal.buscarFuncionariosPorTrecho("zq", 0, 10).isEmpty());
+        Assertions.assertEquals(List.of("Mariana"), principal.buscarFuncionariosPorTrecho("i", 1, 2).stream().map(Funcionario::getNome).toList());
+        Assertions.assertEquals(List.of("Carlos"), principal.buscarFuncionariosPorTrecho("c", 0, 10).stream().map(Funcionario::getNome).toList());
+        Assertions.assertTrue(principal.buscarFuncionariosPorTrecho("xyz", 0, 10).isEmpty());
+        Assertions.assertTrue(principal.buscarFuncionariosPorTrecho("MARI", -1, 2).isEmpty());
+
+        // Alterações depois das primeiras buscas.
+        principal.inserirFuncionario("Marina", LocalDate.of(1985, 5, 22), new BigDecimal("3000.00"), "Operador");
+        principal.buscarFuncionariosPorNome("Carlos").getFirst().setNome("Carlos Mariano");
+        principal.removerFuncionarioPorNome("Mariana");
+        Assertions.assertEquals(List.of("Ana Maria", "Carlos Mariano", "Maria", "Marina"),
+                principal.buscarFuncionariosPorTrecho("mari", 0, 10).stream().map(Funcionario::getNome).toList());
+
+        // Remoções suficientes para que a remoção remonte o índice de n-gramas.
+        for (int i = 0; i < 3_000; i++) {
+            principal.inserirFuncionario("Temporário " + i, LocalDate.of(1990, 1, 1), new BigDecimal("1000.00"), "Operador");
+        }
+        Assertions.assertEquals(3_000, principal.buscarFuncionariosPorTrecho("temporario", 0, 5_000).size());
+        for (int i = 0; i < 3_000; i++) {
+            principal.removerFuncionarioPorNome("Temporário " + i);
+        }
+        Assertions.assertTrue(principal.buscarFuncionariosPorTrecho("temporario", 0, 10).isEmpty());
+        Assertions.assertEquals(4, principal.buscarFuncionariosPorTrecho("mari", 0, 10).size());
+        Assertions.assertEquals(4, principal.buscarFuncionariosPorTrecho("ri", 0, 10).size());
+    }
+
+    @Test
+    void testTotalSalariosComArmazenamentoColunar() {
+        Principal principal = new Principal(true);
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador");
+        principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+
+        Assertions.assertEquals(new BigDecimal("14129.96"), principal.calcularTotalSalarios());
+
+        principal.removerFuncionarioPorNome("Maria");
+        principal.aumentarSalarios(new BigDecimal("0.10"));
+        principal.buscarFuncionariosPorNome("Caio").getFirst().setSalario(new BigDecimal("10000.00"));
+
+        Assertions.assertEquals(new BigDecimal("12512.82"), principal.calcularTotalSalarios());
+        Assertions.assertTrue(principal.imprimirAniversariantes(new int[]{5}));
+    }
+
+    @Test
+    void testAgrupamentosComArmazenamentoColunar() {
+        Principal principal = new Principal(true);
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador");
+        principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+        principal.inserirFuncionario("Miguel", LocalDate.of(1988, 10, 14), new BigDecimal("19119.88"), "Diretor");
+        principal.inserirFuncionario("Alice", LocalDate.of(1995, 1, 5), new BigDecimal("2234.68"), "Recepcionista");
+
+        Map<String, List<Funcionario>> grupos = principal.agruparPorFuncao();
+        Assertions.assertEquals(List.of("Operador", "Coordenador", "Diretor", "Recepcionista"), List.copyOf(grupos.keySet()));
+        Assertions.assertEquals(List.of("Maria", "João"), grupos.get("Operador").stream().map(Funcionario::getNome).toList());
+        Assertions.assertEquals(List.of("Alice", "João", "Caio", "Maria", "Miguel"),
+                principal.buscarAniversariantes(new int[]{10, 1, 5}).stream().map(Funcionario::getNome).toList());
+
+        principal.removerFuncionarioPorNome("Maria");
+        principal.buscarFuncionariosPorNome("Caio").getFirst().setFuncao("Operador");
+        principal.buscarFuncionariosPorNome("Alice").getFirst().setDataNascimento(LocalDate.of(1995, 12, 31));
+
+        grupos = principal.agruparPorFuncao();
+        Assertions.assertEquals(List.of("Operador", "Diretor", "Recepcionista"), List.copyOf(grupos.keySet()));
+        Assertions.assertEquals(Set.of("João", "Caio"),
+                Set.copyOf(grupos.get("Operador").stream().map(Funcionario::getNome).toList()));
+        Assertions.assertEquals(List.of("Miguel", "Alice"),
+                principal.buscarAniversariantes(new int[]{12, 10, 1}).stream().map(Funcionario::getNome).toList());
+        Assertions.assertEquals(Set.of("João", "Caio"),
+                Set.copyOf(principal.buscarAniversariantes(new int[]{5}).stream().map(Funcionario::getNome).toList()));
+        Assertions.assertTrue(principal.buscarAniversariantes(new int[]{2}).isEmpty());
+    }
+
+    @Test
+    void testTotalSalariosColunarComSalarioSemCentavosExatos() {
+        Principal principal = new Principal(true);
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.445"), "Operador");
+        principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador");
+
+        Assertions.assertEquals(new BigDecimal("4293.825"), principal.calcularTotalSalarios());
+    }
+
+    @Test
+    void testSalvarECarregarFuncionarios() throws Exception {
+        Path arquivo = Files.createTempFile("funcionarios", ".bin");
+        try {
+            Principal principal = new Principal();
+            principal.inserirFuncionario("Heloísa", LocalDate.of(2003, 5, 24), new BigDecimal("1606.85"), "Eletricista");
+            principal.inserirFuncionario("Bob", LocalDate.of(1985, 10, 20), BigDecimal.valueOf(6000), "Analista");
+            Assertions.assertTrue(principal.salvarFuncionarios(arquivo));
+
+            Principal carregado = new Principal();
+            Assertions.assertTrue(carregado.carregarFuncionarios(arquivo));
+
+            Assertions.assertEquals(2, carregado.contarFuncionarios());
+            Funcionario heloisa = carregado.buscarFuncionariosPorNome("Heloísa").getFirst();
+            Assertions.assertEquals(LocalDate.of(2003, 5, 24), heloisa.getDataNascimento());
+            Assertions.assertEquals(new BigDecimal("1606.85"), heloisa.getSalario());
+            Assertions.assertEquals("Eletricista", heloisa.getFuncao());
+            Assertions.assertEquals(BigDecimal.valueOf(6000), carregado.buscarFuncionariosPorNome("Bob").getFirst().getSalario());
+
+            // O arquivo também pode ser lido sem carregá-lo em uma lista.
+            List<Funcionario> gravados;
+            try (ArquivoFuncionarios origem = ArquivoFuncionarios.abrir(arquivo)) {
+                gravados = origem.funcionarios();
+                Assertions.assertEquals(2, gravados.size());
+                Assertions.assertEquals("Bob", gravados.get(1).getNome());
+            }
+            Assertions.assertEquals(List.of("Heloísa", "Bob"), gravados.stream().map(Funcionario::getNome).toList());
+            Assertions.assertThrows(UnsupportedOperationException.class, () -> gravados.remove(0));
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void testSalvarCamposLongosEPreservarArquivoAnteriorEmErro() throws Exception {
+        Path diretorio = Files.createTempDirectory("funcionarios");
+        Path arquivo = diretorio.resolve("funcionarios.bin");
+        try {
+            String nome = "Ângela " + "Gonçalves ".repeat(12);
+            String funcao = "Coordenadora de Operações Logísticas Regionais";
+            LocalDate dataAntiga = LocalDate.of(-99_999_999, 1, 1);
+            Principal principal = new Principal();
+            principal.inserirFuncionario(nome, LocalDate.of(1980, 1, 1), new BigDecimal("5000.00"), funcao);
+            principal.inserirFuncionario("Bob", dataAntiga, new BigDecimal("1E+200"), "Analista");
+            Assertions.assertTrue(principal.salvarFuncionarios(arquivo));
+
+            // Uma gravação que falha não altera o arquivo anterior nem deixa arquivos temporários.
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> ArquivoFuncionarios.gravar(arquivo, List.of(new Funcionario())));
+            try (var arquivos = Files.list(diretorio)) {
+                Assertions.assertEquals(List.of(arquivo), arquivos.toList());
+            }
+
+            Principal carregado = new Principal();
+            Assertions.assertTrue(carregado.carregarFuncionarios(arquivo));
+            Funcionario longo = carregado.buscarFuncionariosPorNome(nome).getFirst();
+            Assertions.assertEquals(funcao, longo.getFuncao());
+            Assertions.assertEquals(new BigDecimal("5000.00"), longo.getSalario());
+            Funcionario bob = carregado.buscarFuncionariosPorNome("Bob").getFirst();
+            Assertions.assertEquals(dataAntiga, bob.getDataNascimento());
+            Assertions.assertEquals(new BigDecimal("1E+200"), bob.getSalario());
+        } finally {
+            Files.deleteIfExists(arquivo);
+            Files.deleteIfExists(diretorio);
+        }
+    }
+
+    @Test
+    void testCarregarFuncionariosArquivoInvalido() throws Exception {
+        Path arquivo = Files.createTempFile("funcionarios", ".bin");
+        try {
+            Files.writeString(arquivo, "não é um arquivo de funcionários");
+            Principal principal = new Principal();
+
+            Assertions.assertFalse(principal.carregarFuncionarios(arquivo));
+            Assertions.assertEquals(0, principal.contarFuncionarios());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void testInserirFuncionariosEmLote() {
+        Principal principal = new Principal();
+        Funcionario maria = new Funcionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        List<Funcionario> novos = Arrays.asList(
+                maria,
+                new Funcionario("", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador"),
+                null,
+                new Funcionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador"),
+                new Funcionario("Miguel", LocalDate.now().plusDays(1), new BigDecimal("19119.88"), "Diretor"),
+                maria);
+
+        ResultadoInsercao resultado = principal.inserirFuncionarios(novos);
+
+        Assertions.assertEquals(2, resultado.getInseridos());
+        Assertions.assertEquals(2, principal.contarFuncionarios());
+        Assertions.assertSame(maria, principal.buscarFuncionariosPorNome("Maria").getFirst());
+        List<ResultadoInsercao.Rejeicao> rejeitados = resultado.getRejeitados();
+        Assertions.assertEquals(4, rejeitados.size());
+        Assertions.assertEquals(2, rejeitados.get(0).getLinha());
+        Assertions.assertEquals("Nome deve ser preenchido.", rejeitados.get(0).getMotivo());
+        Assertions.assertEquals(3, rejeitados.get(1).getLinha());
+        Assertions.assertEquals(5, rejeitados.get(2).getLinha());
+        Assertions.assertEquals("Data de nascimento deve estar no passado.", rejeitados.get(2).getMotivo());
+        Assertions.assertEquals(6, rejeitados.get(3).getLinha());
+        Assertions.assertEquals("Funcionário já pertence a uma lista.", rejeitados.get(3).getMotivo());
+    }
+
+    @Test
+    void testGruposPorFuncaoAtualizadosIncrementalmente() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(1980, 1, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("Antonio", LocalDate.of(1990, 2, 19), new BigDecimal("7000.00"), "Programador");
+        principal.inserirFuncionario("Fabiana", LocalDate.of(2000, 3, 20), new BigDecimal("8500.50"), "Programador");
+
+        Map<String, GrupoFuncao> grupos = principal.obterGruposPorFuncao();
+        GrupoFuncao programadores = grupos.get("Programador");
+        Assertions.assertEquals(2, programadores.getQuantidade());
+        Assertions.assertEquals(new BigDecimal("15500.50"), programadores.getSomaSalarios());
+        Assertions.assertEquals(new BigDecimal("7000.00"), programadores.getMenorSalario());
+        Assertions.assertEquals(new BigDecimal("8500.50"), programadores.getMaiorSalario());
+
+        principal.buscarFuncionariosPorNome("Maria").getFirst().setFuncao("Programador");
+        principal.buscarFuncionariosPorNome("Fabiana").getFirst().setSalario(new BigDecimal("9000.00"));
+        principal.removerFuncionarioPorNome("Antonio");
+
+        Assertions.assertSame(programadores, grupos.get("Programador"));
+        Assertions.assertNull(grupos.get("Operador"));
+        Assertions.assertEquals(2, programadores.getQuantidade());
+        Assertions.assertEquals(new BigDecimal("11009.44"), programadores.getSomaSalarios());
+        Assertions.assertEquals(new BigDecimal("2009.44"), programadores.getMenorSalario());
+        Assertions.assertEquals(new BigDecimal("9000.00"), programadores.getMaiorSalario());
+        Assertions.assertTrue(principal.imprimirFuncionariosAgrupadosPorFuncao());
+
+        principal.buscarFuncionariosPorNome("Fabiana").getFirst().setSalario(new BigDecimal("1500.125"));
+        Assertions.assertEquals(new BigDecimal("3509.565"), programadores.getSomaSalarios());
+        Assertions.assertEquals(new BigDecimal("1500.125"), programadores.getMenorSalario());
+        Assertions.assertEquals(new BigDecimal("2009.44"), programadores.getMaiorSalario());
+
+        principal.removerFuncionarioPorNome("Fabiana");
+        Assertions.assertTrue(principal.aumentarSalarios(new BigDecimal("0.10")));
+        Assertions.assertEquals(new BigDecimal("2210.38"), programadores.getSomaSalarios());
+        Assertions.assertEquals(new BigDecimal("2210.38"), programadores.getMenorSalario());
+        Assertions.assertEquals(new BigDecimal("2210.38"), programadores.getMaiorSalario());
+    }
+
+    @Test
+    void testExtremosDosGruposAcompanhamRemocoesDosExtremos() {
+        Principal principal = new Principal();
+        Random aleatorio = new Random(7);
+        List<String> nomes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // Poucos valores distintos, para que vários funcionários tenham o mesmo salário.
+            BigDecimal salario = BigDecimal.valueOf(100_000 + aleatorio.nextInt(50) * 1_000, aleatorio.nextInt(3));
+            principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1990, 1, 1), salario, i % 2 == 0 ? "Operador" : "Analista");
+            nomes.add("Funcionário " + i);
+        }
+        Collections.shuffle(nomes, aleatorio);
+        for (int i = 0; i < nomes.size(); i++) {
+            if (i % 3 == 0) {
+                principal.buscarFuncionariosPorNome(nomes.get(i)).getFirst().setSalario(BigDecimal.valueOf(aleatorio.nextInt(1_000_000) + 1, 3));
+            } else {
+                principal.removerFuncionarioPorNome(nomes.get(i));
+            }
+            if (i % 97 == 0) {
+                principal.aumentarSalarios(new BigDecimal("0.01"));
+            }
+            for (GrupoFuncao grupo : principal.obterGruposPorFuncao().values()) {
+                List<BigDecimal> salarios = grupo.getFuncionarios().stream().map(Funcionario::getSalario).toList();
+                Assertions.assertEquals(0, salarios.stream().min(BigDecimal::compareTo).orElseThrow().compareTo(grupo.getMenorSalario()));
+                Assertions.assertEquals(0, salarios.stream().max(BigDecimal::compareTo).orElseThrow().compareTo(grupo.getMaiorSalario()));
+                Assertions.assertEquals(0, salarios.stream().reduce(BigDecimal.ZERO, BigDecimal::add).compareTo(grupo.getSomaSalarios()));
+            }
+        }
+    }
+
+    @Test
+    void testAniversariantesPorMesAcompanhamAlteracoes() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("Miguel", LocalDate.of(1988, 10, 14), new BigDecimal("19119.88"), "Diretor");
+        principal.inserirFuncionario("Alice", LocalDate.of(1995, 1, 5), new BigDecimal("2234.68"), "Recepcionista");
+
+        principal.buscarFuncionariosPorNome("Alice").getFirst().setDataNascimento(LocalDate.of(1995, 12, 5));
+        principal.removerFuncionarioPorNome("Maria");
+
+        Assertions.assertTrue(principal.imprimirAniversariantes(new int[]{10, 12}));
+        List<Funcionario> proximos = principal.buscarAniversariantesProximosDias(LocalDate.of(2024, 10, 1), 70);
+        Assertions.assertEquals(2, proximos.size());
+        Assertions.assertEquals("Miguel", proximos.get(0).getNome());
+        Assertions.assertEquals("Alice", proximos.get(1).getNome());
+    }
+
+    @Test
+    void testAniversariantesProximosDiasNaViradaDoAno() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Alice", LocalDate.of(1995, 1, 5), new BigDecimal("2234.68"), "Recepcionista");
+        principal.inserirFuncionario("Heitor", LocalDate.of(1999, 12, 30), new BigDecimal("1582.72"), "Operador");
+        principal.inserirFuncionario("Laura", LocalDate.of(1994, 7, 8), new BigDecimal("3017.45"), "Gerente");
+        principal.inserirFuncionario("Bissexto", LocalDate.of(2000, 2, 29), new BigDecimal("3000.00"), "Analista");
+
+        List<Funcionario> proximos = principal.buscarAniversariantesProximosDias(LocalDate.of(2024, 12, 28), 10);
+        Assertions.assertEquals(2, proximos.size());
+        Assertions.assertEquals("Heitor", proximos.get(0).getNome());
+        Assertions.assertEquals("Alice", proximos.get(1).getNome());
+
+        Assertions.assertEquals(1, principal.buscarAniversariantesProximosDias(LocalDate.of(2025, 2, 28), 0).size());
+        Assertions.assertEquals(4, principal.buscarAniversariantesProximosDias(LocalDate.of(2025, 3, 1), 400).size());
+        Assertions.assertTrue(principal.buscarAniversariantesProximosDias(LocalDate.of(2025, 3, 1), -1).isEmpty());
+    }
+
+    @Test
+    void testConsultasPorDataDeNascimento() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+        principal.inserirFuncionario("Miguel", LocalDate.of(1988, 10, 14), new BigDecimal("19119.88"), "Diretor");
+        principal.inserirFuncionario("Heloísa", LocalDate.of(2003, 5, 24), new BigDecimal("1606.85"), "Eletricista");
+
+        Assertions.assertEquals("Caio", principal.imprimirFuncionarioMaiorIdade().getNome());
+        Assertions.assertEquals("Miguel", principal.buscarFuncionariosMaisVelhos(2).get(1).getNome());
+        Assertions.assertEquals("Heloísa", principal.buscarFuncionariosMaisNovos(1).getFirst().getNome());
+
+        List<Funcionario> faixa = principal.buscarFuncionariosPorFaixaEtaria(21, 35, LocalDate.of(2024, 10, 17));
+        Assertions.assertEquals(2, faixa.size());
+        Assertions.assertEquals("Maria", faixa.get(0).getNome());
+        Assertions.assertEquals("Heloísa", faixa.get(1).getNome());
+
+        principal.buscarFuncionariosPorNome("Heloísa").getFirst().setDataNascimento(LocalDate.of(1950, 1, 1));
+        principal.removerFuncionarioPorNome("Caio");
+        Assertions.assertEquals("Heloísa", principal.imprimirFuncionarioMaiorIdade().getNome());
+        Assertions.assertEquals("Maria", principal.buscarFuncionariosMaisNovos(1).getFirst().getNome());
+        Assertions.assertEquals(3, principal.buscarFuncionariosPorFaixaEtaria(0, Integer.MAX_VALUE).size());
+        Assertions.assertTrue(principal.buscarFuncionariosMaisVelhos(0).isEmpty());
+    }
+
+    @Test
+    void testListagemPorNomeComCursor() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Óscar", LocalDate.of(1980, 1, 1), new BigDecimal("3000.00"), "Analista");
+        principal.inserirFuncionario("helena", LocalDate.of(1996, 9, 2), new BigDecimal("2799.93"), "Gerente");
+        principal.inserirFuncionario("Álvaro", LocalDate.of(1990, 5, 12), new BigDecimal("2284.38"), "Operador");
+        principal.inserirFuncionario("Bruno", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+
+        PaginaFuncionarios primeira = principal.listarFuncionariosPorNome(null, 2);
+        Assertions.assertEquals("Álvaro", primeira.getFuncionarios().get(0).getNome());
+        Assertions.assertEquals("Bruno", primeira.getFuncionarios().get(1).getNome());
+        Assertions.assertTrue(primeira.temProxima());
+
+        principal.removerFuncionarioPorNome("Bruno");
+        principal.buscarFuncionariosPorNome("helena").getFirst().setNome("Abel");
+
+        PaginaFuncionarios segunda = principal.listarFuncionariosPorNome(primeira.getProximo(), 2);
+        Assertions.assertEquals(1, segunda.getFuncionarios().size());
+        Assertions.assertEquals("Óscar", segunda.getFuncionarios().getFirst().getNome());
+        Assertions.assertFalse(segunda.temProxima());
+
+        Assertions.assertTrue(principal.imprimirFuncionariosOrdenadoPorNome());
+        Assertions.assertEquals("Abel", principal.listarFuncionariosPorNome(null, 10).getFuncionarios().getFirst().getNome());
+        Assertions.assertTrue(principal.listarFuncionariosPorNome(null, 0).getFuncionarios().isEmpty());
+    }
+
+    @Test
+    void testAumentoDeSalariosEmParaleloIgualAoCalculoComBigDecimal() {
+        Principal principal = new Principal();
+        Random aleatorio = new Random(42);
+        List<Funcionario> novos = new ArrayList<>();
+        List<BigDecimal> salarios = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            BigDecimal salario = BigDecimal.valueOf(1 + aleatorio.nextInt(5_000_000), aleatorio.nextInt(4));
+            if (i % 1_000 == 0) {
+                salario = new BigDecimal("92233720368547758.07");
+            }
+            salarios.add(salario);
+            novos.add(new Funcionario("Funcionário " + i, LocalDate.of(1990, 1, 1), salario, "Operador"));
+        }
+        principal.inserirFuncionarios(novos);
+
+        BigDecimal percentual = new BigDecimal("0.0735");
+        Assertions.assertTrue(principal.aumentarSalarios(percentual));
+
+        BigDecimal soma = BigDecimal.ZERO;
+        for (int i = 0; i < novos.size(); i++) {
+            BigDecimal esperado = salarios.get(i).multiply(BigDecimal.ONE.add(percentual)).setScale(2, RoundingMode.HALF_UP);
+            Assertions.assertEquals(esperado, novos.get(i).getSalario());
+            soma = soma.add(esperado);
+        }
+        GrupoFuncao operadores = principal.obterGruposPorFuncao().get("Operador");
+        Assertions.assertEquals(soma, operadores.getSomaSalarios());
+        Assertions.assertEquals(soma, principal.calcularTotalSalarios());
+        Assertions.assertEquals(novos.stream().map(Funcionario::getSalario).min(BigDecimal::compareTo).orElseThrow(), operadores.getMenorSalario());
+        BigDecimal maior = new BigDecimal("92233720368547758.07").multiply(BigDecimal.ONE.add(percentual)).setScale(2, RoundingMode.HALF_UP);
+        Assertions.assertEquals(maior, operadores.getMaiorSalario());
+        Assertions.assertEquals(50, principal.contarFuncionarios(new ConsultaFuncionarios().comSalarioEntre(maior, null)));
+    }
+
+    @Test
+    void testPoliticaDeReajustePorFuncaoFaixaSalarialEIdade() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2000.00"), "Operador");
+        principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("3000.00"), "Operador");
+        principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9000.00"), "Coordenador");
+        principal.inserirFuncionario("Laura", LocalDate.of(1994, 7, 8), new BigDecimal("5000.00"), "Gerente");
+
+        PoliticaReajuste politica = new PoliticaReajuste()
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.15")).paraFuncao("Operador")
+                        .comSalarioEntre(null, new BigDecimal("2500.00")))
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.10")).comIdadeEntre(60, null))
+                .adicionarRegra(new RegraReajuste(new BigDecimal("0.05")).paraFuncao("Operador"));
+        LocalDate referencia = LocalDate.of(2024, 1, 1);
+
+        ResultadoReajuste previsao = principal.simularPoliticaReajuste(politica, referencia);
+        Assertions.assertEquals(3, previsao.getReajustados());
+        Assertions.assertEquals(new BigDecimal("19000.00"), previsao.getTotalAnterior());
+        Assertions.assertEquals(new BigDecimal("1350.00"), previsao.getDiferenca());
+        Assertions.assertEquals(new BigDecimal("19000.00"), principal.calcularTotalSalarios());
+
+        ResultadoReajuste aplicado = principal.aplicarPoliticaReajuste(politica, referencia);
+        Assertions.assertEquals(previsao.getTotalReajustado(), aplicado.getTotalReajustado());
+        Assertions.assertEquals(new BigDecimal("20350.00"), principal.calcularTotalSalarios());
+        Assertions.assertEquals(new BigDecimal("2300.00"), principal.buscarFuncionariosPorNome("Maria").getFirst().getSalario());
+        Assertions.assertEquals(new BigDecimal("3150.00"), principal.buscarFuncionariosPorNome("João").getFirst().getSalario());
+        Assertions.assertEquals(new BigDecimal("9900.00"), principal.buscarFuncionariosPorNome("Caio").getFirst().getSalario());
+        Assertions.assertEquals(new BigDecimal("5000.00"), principal.buscarFuncionariosPorNome("Laura").getFirst().getSalario());
+
+        PoliticaReajuste invalida = new PoliticaReajuste().adicionarRegra(new RegraReajuste(BigDecimal.ZERO));
+        Assertions.assertEquals(0, principal.aplicarPoliticaReajuste(invalida).getReajustados());
+        Assertions.assertEquals(0, principal.simularPoliticaReajuste(new PoliticaReajuste()).getReajustados());
+    }
+
+    @Test
+    void testSalariosEmCentavosMantemResultadosDoBigDecimal() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.4"), "Operador");
+        principal.inserirFuncionario("João", LocalDate.of(1990, 5, 12), new BigDecimal("2284"), "Operador");
+        Assertions.assertEquals(new BigDecimal("4293.4"), principal.calcularTotalSalarios());
+
+        principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.145"), "Coordenador");
+        Assertions.assertEquals(new BigDecimal("14129.545"), principal.calcularTotalSalarios());
+        Assertions.assertTrue(principal.imprimirSalariosMinimos(new BigDecimal("1212.00")));
+
+        Funcionario maria = principal.buscarFuncionariosPorNome("Maria").getFirst();
+        Assertions.assertEquals(Dinheiro.deCentavos(200940), maria.getSalarioDinheiro());
+        Assertions.assertNull(principal.buscarFuncionariosPorNome("Caio").getFirst().getSalarioDinheiro());
+        Assertions.assertEquals(new BigDecimal("1.66"), maria.getSalarioDinheiro().dividir(Dinheiro.de(new BigDecimal("1212"))));
+        Assertions.assertEquals(new BigDecimal("2210.34"), maria.getSalarioDinheiro().multiplicar(new BigDecimal("1.10")).paraBigDecimal());
+        Assertions.assertThrows(ArithmeticException.class, () -> Dinheiro.de(new BigDecimal("0.001")));
+    }
+
+    @Test
+    void testEstatisticasSalariaisComEsemCentavosExatos() {
+        for (Principal principal : List.of(new Principal(), new Principal(true))) {
+            for (int i = 1; i <= 1_000; i++) {
+                principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1990, 1, 1),
+                        BigDecimal.valueOf(100_000 + i, 2), "Operador");
+            }
+            EstatisticasSalariais estatisticas = principal.calcularEstatisticasSalariais(
+                    new BigDecimal("1001.00"), new BigDecimal("1005.005"));
+            Assertions.assertEquals(1_000, estatisticas.getQuantidade());
+            Assertions.assertEquals(new BigDecimal("1005005.00"), estatisticas.getSoma());
+            Assertions.assertEquals(new BigDecimal("1000.01"), estatisticas.getMenor());
+            Assertions.assertEquals(new BigDecimal("1010.00"), estatisticas.getMaior());
+            Assertions.assertEquals(new BigDecimal("1005.01"), estatisticas.getMedia());
+            Assertions.assertEquals(99, estatisticas.getQuantidadesPorFaixa()[0]);
+            Assertions.assertEquals(401, estatisticas.getQuantidadesPorFaixa()[1]);
+            Assertions.assertEquals(500, estatisticas.getQuantidadesPorFaixa()[2]);
+
+            principal.buscarFuncionariosPorNome("Funcionário 1").getFirst().setSalario(new BigDecimal("1000.015"));
+            EstatisticasSalariais inexatas = principal.calcularEstatisticasSalariais(new BigDecimal("1001.00"));
+            Assertions.assertEquals(new BigDecimal("1000.015"), inexatas.getMenor());
+            Assertions.assertEquals(new BigDecimal("1005005.005"), inexatas.getSoma());
+            Assertions.assertEquals(99, inexatas.getQuantidadesPorFaixa()[0]);
+        }
+        Assertions.assertNull(new Principal().calcularEstatisticasSalariais(BigDecimal.TEN, BigDecimal.ONE));
+    }
+
+
+    @Test
+    void testRelatoriosEscritosNaSaidaConfigurada() {
+        Principal principal = new Principal();
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        principal.inserirFuncionario("Caio", LocalDate.of(1961, 5, 2), new BigDecimal("9836.14"), "Coordenador");
+
+        StringWriter texto = new StringWriter();
+        principal.setSaidaRelatorio(new SaidaTexto(texto));
+        Assertions.assertTrue(principal.imprimirFuncionariosOrdenadoPorNome());
+        Assertions.assertTrue(principal.imprimirTotalSalarios());
+        String fimLinha = System.lineSeparator();
+        Assertions.assertEquals(String.join(fimLinha, "Nome: Caio", "Data de Nascimento: 02/05/1961",
+                "Salário: 9.836,14", "Função: Coordenador", "Nome: Maria", "Data de Nascimento: 18/10/2000",
+                "Salário: 2.009,44", "Função: Operador", "Total dos salários: 11.845,58") + fimLinha, texto.toString());
+
+        StringWriter json = new StringWriter();
+        try (SaidaJson saida = new SaidaJson(json)) {
+            principal.setSaidaRelatorio(saida);
+            principal.imprimirFuncionarios();
+            principal.imprimirTotalSalarios();
+        }
+        Assertions.assertEquals("[\n{\"nome\":\"Maria\",\"dataNascimento\":\"2000-10-18\",\"salario\":2009.44,\"funcao\":\"Operador\"},\n"
+                + "{\"nome\":\"Caio\",\"dataNascimento\":\"1961-05-02\",\"salario\":9836.14,\"funcao\":\"Coordenador\"}\n]\n", json.toString());
+
+        principal.setSaidaRelatorio(null);
+        Assertions.assertTrue(principal.getSaidaRelatorio() instanceof SaidaTexto);
+    }
+
+    @Test
+    void testRelatorioCsvPodeSerImportado() throws IOException {
+        Principal principal = new Principal();
+        for (int i = 1; i <= 1_000; i++) {
+            principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1990, 1, 1).plusDays(i),
+                    BigDecimal.valueOf(100_000 + i, 2), "Operador");
+        }
+        Path arquivo = Files.createTempFile("relatorio", ".csv");
+        try {
+            try (SaidaCsv saida = SaidaCsv.paraArquivo(arquivo)) {
+                principal.setSaidaRelatorio(saida);
+                Assertions.assertTrue(principal.imprimirFuncionariosAgrupadosPorFuncao());
+            }
+            Assertions.assertEquals("nome;dataNascimento;salario;funcao", Files.readAllLines(arquivo).getFirst());
+
+            Principal importado = new Principal();
+            Assertions.assertEquals(1_000, new ImportadorCsv().importar(arquivo, importado).getInseridos());
+            Assertions.assertEquals(principal.calcularTotalSalarios(), importado.calcularTotalSalarios());
+            Assertions.assertEquals(LocalDate.of(1992, 9, 27),
+                    importado.buscarFuncionariosPorNome("Funcionário 1000").getFirst().getDataNascimento());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+
+    @Test
+    void testFormatadorIgualAoDecimalFormatPtBr() {
+        DecimalFormat decimal = new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.forLanguageTag("pt-BR")));
+        Random aleatorio = new Random(18);
+        StringBuilder destino = new StringBuilder();
+        List<BigDecimal> valores = new ArrayList<>(List.of(BigDecimal.ZERO, new BigDecimal("0.05"), new BigDecimal("-999.99"),
+                new BigDecimal("1000.00"), new BigDecimal("1000.015"), new BigDecimal("1000.025"), new BigDecimal("2E+3"),
+                BigDecimal.valueOf(Long.MAX_VALUE, 2), BigDecimal.valueOf(Long.MIN_VALUE, 2),
+                new BigDecimal("123456789012345678901234.567")));
+        for (int i = 0; i < 10_000; i++) {
+            valores.add(BigDecimal.valueOf(aleatorio.nextLong() >> aleatorio.nextInt(64), aleatorio.nextInt(4)));
+        }
+        for (BigDecimal valor : valores) {
+            destino.setLength(0);
+            Formatador.formatarMoeda(valor, destino);
+            Assertions.assertEquals(decimal.format(valor), destino.toString(), valor.toPlainString());
+        }
+        Assertions.assertEquals("1.000,00", Formatador.formatarMoeda(new BigDecimal("1000")));
+
+        destino.setLength(0);
+        Formatador.formatarData(LocalDate.of(987, 3, 4), destino);
+        destino.append(' ');
+        Formatador.formatarData(LocalDate.of(2024, 12, 31), destino);
+        Assertions.assertEquals("04/03/0987 31/12/2024", destino.toString());
+    }
+
+
+    @Test
+    void testMetricasDeLatenciaPorOperacao() throws Exception {
+        Principal principal = new Principal();
+        principal.setSaidaRelatorio(new SaidaTexto(new StringWriter()));
+        Assertions.assertFalse(principal.getMetricas().setIntervaloAmostragem(0));
+        Assertions.assertTrue(principal.getMetricas().setIntervaloAmostragem(1));
+        for (int i = 1; i <= 100; i++) {
+            principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1990, 1, 1), new BigDecimal("2000.00"), "Operador");
+        }
+        principal.buscarFuncionariosPorNome("Funcionário 7");
+        principal.imprimirTotalSalarios();
+
+        MetricasPrincipal metricas = principal.getMetricas();
+        ResumoLatencia insercoes = metricas.obterResumo(Operacao.INSERIR_FUNCIONARIO);
+        Assertions.assertEquals(100, insercoes.getQuantidade());
+        Assertions.assertTrue(insercoes.getPercentil50Nanos() <= insercoes.getPercentil99Nanos());
+        Assertions.assertTrue(insercoes.getPercentil999Nanos() <= insercoes.getMaximoNanos());
+        Assertions.assertTrue(insercoes.getMediaNanos() <= insercoes.getMaximoNanos());
+        Assertions.assertEquals(1, metricas.obterResumo(Operacao.BUSCAR_POR_NOME).getQuantidade());
+        Assertions.assertEquals(1, metricas.obterResumo(Operacao.CALCULAR_TOTAL_SALARIOS).getQuantidade());
+        Assertions.assertEquals(List.of(Operacao.INSERIR_FUNCIONARIO, Operacao.BUSCAR_POR_NOME, Operacao.IMPRIMIR_TOTAL_SALARIOS,
+                Operacao.CALCULAR_TOTAL_SALARIOS), metricas.obterResumos().stream().map(ResumoLatencia::getOperacao).toList());
+
+        metricas.setHabilitadas(false);
+        principal.buscarFuncionariosPorNome("Funcionário 8");
+        Assertions.assertEquals(1, metricas.obterResumo(Operacao.BUSCAR_POR_NOME).getQuantidade());
+        metricas.setHabilitadas(true);
+
+        StringWriter texto = new StringWriter();
+        Assertions.assertTrue(metricas.relatar(new SaidaTexto(texto)));
+        Assertions.assertTrue(texto.toString().contains("INSERIR_FUNCIONARIO quantidade=100 "));
+
+        Assertions.assertTrue(metricas.registrarJmx("teste-metricas"));
+        try {
+            Assertions.assertFalse(metricas.registrarJmx("teste-metricas"));
+            ObjectName nome = new ObjectName("app:type=Principal,name=\"teste-metricas\",operacao=INSERIR_FUNCIONARIO");
+            Assertions.assertEquals(100L, ManagementFactory.getPlatformMBeanServer().getAttribute(nome, "Quantidade"));
+        } finally {
+            metricas.removerJmx();
+        }
+
+        // Por amostragem, cada busca medida conta por 16; as impressões continuam medidas uma a uma.
+        Assertions.assertTrue(metricas.setIntervaloAmostragem(16));
+        for (int i = 0; i < 16_000; i++) {
+            principal.buscarFuncionariosPorNome("Funcionário 7");
+        }
+        principal.imprimirTotalSalarios();
+        long buscas = metricas.obterResumo(Operacao.BUSCAR_POR_NOME).getQuantidade() - 1;
+        Assertions.assertEquals(0, buscas % 16);
+        Assertions.assertTrue(buscas > 12_000 && buscas < 20_000, "Buscas estimadas: " + buscas);
+        Assertions.assertEquals(2, metricas.obterResumo(Operacao.IMPRIMIR_TOTAL_SALARIOS).getQuantidade());
+    }
+
+    @Test
+    void testRelatorioPeriodicoDeMetricas() throws InterruptedException {
+        PrincipalConcorrente principal = new PrincipalConcorrente();
+        principal.getMetricas().setIntervaloAmostragem(1);
+        principal.inserirFuncionario("Maria", LocalDate.of(2000, 10, 18), new BigDecimal("2009.44"), "Operador");
+        Assertions.assertTrue(principal.getMetricas().obterResumo(Operacao.ESPERA_TRAVA_ESCRITA).getQuantidade() > 0);
+
+        StringWriter texto = new StringWriter();
+        SaidaTexto saida = new SaidaTexto(texto);
+        Assertions.assertFalse(principal.getMetricas().iniciarRelatorioPeriodico(Duration.ZERO, saida));
+        Assertions.assertTrue(principal.getMetricas().iniciarRelatorioPeriodico(Duration.ofMillis(10), saida));
+        try {
+            Assertions.assertFalse(principal.getMetricas().iniciarRelatorioPeriodico(Duration.ofMillis(10), saida));
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!lerSincronizado(saida, texto).contains("INSERIR_FUNCIONARIO quantidade=1 ") && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+        } finally {
+            principal.getMetricas().pararRelatorioPeriodico();
+        }
+        Assertions.assertTrue(lerSincronizado(saida, texto).contains("INSERIR_FUNCIONARIO quantidade=1 "));
+    }
+
+    @Test
+    void testConsultaCombinadaLidaEmPaginas() {
+        Principal principal = new Principal();
+        principal.getMetricas().setIntervaloAmostragem(1);
+        for (int i = 0; i < 1_000; i++) {
+            principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1990, i % 12 + 1, 1),
+                    BigDecimal.valueOf(1_000 + i), i % 2 == 0 ? "Operador" : "Gerente");
+        }
+
+        ConsultaFuncionarios consulta = new ConsultaFuncionarios().comFuncao("Operador").nascidosNosMeses(3, 5)
+                .comSalarioEntre(new BigDecimal("1100"), new BigDecimal("1500.50")).pular(2).limitar(7);
+        CursorFuncionarios cursor = principal.consultar(consulta);
+        List<String> nomes = new ArrayList<>();
+        while (cursor.temProxima()) {
+            List<Funcionario> pagina = cursor.proximaPagina(3);
+            Assertions.assertTrue(pagina.size() <= 3);
+            pagina.forEach(funcionario -> nomes.add(funcionario.getNome()));
+        }
+        Assertions.assertEquals(List.of("Funcionário 112", "Funcionário 122", "Funcionário 124", "Funcionário 134", "Funcionário 136",
+                "Funcionário 146", "Funcionário 148"), nomes);
+        Assertions.assertTrue(cursor.proximaPagina(3).isEmpty());
+
+        Assertions.assertEquals(List.of("Funcionário 7"), principal.consultar(new ConsultaFuncionarios().comNome("FUNCIONÁRIO 7"))
+                .stream().map(Funcionario::getNome).toList());
+        Assertions.assertEquals(1_000, principal.consultar(new ConsultaFuncionarios()).stream().count());
+        Assertions.assertEquals(0, principal.consultar(new ConsultaFuncionarios().comFuncao("Diretor")).stream().count());
+
+        CursorFuncionarios preguicoso = principal.consultar(new ConsultaFuncionarios().comFuncao("Gerente"));
+        Assertions.assertEquals("Funcionário 1", preguicoso.stream().findFirst().orElseThrow().getNome());
+        Assertions.assertEquals("Funcionário 513", preguicoso.proximaPagina(1).getFirst().getNome());
+        Assertions.assertTrue(principal.getMetricas().obterResumo(Operacao.CONSULTAR_FUNCIONARIOS).getQuantidade() > 0);
+    }
+
+    @Test
+    void testConsultaInvalidaOuAlteradaDuranteALeitura() {
+        Principal principal = new Principal();
+        Assertions.assertFalse(principal.consultar(null).temProxima());
+        Assertions.assertFalse(principal.consultar(new ConsultaFuncionarios().nascidosNosMeses(0)).temProxima());
+        Assertions.assertFalse(principal.consultar(new ConsultaFuncionarios().comSalarioEntre(BigDecimal.TEN, BigDecimal.ONE)).temProxima());
+        Assertions.assertFalse(principal.consultar(new ConsultaFuncionarios().comNome(" ")).temProxima());
+        Assertions.assertFalse(principal.consultar(new ConsultaFuncionarios().limitar(-1)).temProxima());
+
+        for (int i = 0; i < 10; i++) {
+            principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1990, 1, 1), new BigDecimal("2000.00"), "Operador");
+        }
+        CursorFuncionarios cursor = principal.consultar(new ConsultaFuncionarios().comFuncao("Operador"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> cursor.proximaPagina(0));
+        Assertions.assertEquals(4, cursor.proximaPagina(4).size());
+        principal.buscarFuncionariosPorNome("Funcionário 9").getFirst().setSalario(new BigDecimal("2500.00"));
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> cursor.proximaPagina(4));
+    }
+
+    @Test
+    void testPlanejadorEscolheOCaminhoMaisBarato() {
+        Principal principal = new Principal();
+        String[] funcoes = {"Operador", "Gerente", "Coordenador", "Diretor"};
+        for (int i = 0; i < 12_000; i++) {
+            principal.inserirFuncionario("Funcionário " + i, LocalDate.of(1960 + i % 40, i % 12 + 1, 1 + i % 28),
+                    BigDecimal.valueOf(1_000 + i % 9_000), funcoes[i % 7 == 0 ? 3 : i % 3]);
+        }
+
+        Assertions.assertTrue(principal.explicarConsulta(new ConsultaFuncionarios()).startsWith("Plano: VARREDURA"));
+        Assertions.assertTrue(principal.explicarConsulta(new ConsultaFuncionarios().comNome("Funcionário 7").comFuncao("Diretor"))
+                .startsWith("Plano: ÍNDICE (nome = \"Funcionário 7\")"));
+        Assertions.assertTrue(principal.explicarConsulta(new ConsultaFuncionarios().comSalarioEntre(new BigDecimal("1000"), new BigDecimal("1010")))
+                .startsWith("Plano: ÍNDICE (salário entre 1000 e 1010)"));
+        String plano = principal.explicarConsulta(new ConsultaFuncionarios().comFuncao("Operador").nascidosNosMeses(10)
+                .comSalarioEntre(new BigDecimal("5000"), null));
+        Assertions.assertTrue(plano.startsWith("Plano: INTERSEÇÃO DE BITMAPS (meses [10] E função = \"Operador\")"), plano);
+        Assertions.assertTrue(plano.contains("  bitmap meses [10]: 1000 funcionários\n"), plano);
+        Assertions.assertTrue(plano.contains("  filtro combinado: função = \"Operador\" E meses [10] E salário >= 5000\n"), plano);
+        Assertions.assertTrue(plano.contains("  VARREDURA (lista completa), custo 12000.0\n"), plano);
+        Assertions.assertNull(principal.explicarConsulta(new ConsultaFuncionarios().nascidosNosMeses(13)));
+
+        Random aleatorio = new Random(24);
+        List<Funcionario> todos = principal.consultar(new ConsultaFuncionarios()).stream().toList();
+        for (int i = 0; i < 300; i++) {
+            Funcionario alterado = todos.get(aleatorio.nextInt(todos.size()));
+            alterado.setFuncao(funcoes[aleatorio.nextInt(funcoes.length)]);
+            alterado.setDataNascimento(LocalDate.of(1980, 1 + aleatorio.nextInt(12), 1));
+            alterado.setSalario(BigDecimal.valueOf(1_000 + aleatorio.nextInt(9_000)));
+            principal.removerFuncionarioPorNome("Funcionário " + aleatorio.nextInt(12_000));
+            principal.inserirFuncionario("Novo " + i, LocalDate.of(1990, 1 + aleatorio.nextInt(12), 1),
+                    BigDecimal.valueOf(1_000 + aleatorio.nextInt(9_000)), funcoes[aleatorio.nextInt(funcoes.length)]);
+        }
+        Assertions.assertTrue(principal.aumentarSalarios(new BigDecimal("0.10")));
+        List<Funcionario> restantes = principal.consultar(new ConsultaFuncionarios()).stream().toList();
+        for (int i = 0; i < 200; i++) {
+            String funcao = aleatorio.nextBoolean() ? funcoes[aleatorio.nextInt(funcoes.length)] : null;
+            int mes = 1 + aleatorio.nextInt(12);
+            boolean comMes = aleatorio.nextBoolean();
+            BigDecimal minimo = aleatorio.nextBoolean() ? BigDecimal.valueOf(1_000 + aleatorio.nextInt(9_000)) : null;
+            BigDecimal maximo = minimo != null && aleatorio.nextBoolean() ? minimo.add(BigDecimal.valueOf(aleatorio.nextInt(3_000))) : null;
+            ConsultaFuncionarios consulta = new ConsultaFuncionarios().comFuncao(funcao).comSalarioEntre(minimo, maximo);
+            if (comMes) {
+                consulta.nascidosNosMeses(mes);
+            }
+            List<Funcionario> esperados = new ArrayList<>();
+            for (Funcionario funcionario : restantes) {
+                if ((funcao == null || funcao.equals(funcionario.getFuncao()))
+                        && (!comMes || funcionario.getDataNascimento().getMonthValue() == mes)
+                        && (minimo == null || funcionario.getSalario().compareTo(minimo) >= 0)
+                        && (maximo == null || funcionario.getSalario().compareTo(maximo) <= 0)) {
+                    esperados.add(funcionario);
+                }
+            }
+            List<Funcionario> encontrados = principal.consultar(consulta).stream().toList();
+            Assertions.assertEquals(esperados, encontrados, principal.explicarConsulta(consulta));
+            Assertions.assertEquals(esperados.size(), principal.contarFuncionarios(consulta));
+            List<Funcionario> pagina = esperados.subList(Math.min(5, esperados.size()), Math.min(8, esperados.size()));
+            Assertions.assertEquals(pagina, principal.consultar(consulta.pular(5).limitar(3)).stream().toList());
+            Assertions.assertEquals(pagina.size(), principal.contarFuncionarios(consulta));
+        }
+        Assertions.assertEquals(principal.contarFuncionarios(), principal.contarFuncionarios(new ConsultaFuncionarios()));
+        Assertions.assertEquals(0, principal.contarFuncionarios(new ConsultaFuncionarios().comFuncao("Inexistente").nascidosNosMeses(1)));
+        Assertions.assertEquals(0, principal.contarFuncionarios(null));
+        Assertions.assertTrue(principal.calcularMemoriaIndicesBitmap() > 0);
+    }
+
+    private static String lerSincronizado(SaidaTexto saida, StringWriter texto) {
+        synchronized (saida) {
+            return texto.toString();
+        }
+    }
 }
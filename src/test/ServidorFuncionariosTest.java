@@ -0,0 +1,185 @@
+package test;
+
+import app.Funcionario;
+import app.PrincipalConcorrente;
+import app.ServidorFuncionarios;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ServidorFuncionariosTest {
+    private static final Pattern NOME = Pattern.compile("\"nome\":\"([^\"]*)\"");
+
+    private PrincipalConcorrente principal;
+    private ServidorFuncionarios servidor;
+    private HttpClient cliente;
+
+    @BeforeEach
+    void iniciar() throws IOException {
+        principal = new PrincipalConcorrente();
+        servidor = new ServidorFuncionarios(principal, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        servidor.iniciar();
+        cliente = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void parar() {
+        cliente.close();
+        servidor.close();
+    }
+
+    private HttpResponse<String> enviar(String metodo, String caminho, String corpo) throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + servidor.getPorta() + caminho))
+                .method(metodo, corpo == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+        return cliente.send(requisicao, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<String> nomes(String json) {
+        List<String> nomes = new ArrayList<>();
+        Matcher matcher = NOME.matcher(json);
+        while (matcher.find()) {
+            nomes.add(matcher.group(1));
+        }
+        return nomes;
+    }
+
+    private static String codificar(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testRotasDaApi() throws Exception {
+        HttpResponse<String> resposta = enviar("POST", "/funcionarios", """
+                [{"nome":"Maria","dataNascimento":"2000-10-18","salario":2009.44,"funcao":"Operador"},
+                 {"nome":"Caio","dataNascimento":"1961-05-02","salario":"9836.14","funcao":"Coordenador"},
+                 {"nome":"Heloísa","dataNascimento":"2003-05-24","salario":1606.85,"funcao":"Eletricista"},
+                 {"nome":"Helena","dataNascimento":"1996-09-02","salario":2799.93,"funcao":"Operador"}]""");
+        Assertions.assertEquals(201, resposta.statusCode());
+        Assertions.assertEquals("{\"inseridos\":4,\"rejeitados\":[]}", resposta.body());
+        Assertions.assertEquals(4, principal.contarFuncionarios());
+
+        resposta = enviar("GET", "/funcionarios?nome=" + codificar("Heloísa"), null);
+        Assertions.assertEquals(200, resposta.statusCode());
+        Assertions.assertEquals("[\n{\"nome\":\"Heloísa\",\"dataNascimento\":\"2003-05-24\",\"salario\":1606.85,\"funcao\":\"Eletricista\"}\n]\n",
+                resposta.body());
+        Assertions.assertTrue(resposta.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+
+        Assertions.assertEquals(List.of("Helena", "Heloísa"), nomes(enviar("GET", "/funcionarios?prefixo=hel", null).body()));
+        Assertions.assertEquals(List.of("Maria"), nomes(enviar("GET", "/funcionarios?trecho=ari&pagina=0&tamanho=5", null).body()));
+        Assertions.assertEquals(List.of("Caio", "Helena", "Heloísa", "Maria"), nomes(enviar("GET", "/funcionarios", null).body()));
+        Assertions.assertEquals(List.of("Caio", "Heloísa"), nomes(enviar("GET", "/aniversariantes?meses=5,12", null).body()));
+        Assertions.assertEquals(List.of("Caio", "Helena"), nomes(enviar("GET", "/mais-velhos?quantidade=2", null).body()));
+
+        String funcoes = enviar("GET", "/funcoes", null).body();
+        Assertions.assertTrue(funcoes.startsWith("[\n{\"funcao\":\"Operador\",\"quantidade\":2,\"somaSalarios\":4809.37,"
+                + "\"menorSalario\":2009.44,\"maiorSalario\":2799.93,\"funcionarios\":[{\"nome\":\"Maria\""), funcoes);
+        Assertions.assertTrue(funcoes.endsWith("}]}\n]\n"), funcoes);
+
+        Assertions.assertEquals("{\"total\":16252.36,\"quantidade\":4}", enviar("GET", "/salarios/total", null).body());
+        resposta = enviar("POST", "/salarios/aumento?percentual=0.10", null);
+        Assertions.assertEquals(200, resposta.statusCode());
+        Assertions.assertEquals(new BigDecimal("2210.38"), principal.buscarFuncionariosPorNome("Maria").getFirst().getSalario());
+
+        resposta = enviar("POST", "/funcionarios",
+                "{\"nome\":\"Ana \\\"Nica\\\" \\u00c9\",\"dataNascimento\":\"1980-01-01\",\"salario\":1500,\"funcao\":\"Gerente\"}");
+        Assertions.assertEquals(201, resposta.statusCode());
+        Assertions.assertTrue(enviar("GET", "/funcionarios?nome=" + codificar("Ana \"Nica\" É"), null).body()
+                .startsWith("[\n{\"nome\":\"Ana \\\"Nica\\\" É\","));
+
+        Assertions.assertEquals(204, enviar("DELETE", "/funcionarios?nome=Maria", null).statusCode());
+        Assertions.assertEquals(404, enviar("DELETE", "/funcionarios?nome=Maria", null).statusCode());
+        Assertions.assertEquals(4, principal.contarFuncionarios());
+    }
+
+    @Test
+    void testRequisicoesInvalidas() throws Exception {
+        HttpResponse<String> resposta = enviar("POST", "/funcionarios",
+                "{\"nome\":\"\",\"dataNascimento\":\"2000-01-01\",\"salario\":1000,\"funcao\":\"Operador\"}");
+        Assertions.assertEquals(400, resposta.statusCode());
+        Assertions.assertTrue(resposta.body().startsWith("{\"inseridos\":0,\"rejeitados\":[{\"posicao\":1,\"motivo\":"), resposta.body());
+
+        resposta = enviar("POST", "/funcionarios", "{\"nome\":\"Maria\",");
+        Assertions.assertEquals(400, resposta.statusCode());
+        Assertions.assertTrue(resposta.body().startsWith("{\"erro\":"), resposta.body());
+        Assertions.assertEquals(400, enviar("POST", "/funcionarios", "{\"nome\":\"Maria\",\"dataNascimento\":\"18/10/2000\"}").statusCode());
+
+        // Aninhamento profundo: deve ser recusado pelo limite de profundidade, sem estourar a pilha.
+        resposta = enviar("POST", "/funcionarios", "[".repeat(100_000));
+        Assertions.assertEquals(400, resposta.statusCode());
+        Assertions.assertTrue(resposta.body().contains("Profundidade máxima excedida"), resposta.body());
+        resposta = enviar("POST", "/funcionarios", "{\"a\":".repeat(65) + "1" + "}".repeat(65));
+        Assertions.assertEquals(400, resposta.statusCode());
+        Assertions.assertTrue(resposta.body().contains("Profundidade máxima excedida"), resposta.body());
+
+        Assertions.assertEquals(400, enviar("GET", "/aniversariantes?meses=13", null).statusCode());
+        Assertions.assertEquals(400, enviar("GET", "/aniversariantes", null).statusCode());
+        Assertions.assertEquals(400, enviar("GET", "/funcionarios?prefixo=a&tamanho=x", null).statusCode());
+        Assertions.assertEquals(400, enviar("POST", "/salarios/aumento?percentual=abc", null).statusCode());
+        Assertions.assertEquals(400, enviar("DELETE", "/funcionarios", null).statusCode());
+
+        // O corpo não é enviado: o servidor deve recusá-lo pelo cabeçalho, sem esperar por ele.
+        try (Socket conexao = new Socket(InetAddress.getLoopbackAddress(), servidor.getPorta())) {
+            conexao.getOutputStream().write(("POST /funcionarios HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Content-Length: 1000000000\r\n\r\n[").getBytes(StandardCharsets.US_ASCII));
+            conexao.setSoTimeout(10_000);
+            StringBuilder resposta413 = new StringBuilder();
+            int lido;
+            while (resposta413.indexOf("}") < 0 && (lido = conexao.getInputStream().read()) >= 0) {
+                resposta413.append((char) lido);
+            }
+            Assertions.assertTrue(resposta413.toString().startsWith("HTTP/1.1 413"), resposta413.toString());
+            Assertions.assertTrue(resposta413.indexOf("{\"erro\":") > 0, resposta413.toString());
+        }
+
+        resposta = enviar("PUT", "/salarios/total", null);
+        Assertions.assertEquals(405, resposta.statusCode());
+        Assertions.assertEquals("GET", resposta.headers().firstValue("Allow").orElse(null));
+        Assertions.assertEquals(404, enviar("GET", "/funcionarios/Maria", null).statusCode());
+        Assertions.assertEquals(404, enviar("GET", "/inexistente", null).statusCode());
+        Assertions.assertEquals(0, principal.contarFuncionarios());
+    }
+
+    @Test
+    void testListagemGrandeEnviadaEmPartesDuranteAlteracoes() throws Exception {
+        int quantidade = 25_000;
+        List<Funcionario> funcionarios = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            funcionarios.add(new Funcionario(String.format("F%06d", i), LocalDate.of(1990, 1, 1), new BigDecimal("1500.00"), "Operador"));
+        }
+        principal.inserirFuncionarios(funcionarios);
+
+        CompletableFuture<Void> alteracoes = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 200; i++) {
+                principal.inserirFuncionario("Z" + i, LocalDate.of(1990, 1, 1), new BigDecimal("1500.00"), "Operador");
+            }
+        });
+        HttpResponse<String> resposta = enviar("GET", "/funcionarios", null);
+        alteracoes.join();
+
+        Assertions.assertEquals(200, resposta.statusCode());
+        Assertions.assertTrue(resposta.headers().firstValue("Content-Length").isEmpty());
+        List<String> nomes = nomes(resposta.body());
+        Assertions.assertEquals(funcionarios.stream().map(Funcionario::getNome).toList(), nomes.subList(0, quantidade));
+        Assertions.assertEquals(nomes.stream().distinct().count(), nomes.size());
+    }
+}